@@ -1,5 +1,13 @@
 import game.IcyTerrain;
+import game.SpawnProfile;
+import game.ai.PenguinPolicy;
+import game.ai.Policies;
+import game.util.DrawLog;
+import game.util.RandUtil;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -41,9 +49,14 @@ import java.util.logging.Logger;
 public class SlidingPuzzleApp {
     private static final Logger LOGGER = Logger.getLogger(SlidingPuzzleApp.class.getName());
 
+    /**
+     * Options that are followed by a value
+     */
+    private static final List<String> VALUE_OPTIONS = List.of("--profile", "--record", "--replay", "--opponent");
+
     /**
      * Main entry point of the Sliding Penguins Puzzle Game.
-     * Creates an IcyTerrain instance which automatically:
+     * Creates an IcyTerrain instance and starts it, which:
      * 1. Generates the 10x10 grid
      * 2. Spawns 3 penguins on edge squares
      * 3. Spawns 15 hazards randomly
@@ -61,17 +74,61 @@ public class SlidingPuzzleApp {
      * - Runtime errors are logged with stack traces
      * - Input master is always closed in finally block
      *
-     * @param args Command line arguments (not used in this application)
+     * Optional arguments:
+     * --profile &lt;file&gt; - Spawn objects using a SpawnProfile properties file
+     * --record &lt;file&gt;  - Save every random draw of the game to a draw log
+     * --replay &lt;file&gt;  - Replay the random draws of a recorded game
+     * --opponent &lt;spec&gt; - Policy of the computer penguins (see Policies), e.g. expectimax:20
+     * --speculate       - Decide the computer penguins queued behind the player while
+     * the player chooses a move (needs a search opponent such as expectimax)
+     * <p>
+     * A replayed game spawns the same board and the AI makes the same random
+     * choices; the player's own inputs are still read from the console.
+     *
+     * @param args Command line arguments
      */
     public static void main(String[] args) {
         IcyTerrain terrain = null;
+        Path recordPath = null;
 
         try {
+            SpawnProfile profile = SpawnProfile.defaultProfile();
+            PenguinPolicy opponent = null;
+            boolean speculate = false;
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--speculate")) {
+                    speculate = true;
+                    continue;
+                }
+                if (!VALUE_OPTIONS.contains(option)) {
+                    System.err.println("Ignoring unknown option: " + option);
+                    continue;
+                }
+                if (i + 1 >= args.length) {
+                    System.err.println("Ignoring option without a value: " + option);
+                    continue;
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--profile" -> profile = SpawnProfile.load(Path.of(value));
+                    case "--record" -> {
+                        recordPath = Path.of(value);
+                        RandUtil.startRecording(new DrawLog());
+                    }
+                    case "--replay" -> RandUtil.startReplay(DrawLog.load(Path.of(value)));
+                    default -> opponent = Policies.parse(value);
+                }
+            }
+
             // Initialize and run the game
-            terrain = new IcyTerrain();
+            terrain = new IcyTerrain(profile);
+
+            // Game runs until completion or error
+            terrain.start(opponent, speculate);
 
-            // Game runs automatically in IcyTerrain constructor
-            // and continues until completion or error
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Could not load game options: " + e.getMessage());
 
         } catch (Exception e) {
             // Catch any unexpected errors during game execution
@@ -80,6 +137,16 @@ public class SlidingPuzzleApp {
             LOGGER.log(Level.SEVERE, "Unexpected runtime error in game loop", e);
 
         } finally {
+            DrawLog log = RandUtil.stopDrawLog();
+            if (recordPath != null && log != null) {
+                try {
+                    log.save(recordPath);
+                    System.out.println("Saved " + log + " to " + recordPath);
+                } catch (IOException e) {
+                    LOGGER.log(Level.WARNING, "Error saving draw log", e);
+                }
+            }
+
             // Ensure the input scanner is closed to prevent resource leaks
             if (terrain != null) {
                 try {
@@ -0,0 +1,57 @@
+package enums;
+
+/**
+ * Enumeration of the objects a moving penguin can collide with.
+ * Picking up food is not a collision.
+ */
+public enum CollisionType {
+    /**
+     * Another penguin, which starts sliding instead.
+     */
+    PENGUIN("Penguin"),
+
+    /**
+     * A LightIceBlock, which stuns the penguin and starts sliding.
+     */
+    LIGHT_ICE_BLOCK("Light ice block"),
+
+    /**
+     * A HeavyIceBlock, which takes the penguin's lightest food.
+     */
+    HEAVY_ICE_BLOCK("Heavy ice block"),
+
+    /**
+     * A SeaLion, which bounces the penguin back.
+     */
+    SEA_LION("Sea lion"),
+
+    /**
+     * A HoleInIce, plugged or not.
+     */
+    HOLE_IN_ICE("Hole in ice");
+
+    private final String displayName;
+
+    CollisionType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Gets the collision type of a hazard type.
+     *
+     * @param hazardType The hazard type
+     * @return The matching collision type
+     */
+    public static CollisionType of(HazardType hazardType) {
+        return switch (hazardType) {
+            case LIGHT_ICE_BLOCK -> LIGHT_ICE_BLOCK;
+            case HEAVY_ICE_BLOCK -> HEAVY_ICE_BLOCK;
+            case SEA_LION -> SEA_LION;
+            case HOLE_IN_ICE -> HOLE_IN_ICE;
+        };
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
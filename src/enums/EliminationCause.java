@@ -0,0 +1,27 @@
+package enums;
+
+/**
+ * Enumeration of the ways a penguin can be eliminated from the game.
+ * Its collected food still counts in the final scoring.
+ */
+public enum EliminationCause {
+    /**
+     * The penguin slid or stepped off the edge of the grid.
+     */
+    WATER("Water"),
+
+    /**
+     * The penguin fell into an unplugged HoleInIce.
+     */
+    HOLE_IN_ICE("Hole in ice");
+
+    private final String displayName;
+
+    EliminationCause(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,231 @@
+package game;
+
+import enums.HazardType;
+import enums.PenguinType;
+import interfaces.ITerrainObject;
+import models.Position;
+import models.hazards.Hazard;
+import models.hazards.HeavyIceBlock;
+import models.hazards.HoleInIce;
+import models.hazards.LightIceBlock;
+import models.hazards.SeaLion;
+import models.penguins.EmperorPenguin;
+import models.penguins.KingPenguin;
+import models.penguins.Penguin;
+import models.penguins.RockhopperPenguin;
+import models.penguins.RoyalPenguin;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Creates penguins and hazards for the ObjectSpawner and takes them back
+ * after a game, so that repeated games reuse the same objects instead of
+ * allocating new ones.
+ * <p>
+ * recycle() collects the penguins and hazards of a finished game into one
+ * free list per type and clears the grid. Each object is collected once,
+ * even if it appears on several squares. obtainPenguin() and
+ * obtainHazard() hand out a reset object of the requested type if one is
+ * free and create a new one otherwise. Hazards that left the game (pushed
+ * into the water or into a hole) are simply not recycled.
+ * <p>
+ * Food items are not recycled: they are immutable values and stay
+ * referenced by the inventories of earlier GameResults.
+ * <p>
+ * A recycler is not thread-safe; each IcyTerrain owns its own.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class EntityRecycler {
+    /**
+     * Free penguins, one list per PenguinType ordinal
+     */
+    private final List<ArrayDeque<Penguin>> freePenguins;
+
+    /**
+     * Free hazards, one list per HazardType ordinal
+     */
+    private final List<ArrayDeque<Hazard>> freeHazards;
+
+    /**
+     * Objects already collected by the running recycle() call (cleared after each call)
+     */
+    private final Set<Object> collected;
+
+    /**
+     * Number of objects created because no free one was available
+     */
+    private long created;
+
+    /**
+     * Number of objects handed out again after a reset
+     */
+    private long reused;
+
+    /**
+     * Constructs an empty recycler.
+     */
+    public EntityRecycler() {
+        this.freePenguins = new ArrayList<>();
+        this.freeHazards = new ArrayList<>();
+        this.collected = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < PenguinType.values().length; i++) {
+            freePenguins.add(new ArrayDeque<>());
+        }
+        for (int i = 0; i < HazardType.values().length; i++) {
+            freeHazards.add(new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Creates a new penguin of a type.
+     *
+     * @param type     The penguin type
+     * @param position The spawn position
+     * @return The new penguin
+     */
+    public static Penguin newPenguin(PenguinType type, Position position) {
+        return switch (type) {
+            case ROYAL -> new RoyalPenguin(position);
+            case EMPEROR -> new EmperorPenguin(position);
+            case KING -> new KingPenguin(position);
+            case ROCKHOPPER -> new RockhopperPenguin(position);
+        };
+    }
+
+    /**
+     * Creates a new hazard of a type.
+     *
+     * @param type     The hazard type
+     * @param position The spawn position
+     * @return The new hazard
+     */
+    public static Hazard newHazard(HazardType type, Position position) {
+        return switch (type) {
+            case LIGHT_ICE_BLOCK -> new LightIceBlock(position);
+            case HEAVY_ICE_BLOCK -> new HeavyIceBlock(position);
+            case SEA_LION -> new SeaLion(position);
+            case HOLE_IN_ICE -> new HoleInIce(position);
+        };
+    }
+
+    /**
+     * Gets a penguin of a type in its freshly spawned state.
+     *
+     * @param type     The penguin type
+     * @param position The spawn position
+     * @return A recycled or new penguin
+     * @throws IllegalArgumentException if type or position is null
+     */
+    public Penguin obtainPenguin(PenguinType type, Position position) {
+        if (type == null || position == null) {
+            throw new IllegalArgumentException(
+                    "EntityRecycler Error: Penguin type and position cannot be null."
+            );
+        }
+        Penguin penguin = freePenguins.get(type.ordinal()).poll();
+        if (penguin == null) {
+            created++;
+            return newPenguin(type, position);
+        }
+        reused++;
+        penguin.reset(position);
+        return penguin;
+    }
+
+    /**
+     * Gets a hazard of a type in its freshly spawned state.
+     *
+     * @param type     The hazard type
+     * @param position The spawn position
+     * @return A recycled or new hazard
+     * @throws IllegalArgumentException if type or position is null
+     */
+    public Hazard obtainHazard(HazardType type, Position position) {
+        if (type == null || position == null) {
+            throw new IllegalArgumentException(
+                    "EntityRecycler Error: Hazard type and position cannot be null."
+            );
+        }
+        Hazard hazard = freeHazards.get(type.ordinal()).poll();
+        if (hazard == null) {
+            created++;
+            return newHazard(type, position);
+        }
+        reused++;
+        hazard.reset(position);
+        return hazard;
+    }
+
+    /**
+     * Takes back the objects of a finished game and clears the grid.
+     * Penguins and hazards still on the grid are collected, as well as the
+     * eliminated penguins of the given list (they are no longer on the grid).
+     *
+     * @param grid     The grid of the finished game
+     * @param penguins The penguins of the game, or null if only the grid should be scanned
+     * @throws IllegalArgumentException if grid is null
+     */
+    public void recycle(TerrainGrid grid, List<Penguin> penguins) {
+        if (grid == null) {
+            throw new IllegalArgumentException(
+                    "EntityRecycler Error: Cannot recycle a null grid."
+            );
+        }
+
+        grid.forEachObject(this::collect);
+        if (penguins != null) {
+            for (Penguin penguin : penguins) {
+                collect(penguin);
+            }
+        }
+
+        collected.clear();
+        grid.clearGrid();
+    }
+
+    /**
+     * Adds a penguin or hazard to its free list.
+     * A sliding hazard can be left on several squares of the grid, and a
+     * penguin is both on the grid and in the penguin list, so every object
+     * is only taken once per recycle() call; otherwise it would later be
+     * handed out twice.
+     *
+     * @param object The object
+     */
+    private void collect(ITerrainObject object) {
+        if (!collected.add(object)) {
+            return;
+        }
+        if (object instanceof Penguin penguin) {
+            freePenguins.get(penguin.getPenguinType().ordinal()).add(penguin);
+        } else if (object instanceof Hazard hazard) {
+            freeHazards.get(hazard.getHazardType().ordinal()).add(hazard);
+        }
+    }
+
+    /**
+     * Gets the number of objects created because none was free.
+     *
+     * @return The creation count
+     */
+    public long getCreatedCount() {
+        return created;
+    }
+
+    /**
+     * Gets the number of objects that were reused.
+     *
+     * @return The reuse count
+     */
+    public long getReusedCount() {
+        return reused;
+    }
+}
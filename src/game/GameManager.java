@@ -1,17 +1,25 @@
 package game;
 
 import enums.Direction;
+import game.ai.HeuristicPolicy;
+import game.ai.PenguinPolicy;
+import game.ai.SpeculativeEvaluator;
+import game.ai.TurnContext;
+import game.ai.TurnDecision;
+import game.stats.CellHeatmap;
+import game.util.GameConsole;
 import game.util.GridRenderer;
+import game.util.HeatmapRecorder;
 import game.util.InputMaster;
 import game.util.RandUtil;
 import models.Food;
 import models.Position;
 import models.penguins.Penguin;
-import models.penguins.RockhopperPenguin;
 import models.penguins.RoyalPenguin;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -22,7 +30,7 @@ import java.util.logging.Logger;
  * handling turn management, player input, AI decisions, and scoring.
  * <p>
  * Game structure:
- * - 4 turns total (MAX_TURNS = 4)
+ * - 4 turns total (DEFAULT_MAX_TURNS = 4; headless games may use another count)
  * - 3 penguins compete (sorted by ID: P1, P2, P3)
  * - One penguin is randomly assigned to the player
  * - Each turn: P1 -> P2 -> P3 -> (repeat)
@@ -36,6 +44,23 @@ import java.util.logging.Logger;
  * 5. Ask for movement direction (player) or choose randomly (AI)
  * 6. Execute slide in chosen direction
  * 7. Render updated grid state
+ * <p>
+ * Headless mode: a GameManager built with policies instead of a renderer
+ * and an input master plays every penguin through its PenguinPolicy, never
+ * reads System.in, prints nothing and returns a GameResult from play().
+ * <p>
+ * Step mode: a headless game can also be played a piece at a time.
+ * begin() starts it, stepAction() plays the next penguin's action,
+ * stepTurn() finishes the current turn and runToEnd() plays the rest.
+ * Between steps the state can be read with getCurrentTurn(),
+ * getNextPenguin(), getPenguins(), getGrid() and getResult(), and the game
+ * resumes exactly where it stopped. play() and gameLoop() are built on the
+ * same steps.
+ * <p>
+ * Speculation: with a SpeculativeEvaluator set, the computer penguins
+ * after the player are decided on other threads while the game waits for
+ * the player's input, and each one's turn takes the decision made for the
+ * position that actually came about.
  *
  * @author CENG211 14. Group
  * @version 1.0
@@ -45,9 +70,9 @@ public class GameManager {
     private static final Logger LOGGER = Logger.getLogger(GameManager.class.getName());
 
     /**
-     * Maximum number of turns in the game
+     * Number of turns in the original game
      */
-    private static final int MAX_TURNS = 4;
+    public static final int DEFAULT_MAX_TURNS = 4;
 
     /**
      * The game grid containing all objects
@@ -64,11 +89,51 @@ public class GameManager {
      */
     private final InputMaster inputMaster;
 
+    /**
+     * Number of turns in a game
+     */
+    private final int maxTurns;
+
     /**
      * List of all penguins in the game (sorted by notation)
      */
     private final List<Penguin> penguins;
 
+    /**
+     * Policies of the computer-controlled penguins, used in turn order
+     */
+    private final List<PenguinPolicy> policies;
+
+    /**
+     * Decides computer penguins ahead while the player chooses, or null
+     */
+    private SpeculativeEvaluator speculation;
+
+    /**
+     * Turn in which each penguin was eliminated (0 while it is in the game)
+     */
+    private int[] eliminationTurns = new int[0];
+
+    /**
+     * Whether a game has been started with begin() or gameLoop()
+     */
+    private boolean started;
+
+    /**
+     * Whether the running game lets the player act and renders the grid
+     */
+    private boolean interactive;
+
+    /**
+     * Turn of the next action (maxTurns + 1 once the game is over)
+     */
+    private int currentTurn;
+
+    /**
+     * Index in turn order of the penguin whose action comes next
+     */
+    private int nextIndex;
+
     /**
      * Constructs a GameManager with the required game components.
      *
@@ -78,6 +143,23 @@ public class GameManager {
      * @throws IllegalArgumentException if any parameter is null
      */
     public GameManager(TerrainGrid grid, GridRenderer renderer, InputMaster inputMaster) {
+        this(grid, renderer, inputMaster, List.of(new HeuristicPolicy()));
+    }
+
+    /**
+     * Constructs a GameManager in which the computer penguins are driven by
+     * the given policies. Penguin i in turn order uses policy i modulo the
+     * number of policies; the player's penguin skips its policy.
+     *
+     * @param grid        The terrain grid containing all game objects
+     * @param renderer    The grid renderer for displaying game state
+     * @param inputMaster The input handler for player interaction
+     * @param policies    The policies in turn order
+     * @throws IllegalArgumentException if any parameter is null, or policies
+     *                                  is empty or contains null
+     */
+    public GameManager(TerrainGrid grid, GridRenderer renderer, InputMaster inputMaster,
+                       List<PenguinPolicy> policies) {
         if (grid == null) {
             throw new IllegalArgumentException(
                     "GameManager Error: TerrainGrid cannot be null."
@@ -94,10 +176,141 @@ public class GameManager {
             );
         }
 
+        checkPolicies(policies);
+
         this.grid = grid;
         this.renderer = renderer;
         this.inputMaster = inputMaster;
+        this.maxTurns = DEFAULT_MAX_TURNS;
+        this.penguins = new ArrayList<>();
+        this.policies = List.copyOf(policies);
+    }
+
+    /**
+     * Constructs a headless GameManager in which one policy drives every penguin.
+     *
+     * @param grid   The terrain grid containing all game objects
+     * @param policy The policy of all penguins
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public GameManager(TerrainGrid grid, PenguinPolicy policy) {
+        this(grid, Collections.singletonList(policy));
+    }
+
+    /**
+     * Constructs a headless GameManager with one policy per penguin.
+     * Penguin i in turn order (P1 is 0) uses policy i modulo the number of
+     * policies, so a single-element list drives all penguins.
+     *
+     * @param grid     The terrain grid containing all game objects
+     * @param policies The policies in turn order
+     * @throws IllegalArgumentException if grid or policies is null,
+     *                                  or policies is empty or contains null
+     */
+    public GameManager(TerrainGrid grid, List<PenguinPolicy> policies) {
+        this(grid, policies, DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * Constructs a headless GameManager with one policy per penguin and a
+     * custom number of turns.
+     *
+     * @param grid     The terrain grid containing all game objects
+     * @param policies The policies in turn order
+     * @param maxTurns The number of turns in a game
+     * @throws IllegalArgumentException if grid or policies is null, policies is
+     *                                  empty or contains null, or maxTurns is not positive
+     */
+    public GameManager(TerrainGrid grid, List<PenguinPolicy> policies, int maxTurns) {
+        if (grid == null) {
+            throw new IllegalArgumentException(
+                    "GameManager Error: TerrainGrid cannot be null."
+            );
+        }
+        checkPolicies(policies);
+
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException(
+                    "GameManager Error: Turn count must be positive. Received: " + maxTurns
+            );
+        }
+
+        this.grid = grid;
+        this.renderer = null;
+        this.inputMaster = null;
+        this.maxTurns = maxTurns;
         this.penguins = new ArrayList<>();
+        this.policies = List.copyOf(policies);
+    }
+
+    /**
+     * Checks a list of policies.
+     *
+     * @param policies The policies
+     * @throws IllegalArgumentException if policies is null, empty or contains null
+     */
+    private static void checkPolicies(List<PenguinPolicy> policies) {
+        if (policies == null || policies.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "GameManager Error: At least one policy is required."
+            );
+        }
+        for (PenguinPolicy policy : policies) {
+            if (policy == null) {
+                throw new IllegalArgumentException(
+                        "GameManager Error: Policies cannot be null."
+                );
+            }
+        }
+    }
+
+    /**
+     * Sets the evaluator that decides the computer penguins queued behind
+     * the player while the player is choosing a move. Only penguins whose
+     * policy is a BoardPolicy are decided ahead; the others, and every
+     * position the evaluator did not foresee, are decided as usual.
+     * The caller keeps ownership of the evaluator and closes it.
+     *
+     * @param speculation The evaluator, or null to decide every turn when it comes
+     */
+    public void setSpeculation(SpeculativeEvaluator speculation) {
+        this.speculation = speculation;
+    }
+
+    /**
+     * Checks if this GameManager has no renderer and input master.
+     *
+     * @return true if the game can only be played with play()
+     */
+    public boolean isHeadless() {
+        return renderer == null || inputMaster == null;
+    }
+
+    /**
+     * Gets the penguins of the current game in turn order, including
+     * eliminated ones. The list is filled when a game starts.
+     *
+     * @return A read-only view of the penguins
+     */
+    public List<Penguin> getPenguins() {
+        return Collections.unmodifiableList(penguins);
+    }
+
+    /**
+     * Plays a complete game without a human player.
+     * Every penguin is driven by its policy, nothing is rendered and console
+     * output of the engine is muted on the calling thread for the duration
+     * of the game. System.in is never read.
+     * <p>
+     * The same GameManager can play again after its grid has been cleared
+     * and spawned anew; the penguins are read from the grid at the start.
+     *
+     * @return The final scores, eliminations and inventories
+     * @throws IllegalStateException if this GameManager is not headless
+     */
+    public GameResult play() {
+        begin();
+        return runToEnd();
     }
 
     /**
@@ -109,47 +322,326 @@ public class GameManager {
      * 4. Display final scoreboard
      */
     public void gameLoop() {
+        if (isHeadless()) {
+            throw new IllegalStateException(
+                    "GameManager Error: A headless game must be played with play()."
+            );
+        }
+
         try {
-            // Initialize penguins list from grid
-            sortPenguins();
+            // Initialize penguins list from grid and select player penguin
+            begin(true);
+
+            // Main game loop - 4 turns
+            while (stepTurn()) {
+                // Each call plays one full turn
+            }
+
+            // Game over - show results
+            GameConsole.println("\n***** GAME OVER *****");
+            calculateScore();
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Critical error in game loop", e);
+        }
+    }
+
+    /**
+     * Starts a new game on the current grid without playing any move.
+     * The penguins are read from the grid and the game waits before the
+     * first action of P1 in turn 1. Headless games are then advanced with
+     * stepAction(), stepTurn() or runToEnd().
+     *
+     * @throws IllegalStateException if this GameManager is not headless
+     *                               (interactive games are started by gameLoop())
+     */
+    public void begin() {
+        if (!isHeadless()) {
+            throw new IllegalStateException(
+                    "GameManager Error: An interactive game must be played with gameLoop()."
+            );
+        }
+        begin(false);
+    }
 
-            // Randomly select player penguin
+    /**
+     * Starts a new game: reads the penguins from the grid and puts the
+     * cursor before the first action of turn 1.
+     *
+     * @param interactive true to let the player act and render after each move
+     */
+    private void begin(boolean interactive) {
+        this.interactive = interactive;
+        sortPenguins();
+        if (interactive) {
             selectPlayerPenguin();
+        }
+        currentTurn = penguins.isEmpty() ? maxTurns + 1 : 1;
+        nextIndex = 0;
+        started = true;
+    }
 
-            // Main game loop - 4 turns
-            for (int turn = 1; turn <= MAX_TURNS; turn++) {
-                // Each penguin takes their turn
-                for (Penguin p : penguins) {
-                    // Skip if penguin has been eliminated
-                    if (p.getPosition() == null) {
-                        continue;
-                    }
+    /**
+     * Plays the next action of the game: the next penguin in turn order that
+     * is still in the game moves (or skips its move if it is stunned).
+     * Eliminated penguins are passed over. A game that was not started yet
+     * is started first.
+     *
+     * @return true if an action was played, false if the game is already over
+     * @throws IllegalStateException if no game was started and this
+     *                               GameManager is not headless
+     */
+    public boolean stepAction() {
+        return step(maxTurns);
+    }
 
-                    // Skip if penguin is stunned
-                    if (p.isStunned()) {
-                        System.out.println("\n*** Turn " + turn + " - " +
-                                p.getNotation() + ":");
-                        System.out.println(p.getNotation() +
-                                " is stunned and skips this turn!");
-                        p.setStunned(false);
-                        continue;
-                    }
+    /**
+     * Plays the rest of the current turn: every penguin that has not acted
+     * in this turn yet takes its action. Called at the start of a turn, it
+     * plays the whole turn.
+     *
+     * @return true if a turn was played, false if the game is already over
+     * @throws IllegalStateException if no game was started and this
+     *                               GameManager is not headless
+     */
+    public boolean stepTurn() {
+        if (!started) {
+            begin();
+        }
+        if (isFinished()) {
+            return false;
+        }
+        int turn = currentTurn;
+        while (step(turn)) {
+            // Play the remaining actions of this turn
+        }
+        return true;
+    }
 
-                    // Process the penguin's turn
-                    processTurn(p, turn);
+    /**
+     * Plays the game from its current state to the end.
+     * A game that was not started yet is started first.
+     *
+     * @return The final scores, eliminations and inventories
+     * @throws IllegalStateException if no game was started and this
+     *                               GameManager is not headless
+     */
+    public GameResult runToEnd() {
+        if (!started) {
+            begin();
+        }
+        boolean wasMuted = muteIfHeadless();
+        try {
+            while (step(maxTurns)) {
+                // Play every remaining action
+            }
+            return getResult();
+        } finally {
+            GameConsole.setMuted(wasMuted);
+        }
+    }
 
-                    // Render grid after each penguin's move
-                    System.out.println("New state of the grid:");
-                    renderer.renderState(grid);
+    /**
+     * Plays the next action if it belongs to a turn up to lastTurn.
+     *
+     * @param lastTurn The last turn whose actions may be played
+     * @return true if an action was played
+     * @throws IllegalStateException if no game was started and this
+     *                               GameManager is not headless
+     */
+    private boolean step(int lastTurn) {
+        if (!started) {
+            begin();
+        }
+        boolean wasMuted = muteIfHeadless();
+        try {
+            while (currentTurn <= lastTurn) {
+                int turn = currentTurn;
+                Penguin p = penguins.get(nextIndex);
+                advanceCursor();
+
+                // Skip if penguin has been eliminated
+                if (p.getPosition() == null) {
+                    continue;
                 }
+                takeAction(p, turn);
+                return true;
             }
+            return false;
+        } finally {
+            GameConsole.setMuted(wasMuted);
+        }
+    }
 
-            // Game over - show results
-            System.out.println("\n***** GAME OVER *****");
-            calculateScore();
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Critical error in game loop", e);
+    /**
+     * Moves the cursor to the next penguin, and to the next turn after the
+     * last penguin.
+     */
+    private void advanceCursor() {
+        nextIndex++;
+        if (nextIndex >= penguins.size()) {
+            nextIndex = 0;
+            currentTurn++;
+        }
+    }
+
+    /**
+     * Mutes the engine output on this thread if the running game is headless.
+     *
+     * @return Whether output was muted before
+     */
+    private boolean muteIfHeadless() {
+        boolean wasMuted = GameConsole.isMuted();
+        if (!interactive) {
+            GameConsole.setMuted(true);
+        }
+        return wasMuted;
+    }
+
+    /**
+     * Plays the action of one penguin that is still in the game.
+     *
+     * @param p    The penguin
+     * @param turn The current turn number (1-4)
+     */
+    private void takeAction(Penguin p, int turn) {
+        // Skip if penguin is stunned
+        if (p.isStunned()) {
+            GameConsole.println("\n*** Turn " + turn + " - " +
+                    p.getNotation() + ":");
+            GameConsole.println(p.getNotation() +
+                    " is stunned and skips this turn!");
+            p.setStunned(false);
+            return;
+        }
+
+        // Process the penguin's turn
+        if (interactive) {
+            processTurn(p, turn);
+        } else {
+            handleAITurn(p, turn);
+        }
+        recordEliminations(turn);
+        if (HeatmapRecorder.isActive()) {
+            HeatmapRecorder.record(CellHeatmap.STOP, p.getPosition());
+        }
+
+        // Render grid after each penguin's move
+        if (interactive) {
+            GameConsole.println("New state of the grid:");
+            renderer.renderState(grid);
+        }
+    }
+
+    /**
+     * Checks if the current game has been played to the end.
+     *
+     * @return true if all turns have been played, false if the game is
+     * running or has not been started
+     */
+    public boolean isFinished() {
+        return started && currentTurn > maxTurns;
+    }
+
+    /**
+     * Gets the turn of the next action.
+     *
+     * @return The turn number (1 to maxTurns), maxTurns + 1 once the game is over,
+     * or 0 before the game is started
+     */
+    public int getCurrentTurn() {
+        return started ? currentTurn : 0;
+    }
+
+    /**
+     * Gets the number of turns in a game.
+     *
+     * @return The maximum turn count
+     */
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    /**
+     * Gets the penguin that acts next, passing over eliminated penguins.
+     *
+     * @return The next penguin, or null if the game is over or not started
+     */
+    public Penguin getNextPenguin() {
+        if (!started) {
+            return null;
+        }
+        int turn = currentTurn;
+        int index = nextIndex;
+        while (turn <= maxTurns) {
+            Penguin p = penguins.get(index);
+            if (p.getPosition() != null) {
+                return p;
+            }
+            index++;
+            if (index >= penguins.size()) {
+                index = 0;
+                turn++;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the grid this GameManager plays on.
+     *
+     * @return The terrain grid
+     */
+    public TerrainGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * Gets the turn in which a penguin was eliminated.
+     *
+     * @param index The penguin's index in turn order (P1 is 0)
+     * @return The turn number, or 0 if the penguin is still in the game
+     */
+    public int getEliminationTurn(int index) {
+        return eliminationTurns[index];
+    }
+
+    /**
+     * Builds a snapshot of the current state: scores, eliminations and
+     * inventories so far. Can be called between steps and after the end.
+     *
+     * @return The result of the turns completed so far
+     */
+    public GameResult getResult() {
+        int turnsPlayed = started ? Math.min(currentTurn - 1, maxTurns) : 0;
+        return buildResult(turnsPlayed);
+    }
+
+    /**
+     * Records the turn of every penguin that left the game since the last check.
+     * Penguins can be eliminated on another penguin's move (pushed into the water).
+     *
+     * @param turn The current turn number
+     */
+    private void recordEliminations(int turn) {
+        for (int i = 0; i < penguins.size(); i++) {
+            if (eliminationTurns[i] == 0 && penguins.get(i).getPosition() == null) {
+                eliminationTurns[i] = turn;
+            }
+        }
+    }
+
+    /**
+     * Builds the result of the game from the current penguin states.
+     *
+     * @param turnsPlayed The number of turns that were played
+     * @return The game result
+     */
+    private GameResult buildResult(int turnsPlayed) {
+        List<GameResult.PenguinResult> results = new ArrayList<>();
+        for (int i = 0; i < penguins.size(); i++) {
+            results.add(GameResult.PenguinResult.of(penguins.get(i), eliminationTurns[i]));
         }
+        return new GameResult(results, turnsPlayed);
     }
 
     /**
@@ -168,7 +660,7 @@ public class GameManager {
             int randomIndex = RandUtil.getRandomInt(penguins.size());
             Penguin selected = penguins.get(randomIndex);
             selected.setPlayer(true);
-            System.out.println("\n" + selected.getNotation() + " is YOUR PENGUIN!");
+            GameConsole.println("\n" + selected.getNotation() + " is YOUR PENGUIN!");
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error selecting player penguin", e);
         }
@@ -182,7 +674,7 @@ public class GameManager {
      */
     private void calculateScore() {
         try {
-            System.out.println("***** SCOREBOARD FOR THE PENGUINS *****");
+            GameConsole.println("***** SCOREBOARD FOR THE PENGUINS *****");
 
             // FIX: Defensive copy to prevent concurrent modification
             List<Penguin> scorePenguins = new ArrayList<>(penguins);
@@ -207,7 +699,7 @@ public class GameManager {
                     header += " (Your Penguin)";
                 }
 
-                System.out.println("* " + rank + suffix + " place: " + header);
+                GameConsole.println("* " + rank + suffix + " place: " + header);
 
                 StringBuilder foodInfo = new StringBuilder();
                 List<Food> items = p.getInventory();
@@ -232,14 +724,14 @@ public class GameManager {
                     }
                 }
 
-                System.out.println("  |---> Food items: " + foodInfo);
-                System.out.println("  |---> Total weight: " +
+                GameConsole.println("  |---> Food items: " + foodInfo);
+                GameConsole.println("  |---> Total weight: " +
                         p.measureInventory() + " units");
             }
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error calculating scores", e);
             // FIX: Inform user about the error
-            System.err.println("*** Error calculating final scores. Check logs for details.");
+            GameConsole.printError("*** Error calculating final scores. Check logs for details.");
         }
     }
 
@@ -274,17 +766,20 @@ public class GameManager {
                 turnHeader += " (Your Penguin)";
             }
             turnHeader += ":";
-            System.out.println(turnHeader);
+            GameConsole.println(turnHeader);
 
             // Print penguin type info
-            System.out.println(p.getNotation() + " (" + p.getType() + " Penguin) is preparing to move.");
+            GameConsole.println(p.getNotation() + " (" + p.getType() + " Penguin) is preparing to move.");
 
             if (p.isPlayer()) {
-                // Player-controlled penguin
+                // Player-controlled penguin; the AI penguins after it are decided while it waits for input
+                if (speculation != null) {
+                    speculation.speculate(p, policies, grid, new TurnContext(turnNumber, maxTurns, penguins));
+                }
                 handlePlayerTurn(p);
             } else {
                 // AI-controlled penguin
-                handleAITurn(p);
+                handleAITurn(p, turnNumber);
             }
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error processing turn", e);
@@ -306,7 +801,7 @@ public class GameManager {
     private void handlePlayerTurn(Penguin p) {
         boolean useAbility = false;
         try {
-            System.out.println("YOUR PENGUIN");
+            GameConsole.println("YOUR PENGUIN");
 
             // Ask if player wants to use special ability
             if (!p.isAbilityUsed()) {
@@ -317,7 +812,7 @@ public class GameManager {
             }
 
             if (useAbility && !p.isAbilityUsed()) {
-                System.out.println(p.getNotation() + " chooses to USE its special action.");
+                GameConsole.println(p.getNotation() + " chooses to USE its special action.");
                 p.specialAbility();
                 p.setAbilityUsed(true);
 
@@ -331,7 +826,7 @@ public class GameManager {
 
                     // Check if penguin was eliminated during special move
                     if (p.getPosition() == null) {
-                        System.out.println("*** " + p.getNotation() +
+                        GameConsole.println("*** " + p.getNotation() +
                                 " IS REMOVED FROM THE GAME!");
                         return;
                     }
@@ -339,9 +834,9 @@ public class GameManager {
             } else {
                 // Match PDF format: "does NOT to use" (grammatically incorrect but matches example)
                 if (p.isAbilityUsed()) {
-                    System.out.println(p.getNotation() + " has already used its special action.");
+                    GameConsole.println(p.getNotation() + " has already used its special action.");
                 } else {
-                    System.out.println(p.getNotation() + " does NOT to use its special action.");
+                    GameConsole.println(p.getNotation() + " does NOT to use its special action.");
                 }
 
             }
@@ -355,7 +850,7 @@ public class GameManager {
 
             // Check if penguin was eliminated
             if (p.getPosition() == null) {
-                System.out.println("*** " + p.getNotation() +
+                GameConsole.println("*** " + p.getNotation() +
                         " IS REMOVED FROM THE GAME!");
             }
         } catch (Exception e) {
@@ -364,65 +859,40 @@ public class GameManager {
     }
 
     /**
-     * Handles AI penguin turn with SMART decision-making.
-     * Priorities: 1. Food, 2. Safe Hazard/Stop, 3. Water/Hole (Last Resort)
+     * Handles a computer-controlled penguin's turn.
+     * The penguin's policy decides the action (the default HeuristicPolicy
+     * prefers food, then a safe stop, then water or a hole as a last resort)
+     * and this method carries it out.
+     *
+     * @param p          The penguin taking its turn
+     * @param turnNumber The current turn number (1-4)
+     * @throws IllegalArgumentException if the policy uses a Royal Penguin's
+     *                                  ability without a step direction
      */
-    private void handleAITurn(Penguin p) {
-        // 1. Evaluate all directions based on where the slide leads
-        List<Direction> foodDirs = new ArrayList<>();
-        List<Direction> safeDirs = new ArrayList<>();
-        List<Direction> fatalDirs = new ArrayList<>();
-
-        for (Direction d : Direction.values()) {
-            MoveOutcome outcome = simulateMove(p, d);
-            if (outcome == MoveOutcome.FOOD) {
-                foodDirs.add(d);
-            } else if (outcome == MoveOutcome.SAFE_OBSTACLE) {
-                safeDirs.add(d);
-            } else {
-                fatalDirs.add(d);
-            }
-        }
-
-        // 2. Choose the best direction based on priority
-        Direction chosenDir;
-
-        if (!foodDirs.isEmpty()) {
-            chosenDir = foodDirs.get(RandUtil.getRandomInt(foodDirs.size()));
-        } else if (!safeDirs.isEmpty()) {
-            chosenDir = safeDirs.get(RandUtil.getRandomInt(safeDirs.size()));
-        } else {
-            if (!fatalDirs.isEmpty()) {
-                chosenDir = fatalDirs.get(RandUtil.getRandomInt(fatalDirs.size()));
-            } else {
-                chosenDir = RandUtil.getRandomDirection();
-            }
-        }
-
-        // 3. Determine Ability Usage
-        boolean useAbility = false;
-
-        if (p instanceof RockhopperPenguin) {
-            // FIX: Rockhopper Logic - auto-use when facing hazard
-            if (!p.isAbilityUsed() && isFacingHazard(p, chosenDir)) {
-                useAbility = true;
-                // Note: Message will be printed later in the unified block
-            }
-        } else {
-            // Standard Logic: 30% chance for others (King, Emperor, Royal)
-            if (!p.isAbilityUsed()) {
-                useAbility = RandUtil.getRandomInt(10) < 3;
-            }
+    private void handleAITurn(Penguin p, int turnNumber) {
+        PenguinPolicy policy = policies.get(penguins.indexOf(p) % policies.size());
+        TurnContext context = new TurnContext(turnNumber, maxTurns, penguins);
+        TurnDecision decision = speculation != null
+                ? speculation.decide(p, policy, grid, context)
+                : policy.decide(p, grid, context);
+        Direction chosenDir = decision.getDirection();
+
+        // Reject before anything changes, so the ability is not used up for nothing
+        if (decision.isUseAbility() && !p.isAbilityUsed() && p instanceof RoyalPenguin
+                && decision.getRoyalDirection() == null) {
+            throw new IllegalArgumentException(
+                    "GameManager Error: " + p.getNotation() + " uses the Royal step without a step direction."
+            );
         }
 
-        // 4. Execute Ability Logic
-        if (useAbility && !p.isAbilityUsed()) {
-            // FIX: Print specific message for Rockhopper, generic for others
-            if (p instanceof RockhopperPenguin) {
-                System.out.println(p.getNotation() +
+        // Execute Ability Logic
+        if (decision.isUseAbility() && !p.isAbilityUsed()) {
+            // Name the hazard only when the facing-hazard rule made the decision
+            if (decision.isFacingHazard()) {
+                GameConsole.println(p.getNotation() +
                         " will automatically USE its special action because it faces a hazard.");
             } else {
-                System.out.println(p.getNotation() + " chooses to USE its special action.");
+                GameConsole.println(p.getNotation() + " chooses to USE its special action.");
             }
 
             p.specialAbility();
@@ -430,168 +900,31 @@ public class GameManager {
 
             // Special handling for RoyalPenguin AI
             if (p instanceof RoyalPenguin royal) {
-                Direction royalDir = getSafeRoyalMove(royal);
-                royal.performSpecialMove(grid, royalDir);
+                royal.performSpecialMove(grid, decision.getRoyalDirection());
 
                 // FIX: Check if penguin was eliminated during special move
                 if (p.getPosition() == null) {
-                    System.out.println("*** " + p.getNotation() + " IS REMOVED FROM THE GAME!");
+                    GameConsole.println("*** " + p.getNotation() + " IS REMOVED FROM THE GAME!");
                     return;
                 }
             }
         } else {
             // FIX: Only print non-usage message if ability is available
             if (!p.isAbilityUsed()) {
-                System.out.println(p.getNotation() + " does NOT use its special action.");
+                GameConsole.println(p.getNotation() + " does NOT use its special action.");
             }
         }
 
-        // 5. Execute Slide
-        System.out.println(p.getNotation() + " chooses to move " + chosenDir + ".");
+        // Execute Slide
+        GameConsole.println(p.getNotation() + " chooses to move " + chosenDir + ".");
         p.slide(grid, chosenDir);
 
         // Check if penguin was eliminated after slide
         if (p.getPosition() == null) {
-            System.out.println("*** " + p.getNotation() + " IS REMOVED FROM THE GAME!");
-        }
-    }
-
-    /**
-     * Checks if the *immediate* obstacle in the sliding path is a Hazard.
-     * Used specifically for Rockhopper logic.
-     */
-    private boolean isFacingHazard(Penguin p, Direction d) {
-        // FIX: Add null check for position
-        if (p.getPosition() == null) {
-            return false;
-        }
-
-        int cx = p.getPosition().getX();
-        int cy = p.getPosition().getY();
-
-        // Trace path until we hit something or fall off
-        while (true) {
-            switch (d) {
-                case UP -> cy--;
-                case DOWN -> cy++;
-                case LEFT -> cx--;
-                case RIGHT -> cx++;
-            }
-
-            // FIX: Check bounds before accessing grid
-            if (cx < 0 || cy < 0 || cx >= TerrainGrid.GRID_SIZE || cy >= TerrainGrid.GRID_SIZE) {
-                return false;
-            }
-
-            interfaces.ITerrainObject obj = grid.getObjectAt(new Position(cx, cy));
-
-            switch (obj) {
-                case null -> {
-                    continue;
-                }
-                case Food food -> {
-                    continue;
-                }
-                case interfaces.IHazard iHazard -> {
-                    return true;
-                }
-                case Penguin penguin -> {
-                    return false;
-                }
-                default -> {
-                    return false;
-                }
-            }
+            GameConsole.println("*** " + p.getNotation() + " IS REMOVED FROM THE GAME!");
         }
     }
 
-    /**
-     * Simulates a slide in a direction to see what the penguin would hit.
-     * Used to determine AI priorities.
-     */
-    private MoveOutcome simulateMove(Penguin p, Direction d) {
-        int cx = p.getPosition().getX();
-        int cy = p.getPosition().getY();
-
-        // Simulate sliding loop
-        while (true) {
-            switch (d) {
-                case UP -> cy--;
-                case DOWN -> cy++;
-                case LEFT -> cx--;
-                case RIGHT -> cx++;
-            }
-
-            // Check boundaries
-            if (cx < 0 || cy < 0 || cx >= TerrainGrid.GRID_SIZE || cy >= TerrainGrid.GRID_SIZE) {
-                return MoveOutcome.BAD_WATER_OR_HOLE; // Falls in water
-            }
-
-            // Using fully qualified objects since Food/HoleInIce logic is internal
-            interfaces.ITerrainObject obj = grid.getObjectAt(new Position(cx, cy));
-
-            switch (obj) {
-                case null -> {
-                    // Empty space: do nothing, loop will naturally repeat
-                }
-                case Food food -> {
-                    return MoveOutcome.FOOD; // Found food!
-                }
-                case models.hazards.HoleInIce hole -> {
-                    if (!hole.isPlugged()) {
-                        return MoveOutcome.BAD_WATER_OR_HOLE; // Unplugged hole is fatal
-                    }
-                    // If plugged: do nothing, loop repeats (treat as empty ice)
-                }
-                default -> {
-                    // Hit a Wall (Hazard), IceBlock, SeaLion or another Penguin
-                    // This is considered a "Safe Stop" compared to water
-                    return MoveOutcome.SAFE_OBSTACLE;
-                }
-            }
-        }
-    }
-
-
-
-
-    /**
-     * Determines a safe single-step move for Royal Penguin AI.
-     * "random direction that does not lead them to a Hazard or falling to water"
-     */
-    private Direction getSafeRoyalMove(RoyalPenguin p) {
-        List<Direction> safeDirs = new ArrayList<>();
-
-        for (Direction d : Direction.values()) {
-            int nx = p.getPosition().getX();
-            int ny = p.getPosition().getY();
-            switch (d) {
-                case UP -> ny--;
-                case DOWN -> ny++;
-                case LEFT -> nx--;
-                case RIGHT -> nx++;
-            }
-
-            // Check bounds (Water)
-            if (nx < 0 || ny < 0 || nx >= TerrainGrid.GRID_SIZE || ny >= TerrainGrid.GRID_SIZE) continue;
-
-            interfaces.ITerrainObject obj = grid.getObjectAt(new Position(nx, ny));
-
-            // Avoid Hazards
-            if (obj instanceof interfaces.IHazard) continue;
-
-            // Empty or Food or Penguin (Safe to step onto/interact with safely)
-            safeDirs.add(d);
-        }
-
-        if (!safeDirs.isEmpty()) {
-            return safeDirs.get(RandUtil.getRandomInt(safeDirs.size()));
-        }
-
-        // If no safe choice, must pick random (as per "unless they have no other choice")
-        return RandUtil.getRandomDirection();
-    }
-
     /**
      * Collects all penguins from the grid and sorts them by notation (P1, P2, P3).
      * This ensures turns are processed in correct order regardless of
@@ -601,15 +934,15 @@ public class GameManager {
      * 1. Clear existing penguin list
      * 2. Scan entire grid for penguins
      * 3. Add found penguins to list
-     * 4. Sort by notation (P1 < P2 < P3)
+     * 4. Sort by ID number (P1 < P2 < ... < P10)
      */
     private void sortPenguins() {
         try {
             penguins.clear();
 
             // Scan entire grid for penguins
-            for (int y = 0; y < TerrainGrid.GRID_SIZE; y++) {
-                for (int x = 0; x < TerrainGrid.GRID_SIZE; x++) {
+            for (int y = 0; y < grid.getSize(); y++) {
+                for (int x = 0; x < grid.getSize(); x++) {
                     interfaces.ITerrainObject object = grid.getObjectAt(new Position(x, y));
                     if (object instanceof Penguin) {
                         penguins.add((Penguin) object);
@@ -617,8 +950,13 @@ public class GameManager {
                 }
             }
 
-            // Sort by notation (P1, P2, P3)
-            penguins.sort(Comparator.comparing(Penguin::getNotation));
+            // Sort by ID number (P1, P2, P3, ...)
+            penguins.sort(Penguin.TURN_ORDER);
+            if (eliminationTurns.length == penguins.size()) {
+                Arrays.fill(eliminationTurns, 0);
+            } else {
+                eliminationTurns = new int[penguins.size()];
+            }
 
             if (penguins.isEmpty()) {
                 LOGGER.log(Level.WARNING, "GameManager Warning: No penguins found on grid!");
@@ -627,13 +965,4 @@ public class GameManager {
             LOGGER.log(Level.SEVERE, "Error sorting penguins", e);
         }
     }
-
-    /**
-     * Enum to classify the result of a move simulation.
-     */
-    private enum MoveOutcome {
-        FOOD,
-        SAFE_OBSTACLE,     // Hits wall, penguin, or non-fatal hazard
-        BAD_WATER_OR_HOLE  // Dies
-    }
-}
\ No newline at end of file
+}
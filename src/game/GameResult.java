@@ -0,0 +1,304 @@
+package game;
+
+import enums.CollisionType;
+import enums.EliminationCause;
+import enums.PenguinType;
+import models.Food;
+import models.penguins.Penguin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Final state of a finished game: score, elimination and inventory of
+ * every penguin, in turn order.
+ * <p>
+ * A GameResult is an immutable snapshot. It stays valid after the grid
+ * and the penguins are reused for another game.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public final class GameResult {
+    /**
+     * Results of all penguins in turn order
+     */
+    private final List<PenguinResult> penguins;
+
+    /**
+     * Number of turns that were played
+     */
+    private final int turnsPlayed;
+
+    /**
+     * Constructs a result.
+     *
+     * @param penguins    The penguin results in turn order
+     * @param turnsPlayed The number of turns that were played
+     * @throws IllegalArgumentException if penguins is null
+     */
+    public GameResult(List<PenguinResult> penguins, int turnsPlayed) {
+        if (penguins == null) {
+            throw new IllegalArgumentException(
+                    "GameResult Error: Penguin results cannot be null."
+            );
+        }
+        this.penguins = List.copyOf(penguins);
+        this.turnsPlayed = turnsPlayed;
+    }
+
+    /**
+     * Gets the results of all penguins in turn order.
+     *
+     * @return A read-only list of penguin results
+     */
+    public List<PenguinResult> getPenguins() {
+        return penguins;
+    }
+
+    /**
+     * Gets the number of turns that were played.
+     *
+     * @return The turn count
+     */
+    public int getTurnsPlayed() {
+        return turnsPlayed;
+    }
+
+    /**
+     * Gets the penguin with the strictly highest score.
+     *
+     * @return The index in turn order of the winner, or -1 if the top score is shared
+     */
+    public int getWinnerIndex() {
+        int best = -1;
+        int bestScore = Integer.MIN_VALUE;
+        boolean shared = false;
+
+        for (int i = 0; i < penguins.size(); i++) {
+            int score = penguins.get(i).getScore();
+            if (score > bestScore) {
+                bestScore = score;
+                best = i;
+                shared = false;
+            } else if (score == bestScore) {
+                shared = true;
+            }
+        }
+        return shared ? -1 : best;
+    }
+
+    /**
+     * Gets the penguin results ranked by score (highest first).
+     * Penguins with equal scores keep their turn order.
+     *
+     * @return A new list of the results in ranking order
+     */
+    public List<PenguinResult> getRanking() {
+        List<PenguinResult> ranking = new ArrayList<>(penguins);
+        ranking.sort((p1, p2) -> Integer.compare(p2.getScore(), p1.getScore()));
+        return ranking;
+    }
+
+    /**
+     * Returns a one-line summary of the result.
+     *
+     * @return A descriptive string
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("GameResult [");
+        for (int i = 0; i < penguins.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(penguins.get(i));
+        }
+        return sb.append("]").toString();
+    }
+
+    /**
+     * Final state of one penguin.
+     */
+    public static final class PenguinResult {
+        /**
+         * The penguin's notation (P1, P2, ...)
+         */
+        private final String notation;
+
+        /**
+         * The penguin's type
+         */
+        private final PenguinType type;
+
+        /**
+         * Total weight of the collected food
+         */
+        private final int score;
+
+        /**
+         * The turn in which the penguin was eliminated, or 0 if it survived
+         */
+        private final int eliminationTurn;
+
+        /**
+         * The collected food items
+         */
+        private final List<Food> inventory;
+
+        /**
+         * How the penguin was eliminated, or null if it survived
+         */
+        private final EliminationCause eliminationCause;
+
+        /**
+         * Number of collisions per CollisionType ordinal
+         */
+        private final int[] collisions;
+
+        /**
+         * Constructs a penguin result without elimination cause and collisions.
+         *
+         * @param notation        The penguin's notation
+         * @param type            The penguin's type
+         * @param score           The total weight of the collected food
+         * @param eliminationTurn The turn of elimination, or 0 if the penguin survived
+         * @param inventory       The collected food items
+         */
+        public PenguinResult(String notation, PenguinType type, int score,
+                             int eliminationTurn, List<Food> inventory) {
+            this(notation, type, score, eliminationTurn, inventory, null, new int[CollisionType.values().length]);
+        }
+
+        /**
+         * Constructs a penguin result.
+         *
+         * @param notation         The penguin's notation
+         * @param type             The penguin's type
+         * @param score            The total weight of the collected food
+         * @param eliminationTurn  The turn of elimination, or 0 if the penguin survived
+         * @param inventory        The collected food items
+         * @param eliminationCause How the penguin was eliminated, or null if it survived
+         * @param collisions       The collision counts per CollisionType ordinal
+         * @throws IllegalArgumentException if collisions does not have one count per CollisionType
+         */
+        public PenguinResult(String notation, PenguinType type, int score, int eliminationTurn,
+                             List<Food> inventory, EliminationCause eliminationCause, int[] collisions) {
+            if (collisions == null || collisions.length != CollisionType.values().length) {
+                throw new IllegalArgumentException(
+                        "GameResult Error: Expected one collision count per collision type."
+                );
+            }
+            this.notation = notation;
+            this.type = type;
+            this.score = score;
+            this.eliminationTurn = eliminationTurn;
+            this.inventory = Collections.unmodifiableList(new ArrayList<>(inventory));
+            this.eliminationCause = eliminationCause;
+            this.collisions = collisions.clone();
+        }
+
+        /**
+         * Creates the result of a penguin from its current state.
+         *
+         * @param penguin         The penguin
+         * @param eliminationTurn The turn of elimination, or 0 if the penguin survived
+         * @return The penguin result
+         */
+        public static PenguinResult of(Penguin penguin, int eliminationTurn) {
+            int[] collisions = new int[CollisionType.values().length];
+            for (CollisionType collision : CollisionType.values()) {
+                collisions[collision.ordinal()] = penguin.getCollisionCount(collision);
+            }
+            return new PenguinResult(penguin.getNotation(), penguin.getPenguinType(),
+                    penguin.measureInventory(), eliminationTurn, penguin.getInventory(),
+                    penguin.getEliminationCause(), collisions);
+        }
+
+        /**
+         * Gets the penguin's notation.
+         *
+         * @return The notation (P1, P2, ...)
+         */
+        public String getNotation() {
+            return notation;
+        }
+
+        /**
+         * Gets the penguin's type.
+         *
+         * @return The penguin type
+         */
+        public PenguinType getType() {
+            return type;
+        }
+
+        /**
+         * Gets the total weight of the collected food.
+         *
+         * @return The score
+         */
+        public int getScore() {
+            return score;
+        }
+
+        /**
+         * Checks if the penguin was eliminated.
+         *
+         * @return true if the penguin fell into the water or a hole
+         */
+        public boolean isEliminated() {
+            return eliminationTurn > 0;
+        }
+
+        /**
+         * Gets the turn in which the penguin was eliminated.
+         *
+         * @return The turn number, or 0 if the penguin survived
+         */
+        public int getEliminationTurn() {
+            return eliminationTurn;
+        }
+
+        /**
+         * Gets the collected food items.
+         *
+         * @return A read-only list of the food items
+         */
+        public List<Food> getInventory() {
+            return inventory;
+        }
+
+        /**
+         * Gets how the penguin was eliminated.
+         *
+         * @return The elimination cause, or null if the penguin survived or the cause is unknown
+         */
+        public EliminationCause getEliminationCause() {
+            return eliminationCause;
+        }
+
+        /**
+         * Gets the number of collisions with one kind of object.
+         *
+         * @param collision The collision type
+         * @return The number of collisions during the game
+         */
+        public int getCollisionCount(CollisionType collision) {
+            return collisions[collision.ordinal()];
+        }
+
+        /**
+         * Returns a short description of the result.
+         *
+         * @return A descriptive string
+         */
+        @Override
+        public String toString() {
+            return notation + " (" + type.getDisplayName() + ") " + score + " units"
+                    + (isEliminated() ? ", eliminated in turn " + eliminationTurn : "");
+        }
+    }
+}
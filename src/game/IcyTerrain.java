@@ -1,9 +1,13 @@
 package game;
 
+import game.ai.PenguinPolicy;
+import game.ai.SpeculativeEvaluator;
 import game.util.GridRenderer;
 import game.util.InputMaster;
 import models.penguins.Penguin;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -11,15 +15,28 @@ import java.util.logging.Logger;
  * Main game controller that initializes and manages the Sliding Penguins game.
  * This class handles the complete game lifecycle from initialization to completion.
  * <p>
- * Initialization sequence:
- * 1. Create input master for player interaction
- * 2. Create grid renderer for displaying game state
- * 3. Create object spawner for populating the grid
- * 4. Create the 10x10 terrain grid
- * 5. Spawn all game objects (penguins, hazards, food)
- * 6. Display initial grid state
- * 7. Show penguin information
- * 8. Start game manager and run game loop
+ * Lifecycle:
+ * 1. Create - the constructor builds the grid, the spawner and the entity
+ * recycler; nothing is spawned or played yet
+ * 2. Reset - reset() returns the penguins and hazards of the last game to
+ * the recycler and clears the grid
+ * 3. Spawn - spawn() populates the grid from the spawn profile
+ * 4. Run - start() plays the interactive console game, run(policy) plays a
+ * headless game with every penguin driven by a policy, and begin(policy)
+ * returns a started GameManager to play the headless game step by step
+ * 5. Result - getResult() returns the result of the last headless game
+ * <p>
+ * play(policy) performs steps 2 to 5 at once. An IcyTerrain can play any
+ * number of headless games; the grid, the spawner, the GameManager and the
+ * penguin and hazard objects are reused from game to game. The renderer and
+ * the input master are only created for the interactive game.
+ * <p>
+ * Interactive sequence of start():
+ * 1. Display welcome message
+ * 2. Spawn all game objects (penguins, hazards, food)
+ * 3. Display initial grid state
+ * 4. Show penguin information
+ * 5. Start game manager and run game loop
  * <p>
  * This class also handles error management and provides graceful
  * failure messages if initialization fails.
@@ -32,14 +49,19 @@ public class IcyTerrain {
     private static final Logger LOGGER = Logger.getLogger(IcyTerrain.class.getName());
 
     /**
-     * Handles user input from console
+     * Handles user input from console (created by start())
+     */
+    private InputMaster inputMaster;
+
+    /**
+     * Renders the grid to console display (created by start())
      */
-    private final InputMaster inputMaster;
+    private GridRenderer renderer;
 
     /**
-     * Renders the grid to console display
+     * Keeps penguins and hazards of finished games for reuse
      */
-    private final GridRenderer renderer;
+    private final EntityRecycler recycler;
 
     /**
      * Spawns penguins, hazards, and food on the grid
@@ -47,7 +69,7 @@ public class IcyTerrain {
     private final ObjectSpawner spawner;
 
     /**
-     * The 10x10 game grid containing all objects
+     * The game grid containing all objects
      */
     private TerrainGrid gameGrid;
 
@@ -57,23 +79,72 @@ public class IcyTerrain {
     private GameManager gameManager;
 
     /**
-     * Constructs an IcyTerrain and initializes the game.
-     * This constructor automatically starts the complete game initialization
-     * process, including grid creation, object spawning, and game execution.
-     * If any errors occur during initialization, they are caught and
-     * displayed with appropriate error messages.
+     * Number of turns of headless games
+     */
+    private final int maxTurns;
+
+    /**
+     * Policy of the current headless GameManager, or null if it is interactive
+     */
+    private PenguinPolicy headlessPolicy;
+
+    /**
+     * Result of the last headless game, or null
+     */
+    private GameResult result;
+
+    /**
+     * Fingerprint of the grid right after the last spawn()
+     */
+    private long spawnHash;
+
+    /**
+     * Constructs an IcyTerrain for the original 10x10 game.
+     * Call start() to play it on the console.
      */
     public IcyTerrain() {
-        this.inputMaster = new InputMaster();
-        this.renderer = new GridRenderer();
-        this.spawner = new ObjectSpawner();
-        this.gameGrid = new TerrainGrid();
+        this(SpawnProfile.defaultProfile());
+    }
+
+    /**
+     * Constructs an IcyTerrain whose grid is populated from a spawn profile.
+     * Nothing is spawned or played until start(), spawn() or play() is called.
+     *
+     * @param profile The spawn profile (board size, counts, type weights, regions)
+     * @throws IllegalArgumentException if profile is null
+     */
+    public IcyTerrain(SpawnProfile profile) {
+        this(profile, GameManager.DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * Constructs an IcyTerrain whose headless games last a custom number of
+     * turns. The interactive game of start() always has the original 4 turns.
+     *
+     * @param profile  The spawn profile (board size, counts, type weights, regions)
+     * @param maxTurns The number of turns of headless games
+     * @throws IllegalArgumentException if profile is null or maxTurns is not positive
+     */
+    public IcyTerrain(SpawnProfile profile, int maxTurns) {
+        if (profile == null) {
+            throw new IllegalArgumentException(
+                    "IcyTerrain Error: Spawn profile cannot be null."
+            );
+        }
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException(
+                    "IcyTerrain Error: Turn count must be positive. Received: " + maxTurns
+            );
+        }
 
-        initializeGame();
+        this.recycler = new EntityRecycler();
+        this.spawner = new ObjectSpawner(profile, recycler);
+        this.gameGrid = new TerrainGrid(profile.getBoardSize());
+        this.maxTurns = maxTurns;
     }
 
     /**
-     * Initializes and runs the complete game sequence.
+     * Initializes and runs the interactive console game.
      * This method handles all stages of game setup and execution:
      * 1. Display welcome message
      * 2. Spawn all game objects on the grid
@@ -85,24 +156,58 @@ public class IcyTerrain {
      * - IllegalArgumentException - Displays reason for initialization failure
      * - General Exception - Displays error message and stack trace
      */
-    private void initializeGame() {
+    public void start() {
+        start(null, false);
+    }
+
+    /**
+     * Runs the interactive console game against a custom computer opponent.
+     * <p>
+     * With speculation, a SpeculativeEvaluator decides the computer
+     * penguins queued behind the player while the player is still choosing
+     * a move, so their turns are ready when the player answers. Only a
+     * BoardPolicy (such as ExpectimaxPolicy) can be decided ahead; other
+     * policies decide every turn when it comes. The evaluator is closed
+     * when the game ends.
+     *
+     * @param opponent  The policy of the computer penguins, or null for the original AI
+     * @param speculate Whether to decide the computer penguins ahead of time
+     */
+    public void start(PenguinPolicy opponent, boolean speculate) {
+        SpeculativeEvaluator speculation = null;
         try {
+            if (inputMaster == null) {
+                inputMaster = new InputMaster();
+            }
+            if (renderer == null) {
+                renderer = new GridRenderer();
+            }
+            reset();
+
             System.out.println(
                     "Welcome to Sliding Penguins Puzzle Game App. " +
-                            "An 10x10 icy terrain grid is being generated."
+                            "An " + gameGrid.getSize() + "x" + gameGrid.getSize() +
+                            " icy terrain grid is being generated."
             );
 
             System.out.print(
                     "Penguins, Hazards, and Food items are also being generated."
             );
-            spawner.spawnObjects(gameGrid);
+            spawn();
 
             System.out.println(" The initial icy terrain grid:");
             renderer.renderState(gameGrid);
 
             displayPenguinInfo();
 
-            gameManager = new GameManager(gameGrid, renderer, inputMaster);
+            gameManager = opponent == null
+                    ? new GameManager(gameGrid, renderer, inputMaster)
+                    : new GameManager(gameGrid, renderer, inputMaster, List.of(opponent));
+            headlessPolicy = null;
+            if (speculate) {
+                speculation = new SpeculativeEvaluator();
+                gameManager.setSpeculation(speculation);
+            }
             gameManager.gameLoop();
 
         } catch (IllegalArgumentException e) {
@@ -118,9 +223,113 @@ public class IcyTerrain {
         } catch (Exception e) {
             System.out.println("An unexpected exception has occurred during game initialization.");
             LOGGER.log(Level.SEVERE, "Unexpected error during game initialization", e);
+        } finally {
+            if (speculation != null) {
+                gameManager.setSpeculation(null);
+                LOGGER.fine("Speculation: " + speculation.getHits() + " hits, " + speculation.getMisses()
+                        + " misses");
+                speculation.close();
+            }
         }
     }
 
+    /**
+     * Clears the grid for a new game. The penguins and hazards of the last
+     * game go back to the recycler and the last result is dropped.
+     */
+    public void reset() {
+        recycler.recycle(gameGrid, gameManager != null ? gameManager.getPenguins() : null);
+        result = null;
+    }
+
+    /**
+     * Populates the (cleared) grid from the spawn profile.
+     *
+     * @throws RuntimeException if the objects cannot be spawned
+     */
+    public void spawn() {
+        spawner.spawnObjects(gameGrid);
+        spawnHash = gameGrid.contentHash();
+    }
+
+    /**
+     * Plays the spawned grid to the end without a human player.
+     * The GameManager is reused as long as the same policy is passed.
+     *
+     * @param policy The policy of all penguins
+     * @return The result of the game
+     * @throws IllegalArgumentException if policy is null
+     */
+    public GameResult run(PenguinPolicy policy) {
+        result = begin(policy).runToEnd();
+        return result;
+    }
+
+    /**
+     * Starts a headless game on the spawned grid without playing any move.
+     * The returned GameManager is advanced with stepAction(), stepTurn() or
+     * runToEnd(). The GameManager is reused as long as the same policy is passed.
+     *
+     * @param policy The policy of all penguins
+     * @return The started GameManager
+     * @throws IllegalArgumentException if policy is null
+     */
+    public GameManager begin(PenguinPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException(
+                    "IcyTerrain Error: Policy cannot be null."
+            );
+        }
+        if (gameManager == null || headlessPolicy != policy) {
+            gameManager = new GameManager(gameGrid, Collections.singletonList(policy), maxTurns);
+            headlessPolicy = policy;
+        }
+        gameManager.begin();
+        return gameManager;
+    }
+
+    /**
+     * Resets the terrain, spawns a new board and plays it without a human
+     * player.
+     *
+     * @param policy The policy of all penguins
+     * @return The result of the game
+     * @throws IllegalArgumentException if policy is null
+     */
+    public GameResult play(PenguinPolicy policy) {
+        reset();
+        spawn();
+        return run(policy);
+    }
+
+    /**
+     * Gets the result of the last headless game.
+     *
+     * @return The result, or null if no headless game finished since the last reset
+     */
+    public GameResult getResult() {
+        return result;
+    }
+
+    /**
+     * Gets the fingerprint of the board created by the last spawn(), for
+     * counting distinct boards.
+     *
+     * @return The TerrainGrid.contentHash() of the spawned board
+     */
+    public long getSpawnHash() {
+        return spawnHash;
+    }
+
+    /**
+     * Gets the recycler of this terrain's penguins and hazards.
+     *
+     * @return The entity recycler
+     */
+    public EntityRecycler getRecycler() {
+        return recycler;
+    }
+
     /**
      * Scans the grid for penguins, sorts them by ID (P1, P2, P3), and displays their info.
      */
@@ -130,8 +339,8 @@ public class IcyTerrain {
         java.util.List<Penguin> foundPenguins = new java.util.ArrayList<>();
 
         // 1. Collect all penguins from the grid
-        for (int y = 0; y < TerrainGrid.GRID_SIZE; y++) {
-            for (int x = 0; x < TerrainGrid.GRID_SIZE; x++) {
+        for (int y = 0; y < gameGrid.getSize(); y++) {
+            for (int x = 0; x < gameGrid.getSize(); x++) {
                 var obj = gameGrid.getObjectAt(new models.Position(x, y));
                 if (obj instanceof Penguin p) {
                     foundPenguins.add(p);
@@ -140,7 +349,7 @@ public class IcyTerrain {
         }
 
         // 2. Sort them by ID (Notation) to ensure P1, P2, P3 order
-        foundPenguins.sort(java.util.Comparator.comparing(Penguin::getNotation));
+        foundPenguins.sort(Penguin.TURN_ORDER);
 
         // 3. Print them in order
         for (Penguin p : foundPenguins) {
@@ -180,6 +389,9 @@ public class IcyTerrain {
             );
         }
         this.gameGrid = gameGrid;
+        this.gameManager = null;
+        this.headlessPolicy = null;
+        this.result = null;
     }
 
     /**
@@ -189,6 +401,7 @@ public class IcyTerrain {
      * <p>
      * Call this in the main method after the game completes:
      * IcyTerrain terrain = new IcyTerrain();
+     * terrain.start();
      * terrain.closeInputMaster(); // Always close!
      */
     public void closeInputMaster() {
@@ -205,7 +418,7 @@ public class IcyTerrain {
      * Gets the game manager instance.
      * Used for testing or accessing game state.
      *
-     * @return The GameManager instance, or null if game hasn't started
+     * @return The GameManager instance, or null if no game has started
      */
     public GameManager getGameManager() {
         return gameManager;
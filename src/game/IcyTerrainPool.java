@@ -0,0 +1,108 @@
+package game;
+
+import game.ai.PenguinPolicy;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A pool of reusable IcyTerrain instances for batch jobs that play many
+ * headless games.
+ * <p>
+ * acquire() hands out an idle terrain (or creates one when all are busy)
+ * and release() returns it for the next game. Because every terrain keeps
+ * its grid, spawner, GameManager and recycled penguins and hazards, a
+ * pooled game allocates little more than its food items and its result.
+ * <p>
+ * The pool itself is thread-safe; a terrain must only be used by the
+ * thread that acquired it until it is released.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class IcyTerrainPool {
+    /**
+     * Spawn rules of every terrain in the pool
+     */
+    private final SpawnProfile profile;
+
+    /**
+     * Idle terrains
+     */
+    private final ConcurrentLinkedQueue<IcyTerrain> idle;
+
+    /**
+     * Constructs an empty pool.
+     *
+     * @param profile The spawn rules of every terrain
+     * @throws IllegalArgumentException if profile is null
+     */
+    public IcyTerrainPool(SpawnProfile profile) {
+        if (profile == null) {
+            throw new IllegalArgumentException(
+                    "IcyTerrainPool Error: Spawn profile cannot be null."
+            );
+        }
+        this.profile = profile;
+        this.idle = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Takes an idle terrain from the pool, or creates a new one.
+     *
+     * @return A terrain owned by the caller until release()
+     */
+    public IcyTerrain acquire() {
+        IcyTerrain terrain = idle.poll();
+        return terrain != null ? terrain : new IcyTerrain(profile);
+    }
+
+    /**
+     * Returns a terrain to the pool.
+     *
+     * @param terrain The terrain taken with acquire()
+     * @throws IllegalArgumentException if terrain is null
+     */
+    public void release(IcyTerrain terrain) {
+        if (terrain == null) {
+            throw new IllegalArgumentException(
+                    "IcyTerrainPool Error: Cannot release a null terrain."
+            );
+        }
+        idle.add(terrain);
+    }
+
+    /**
+     * Plays one headless game on a pooled terrain.
+     *
+     * @param policy The policy of all penguins
+     * @return The result of the game
+     * @throws IllegalArgumentException if policy is null
+     */
+    public GameResult play(PenguinPolicy policy) {
+        IcyTerrain terrain = acquire();
+        try {
+            return terrain.play(policy);
+        } finally {
+            release(terrain);
+        }
+    }
+
+    /**
+     * Gets the number of idle terrains.
+     *
+     * @return The idle count
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Gets the spawn profile of the pooled terrains.
+     *
+     * @return The spawn profile
+     */
+    public SpawnProfile getProfile() {
+        return profile;
+    }
+}
@@ -1,5 +1,8 @@
 package game;
 
+import enums.HazardType;
+import enums.PenguinType;
+import game.util.GameConsole;
 import game.util.RandUtil;
 import interfaces.ITerrainObject;
 import models.Food;
@@ -11,14 +14,20 @@ import models.penguins.*;
  * This class ensures proper distribution and placement of objects according to
  * game rules.
  * <p>
- * Spawning rules:
+ * Spawning rules (default profile):
  * - 3 penguins - must be on edge squares, no overlapping
  * - 15 hazards - randomly placed, cannot overlap with penguins
  * - 20 food items - randomly placed, cannot overlap with penguins or hazards
  * <p>
+ * The counts, type weights, food weight distribution and spawn regions come
+ * from a SpawnProfile, so the same rules scale to larger boards. Counts given
+ * as densities grow with the board.
+ * <p>
  * Each object type is spawned sequentially to ensure proper placement
- * without conflicts. The spawner continues attempting placements until
- * all required objects are successfully placed.
+ * without conflicts. Positions are drawn at random and rejected if occupied;
+ * when a board becomes so crowded that random draws keep failing, the spawner
+ * switches to picking directly from the remaining free squares of the region,
+ * so dense profiles never fail while free squares remain.
  *
  * @author CENG211 14. Group
  * @version 1.0
@@ -26,24 +35,64 @@ import models.penguins.*;
  */
 public class ObjectSpawner {
     /**
-     * Size of the grid (10x10)
+     * Random draws tried for one object before switching to the free-square list
+     */
+    private static final int RANDOM_ATTEMPTS = 1000;
+
+    /**
+     * The profile describing what to spawn
      */
-    private final int GRID_SIZE = 10;
+    private final SpawnProfile profile;
 
     /**
-     * Number of penguins to spawn
+     * Source of reusable penguins and hazards, or null to always create new ones
      */
-    private final int PENGUIN_COUNT = 3;
+    private final EntityRecycler recycler;
 
     /**
-     * Number of hazards to spawn
+     * Constructs a spawner using the default profile of the original game.
      */
-    private final int HAZARD_COUNT = 15;
+    public ObjectSpawner() {
+        this(SpawnProfile.defaultProfile());
+    }
+
+    /**
+     * Constructs a spawner using the given profile.
+     *
+     * @param profile The spawn profile
+     * @throws IllegalArgumentException if profile is null
+     */
+    public ObjectSpawner(SpawnProfile profile) {
+        this(profile, null);
+    }
+
+    /**
+     * Constructs a spawner that takes its penguins and hazards from a recycler.
+     * The random draws are the same as without a recycler, so a seed spawns
+     * the same board either way.
+     *
+     * @param profile  The spawn profile
+     * @param recycler The recycler, or null to always create new objects
+     * @throws IllegalArgumentException if profile is null
+     */
+    public ObjectSpawner(SpawnProfile profile, EntityRecycler recycler) {
+        if (profile == null) {
+            throw new IllegalArgumentException(
+                    "ObjectSpawner Error: Spawn profile cannot be null."
+            );
+        }
+        this.profile = profile;
+        this.recycler = recycler;
+    }
 
     /**
-     * Number of food items to spawn
+     * Gets the spawn profile of this spawner.
+     *
+     * @return The spawn profile
      */
-    private final int FOOD_COUNT = 20;
+    public SpawnProfile getProfile() {
+        return profile;
+    }
 
     /**
      * Spawns all game objects on the provided grid.
@@ -54,6 +103,7 @@ public class ObjectSpawner {
      *
      * @param grid The terrain grid to populate
      * @throws IllegalArgumentException if grid is null
+     * @throws IllegalArgumentException if the grid size does not match the profile
      */
     public void spawnObjects(TerrainGrid grid) {
         if (grid == null) {
@@ -61,185 +111,180 @@ public class ObjectSpawner {
                     "ObjectSpawner Error: Cannot spawn objects on null grid."
             );
         }
+        if (grid.getSize() != profile.getBoardSize()) {
+            throw new IllegalArgumentException(
+                    "ObjectSpawner Error: Grid size " + grid.getSize() +
+                            " does not match profile board size " + profile.getBoardSize() + "."
+            );
+        }
 
         try {
             spawnPenguins(grid);
             spawnHazards(grid);
             spawnFood(grid);
         } catch (Exception e) {
-            System.err.println("Error during object spawning: " + e.getMessage());
+            GameConsole.printError("Error during object spawning: " + e.getMessage());
             throw new RuntimeException("Failed to spawn objects", e);
         }
     }
 
     /**
-     * Spawns three penguins on random edge positions.
-     * Each penguin is assigned an ID (P1, P2, P3) and placed on an
-     * unoccupied edge square of the grid.
+     * Spawns the profile's penguins on random edge positions.
+     * Each penguin is assigned an ID (P1, P2, P3, ...) and placed on an
+     * unoccupied edge square of the grid inside the penguin region.
      * <p>
-     * Edge squares are those where x=0, x=9, y=0, or y=9.
+     * Edge squares are those where x=0, x=size-1, y=0, or y=size-1.
      * <p>
      * Process:
-     * 1. Generate random edge position
-     * 2. Check if position is empty
-     * 3. Create random penguin type
-     * 4. Assign penguin ID (P1, P2, or P3)
-     * 5. Place penguin on grid
-     * 6. Repeat until all 3 penguins are placed
+     * 1. Pick a free edge position
+     * 2. Create a penguin of a weighted random type
+     * 3. Assign penguin ID (P1, P2, ...)
+     * 4. Place penguin on grid
+     * 5. Repeat until all penguins are placed
      *
      * @param grid The terrain grid
-     * @throws RuntimeException if unable to spawn all penguins after many attempts
+     * @throws RuntimeException if there are not enough free edge squares
      */
     private void spawnPenguins(TerrainGrid grid) {
-        int penguinsSpawned = 0;
-        int attempts = 0;
-        int maxAttempts = 1000;
+        int penguinCount = profile.getPenguinCount();
+        int[] typeWeights = profile.getPenguinTypeWeights();
+        PositionPicker picker = new PositionPicker(grid, profile.getPenguinRegion(), true);
 
         try {
-            while (penguinsSpawned < PENGUIN_COUNT) {
-                if (attempts++ > maxAttempts) {
+            for (int penguinsSpawned = 0; penguinsSpawned < penguinCount; penguinsSpawned++) {
+                Position position = picker.next();
+                if (position == null) {
                     // FIX: More informative error message
                     String error = String.format(
-                            "Failed to spawn all penguins after %d attempts. " +
+                            "Failed to spawn all penguins: no free edge squares left in region '%s'. " +
                                     "Spawned %d out of %d penguins.",
-                            maxAttempts, penguinsSpawned, PENGUIN_COUNT
+                            profile.getPenguinRegion(), penguinsSpawned, penguinCount
                     );
                     throw new RuntimeException(error);
                 }
 
-                Position position = getRandomEdgePosition();
-
-                if (grid.getObjectAt(position) == null) {
-                    Penguin penguin = generateRandomPenguin(position);
-                    penguin.setPenguinID("P" + (penguinsSpawned + 1));
-                    grid.placeObject(position, penguin);
-                    penguinsSpawned++;
-                }
+                Penguin penguin = generateRandomPenguin(position, typeWeights);
+                penguin.setPenguinID("P" + (penguinsSpawned + 1));
+                grid.placeObject(position, penguin);
             }
         } catch (Exception e) {
-            System.err.println("Error spawning penguins: " + e.getMessage());
+            GameConsole.printError("Error spawning penguins: " + e.getMessage());
             throw new RuntimeException("Critical error during penguin spawning", e);
         }
     }
 
     /**
-     * Spawns 15 hazards on random grid positions.
+     * Spawns the profile's hazards on random grid positions.
      * Hazards cannot be placed on squares already occupied by penguins.
      * <p>
-     * Each hazard is randomly assigned one of four types:
+     * Each hazard is assigned one of four types using the profile weights:
      * - LightIceBlock - can slide, stuns penguins
      * - HeavyIceBlock - immovable, removes food
      * - SeaLion - can slide, bounces penguins
      * - HoleInIce - immovable, eliminates penguins
      *
      * @param grid The terrain grid
-     * @throws RuntimeException if unable to spawn all hazards
+     * @throws RuntimeException if there are not enough free squares
      */
     private void spawnHazards(TerrainGrid grid) {
-        int hazardsSpawned = 0;
-        int attempts = 0;
-        int maxAttempts = 1000;
+        int hazardCount = profile.getHazardCount();
+        int[] typeWeights = profile.getHazardTypeWeights();
+        PositionPicker picker = new PositionPicker(grid, profile.getHazardRegion(), false);
 
         try {
-            while (hazardsSpawned < HAZARD_COUNT) {
-                if (attempts++ > maxAttempts) {
+            for (int hazardsSpawned = 0; hazardsSpawned < hazardCount; hazardsSpawned++) {
+                Position position = picker.next();
+                if (position == null) {
                     throw new RuntimeException(
-                            "Failed to spawn all hazards after " + maxAttempts + " attempts"
+                            "Failed to spawn all hazards: spawned " + hazardsSpawned + " out of " +
+                                    hazardCount + " before region '" + profile.getHazardRegion() + "' was full"
                     );
                 }
 
-                Position position = getRandomPosition();
-
-                // Check if position is empty
-                if (grid.getObjectAt(position) == null) {
-                    ITerrainObject hazard = generateRandomHazard(position);
-                    grid.placeObject(position, hazard);
-                    hazardsSpawned++;
-                }
+                ITerrainObject hazard = generateRandomHazard(position, typeWeights);
+                grid.placeObject(position, hazard);
             }
         } catch (Exception e) {
-            System.err.println("Error spawning hazards: " + e.getMessage());
+            GameConsole.printError("Error spawning hazards: " + e.getMessage());
             throw e;
         }
     }
 
     /**
-     * Spawns 20 food items on random grid positions.
+     * Spawns the profile's food items on random grid positions.
      * Food items cannot be placed on squares occupied by penguins or hazards.
      * <p>
-     * Each food item is randomly assigned:
+     * Each food item is assigned, using the profile weights:
      * - Food type (Krill, Crustacean, Anchovy, Squid, Mackerel)
-     * - Weight (1-5 units, randomly determined)
+     * - Weight (1-5 units)
      *
      * @param grid The terrain grid
-     * @throws RuntimeException if unable to spawn all food items
+     * @throws RuntimeException if there are not enough free squares
      */
     private void spawnFood(TerrainGrid grid) {
-        int foodSpawned = 0;
-        int attempts = 0;
-        int maxAttempts = 1000;
+        int foodCount = profile.getFoodCount();
+        int[] typeWeights = profile.getFoodTypeWeights();
+        int[] weightWeights = profile.getFoodWeightWeights();
+        PositionPicker picker = new PositionPicker(grid, profile.getFoodRegion(), false);
 
         try {
-            while (foodSpawned < FOOD_COUNT) {
-                if (attempts++ > maxAttempts) {
+            for (int foodSpawned = 0; foodSpawned < foodCount; foodSpawned++) {
+                Position position = picker.next();
+                if (position == null) {
                     throw new RuntimeException(
-                            "Failed to spawn all food after " + maxAttempts + " attempts"
+                            "Failed to spawn all food: spawned " + foodSpawned + " out of " +
+                                    foodCount + " before region '" + profile.getFoodRegion() + "' was full"
                     );
                 }
 
-                Position position = getRandomPosition();
-
-                // Check if position is empty
-                if (grid.getObjectAt(position) == null) {
-                    ITerrainObject food = generateRandomFood(position);
-                    grid.placeObject(position, food);
-                    foodSpawned++;
-                }
+                ITerrainObject food = generateRandomFood(position, typeWeights, weightWeights);
+                grid.placeObject(position, food);
             }
         } catch (Exception e) {
-            System.err.println("Error spawning food: " + e.getMessage());
+            GameConsole.printError("Error spawning food: " + e.getMessage());
             throw e;
         }
     }
 
     /**
      * Generates a random edge position on the grid.
-     * Edge positions are those where at least one coordinate is 0 or 9.
+     * Edge positions are those where at least one coordinate is 0 or size-1.
      * <p>
      * Four possible edges:
-     * - Top edge: y=0, x=0-9
-     * - Bottom edge: y=9, x=0-9
-     * - Left edge: x=0, y=0-9
-     * - Right edge: x=9, y=0-9
+     * - Top edge: y=0, x=0-(size-1)
+     * - Bottom edge: y=size-1, x=0-(size-1)
+     * - Left edge: x=0, y=0-(size-1)
+     * - Right edge: x=size-1, y=0-(size-1)
      *
+     * @param size The grid size
      * @return A random position on the grid edge
      */
-    private Position getRandomEdgePosition() {
+    private Position getRandomEdgePosition(int size) {
         try {
             int side = RandUtil.getRandomInt(4);
             int x = 0;
             int y = switch (side) {
                 case 0 -> { // Top edge
-                    x = RandUtil.getRandomInt(GRID_SIZE);
+                    x = RandUtil.getRandomInt(size);
                     yield 0;
                 }
                 case 1 -> { // Bottom edge
-                    x = RandUtil.getRandomInt(GRID_SIZE);
-                    yield GRID_SIZE - 1;
+                    x = RandUtil.getRandomInt(size);
+                    yield size - 1;
                 }
                 case 2 -> { // Left edge
                     x = 0;
-                    yield RandUtil.getRandomInt(GRID_SIZE);
+                    yield RandUtil.getRandomInt(size);
                 }
                 case 3 -> { // Right edge
-                    x = GRID_SIZE - 1;
-                    yield RandUtil.getRandomInt(GRID_SIZE);
+                    x = size - 1;
+                    yield RandUtil.getRandomInt(size);
                 }
                 default -> 0;
             };
             return new Position(x, y);
         } catch (Exception e) {
-            System.err.println("Error generating edge position: " + e.getMessage());
+            GameConsole.printError("Error generating edge position: " + e.getMessage());
             return new Position(0, 0); // Fallback to origin
         }
     }
@@ -247,24 +292,26 @@ public class ObjectSpawner {
     /**
      * Generates a random position anywhere on the grid.
      *
-     * @return A random position with coordinates between (0,0) and (9,9)
+     * @param size The grid size
+     * @return A random position with coordinates between (0,0) and (size-1,size-1)
      */
-    private Position getRandomPosition() {
+    private Position getRandomPosition(int size) {
         return new Position(
-                RandUtil.getRandomInt(GRID_SIZE),
-                RandUtil.getRandomInt(GRID_SIZE)
+                RandUtil.getRandomInt(size),
+                RandUtil.getRandomInt(size)
         );
     }
 
     /**
      * Creates a random penguin of one of the four types.
-     * Each type has equal probability (25% each).
+     * With the default profile each type has equal probability (25% each).
      *
-     * @param pos The position for the new penguin
+     * @param pos     The position for the new penguin
+     * @param weights The relative weights of the penguin types
      * @return A new Penguin instance of random type
      * @throws IllegalArgumentException if position is null
      */
-    private Penguin generateRandomPenguin(Position pos) {
+    private Penguin generateRandomPenguin(Position pos, int[] weights) {
         if (pos == null) {
             throw new IllegalArgumentException(
                     "ObjectSpawner Error: Cannot create penguin with null position."
@@ -272,27 +319,24 @@ public class ObjectSpawner {
         }
 
         try {
-            return switch (RandUtil.getRandomPenguin()) {
-                case ROYAL -> new RoyalPenguin(pos);
-                case EMPEROR -> new EmperorPenguin(pos);
-                case KING -> new KingPenguin(pos);
-                case ROCKHOPPER -> new RockhopperPenguin(pos);
-            };
+            PenguinType type = RandUtil.getRandomPenguin(weights);
+            return recycler != null ? recycler.obtainPenguin(type, pos) : EntityRecycler.newPenguin(type, pos);
         } catch (Exception e) {
-            System.err.println("Error generating penguin: " + e.getMessage());
+            GameConsole.printError("Error generating penguin: " + e.getMessage());
             return new EmperorPenguin(pos); // Fallback to Emperor
         }
     }
 
     /**
      * Creates a random hazard of one of the four types.
-     * Each type has equal probability (25% each).
+     * With the default profile each type has equal probability (25% each).
      *
      * @param position The position for the new hazard
+     * @param weights  The relative weights of the hazard types
      * @return A new ITerrainObject representing the hazard
      * @throws IllegalArgumentException if position is null
      */
-    private ITerrainObject generateRandomHazard(Position position) {
+    private ITerrainObject generateRandomHazard(Position position, int[] weights) {
         if (position == null) {
             throw new IllegalArgumentException(
                     "ObjectSpawner Error: Cannot create hazard with null position."
@@ -300,14 +344,10 @@ public class ObjectSpawner {
         }
 
         try {
-            return switch (RandUtil.getRandomHazard()) {
-                case LIGHT_ICE_BLOCK -> new models.hazards.LightIceBlock(position);
-                case HEAVY_ICE_BLOCK -> new models.hazards.HeavyIceBlock(position);
-                case SEA_LION -> new models.hazards.SeaLion(position);
-                case HOLE_IN_ICE -> new models.hazards.HoleInIce(position);
-            };
+            HazardType type = RandUtil.getRandomHazard(weights);
+            return recycler != null ? recycler.obtainHazard(type, position) : EntityRecycler.newHazard(type, position);
         } catch (Exception e) {
-            System.err.println("Error generating hazard: " + e.getMessage());
+            GameConsole.printError("Error generating hazard: " + e.getMessage());
             return new models.hazards.HeavyIceBlock(position); // Fallback
         }
     }
@@ -317,11 +357,13 @@ public class ObjectSpawner {
      * Food type is randomly selected from the five available types.
      * Weight is randomly assigned between 1-5 units.
      *
-     * @param position The position for the new food item
+     * @param position      The position for the new food item
+     * @param typeWeights   The relative weights of the food types
+     * @param weightWeights The relative weights of food weights 1 to 5
      * @return A new Food instance
      * @throws IllegalArgumentException if position is null
      */
-    private Food generateRandomFood(Position position) {
+    private Food generateRandomFood(Position position, int[] typeWeights, int[] weightWeights) {
         if (position == null) {
             throw new IllegalArgumentException(
                     "ObjectSpawner Error: Cannot create food with null position."
@@ -330,13 +372,113 @@ public class ObjectSpawner {
 
         try {
             return new Food(
-                    RandUtil.getRandomFood(),
+                    RandUtil.getRandomFood(typeWeights),
                     position,
-                    RandUtil.getFoodWeight()
+                    RandUtil.getFoodWeight(weightWeights)
             );
         } catch (Exception e) {
-            System.err.println("Error generating food: " + e.getMessage());
+            GameConsole.printError("Error generating food: " + e.getMessage());
             throw e;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Picks free positions for one object category.
+     * <p>
+     * Positions are first drawn at random and rejected if occupied or outside
+     * the region, exactly like the original spawner. If one object needs more
+     * than RANDOM_ATTEMPTS draws, the board is considered crowded: the picker
+     * lists the free squares of the region once and from then on removes a
+     * random entry per object, so each placement costs O(1).
+     */
+    private final class PositionPicker {
+        /**
+         * The grid being populated
+         */
+        private final TerrainGrid grid;
+
+        /**
+         * The squares this category may use
+         */
+        private final SpawnProfile.Region region;
+
+        /**
+         * Whether only edge squares are allowed
+         */
+        private final boolean edgeOnly;
+
+        /**
+         * Free square indices (y * size + x), built when the board gets crowded
+         */
+        private int[] candidates;
+
+        /**
+         * Number of unused entries at the start of candidates
+         */
+        private int remaining;
+
+        /**
+         * Constructs a picker.
+         *
+         * @param grid     The grid being populated
+         * @param region   The allowed region
+         * @param edgeOnly Whether only edge squares are allowed
+         */
+        private PositionPicker(TerrainGrid grid, SpawnProfile.Region region, boolean edgeOnly) {
+            this.grid = grid;
+            this.region = region;
+            this.edgeOnly = edgeOnly;
+        }
+
+        /**
+         * Picks the next free position.
+         *
+         * @return A free position inside the region, or null if none is left
+         */
+        private Position next() {
+            int size = grid.getSize();
+
+            if (candidates == null) {
+                for (int attempt = 0; attempt < RANDOM_ATTEMPTS; attempt++) {
+                    Position position = edgeOnly ? getRandomEdgePosition(size) : getRandomPosition(size);
+                    if (grid.getObjectAt(position) == null
+                            && region.contains(position.getX(), position.getY(), size)) {
+                        return position;
+                    }
+                }
+                collectCandidates(size);
+            }
+
+            while (remaining > 0) {
+                int index = RandUtil.getRandomInt(remaining);
+                int cell = candidates[index];
+                candidates[index] = candidates[--remaining];
+
+                Position position = new Position(cell % size, cell / size);
+                if (grid.getObjectAt(position) == null) {
+                    return position;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Lists every free square of the region.
+         *
+         * @param size The grid size
+         */
+        private void collectCandidates(int size) {
+            candidates = new int[size * size];
+            remaining = 0;
+            for (int y = 0; y < size; y++) {
+                for (int x = 0; x < size; x++) {
+                    boolean edge = x == 0 || y == 0 || x == size - 1 || y == size - 1;
+                    if ((!edgeOnly || edge) && region.contains(x, y, size)
+                            && grid.getObjectAt(new Position(x, y)) == null) {
+                        candidates[remaining++] = y * size + x;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,617 @@
+package game;
+
+import enums.FoodType;
+import enums.HazardType;
+import enums.PenguinType;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Describes how many objects ObjectSpawner places, of which types, and where.
+ * The default profile reproduces the original game: a 10x10 grid with
+ * 3 penguins, 15 hazards and 20 food items, all types equally likely.
+ * <p>
+ * Profiles are loaded from a small properties file. Every key is optional:
+ * <pre>
+ * board.size=100
+ * penguins.count=3
+ * hazards.density=0.15          # 15% of all squares, scales with board size
+ * food.count=2000
+ * penguins.types=EMPEROR:1,KING:1,ROCKHOPPER:1,ROYAL:1
+ * hazards.types=LIGHT_ICE_BLOCK:2,HEAVY_ICE_BLOCK:1,SEA_LION:1,HOLE_IN_ICE:1
+ * food.types=KRILL:1,CRUSTACEAN:1,ANCHOVY:1,SQUID:1,MACKEREL:1
+ * food.weights=1:3,2:3,3:2,4:1,5:1
+ * penguins.region=edge
+ * hazards.region=interior
+ * food.region=0,0,49,49;50,50,99,99
+ * </pre>
+ * <p>
+ * Counts are either absolute ("*.count") or a fraction of the squares
+ * ("*.density"). Types missing from a weight list get weight 0; a missing
+ * list means equal weights. Regions are "all", "edge", "interior" or a
+ * semicolon-separated list of x0,y0,x1,y1 rectangles (inclusive).
+ * Penguins are always placed on edge squares, inside their region.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class SpawnProfile {
+    /**
+     * Number of penguins in the original game
+     */
+    public static final int DEFAULT_PENGUIN_COUNT = 3;
+
+    /**
+     * Number of hazards in the original game
+     */
+    public static final int DEFAULT_HAZARD_COUNT = 15;
+
+    /**
+     * Number of food items in the original game
+     */
+    public static final int DEFAULT_FOOD_COUNT = 20;
+
+    /**
+     * Width and height of the grid
+     */
+    private final int boardSize;
+
+    /**
+     * Absolute counts (penguins, hazards, food), or -1 when a density is used
+     */
+    private final int[] counts;
+
+    /**
+     * Densities (penguins, hazards, food), used when the count is -1
+     */
+    private final double[] densities;
+
+    /**
+     * Relative weights of each PenguinType
+     */
+    private final int[] penguinTypeWeights;
+
+    /**
+     * Relative weights of each HazardType
+     */
+    private final int[] hazardTypeWeights;
+
+    /**
+     * Relative weights of each FoodType
+     */
+    private final int[] foodTypeWeights;
+
+    /**
+     * Relative weights of food weights 1 to 5 (index 0 is weight 1)
+     */
+    private final int[] foodWeightWeights;
+
+    /**
+     * Squares penguins may spawn on (always combined with the edge rule)
+     */
+    private final Region penguinRegion;
+
+    /**
+     * Squares hazards may spawn on
+     */
+    private final Region hazardRegion;
+
+    /**
+     * Squares food may spawn on
+     */
+    private final Region foodRegion;
+
+    /**
+     * Constructs a profile. Use defaultProfile(), of() or load() instead.
+     */
+    private SpawnProfile(int boardSize, int[] counts, double[] densities,
+                         int[] penguinTypeWeights, int[] hazardTypeWeights,
+                         int[] foodTypeWeights, int[] foodWeightWeights,
+                         Region penguinRegion, Region hazardRegion, Region foodRegion) {
+        if (boardSize <= 0) {
+            throw new IllegalArgumentException(
+                    "SpawnProfile Error: Board size must be positive. Received: " + boardSize
+            );
+        }
+
+        this.boardSize = boardSize;
+        this.counts = counts;
+        this.densities = densities;
+        this.penguinTypeWeights = checkWeights(penguinTypeWeights, "penguins.types");
+        this.hazardTypeWeights = checkWeights(hazardTypeWeights, "hazards.types");
+        this.foodTypeWeights = checkWeights(foodTypeWeights, "food.types");
+        this.foodWeightWeights = checkWeights(foodWeightWeights, "food.weights");
+        this.penguinRegion = penguinRegion;
+        this.hazardRegion = hazardRegion;
+        this.foodRegion = foodRegion;
+
+        for (int i = 0; i < 3; i++) {
+            if (counts[i] < 0 && (densities[i] < 0.0 || densities[i] > 1.0)) {
+                throw new IllegalArgumentException(
+                        "SpawnProfile Error: Densities must be between 0.0 and 1.0. Received: " + densities[i]
+                );
+            }
+        }
+        if (getPenguinCount() + getHazardCount() + getFoodCount() > boardSize * boardSize) {
+            throw new IllegalArgumentException(
+                    "SpawnProfile Error: " + (getPenguinCount() + getHazardCount() + getFoodCount())
+                            + " objects do not fit on a " + boardSize + "x" + boardSize + " grid."
+            );
+        }
+    }
+
+    /**
+     * Returns the profile of the original game (10x10, 3 penguins, 15 hazards, 20 food).
+     *
+     * @return The default profile
+     */
+    public static SpawnProfile defaultProfile() {
+        return of(TerrainGrid.GRID_SIZE, DEFAULT_PENGUIN_COUNT, DEFAULT_HAZARD_COUNT, DEFAULT_FOOD_COUNT);
+    }
+
+    /**
+     * Creates a profile with absolute counts, equal type weights and the default regions.
+     *
+     * @param boardSize The width and height of the grid
+     * @param penguins  The number of penguins
+     * @param hazards   The number of hazards
+     * @param food      The number of food items
+     * @return The profile
+     * @throws IllegalArgumentException if a count is negative or the objects do not fit
+     */
+    public static SpawnProfile of(int boardSize, int penguins, int hazards, int food) {
+        if (penguins < 0 || hazards < 0 || food < 0) {
+            throw new IllegalArgumentException(
+                    "SpawnProfile Error: Object counts cannot be negative."
+            );
+        }
+        return new SpawnProfile(boardSize,
+                new int[]{penguins, hazards, food}, new double[]{0, 0, 0},
+                uniform(PenguinType.values().length), uniform(HazardType.values().length),
+                uniform(FoodType.values().length), uniform(5),
+                Region.parse("edge"), Region.parse("all"), Region.parse("all"));
+    }
+
+    /**
+     * Loads a profile from a properties file.
+     *
+     * @param path The path of the file
+     * @return The profile
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file contains invalid values
+     */
+    public static SpawnProfile load(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            properties.load(reader);
+        }
+        return fromProperties(properties);
+    }
+
+    /**
+     * Creates a profile from properties (see the class documentation for the keys).
+     *
+     * @param properties The profile properties
+     * @return The profile
+     * @throws IllegalArgumentException if a value is invalid
+     */
+    public static SpawnProfile fromProperties(Properties properties) {
+        if (properties == null) {
+            throw new IllegalArgumentException(
+                    "SpawnProfile Error: Properties cannot be null."
+            );
+        }
+
+        try {
+            int boardSize = Integer.parseInt(
+                    properties.getProperty("board.size", String.valueOf(TerrainGrid.GRID_SIZE)).trim());
+
+            String[] prefixes = {"penguins", "hazards", "food"};
+            int[] defaults = {DEFAULT_PENGUIN_COUNT, DEFAULT_HAZARD_COUNT, DEFAULT_FOOD_COUNT};
+            int[] counts = new int[3];
+            double[] densities = new double[3];
+            for (int i = 0; i < 3; i++) {
+                String count = properties.getProperty(prefixes[i] + ".count");
+                String density = properties.getProperty(prefixes[i] + ".density");
+                if (count != null) {
+                    counts[i] = Integer.parseInt(count.trim());
+                    if (counts[i] < 0) {
+                        throw new IllegalArgumentException(
+                                "SpawnProfile Error: " + prefixes[i] + ".count cannot be negative."
+                        );
+                    }
+                } else if (density != null) {
+                    counts[i] = -1;
+                    densities[i] = Double.parseDouble(density.trim());
+                } else {
+                    counts[i] = defaults[i];
+                }
+            }
+
+            return new SpawnProfile(boardSize, counts, densities,
+                    parseWeights(properties.getProperty("penguins.types"), names(PenguinType.values())),
+                    parseWeights(properties.getProperty("hazards.types"), names(HazardType.values())),
+                    parseWeights(properties.getProperty("food.types"), names(FoodType.values())),
+                    parseWeights(properties.getProperty("food.weights"), new String[]{"1", "2", "3", "4", "5"}),
+                    Region.parse(properties.getProperty("penguins.region", "edge")),
+                    Region.parse(properties.getProperty("hazards.region", "all")),
+                    Region.parse(properties.getProperty("food.region", "all")));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    "SpawnProfile Error: Invalid number in profile: " + e.getMessage(), e
+            );
+        }
+    }
+
+    /**
+     * Parses a "NAME:weight,NAME:weight" list into a weight array.
+     *
+     * @param spec  The list, or null for equal weights
+     * @param names The accepted names in array order
+     * @return The weights
+     * @throws IllegalArgumentException if a name is unknown or a weight is negative
+     */
+    private static int[] parseWeights(String spec, String[] names) {
+        if (spec == null || spec.isBlank()) {
+            return uniform(names.length);
+        }
+
+        int[] weights = new int[names.length];
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException(
+                        "SpawnProfile Error: Expected NAME:weight, got '" + entry.trim() + "'."
+                );
+            }
+
+            int index = Arrays.asList(names).indexOf(parts[0].trim().toUpperCase());
+            if (index < 0) {
+                throw new IllegalArgumentException(
+                        "SpawnProfile Error: Unknown type '" + parts[0].trim() + "'."
+                );
+            }
+            weights[index] = Integer.parseInt(parts[1].trim());
+        }
+        return weights;
+    }
+
+    /**
+     * Validates a weight array.
+     *
+     * @param weights The weights
+     * @param key     The property key, for error messages
+     * @return The same array
+     * @throws IllegalArgumentException if a weight is negative, all are zero
+     *                                  or the total does not fit in an int
+     */
+    private static int[] checkWeights(int[] weights, String key) {
+        long total = 0;
+        for (int weight : weights) {
+            if (weight < 0) {
+                throw new IllegalArgumentException(
+                        "SpawnProfile Error: Weights in " + key + " cannot be negative."
+                );
+            }
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException(
+                    "SpawnProfile Error: At least one weight in " + key + " must be positive."
+            );
+        }
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "SpawnProfile Error: Weights in " + key + " add up to more than " + Integer.MAX_VALUE + "."
+            );
+        }
+        return weights;
+    }
+
+    /**
+     * Creates an array of equal weights.
+     *
+     * @param length The number of entries
+     * @return An array filled with 1
+     */
+    private static int[] uniform(int length) {
+        int[] weights = new int[length];
+        Arrays.fill(weights, 1);
+        return weights;
+    }
+
+    /**
+     * Gets the names of enum constants.
+     *
+     * @param values The enum constants
+     * @return Their names in ordinal order
+     */
+    private static String[] names(Enum<?>[] values) {
+        String[] names = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            names[i] = values[i].name();
+        }
+        return names;
+    }
+
+    /**
+     * Resolves a count from the absolute value or the density.
+     *
+     * @param index 0 for penguins, 1 for hazards, 2 for food
+     * @return The number of objects to spawn
+     */
+    private int resolveCount(int index) {
+        if (counts[index] >= 0) {
+            return counts[index];
+        }
+        return (int) Math.round(densities[index] * boardSize * boardSize);
+    }
+
+    /**
+     * Gets the width and height of the grid.
+     *
+     * @return The board size
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Gets the number of penguins to spawn.
+     *
+     * @return The penguin count
+     */
+    public int getPenguinCount() {
+        return resolveCount(0);
+    }
+
+    /**
+     * Gets the number of hazards to spawn.
+     *
+     * @return The hazard count
+     */
+    public int getHazardCount() {
+        return resolveCount(1);
+    }
+
+    /**
+     * Gets the number of food items to spawn.
+     *
+     * @return The food count
+     */
+    public int getFoodCount() {
+        return resolveCount(2);
+    }
+
+    /**
+     * Gets the relative weights of the penguin types (PenguinType ordinal order).
+     *
+     * @return The weights
+     */
+    public int[] getPenguinTypeWeights() {
+        return penguinTypeWeights.clone();
+    }
+
+    /**
+     * Gets the relative weights of the hazard types (HazardType ordinal order).
+     *
+     * @return The weights
+     */
+    public int[] getHazardTypeWeights() {
+        return hazardTypeWeights.clone();
+    }
+
+    /**
+     * Gets the relative weights of the food types (FoodType ordinal order).
+     *
+     * @return The weights
+     */
+    public int[] getFoodTypeWeights() {
+        return foodTypeWeights.clone();
+    }
+
+    /**
+     * Gets the relative weights of food weights 1 to 5.
+     *
+     * @return The weights (index 0 is weight 1)
+     */
+    public int[] getFoodWeightWeights() {
+        return foodWeightWeights.clone();
+    }
+
+    /**
+     * Gets the region penguins may spawn in.
+     *
+     * @return The penguin region
+     */
+    public Region getPenguinRegion() {
+        return penguinRegion;
+    }
+
+    /**
+     * Gets the region hazards may spawn in.
+     *
+     * @return The hazard region
+     */
+    public Region getHazardRegion() {
+        return hazardRegion;
+    }
+
+    /**
+     * Gets the region food may spawn in.
+     *
+     * @return The food region
+     */
+    public Region getFoodRegion() {
+        return foodRegion;
+    }
+
+    /**
+     * Returns every rule of this profile as "key=value" pairs in a fixed
+     * order, with each weight list spelled out in full. Two profiles spawn
+     * the same boards from the same random stream exactly when their
+     * identities are equal, so the identity tells runs of different
+     * profiles apart (see BatchCheckpoint).
+     *
+     * @return The canonical description
+     */
+    public String getIdentity() {
+        String[] prefixes = {"penguins", "hazards", "food"};
+        StringBuilder sb = new StringBuilder("board.size=").append(boardSize);
+        for (int i = 0; i < 3; i++) {
+            sb.append("; ").append(prefixes[i]);
+            if (counts[i] >= 0) {
+                sb.append(".count=").append(counts[i]);
+            } else {
+                sb.append(".density=").append(densities[i]);
+            }
+        }
+        appendWeights(sb, "penguins.types", names(PenguinType.values()), penguinTypeWeights);
+        appendWeights(sb, "hazards.types", names(HazardType.values()), hazardTypeWeights);
+        appendWeights(sb, "food.types", names(FoodType.values()), foodTypeWeights);
+        appendWeights(sb, "food.weights", new String[]{"1", "2", "3", "4", "5"}, foodWeightWeights);
+        sb.append("; penguins.region=").append(penguinRegion);
+        sb.append("; hazards.region=").append(hazardRegion);
+        sb.append("; food.region=").append(foodRegion);
+        return sb.toString();
+    }
+
+    /**
+     * Appends a weight list in the "NAME:weight,NAME:weight" format.
+     *
+     * @param sb      The builder
+     * @param key     The property key
+     * @param names   The names in array order
+     * @param weights The weights
+     */
+    private static void appendWeights(StringBuilder sb, String key, String[] names, int[] weights) {
+        sb.append("; ").append(key).append('=');
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(names[i]).append(':').append(weights[i]);
+        }
+    }
+
+    /**
+     * Returns a string representation of this profile.
+     *
+     * @return A descriptive string
+     */
+    @Override
+    public String toString() {
+        return "SpawnProfile [" + boardSize + "x" + boardSize + ", " + getPenguinCount() + " penguins, "
+                + getHazardCount() + " hazards, " + getFoodCount() + " food]";
+    }
+
+    /**
+     * A set of grid squares objects may spawn on.
+     */
+    public static final class Region {
+        /**
+         * Keyword of the region ("all", "edge", "interior"), or null for rectangles
+         */
+        private final String keyword;
+
+        /**
+         * Rectangles as x0, y0, x1, y1 quadruples (inclusive)
+         */
+        private final int[][] rectangles;
+
+        /**
+         * Constructs a region.
+         *
+         * @param keyword    The region keyword, or null
+         * @param rectangles The rectangles, used when keyword is null
+         */
+        private Region(String keyword, int[][] rectangles) {
+            this.keyword = keyword;
+            this.rectangles = rectangles;
+        }
+
+        /**
+         * Parses a region spec: "all", "edge", "interior" or "x0,y0,x1,y1;...".
+         *
+         * @param spec The region spec
+         * @return The region
+         * @throws IllegalArgumentException if the spec is invalid
+         */
+        public static Region parse(String spec) {
+            String trimmed = (spec == null) ? "all" : spec.trim().toLowerCase();
+            if (trimmed.equals("all") || trimmed.equals("edge") || trimmed.equals("interior")) {
+                return new Region(trimmed, null);
+            }
+
+            List<int[]> rectangles = new ArrayList<>();
+            for (String rect : trimmed.split(";")) {
+                String[] parts = rect.trim().split(",");
+                if (parts.length != 4) {
+                    throw new IllegalArgumentException(
+                            "SpawnProfile Error: Region rectangles need x0,y0,x1,y1, got '" + rect.trim() + "'."
+                    );
+                }
+                int[] r = new int[4];
+                for (int i = 0; i < 4; i++) {
+                    r[i] = Integer.parseInt(parts[i].trim());
+                }
+                rectangles.add(r);
+            }
+            return new Region(null, rectangles.toArray(new int[0][]));
+        }
+
+        /**
+         * Checks if a square belongs to this region.
+         *
+         * @param x    The x-coordinate
+         * @param y    The y-coordinate
+         * @param size The grid size
+         * @return true if the square is in the region
+         */
+        public boolean contains(int x, int y, int size) {
+            if (keyword != null) {
+                boolean edge = x == 0 || y == 0 || x == size - 1 || y == size - 1;
+                return switch (keyword) {
+                    case "edge" -> edge;
+                    case "interior" -> !edge;
+                    default -> true;
+                };
+            }
+
+            for (int[] r : rectangles) {
+                if (x >= r[0] && x <= r[2] && y >= r[1] && y <= r[3]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the region spec.
+         *
+         * @return The keyword or the rectangle list
+         */
+        @Override
+        public String toString() {
+            if (keyword != null) {
+                return keyword;
+            }
+            StringBuilder sb = new StringBuilder();
+            for (int[] r : rectangles) {
+                if (!sb.isEmpty()) {
+                    sb.append(';');
+                }
+                sb.append(r[0]).append(',').append(r[1]).append(',').append(r[2]).append(',').append(r[3]);
+            }
+            return sb.toString();
+        }
+    }
+}
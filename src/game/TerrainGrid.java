@@ -1,18 +1,25 @@
 package game;
 
+import game.util.GameConsole;
 import interfaces.ITerrainObject;
+import models.Food;
 import models.Position;
+import models.hazards.Hazard;
+import models.hazards.HoleInIce;
+import models.penguins.Penguin;
+
+import java.util.function.Consumer;
 
 /**
- * Represents the 10x10 icy terrain grid where the game takes place.
+ * Represents the icy terrain grid where the game takes place (10x10 by default).
  * The grid stores all game objects (penguins, hazards, and food items)
  * and provides methods to manipulate them safely.
  * <p>
  * Grid characteristics:
- * - Fixed size of 10x10 squares
+ * - Square grid, 10x10 by default (spawn profiles may use larger sizes)
  * - Surrounded by water on all sides
  * - Each square can contain at most one object at a time
- * - Coordinates range from (0,0) to (9,9)
+ * - Coordinates range from (0,0) to (size-1,size-1)
  * <p>
  * The grid uses a 2D array to store ITerrainObjects, allowing
  * polymorphic handling of penguins, hazards, and food items.
@@ -23,14 +30,51 @@ import models.Position;
  */
 public class TerrainGrid {
     /**
-     * The size of the grid (10x10)
+     * The default size of the grid (10x10)
      */
     public static final int GRID_SIZE = 10;
 
+    /**
+     * The width and height of this grid
+     */
+    private final int size;
+
     /**
      * The 2D array representing the game grid
      */
-    private ITerrainObject[][] terrainGrid = new ITerrainObject[GRID_SIZE][GRID_SIZE];
+    private ITerrainObject[][] terrainGrid;
+
+    /**
+     * Constructs an empty grid of the default 10x10 size.
+     */
+    public TerrainGrid() {
+        this(GRID_SIZE);
+    }
+
+    /**
+     * Constructs an empty square grid of the given size.
+     *
+     * @param size The width and height of the grid
+     * @throws IllegalArgumentException if size is not positive
+     */
+    public TerrainGrid(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException(
+                    "TerrainGrid Error: Grid size must be positive. Received: " + size
+            );
+        }
+        this.size = size;
+        this.terrainGrid = new ITerrainObject[size][size];
+    }
+
+    /**
+     * Gets the width and height of this grid.
+     *
+     * @return The grid size
+     */
+    public int getSize() {
+        return size;
+    }
 
     /**
      * Gets the underlying 2D array of the terrain grid.
@@ -46,12 +90,12 @@ public class TerrainGrid {
      */
     public ITerrainObject[][] getTerrainGrid() {
         // Create a new array of the same size
-        ITerrainObject[][] copy = new ITerrainObject[GRID_SIZE][GRID_SIZE];
+        ITerrainObject[][] copy = new ITerrainObject[size][size];
 
         // Copy each row to the new array
-        for (int i = 0; i < GRID_SIZE; i++) {
+        for (int i = 0; i < size; i++) {
             // System.arraycopy is efficient for copying array contents
-            System.arraycopy(this.terrainGrid[i], 0, copy[i], 0, GRID_SIZE);
+            System.arraycopy(this.terrainGrid[i], 0, copy[i], 0, size);
         }
 
         return copy;
@@ -63,7 +107,7 @@ public class TerrainGrid {
      *
      * @param terrainGrid The new terrain grid array
      * @throws IllegalArgumentException if terrainGrid is null
-     * @throws IllegalArgumentException if dimensions are not 10x10
+     * @throws IllegalArgumentException if dimensions do not match the grid size
      */
     public void setTerrainGrid(ITerrainObject[][] terrainGrid) {
         if (terrainGrid == null) {
@@ -71,15 +115,15 @@ public class TerrainGrid {
                     "TerrainGrid Error: Cannot set grid to null."
             );
         }
-        if (terrainGrid.length != GRID_SIZE) {
+        if (terrainGrid.length != size) {
             throw new IllegalArgumentException(
-                    "TerrainGrid Error: Grid must have exactly " + GRID_SIZE + " rows."
+                    "TerrainGrid Error: Grid must have exactly " + size + " rows."
             );
         }
         for (ITerrainObject[] iTerrainObjects : terrainGrid) {
-            if (iTerrainObjects == null || iTerrainObjects.length != GRID_SIZE) {
+            if (iTerrainObjects == null || iTerrainObjects.length != size) {
                 throw new IllegalArgumentException(
-                        "TerrainGrid Error: Each row must have exactly " + GRID_SIZE + " columns."
+                        "TerrainGrid Error: Each row must have exactly " + size + " columns."
                 );
             }
         }
@@ -108,7 +152,7 @@ public class TerrainGrid {
             throw new IllegalArgumentException(
                     "TerrainGrid Error: Position " + position.displayPosition() +
                             " is not a valid position. Must be between (0,0) and (" +
-                            (GRID_SIZE - 1) + "," + (GRID_SIZE - 1) + ")."
+                            (size - 1) + "," + (size - 1) + ")."
             );
         }
 
@@ -137,12 +181,28 @@ public class TerrainGrid {
         try {
             return terrainGrid[position.getY()][position.getX()];
         } catch (ArrayIndexOutOfBoundsException e) {
-            System.err.println("TerrainGrid Warning: Array access error at " +
+            GameConsole.printError("TerrainGrid Warning: Array access error at " +
                     position.displayPosition());
             return null;
         }
     }
 
+    /**
+     * Gets the object on a square by its coordinates, without creating a
+     * Position. Used by loops that scan many squares, such as the AI's
+     * slide simulation.
+     *
+     * @param x The column
+     * @param y The row
+     * @return The terrain object on that square, or null if empty/out of bounds
+     */
+    public ITerrainObject getObjectAt(int x, int y) {
+        if (x < 0 || x >= size || y < 0 || y >= size) {
+            return null;
+        }
+        return terrainGrid[y][x];
+    }
+
     /**
      * Removes the object at the specified position, leaving it empty.
      * If the position is invalid or already empty, no action is taken.
@@ -154,7 +214,7 @@ public class TerrainGrid {
             try {
                 terrainGrid[position.getY()][position.getX()] = null;
             } catch (ArrayIndexOutOfBoundsException e) {
-                System.err.println("TerrainGrid Warning: Cannot remove object at " +
+                GameConsole.printError("TerrainGrid Warning: Cannot remove object at " +
                         position.displayPosition());
             }
         }
@@ -162,7 +222,7 @@ public class TerrainGrid {
 
     /**
      * Checks if a position is within the valid grid boundaries.
-     * Valid positions have x and y coordinates between 0 and (GRID_SIZE-1).
+     * Valid positions have x and y coordinates between 0 and (size-1).
      *
      * @param position The position to validate
      * @return true if the position is within bounds, false otherwise
@@ -174,7 +234,7 @@ public class TerrainGrid {
 
         int x = position.getX();
         int y = position.getY();
-        return x >= 0 && x < GRID_SIZE && y >= 0 && y < GRID_SIZE;
+        return x >= 0 && x < size && y >= 0 && y < size;
     }
 
     /**
@@ -192,13 +252,64 @@ public class TerrainGrid {
      * This is useful for testing or resetting the game.
      */
     public void clearGrid() {
-        for (int y = 0; y < GRID_SIZE; y++) {
-            for (int x = 0; x < GRID_SIZE; x++) {
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
                 terrainGrid[y][x] = null;
             }
         }
     }
 
+    /**
+     * Passes every object on the grid to an action, row by row, without
+     * copying the grid.
+     *
+     * @param action The action to run for each non-null object
+     */
+    public void forEachObject(Consumer<ITerrainObject> action) {
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                if (terrainGrid[y][x] != null) {
+                    action.accept(terrainGrid[y][x]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes a 64-bit fingerprint of the grid contents: the kind of every
+     * square (penguin type, hazard type, food type and weight). Penguin IDs
+     * and inventories are ignored, so two freshly spawned boards with the
+     * same layout get the same fingerprint.
+     *
+     * @return The fingerprint of the grid
+     */
+    public long contentHash() {
+        long h = 0xcbf29ce484222325L;
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                h = (h ^ squareCode(terrainGrid[y][x])) * 0x100000001b3L;
+            }
+        }
+        return h ^ (h >>> 29);
+    }
+
+    /**
+     * Encodes the kind of one square for contentHash().
+     *
+     * @param object The object on the square, or null
+     * @return The square code
+     */
+    private static int squareCode(ITerrainObject object) {
+        return switch (object) {
+            case null -> 0;
+            case Food food -> 1 | food.getType().ordinal() << 3 | food.getWeight() << 6;
+            case Penguin penguin -> 2 | penguin.getPenguinType().ordinal() << 3;
+            case HoleInIce hole when hole.isPlugged() -> 4;
+            case Hazard hazard -> 3 | hazard.getHazardType().ordinal() << 3;
+            default -> 7;
+        };
+    }
+
     /**
      * Counts the total number of objects currently on the grid.
      *
@@ -206,8 +317,8 @@ public class TerrainGrid {
      */
     public int countObjects() {
         int count = 0;
-        for (int y = 0; y < GRID_SIZE; y++) {
-            for (int x = 0; x < GRID_SIZE; x++) {
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
                 if (terrainGrid[y][x] != null) {
                     count++;
                 }
@@ -223,7 +334,7 @@ public class TerrainGrid {
      */
     @Override
     public String toString() {
-        return "TerrainGrid [" + GRID_SIZE + "x" + GRID_SIZE + "] with " +
+        return "TerrainGrid [" + size + "x" + size + "] with " +
                 countObjects() + " objects";
     }
 }
\ No newline at end of file
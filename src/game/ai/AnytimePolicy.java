@@ -0,0 +1,33 @@
+package game.ai;
+
+import game.TerrainGrid;
+import models.penguins.Penguin;
+
+/**
+ * A policy that can decide by a hard deadline.
+ * <p>
+ * The policy searches until the deadline and returns the best action it
+ * has found so far. If it has not finished even the shallowest search by
+ * then, it falls back to the original AI (HeuristicPolicy), so a decision
+ * is always returned shortly after the deadline, even one that has
+ * already passed. What the search achieved is written to a
+ * DecisionMetrics.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public interface AnytimePolicy extends PenguinPolicy {
+    /**
+     * Decides the action of a penguin by a deadline.
+     *
+     * @param penguin  The penguin about to act
+     * @param grid     The current grid (read only)
+     * @param context  The turn number and all penguins in turn order
+     * @param deadline The System.nanoTime() by which to decide
+     * @param metrics  Receives the metrics of this decision, or null
+     * @return The decision, never null
+     */
+    TurnDecision decide(Penguin penguin, TerrainGrid grid, TurnContext context, long deadline,
+                        DecisionMetrics metrics);
+}
@@ -0,0 +1,35 @@
+package game.ai;
+
+import game.sim.FastBoard;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * A policy that can also decide on a FastBoard instead of the live grid.
+ * <p>
+ * Deciding on a board only reads it, so a caller can evaluate positions
+ * that have not happened yet (see SpeculativeEvaluator) on other threads
+ * while the game goes on. Such a policy must be deterministic given the
+ * board and must not draw from RandUtil, or a recorded game could not be
+ * replayed.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public interface BoardPolicy extends PenguinPolicy {
+    /**
+     * Decides the action of a penguin on a board.
+     *
+     * @param board    The board (read only)
+     * @param p        The index of the penguin about to act
+     * @param turn     The current turn (1 to maxTurns)
+     * @param maxTurns The number of turns of the game
+     * @param stop     Polled during the decision; once it returns true the
+     *                 policy returns as soon as it can, with any legal action
+     * @return The decision, never null
+     * @throws IllegalArgumentException if board or stop is null, or the
+     *                                  penguin is eliminated or not on the board
+     */
+    TurnDecision decideOnBoard(FastBoard board, int p, int turn, int maxTurns, BooleanSupplier stop);
+}
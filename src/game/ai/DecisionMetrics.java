@@ -0,0 +1,114 @@
+package game.ai;
+
+/**
+ * What one search-based decision achieved: the depth it completed, the
+ * nodes it visited, the time it took and whether it fell back to the
+ * original AI.
+ * <p>
+ * An AnytimePolicy overwrites the metrics on every decision, so a caller
+ * can keep one instance per thread and read it after each decide() call
+ * without allocating.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public final class DecisionMetrics {
+    /**
+     * Number of actions of the deepest completed search
+     */
+    private int depth;
+
+    /**
+     * Number of nodes visited
+     */
+    private long nodes;
+
+    /**
+     * Time the decision took in nanoseconds
+     */
+    private long elapsedNanos;
+
+    /**
+     * Whether the search reached the end of the game
+     */
+    private boolean complete;
+
+    /**
+     * Whether the decision came from the fallback heuristic
+     */
+    private boolean fallback;
+
+    /**
+     * Overwrites the metrics with those of a new decision.
+     *
+     * @param depth        The depth of the deepest completed search (0 if none)
+     * @param nodes        The number of nodes visited
+     * @param elapsedNanos The time the decision took in nanoseconds
+     * @param complete     Whether the search reached the end of the game
+     * @param fallback     Whether the fallback heuristic decided
+     */
+    void set(int depth, long nodes, long elapsedNanos, boolean complete, boolean fallback) {
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+        this.complete = complete;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Gets the depth of the deepest completed search.
+     *
+     * @return The number of actions searched ahead (0 if none completed)
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Gets the number of nodes visited.
+     *
+     * @return The node count
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Gets the time the decision took.
+     *
+     * @return The time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Checks if the search reached the end of the game.
+     *
+     * @return true if the decision is exact under the opponent model
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Checks if the decision came from the fallback heuristic.
+     *
+     * @return true if not even the shallowest search finished in time
+     */
+    public boolean isFallback() {
+        return fallback;
+    }
+
+    /**
+     * Returns a string representation of the metrics.
+     *
+     * @return A descriptive string
+     */
+    @Override
+    public String toString() {
+        return String.format("DecisionMetrics [depth=%d%s, nodes=%d, %.3f ms%s]",
+                depth, complete ? " (complete)" : "", nodes, elapsedNanos / 1e6, fallback ? ", fallback" : "");
+    }
+}
@@ -0,0 +1,315 @@
+package game.ai;
+
+import game.sim.FastBoard;
+
+import java.util.Arrays;
+
+/**
+ * Exact solver of the last turn of a game.
+ * <p>
+ * In the last turn nothing comes after the penguins still to act, so the
+ * best action of a penguin can be computed exactly instead of estimated.
+ * The solver enumerates every legal action of the deciding penguin and,
+ * for each one, every action the penguins after it in the turn may take,
+ * weighted by the same model of the original AI that ExpectimaxPolicy
+ * uses (see OpponentModel). All moves are played on FastBoards, so pushes,
+ * bounces, stuns and eliminations count as in the game. The value of an
+ * action is the deciding penguin's expected final weight.
+ * <p>
+ * Positions reached again through another order of moves are looked up
+ * in a memo keyed by the board's state hash and whose action is next.
+ * The memo is a fixed array that is invalidated per solve, so solving
+ * does not allocate once the board stack has grown.
+ * <p>
+ * The cost is bounded by a node limit instead of a clock: a solve that
+ * would visit more positions gives up and returns UNSOLVED, so the same
+ * position always gets the same answer at the same cost. A solver keeps
+ * scratch state, so every thread needs its own.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class EndgameSolver {
+    /**
+     * Default node limit: about 4 ms of solving, several times what the
+     * largest last turn of three penguins on a 10x10 board takes
+     */
+    public static final long DEFAULT_NODE_LIMIT = 4_000L;
+
+    /**
+     * Result of a solve that ran into the node limit
+     */
+    public static final int UNSOLVED = -1;
+
+    /**
+     * Number of memo slots (a power of two)
+     */
+    private static final int MEMO_SIZE = 1 << 12;
+
+    /**
+     * Most chance outcomes of one opponent action
+     */
+    private static final int MAX_BRANCHES = 20;
+
+    /**
+     * Distribution of the other penguins' actions
+     */
+    private final OpponentModel opponents;
+
+    /**
+     * Most positions one solve may visit
+     */
+    private final long nodeLimit;
+
+    /**
+     * Board of each ply (index 0 is the root)
+     */
+    private FastBoard[] boards = new FastBoard[0];
+
+    /**
+     * Opponent actions of each ply
+     */
+    private int[][] actions = new int[0][];
+
+    /**
+     * Probabilities of the opponent actions of each ply
+     */
+    private double[][] chances = new double[0][];
+
+    /**
+     * Memo keys
+     */
+    private final long[] memoKeys = new long[MEMO_SIZE];
+
+    /**
+     * Memo values
+     */
+    private final double[] memoValues = new double[MEMO_SIZE];
+
+    /**
+     * Solve in which each memo slot was written
+     */
+    private final int[] memoStamps = new int[MEMO_SIZE];
+
+    /**
+     * Number of the current solve
+     */
+    private int stamp;
+
+    /**
+     * Index of the deciding penguin
+     */
+    private int me;
+
+    /**
+     * Number of penguins on the board
+     */
+    private int penguins;
+
+    /**
+     * Positions visited by the current solve
+     */
+    private long nodes;
+
+    /**
+     * Whether the current solve ran into the node limit
+     */
+    private boolean exceeded;
+
+    /**
+     * Expected final weight of the best action of the last solve
+     */
+    private double value;
+
+    /**
+     * Constructs a solver against the original AI with the default node limit.
+     */
+    public EndgameSolver() {
+        this(HeuristicPolicy.DEFAULT_ABILITY_CHANCE, DEFAULT_NODE_LIMIT);
+    }
+
+    /**
+     * Constructs a solver.
+     *
+     * @param opponentAbilityChance The chance in percent that an opponent
+     *                              uses its ability (0-100)
+     * @param nodeLimit             The most positions one solve may visit
+     * @throws IllegalArgumentException if the chance is outside 0-100 or the limit is not positive
+     */
+    public EndgameSolver(int opponentAbilityChance, long nodeLimit) {
+        if (opponentAbilityChance < 0 || opponentAbilityChance > 100) {
+            throw new IllegalArgumentException(
+                    "EndgameSolver Error: Ability chance must be between 0 and 100. Received: "
+                            + opponentAbilityChance
+            );
+        }
+        if (nodeLimit <= 0) {
+            throw new IllegalArgumentException(
+                    "EndgameSolver Error: Node limit must be positive. Received: " + nodeLimit
+            );
+        }
+        this.opponents = new OpponentModel(opponentAbilityChance);
+        this.nodeLimit = nodeLimit;
+    }
+
+    /**
+     * Solves the last turn for the penguin about to act. The penguins
+     * after it in turn order still act in this turn; the ones before it
+     * already have.
+     *
+     * @param board The board (read only)
+     * @param p     The index of the penguin about to act
+     * @return The best action code (see SearchActions), or UNSOLVED if the
+     * turn has more positions than the node limit
+     * @throws IllegalArgumentException if board is null, or the penguin is
+     *                                  eliminated or not on the board
+     */
+    public int solve(FastBoard board, int p) {
+        if (board == null) {
+            throw new IllegalArgumentException(
+                    "EndgameSolver Error: Board cannot be null."
+            );
+        }
+        if (p < 0 || p >= board.getPenguinCount() || board.isEliminated(p)) {
+            throw new IllegalArgumentException(
+                    "EndgameSolver Error: Penguin " + p + " is not on the board."
+            );
+        }
+
+        this.me = p;
+        this.penguins = board.getPenguinCount();
+        this.nodes = 0;
+        this.exceeded = false;
+        ensureCapacity(board.getSize(), board.getMaxPenguins(), penguins - p + 1);
+        if (++stamp == 0) {
+            Arrays.fill(memoStamps, 0);
+            stamp = 1;
+        }
+        FastBoard root = boards[0];
+        root.copyFrom(board);
+
+        int best = UNSOLVED;
+        double bestValue = -1.0;
+        for (int action = 0; action < SearchActions.ACTION_COUNT; action++) {
+            if (!SearchActions.isLegal(root, p, action)) {
+                continue;
+            }
+            FastBoard child = boards[1];
+            child.copyFrom(root);
+            SearchActions.apply(child, p, action);
+            double v = value(1, p + 1);
+            if (exceeded) {
+                return UNSOLVED;
+            }
+            if (v > bestValue) {
+                bestValue = v;
+                best = action;
+            }
+        }
+        value = bestValue;
+        return best;
+    }
+
+    /**
+     * Computes the expected final weight of the deciding penguin on
+     * boards[ply], where the action of penguin idx is next.
+     *
+     * @param ply The ply of the board
+     * @param idx The index of the penguin to act (may equal penguins)
+     * @return The expected final weight
+     */
+    private double value(int ply, int idx) {
+        if (++nodes > nodeLimit) {
+            exceeded = true;
+        }
+        if (exceeded) {
+            return 0.0;
+        }
+
+        FastBoard board = boards[ply];
+        // Pass over eliminated and stunned penguins
+        while (idx < penguins && (board.isEliminated(idx) || board.isStunned(idx))) {
+            board.setStunned(idx, false);
+            idx++;
+        }
+        if (idx >= penguins || board.isEliminated(me)) {
+            return board.getScore(me);
+        }
+
+        long key = board.stateHash() ^ (idx + 1) * 0x9e3779b97f4a7c15L;
+        int slot = (int) key & (MEMO_SIZE - 1);
+        if (memoStamps[slot] == stamp && memoKeys[slot] == key) {
+            return memoValues[slot];
+        }
+
+        int[] branch = actions[ply];
+        double[] chance = chances[ply];
+        int count = opponents.outcomes(board, idx, branch, chance);
+        FastBoard child = boards[ply + 1];
+        double sum = 0.0;
+        for (int i = 0; i < count; i++) {
+            child.copyFrom(board);
+            SearchActions.apply(child, idx, branch[i]);
+            sum += chance[i] * value(ply + 1, idx + 1);
+        }
+
+        if (!exceeded) {
+            memoKeys[slot] = key;
+            memoValues[slot] = sum;
+            memoStamps[slot] = stamp;
+        }
+        return sum;
+    }
+
+    /**
+     * Makes sure the board stack fits a board size, a penguin capacity
+     * and a number of plies.
+     *
+     * @param size        The board size
+     * @param maxPenguins The penguin capacity
+     * @param plies       The number of plies (including the root)
+     */
+    private void ensureCapacity(int size, int maxPenguins, int plies) {
+        boolean sameBoards = boards.length > 0 && boards[0].getSize() == size
+                && boards[0].getMaxPenguins() == maxPenguins;
+        if (sameBoards && boards.length > plies) {
+            return;
+        }
+        int capacity = Math.max(plies + 1, sameBoards ? boards.length : 0);
+        FastBoard[] grown = new FastBoard[capacity];
+        for (int i = 0; i < capacity; i++) {
+            grown[i] = sameBoards && i < boards.length ? boards[i] : new FastBoard(size, maxPenguins);
+        }
+        boards = grown;
+        actions = new int[capacity][MAX_BRANCHES];
+        chances = new double[capacity][MAX_BRANCHES];
+    }
+
+    /**
+     * Gets the expected final weight of the best action of the last solve.
+     *
+     * @return The value, or -1 if the last solve found no action
+     */
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the number of positions the last solve visited.
+     *
+     * @return The node count
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Gets the most positions one solve may visit.
+     *
+     * @return The node limit
+     */
+    public long getNodeLimit() {
+        return nodeLimit;
+    }
+}
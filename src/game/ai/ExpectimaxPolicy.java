@@ -0,0 +1,778 @@
+package game.ai;
+
+import enums.PenguinType;
+import game.TerrainGrid;
+import game.sim.FastBoard;
+import models.penguins.Penguin;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Search-based computer opponent that plans over all remaining turns.
+ * <p>
+ * The policy loads the grid into a FastBoard and searches an expectimax
+ * tree over every action left in the game:
+ * - Max nodes are the actions of the deciding penguin: each slide
+ * direction, with and without the ability (a Royal Penguin also chooses
+ * the direction of its step)
+ * - Chance nodes are the actions of the other penguins, which are assumed
+ * to play like HeuristicPolicy: a random direction from the best outcome
+ * group (food, safe stop, fatal), the ability with a fixed chance (the
+ * Rockhopper when it faces a hazard) and a random safe Royal step
+ * - Stunned penguins skip their action, eliminated ones are passed over
+ * <p>
+ * The value of a node is the carried weight the deciding penguin is
+ * expected to have at the end of the game. Pruning follows alpha-beta:
+ * a max node stops once it reaches beta, and a chance node stops (Star1)
+ * once the children it has not searched yet can no longer move its
+ * expected value into the window, using bounds on the value: no lower
+ * than 0 and no higher than the current weight plus the heaviest food for
+ * every remaining action.
+ * <p>
+ * The search deepens iteratively, one action at a time, until the end of
+ * the game or until the deadline (by default the time budget from now);
+ * the decision of the deepest iteration finished in time is played. If
+ * not even the first iteration finishes, the original AI decides. Cut-off leaves are estimated from the
+ * food the penguin can reach in its remaining slides, or by a
+ * LinearEvaluator when one is given (clamped to the value bounds). Every fork is a
+ * FastBoard.copyFrom() into a board of a per-thread stack, so the search
+ * does not allocate and the policy can be shared between threads.
+ * <p>
+ * Results of inner nodes are kept in a TranspositionTable keyed by the
+ * board's state hash and the position in the turn order, so a position
+ * reached through another order of moves is not searched again, and the
+ * best action of an earlier iteration is tried first. The table is
+ * lock-free and shared by all threads; a table should only be shared by
+ * policies with the same opponent model and leaf estimate.
+ * <p>
+ * The policy can also decide on a FastBoard (see BoardPolicy). There is
+ * no Penguin to hand to the original AI then, so if no iteration finishes
+ * the first food-first action is played.
+ * <p>
+ * In the last turn the EndgameSolver is asked first: it plays the rest of
+ * the turn out exactly under the same opponent model, without a clock,
+ * and only a turn too large for its node limit is searched as above.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class ExpectimaxPolicy implements AnytimePolicy, BoardPolicy {
+    /**
+     * Default time budget of one decision: half of the 10 ms target, so a
+     * thread that is descheduled near the deadline still decides in time
+     */
+    public static final long DEFAULT_BUDGET_NANOS = 5_000_000L;
+
+    /**
+     * Policy used when no iteration finishes by the deadline
+     */
+    private static final PenguinPolicy FALLBACK = new HeuristicPolicy();
+
+    /**
+     * Stop signal of a search that only ends at its deadline
+     */
+    private static final BooleanSupplier NEVER_STOP = () -> false;
+
+    /**
+     * Heaviest food item
+     */
+    private static final int MAX_FOOD_WEIGHT = 5;
+
+    /**
+     * Share of the reachable food a cut-off leaf is credited with
+     */
+    private static final double REACHABLE_SHARE = 0.5;
+
+    /**
+     * Most actions (and chance outcomes) of one node: 4 slides and
+     * 4 x 4 Royal step and slide combinations
+     */
+    private static final int MAX_BRANCHES = 20;
+
+    /**
+     * The clock is read once every this many nodes (plus one)
+     */
+    private static final int CLOCK_MASK = 31;
+
+    /**
+     * Time budget of one decision in nanoseconds
+     */
+    private final long budgetNanos;
+
+    /**
+     * Chance in percent that an opponent uses its ability (King, Emperor, Royal)
+     */
+    private final int opponentAbilityChance;
+
+    /**
+     * Cache of search results, shared by all threads
+     */
+    private final TranspositionTable table;
+
+    /**
+     * Estimate of cut-off leaves, or null for the reachable-food estimate
+     */
+    private final LinearEvaluator evaluator;
+
+    /**
+     * Search state of each thread
+     */
+    private final ThreadLocal<Searcher> searchers = ThreadLocal.withInitial(Searcher::new);
+
+    /**
+     * Constructs the policy with the default budget against the original AI.
+     */
+    public ExpectimaxPolicy() {
+        this(DEFAULT_BUDGET_NANOS, HeuristicPolicy.DEFAULT_ABILITY_CHANCE);
+    }
+
+    /**
+     * Constructs the policy with a transposition table of the default size.
+     *
+     * @param budgetNanos           The time budget of one decision in nanoseconds
+     * @param opponentAbilityChance The chance in percent that an opponent
+     *                              uses its ability on a turn (0-100)
+     * @throws IllegalArgumentException if the budget is not positive or the chance is outside 0-100
+     */
+    public ExpectimaxPolicy(long budgetNanos, int opponentAbilityChance) {
+        this(budgetNanos, opponentAbilityChance, new TranspositionTable());
+    }
+
+    /**
+     * Constructs the policy.
+     *
+     * @param budgetNanos           The time budget of one decision in nanoseconds
+     * @param opponentAbilityChance The chance in percent that an opponent
+     *                              uses its ability on a turn (0-100)
+     * @param table                 The transposition table
+     * @throws IllegalArgumentException if the budget is not positive, the
+     *                                  chance is outside 0-100 or table is null
+     */
+    public ExpectimaxPolicy(long budgetNanos, int opponentAbilityChance, TranspositionTable table) {
+        this(budgetNanos, opponentAbilityChance, table, null);
+    }
+
+    /**
+     * Constructs the policy with an evaluator for cut-off leaves.
+     *
+     * @param budgetNanos           The time budget of one decision in nanoseconds
+     * @param opponentAbilityChance The chance in percent that an opponent
+     *                              uses its ability on a turn (0-100)
+     * @param table                 The transposition table
+     * @param evaluator             The leaf evaluator, or null for the
+     *                              reachable-food estimate
+     * @throws IllegalArgumentException if the budget is not positive, the
+     *                                  chance is outside 0-100 or table is null
+     */
+    public ExpectimaxPolicy(long budgetNanos, int opponentAbilityChance, TranspositionTable table,
+                            LinearEvaluator evaluator) {
+        if (table == null) {
+            throw new IllegalArgumentException(
+                    "ExpectimaxPolicy Error: Transposition table cannot be null."
+            );
+        }
+        if (budgetNanos <= 0) {
+            throw new IllegalArgumentException(
+                    "ExpectimaxPolicy Error: Time budget must be positive. Received: " + budgetNanos
+            );
+        }
+        if (opponentAbilityChance < 0 || opponentAbilityChance > 100) {
+            throw new IllegalArgumentException(
+                    "ExpectimaxPolicy Error: Ability chance must be between 0 and 100. Received: "
+                            + opponentAbilityChance
+            );
+        }
+        this.budgetNanos = budgetNanos;
+        this.opponentAbilityChance = opponentAbilityChance;
+        this.table = table;
+        this.evaluator = evaluator;
+    }
+
+    /**
+     * Gets the time budget of one decision.
+     *
+     * @return The budget in nanoseconds
+     */
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    /**
+     * Gets the transposition table of the policy.
+     *
+     * @return The table
+     */
+    public TranspositionTable getTable() {
+        return table;
+    }
+
+    /**
+     * Gets the evaluator of cut-off leaves.
+     *
+     * @return The evaluator, or null if the reachable-food estimate is used
+     */
+    public LinearEvaluator getEvaluator() {
+        return evaluator;
+    }
+
+    /**
+     * Returns the budget, the opponent model and the leaf estimate of this policy.
+     *
+     * @return A descriptive string
+     */
+    @Override
+    public String toString() {
+        return "ExpectimaxPolicy [budget=" + budgetNanos + " ns, opponent ability=" + opponentAbilityChance
+                + "%, leaves=" + (evaluator == null ? "reachable food" : evaluator) + "]";
+    }
+
+    /**
+     * Decides the action of a penguin by searching the rest of the game
+     * within the time budget.
+     *
+     * @param penguin The penguin about to act
+     * @param grid    The current grid (read only)
+     * @param context The turn context
+     * @return The decision
+     * @throws IllegalArgumentException if an argument is null, the penguin is
+     *                                  eliminated or not in the context
+     */
+    @Override
+    public TurnDecision decide(Penguin penguin, TerrainGrid grid, TurnContext context) {
+        return decide(penguin, grid, context, System.nanoTime() + budgetNanos, null);
+    }
+
+    /**
+     * Decides the action of a penguin by searching the rest of the game
+     * until a deadline.
+     *
+     * @param penguin  The penguin about to act
+     * @param grid     The current grid (read only)
+     * @param context  The turn context
+     * @param deadline The System.nanoTime() by which to decide
+     * @param metrics  Receives the metrics of this decision, or null
+     * @return The decision
+     * @throws IllegalArgumentException if an argument is null, the penguin is
+     *                                  eliminated or not in the context
+     */
+    @Override
+    public TurnDecision decide(Penguin penguin, TerrainGrid grid, TurnContext context, long deadline,
+                               DecisionMetrics metrics) {
+        long start = System.nanoTime();
+        if (penguin == null || grid == null || context == null) {
+            throw new IllegalArgumentException(
+                    "ExpectimaxPolicy Error: Penguin, grid and context cannot be null."
+            );
+        }
+        if (penguin.getPosition() == null) {
+            throw new IllegalArgumentException(
+                    "ExpectimaxPolicy Error: " + penguin.getNotation() + " has been eliminated."
+            );
+        }
+        List<Penguin> penguins = context.getPenguins();
+        int me = penguins.indexOf(penguin);
+        if (me < 0) {
+            throw new IllegalArgumentException(
+                    "ExpectimaxPolicy Error: " + penguin.getNotation() + " is not in the turn context."
+            );
+        }
+
+        table.newSearch();
+        Searcher searcher = searchers.get();
+        FastBoard root = searcher.begin(grid.getSize(), Math.max(penguins.size(), FastBoard.DEFAULT_PENGUINS),
+                penguins.size(), me, context.getTurn(), context.getMaxTurns());
+        root.loadFrom(grid, penguins);
+        int action = searcher.search(deadline, NEVER_STOP);
+        TurnDecision decision = action >= 0
+                ? SearchActions.toDecision(action)
+                : FALLBACK.decide(penguin, grid, context);
+        if (metrics != null) {
+            metrics.set(searcher.completedDepth, searcher.nodes, System.nanoTime() - start,
+                    searcher.completedDepth == searcher.horizon, action < 0);
+        }
+        return decision;
+    }
+
+    /**
+     * Decides the action of a penguin on a board by searching the rest of
+     * the game within the time budget.
+     *
+     * @param board    The board (read only)
+     * @param p        The index of the penguin about to act
+     * @param turn     The current turn (1 to maxTurns)
+     * @param maxTurns The number of turns of the game
+     * @param stop     Polled with the clock; ends the search early
+     * @return The decision
+     * @throws IllegalArgumentException if board or stop is null, the turn is
+     *                                  outside 1 to maxTurns, or the penguin is
+     *                                  eliminated or not on the board
+     */
+    @Override
+    public TurnDecision decideOnBoard(FastBoard board, int p, int turn, int maxTurns, BooleanSupplier stop) {
+        if (board == null || stop == null) {
+            throw new IllegalArgumentException(
+                    "ExpectimaxPolicy Error: Board and stop signal cannot be null."
+            );
+        }
+        if (turn < 1 || turn > maxTurns) {
+            throw new IllegalArgumentException(
+                    "ExpectimaxPolicy Error: Turn must be between 1 and " + maxTurns + ". Received: " + turn
+            );
+        }
+        if (p < 0 || p >= board.getPenguinCount() || board.isEliminated(p)) {
+            throw new IllegalArgumentException(
+                    "ExpectimaxPolicy Error: Penguin " + p + " is not on the board."
+            );
+        }
+
+        table.newSearch();
+        Searcher searcher = searchers.get();
+        searcher.begin(board.getSize(), board.getMaxPenguins(), board.getPenguinCount(), p, turn, maxTurns)
+                .copyFrom(board);
+        int action = searcher.search(System.nanoTime() + budgetNanos, stop);
+        return SearchActions.toDecision(action >= 0 ? action : searcher.actions[0][0]);
+    }
+
+    /**
+     * Search state of one thread: the board stack, the branch lists of
+     * every ply and the node counter.
+     */
+    private final class Searcher {
+        /**
+         * Board of each ply (index 0 is the root)
+         */
+        private FastBoard[] boards = new FastBoard[0];
+
+        /**
+         * Actions of each ply
+         */
+        private int[][] actions = new int[0][];
+
+        /**
+         * Probabilities of the chance outcomes of each ply
+         */
+        private double[][] chances = new double[0][];
+
+        /**
+         * Scratch list of directions
+         */
+        private final int[] dirs = new int[4];
+
+        /**
+         * Distribution of the other penguins' actions
+         */
+        private final OpponentModel opponents = new OpponentModel(opponentAbilityChance);
+
+        /**
+         * Exact solver of the last turn
+         */
+        private final EndgameSolver endgame = new EndgameSolver(opponentAbilityChance,
+                EndgameSolver.DEFAULT_NODE_LIMIT);
+
+        /**
+         * Index of the deciding penguin
+         */
+        private int me;
+
+        /**
+         * Number of turns of the game
+         */
+        private int maxTurns;
+
+        /**
+         * Number of penguins of the game
+         */
+        private int penguins;
+
+        /**
+         * When the current decision must be made
+         */
+        private long deadline;
+
+        /**
+         * Ends the current decision early
+         */
+        private BooleanSupplier stop;
+
+        /**
+         * Turn of the current decision
+         */
+        private int rootTurn;
+
+        /**
+         * Nodes visited in the current decision
+         */
+        private long nodes;
+
+        /**
+         * Whether the current iteration ran out of time
+         */
+        private boolean aborted;
+
+        /**
+         * Number of actions until the end of the game in the current decision
+         */
+        private int horizon;
+
+        /**
+         * Depth of the deepest iteration finished in time
+         */
+        private int completedDepth;
+
+        /**
+         * Sets up a decision and returns the root board, which the caller
+         * fills before calling search().
+         *
+         * @param size        The board size
+         * @param maxPenguins The penguin capacity of the boards
+         * @param penguins    The number of penguins in the game
+         * @param me          The index of the deciding penguin
+         * @param turn        The current turn
+         * @param maxTurns    The number of turns
+         * @return The root board
+         */
+        private FastBoard begin(int size, int maxPenguins, int penguins, int me, int turn, int maxTurns) {
+            this.me = me;
+            this.rootTurn = turn;
+            this.maxTurns = maxTurns;
+            this.penguins = penguins;
+            this.nodes = 0;
+            this.completedDepth = 0;
+            this.horizon = penguins * (maxTurns - turn + 1) - me;
+            ensureCapacity(size, maxPenguins, Math.max(horizon, 0) + 1);
+            return boards[0];
+        }
+
+        /**
+         * Searches the decision set up by begin().
+         *
+         * @param deadline The System.nanoTime() by which to decide
+         * @param stop     Ends the search early once it returns true
+         * @return The encoded action, or -1 if no iteration finished in time
+         */
+        private int search(long deadline, BooleanSupplier stop) {
+            this.deadline = deadline;
+            this.stop = stop;
+            FastBoard root = boards[0];
+
+            // The last turn is solved exactly if it is small enough
+            if (rootTurn == maxTurns) {
+                int solved = endgame.solve(root, me);
+                if (solved != EndgameSolver.UNSOLVED) {
+                    nodes = endgame.getNodes();
+                    completedDepth = horizon;
+                    return solved;
+                }
+            }
+
+            int[] rootActions = actions[0];
+            int count = myActions(root, rootActions);
+            int best = -1;
+
+            for (int depth = 1; depth <= horizon; depth++) {
+                aborted = false;
+                if (best >= 0) {
+                    moveToFront(rootActions, count, best);
+                }
+                int iterationBest = rootActions[0];
+                double bestValue = -1.0;
+                for (int i = 0; i < count; i++) {
+                    FastBoard child = boards[1];
+                    child.copyFrom(root);
+                    SearchActions.apply(child, me, rootActions[i]);
+                    double v = value(1, rootTurn, me + 1, bestValue, upperBound(child, rootTurn, me + 1),
+                            depth - 1);
+                    if (aborted) {
+                        break;
+                    }
+                    if (v > bestValue) {
+                        bestValue = v;
+                        iterationBest = rootActions[i];
+                    }
+                }
+                // An iteration that finishes after the deadline missed it too
+                if (aborted || System.nanoTime() > deadline) {
+                    break;
+                }
+                best = iterationBest;
+                completedDepth = depth;
+            }
+            return best;
+        }
+
+        /**
+         * Computes the value of the position on boards[ply], where the
+         * action of penguin idx in the given turn is next.
+         *
+         * @param ply   The ply of the board
+         * @param turn  The turn
+         * @param idx   The index of the penguin to act (may equal penguins)
+         * @param alpha The lower end of the window
+         * @param beta  The upper end of the window
+         * @param depth The number of actions still searched
+         * @return The expected final weight of the deciding penguin (a bound
+         * if it falls outside the window)
+         */
+        private double value(int ply, int turn, int idx, double alpha, double beta, int depth) {
+            if ((++nodes & CLOCK_MASK) == 0 && (System.nanoTime() > deadline || stop.getAsBoolean())) {
+                aborted = true;
+            }
+            if (aborted) {
+                return 0.0;
+            }
+
+            FastBoard board = boards[ply];
+            // Pass over eliminated and stunned penguins
+            while (true) {
+                if (idx >= penguins) {
+                    idx = 0;
+                    turn++;
+                }
+                if (turn > maxTurns) {
+                    return board.getScore(me);
+                }
+                if (board.isEliminated(idx)) {
+                    idx++;
+                } else if (board.isStunned(idx)) {
+                    board.setStunned(idx, false);
+                    idx++;
+                } else {
+                    break;
+                }
+            }
+            if (board.isEliminated(me)) {
+                return board.getScore(me);
+            }
+            if (depth == 0) {
+                return estimate(board, turn, idx);
+            }
+
+            long key = positionKey(board, turn, idx);
+            long entry = table.probe(key);
+            if (entry != TranspositionTable.MISS && TranspositionTable.getDepth(entry) >= depth) {
+                double v = TranspositionTable.getValue(entry);
+                int bound = TranspositionTable.getBound(entry);
+                if (bound == TranspositionTable.EXACT
+                        || (bound == TranspositionTable.LOWER && v >= beta)
+                        || (bound == TranspositionTable.UPPER && v <= alpha)) {
+                    return v;
+                }
+            }
+
+            FastBoard child = boards[ply + 1];
+            int[] branch = actions[ply];
+            if (idx == me) {
+                int count = myActions(board, branch);
+                if (entry != TranspositionTable.MISS && TranspositionTable.getBestAction(entry) >= 0) {
+                    moveToFront(branch, count, TranspositionTable.getBestAction(entry));
+                }
+                double best = -1.0;
+                int bestAction = -1;
+                for (int i = 0; i < count; i++) {
+                    child.copyFrom(board);
+                    SearchActions.apply(child, idx, branch[i]);
+                    double v = value(ply + 1, turn, idx + 1, Math.max(alpha, best), beta, depth - 1);
+                    if (v > best) {
+                        best = v;
+                        bestAction = branch[i];
+                        if (best >= beta) {
+                            break;
+                        }
+                    }
+                }
+                return record(key, best, alpha, beta, depth, bestAction);
+            }
+
+            // Chance node (Star1): bound the expectation with the unsearched mass
+            double[] chance = chances[ply];
+            int count = opponents.outcomes(board, idx, branch, chance);
+            double upper = upperBound(board, turn, idx);
+            double sum = 0.0;
+            double left = 1.0;
+            for (int i = 0; i < count; i++) {
+                double p = chance[i];
+                left -= p;
+                double childAlpha = (alpha - sum - left * upper) / p;
+                double childBeta = (beta - sum) / p;
+                child.copyFrom(board);
+                SearchActions.apply(child, idx, branch[i]);
+                double v = value(ply + 1, turn, idx + 1, Math.max(0.0, childAlpha), Math.min(upper, childBeta),
+                        depth - 1);
+                sum += p * v;
+                if (sum + left * upper <= alpha) {
+                    return record(key, sum + left * upper, alpha, beta, depth, -1);
+                }
+                if (sum >= beta) {
+                    break;
+                }
+            }
+            return record(key, sum, alpha, beta, depth, -1);
+        }
+
+        /**
+         * Stores the result of a node in the transposition table, unless
+         * the search ran out of time.
+         *
+         * @param key        The position key
+         * @param value      The value of the node
+         * @param alpha      The lower end of the node's window
+         * @param beta       The upper end of the node's window
+         * @param depth      The number of actions searched
+         * @param bestAction The best action, or -1 at a chance node
+         * @return The value
+         */
+        private double record(long key, double value, double alpha, double beta, int depth, int bestAction) {
+            if (!aborted) {
+                int bound = value <= alpha ? TranspositionTable.UPPER
+                        : value >= beta ? TranspositionTable.LOWER : TranspositionTable.EXACT;
+                table.store(key, value, depth, bound, bestAction);
+            }
+            return value;
+        }
+
+        /**
+         * Computes the transposition key of a position: the board's state
+         * hash combined with whose action is next and whose value is searched.
+         *
+         * @param board The board
+         * @param turn  The turn of the next action
+         * @param idx   The index of the penguin to act next
+         * @return The key
+         */
+        private long positionKey(FastBoard board, int turn, int idx) {
+            long context = (long) turn << 24 | (long) idx << 16 | (long) me << 8 | maxTurns;
+            return board.stateHash() ^ context * 0x9e3779b97f4a7c15L;
+        }
+
+        /**
+         * Estimates a cut-off position: the evaluator's value within the
+         * value bounds, or else the current weight plus a share of the food
+         * reachable in the penguin's remaining slides.
+         *
+         * @param board The board
+         * @param turn  The turn of the next action
+         * @param idx   The index of the penguin to act next
+         * @return The estimate
+         */
+        private double estimate(FastBoard board, int turn, int idx) {
+            int slides = maxTurns - turn + (idx <= me ? 1 : 0);
+            if (evaluator != null) {
+                double value = evaluator.evaluate(board, me, slides);
+                return Math.max(0.0, Math.min(value, upperBound(board, turn, idx)));
+            }
+            int reachable = Math.min(board.reachableFood(me, slides, true), MAX_FOOD_WEIGHT * slides);
+            return board.getScore(me) + REACHABLE_SHARE * reachable;
+        }
+
+        /**
+         * Bounds the final weight of the deciding penguin from above: one
+         * heaviest food per remaining action of any penguin (a push can make
+         * it slide onto food), plus one for an unused Royal step.
+         *
+         * @param board The board
+         * @param turn  The turn of the next action
+         * @param idx   The index of the penguin to act next
+         * @return The upper bound
+         */
+        private double upperBound(FastBoard board, int turn, int idx) {
+            int actionsLeft = penguins * (maxTurns - turn + 1) - Math.min(idx, penguins);
+            boolean royalStep = board.getPenguinType(me) == PenguinType.ROYAL && !board.isAbilityUsed(me);
+            return board.getScore(me) + MAX_FOOD_WEIGHT * (Math.max(0, actionsLeft) + (royalStep ? 1 : 0));
+        }
+
+        /**
+         * Lists the actions of the deciding penguin, food directions first.
+         *
+         * @param board The board
+         * @param out   The action list to fill
+         * @return The number of actions
+         */
+        private int myActions(FastBoard board, int[] out) {
+            int dirCount = orderedDirections(board, me);
+            int count = 0;
+            for (int i = 0; i < dirCount; i++) {
+                out[count++] = dirs[i];
+            }
+            if (board.isAbilityUsed(me)) {
+                return count;
+            }
+            if (board.getPenguinType(me) == PenguinType.ROYAL) {
+                for (int step = 0; step < 4; step++) {
+                    for (int i = 0; i < dirCount; i++) {
+                        out[count++] = dirs[i] + 4 * (SearchActions.ROYAL_STEP + step);
+                    }
+                }
+            } else {
+                for (int i = 0; i < dirCount; i++) {
+                    out[count++] = dirs[i] + 4 * SearchActions.ABILITY;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Sorts the four directions of a penguin by probe outcome (food,
+         * safe, fatal) into dirs.
+         *
+         * @param board The board
+         * @param p     The penguin index
+         * @return 4
+         */
+        private int orderedDirections(FastBoard board, int p) {
+            int count = 0;
+            for (int outcome = FastBoard.OUTCOME_FOOD; outcome <= FastBoard.OUTCOME_FATAL; outcome++) {
+                for (int dir = 0; dir < 4; dir++) {
+                    if (board.probe(p, dir) == outcome) {
+                        dirs[count++] = dir;
+                    }
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Moves an action to the front of a list, keeping the others in order.
+         *
+         * @param list   The actions
+         * @param count  The number of actions
+         * @param action The action to move
+         */
+        private void moveToFront(int[] list, int count, int action) {
+            for (int i = 0; i < count; i++) {
+                if (list[i] == action) {
+                    System.arraycopy(list, 0, list, 1, i);
+                    list[0] = action;
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Makes sure the board stack fits a board size, a penguin capacity
+         * and a number of plies.
+         *
+         * @param size        The board size
+         * @param maxPenguins The penguin capacity
+         * @param plies       The number of plies (including the root)
+         */
+        private void ensureCapacity(int size, int maxPenguins, int plies) {
+            boolean sameBoards = boards.length > 0 && boards[0].getSize() == size
+                    && boards[0].getMaxPenguins() == maxPenguins;
+            if (sameBoards && boards.length > plies) {
+                return;
+            }
+            int capacity = Math.max(plies + 1, sameBoards ? boards.length : 0);
+            FastBoard[] grown = new FastBoard[capacity];
+            for (int i = 0; i < capacity; i++) {
+                grown[i] = sameBoards && i < boards.length
+                        ? boards[i]
+                        : new FastBoard(size, maxPenguins);
+            }
+            boards = grown;
+            actions = new int[capacity][MAX_BRANCHES];
+            chances = new double[capacity][MAX_BRANCHES];
+        }
+    }
+}
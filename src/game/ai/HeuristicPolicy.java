@@ -0,0 +1,376 @@
+package game.ai;
+
+import enums.Direction;
+import game.TerrainGrid;
+import game.util.RandUtil;
+import interfaces.IHazard;
+import interfaces.ITerrainObject;
+import models.Food;
+import models.Position;
+import models.hazards.HoleInIce;
+import models.penguins.Penguin;
+import models.penguins.RockhopperPenguin;
+import models.penguins.RoyalPenguin;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The original computer opponent of the game.
+ * <p>
+ * Direction priorities:
+ * 1. A random direction whose slide ends on food
+ * 2. A random direction whose slide ends safely in front of an obstacle
+ * 3. A random direction that ends in the water or a hole (last resort)
+ * <p>
+ * Ability usage:
+ * - Rockhopper Penguins use their jump when the first obstacle is a hazard
+ * - Other penguins use their ability with a 30% chance (configurable)
+ * - Royal Penguins step to a random neighbour that is neither a hazard
+ * nor water, if there is one
+ * <p>
+ * The ability chance, the Rockhopper rule and the order of the direction
+ * priorities can be changed with PolicyParameters (see PolicyTuner).
+ * <p>
+ * All random choices go through RandUtil, in the same order as the
+ * original GameManager code, so recorded games still replay. The policy
+ * is immutable and can be shared between threads.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class HeuristicPolicy implements PenguinPolicy {
+    /**
+     * Ability chance of the original AI, in percent
+     */
+    public static final int DEFAULT_ABILITY_CHANCE = 30;
+
+    /**
+     * Chance in percent that a non-Rockhopper penguin uses its ability
+     */
+    private final int abilityChance;
+
+    /**
+     * The tunable constants
+     */
+    private final PolicyParameters parameters;
+
+    /**
+     * Constructs the original AI (30% ability chance).
+     */
+    public HeuristicPolicy() {
+        this(DEFAULT_ABILITY_CHANCE);
+    }
+
+    /**
+     * Constructs the AI with a custom ability chance for King, Emperor and
+     * Royal Penguins. Multiples of 10% draw the same random number as the
+     * original AI (a value below 10), so recorded games keep replaying;
+     * other chances draw a value below 100.
+     *
+     * @param abilityChance The chance in percent (0-100)
+     * @throws IllegalArgumentException if the chance is outside 0-100
+     */
+    public HeuristicPolicy(int abilityChance) {
+        if (abilityChance < 0 || abilityChance > 100) {
+            throw new IllegalArgumentException(
+                    "HeuristicPolicy Error: Ability chance must be between 0 and 100. Received: " + abilityChance
+            );
+        }
+        this.abilityChance = abilityChance;
+        this.parameters = PolicyParameters.DEFAULT.withAbilityChance(abilityChance);
+    }
+
+    /**
+     * Constructs the AI with custom constants. The default parameters play
+     * exactly like the original AI.
+     *
+     * @param parameters The constants
+     * @throws IllegalArgumentException if parameters is null
+     */
+    public HeuristicPolicy(PolicyParameters parameters) {
+        if (parameters == null) {
+            throw new IllegalArgumentException(
+                    "HeuristicPolicy Error: Parameters cannot be null."
+            );
+        }
+        this.abilityChance = parameters.getAbilityChance();
+        this.parameters = parameters;
+    }
+
+    /**
+     * Gets the chance that a non-Rockhopper penguin uses its ability.
+     *
+     * @return The chance in percent
+     */
+    public int getAbilityChance() {
+        return abilityChance;
+    }
+
+    /**
+     * Gets the constants of this AI.
+     *
+     * @return The parameters
+     */
+    public PolicyParameters getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Returns the constants of this AI.
+     *
+     * @return A descriptive string
+     */
+    @Override
+    public String toString() {
+        return "HeuristicPolicy [" + parameters + "]";
+    }
+
+    /**
+     * Decides the action of a penguin for this turn.
+     *
+     * @param penguin The penguin about to act
+     * @param grid    The current grid (read only)
+     * @param context The turn context
+     * @return The decision
+     * @throws IllegalArgumentException if penguin or grid is null, or the penguin is eliminated
+     */
+    @Override
+    public TurnDecision decide(Penguin penguin, TerrainGrid grid, TurnContext context) {
+        if (penguin == null || grid == null) {
+            throw new IllegalArgumentException(
+                    "HeuristicPolicy Error: Penguin and grid cannot be null."
+            );
+        }
+        // Penguin.getPosition() returns a copy, so read it once
+        Position start = penguin.getPosition();
+        if (start == null) {
+            throw new IllegalArgumentException(
+                    "HeuristicPolicy Error: " + penguin.getNotation() + " has been eliminated."
+            );
+        }
+
+        Direction direction = chooseDirection(start, grid);
+
+        boolean useAbility = false;
+        boolean facingHazard = false;
+        if (!penguin.isAbilityUsed()) {
+            if (penguin instanceof RockhopperPenguin) {
+                // FIX: Rockhopper Logic - auto-use when facing hazard
+                useAbility = switch (parameters.getRockhopperRule()) {
+                    case FACING_HAZARD -> facingHazard = isFacingHazard(start, grid, direction);
+                    case ABILITY_CHANCE -> rollAbility();
+                    case NEVER -> false;
+                };
+            } else {
+                // Standard Logic: 30% chance for others (King, Emperor, Royal)
+                useAbility = rollAbility();
+            }
+        }
+
+        if (!useAbility) {
+            return TurnDecision.slide(direction);
+        }
+        if (penguin instanceof RoyalPenguin) {
+            return TurnDecision.royalStep(getSafeRoyalMove(start, grid), direction);
+        }
+        return facingHazard ? TurnDecision.hazardJump(direction) : TurnDecision.withAbility(direction);
+    }
+
+    /**
+     * Draws whether a penguin uses its ability this turn.
+     *
+     * @return true with a chance of abilityChance percent
+     */
+    private boolean rollAbility() {
+        if (abilityChance % 10 == 0) {
+            return RandUtil.getRandomInt(10) < abilityChance / 10;
+        }
+        return RandUtil.getRandomInt(100) < abilityChance;
+    }
+
+    /**
+     * Chooses the slide direction by outcome priority (originally food,
+     * safe stop, fatal).
+     *
+     * @param start The penguin's square
+     * @param grid  The grid
+     * @return The chosen direction
+     */
+    private Direction chooseDirection(Position start, TerrainGrid grid) {
+        List<Direction> foodDirs = new ArrayList<>();
+        List<Direction> safeDirs = new ArrayList<>();
+        List<Direction> fatalDirs = new ArrayList<>();
+
+        for (Direction d : Direction.values()) {
+            MoveOutcome outcome = simulateMove(start, grid, d);
+            if (outcome == MoveOutcome.FOOD) {
+                foodDirs.add(d);
+            } else if (outcome == MoveOutcome.SAFE_OBSTACLE) {
+                safeDirs.add(d);
+            } else {
+                fatalDirs.add(d);
+            }
+        }
+
+        for (PolicyParameters.Outcome outcome : parameters.getOutcomeOrder()) {
+            List<Direction> dirs = switch (outcome) {
+                case FOOD -> foodDirs;
+                case SAFE -> safeDirs;
+                case FATAL -> fatalDirs;
+            };
+            if (!dirs.isEmpty()) {
+                return dirs.get(RandUtil.getRandomInt(dirs.size()));
+            }
+        }
+        return RandUtil.getRandomDirection();
+    }
+
+    /**
+     * Checks if the *immediate* obstacle in the sliding path is a Hazard.
+     * Used specifically for Rockhopper logic.
+     *
+     * @param start The penguin's square
+     * @param grid  The grid
+     * @param d     The slide direction
+     * @return true if the first obstacle is a hazard
+     */
+    private boolean isFacingHazard(Position start, TerrainGrid grid, Direction d) {
+        int cx = start.getX();
+        int cy = start.getY();
+
+        // Trace path until we hit something or fall off
+        while (true) {
+            switch (d) {
+                case UP -> cy--;
+                case DOWN -> cy++;
+                case LEFT -> cx--;
+                case RIGHT -> cx++;
+            }
+
+            // FIX: Check bounds before accessing grid
+            if (cx < 0 || cy < 0 || cx >= grid.getSize() || cy >= grid.getSize()) {
+                return false;
+            }
+
+            ITerrainObject obj = grid.getObjectAt(cx, cy);
+
+            switch (obj) {
+                case null -> {
+                    continue;
+                }
+                case Food food -> {
+                    continue;
+                }
+                case IHazard iHazard -> {
+                    return true;
+                }
+                default -> {
+                    return false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Simulates a slide in a direction to see what the penguin would hit.
+     * Used to determine AI priorities.
+     *
+     * @param start The penguin's square
+     * @param grid  The grid
+     * @param d     The slide direction
+     * @return The classified outcome
+     */
+    private MoveOutcome simulateMove(Position start, TerrainGrid grid, Direction d) {
+        int cx = start.getX();
+        int cy = start.getY();
+
+        // Simulate sliding loop
+        while (true) {
+            switch (d) {
+                case UP -> cy--;
+                case DOWN -> cy++;
+                case LEFT -> cx--;
+                case RIGHT -> cx++;
+            }
+
+            // Check boundaries
+            if (cx < 0 || cy < 0 || cx >= grid.getSize() || cy >= grid.getSize()) {
+                return MoveOutcome.BAD_WATER_OR_HOLE; // Falls in water
+            }
+
+            ITerrainObject obj = grid.getObjectAt(cx, cy);
+
+            switch (obj) {
+                case null -> {
+                    // Empty space: do nothing, loop will naturally repeat
+                }
+                case Food food -> {
+                    return MoveOutcome.FOOD; // Found food!
+                }
+                case HoleInIce hole -> {
+                    if (!hole.isPlugged()) {
+                        return MoveOutcome.BAD_WATER_OR_HOLE; // Unplugged hole is fatal
+                    }
+                    // If plugged: do nothing, loop repeats (treat as empty ice)
+                }
+                default -> {
+                    // Hit a Wall (Hazard), IceBlock, SeaLion or another Penguin
+                    // This is considered a "Safe Stop" compared to water
+                    return MoveOutcome.SAFE_OBSTACLE;
+                }
+            }
+        }
+    }
+
+    /**
+     * Determines a safe single-step move for Royal Penguin AI.
+     * "random direction that does not lead them to a Hazard or falling to water"
+     *
+     * @param start The Royal Penguin's square
+     * @param grid  The grid
+     * @return The step direction
+     */
+    private Direction getSafeRoyalMove(Position start, TerrainGrid grid) {
+        List<Direction> safeDirs = new ArrayList<>();
+
+        for (Direction d : Direction.values()) {
+            int nx = start.getX();
+            int ny = start.getY();
+            switch (d) {
+                case UP -> ny--;
+                case DOWN -> ny++;
+                case LEFT -> nx--;
+                case RIGHT -> nx++;
+            }
+
+            // Check bounds (Water)
+            if (nx < 0 || ny < 0 || nx >= grid.getSize() || ny >= grid.getSize()) continue;
+
+            ITerrainObject obj = grid.getObjectAt(nx, ny);
+
+            // Avoid Hazards
+            if (obj instanceof IHazard) continue;
+
+            // Empty or Food or Penguin (Safe to step onto/interact with safely)
+            safeDirs.add(d);
+        }
+
+        if (!safeDirs.isEmpty()) {
+            return safeDirs.get(RandUtil.getRandomInt(safeDirs.size()));
+        }
+
+        // If no safe choice, must pick random (as per "unless they have no other choice")
+        return RandUtil.getRandomDirection();
+    }
+
+    /**
+     * Enum to classify the result of a move simulation.
+     */
+    private enum MoveOutcome {
+        FOOD,
+        SAFE_OBSTACLE,     // Hits wall, penguin, or non-fatal hazard
+        BAD_WATER_OR_HOLE  // Dies
+    }
+}
@@ -0,0 +1,338 @@
+package game.ai;
+
+import game.sim.FastBoard;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Estimates the final weight of a penguin as a weighted sum of features
+ * of the current board, for searches that cut the game off early.
+ * <p>
+ * Features (see FEATURE_NAMES), all read from the penguin's square and
+ * its four slide lines on the current board:
+ * - bias, current weight and the penguin's remaining slides
+ * - the heaviest food and the summed food at the end of the four lines,
+ * and that sum times the slides after the next one
+ * - the number of lines that end in the water or a hole, and the
+ * distance to the nearest edge
+ * - the number of hazards on the four neighbouring squares
+ * - the summed heaviest food of the other penguins' lines
+ * - whether the ability is still unused and whether the penguin is stunned
+ * <p>
+ * A line is scanned over FastBoard's flat cell array with a fixed cell
+ * step, and the features are accumulated without branches on the line
+ * results, so one evaluation of a three-penguin 10x10 board takes a few
+ * tens of nanoseconds. A penguin that is eliminated or has no slide left
+ * is valued at its current weight exactly.
+ * <p>
+ * Weights are read from a properties file with one "evaluator.name" key
+ * per feature; LinearEvaluatorTrainer writes such files by fitting the
+ * final weights of played-out games. An evaluator is immutable and can be
+ * shared between threads.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public final class LinearEvaluator {
+    /**
+     * Names of the features, in weight order
+     */
+    public static final String[] FEATURE_NAMES = {
+            "bias", "score", "slides", "best_food", "line_food", "line_food_x_slides",
+            "fatal_lines", "edge_distance", "adjacent_hazards", "opponent_food", "ability_left", "stunned"
+    };
+
+    /**
+     * Number of features
+     */
+    public static final int FEATURE_COUNT = FEATURE_NAMES.length;
+
+    /**
+     * Weights fitted by LinearEvaluatorTrainer on the default profile
+     * (1,000,000 games, seed 42)
+     */
+    public static final LinearEvaluator DEFAULT = new LinearEvaluator(new double[]{
+            -1.146133, 0.959625, 1.287020, 1.211988, -0.146765, 0.059382,
+            -0.117051, 0.089690, -0.305122, -0.041948, -0.000667, -1.207021
+    });
+
+    /**
+     * Line result of a slide that ends in the water or a hole
+     */
+    private static final int FATAL = -1;
+
+    /**
+     * Bit set of the cell kinds a slide passes over
+     */
+    private static final int OPEN = 1 << FastBoard.EMPTY | 1 << FastBoard.PLUGGED_HOLE;
+
+    /**
+     * Bit set of the hazard cell kinds
+     */
+    private static final int HAZARD = 1 << FastBoard.LIGHT_ICE_BLOCK | 1 << FastBoard.HEAVY_ICE_BLOCK
+            | 1 << FastBoard.SEA_LION | 1 << FastBoard.HOLE_IN_ICE;
+
+    /**
+     * Weight of each feature
+     */
+    private final double[] weights;
+
+    /**
+     * Column of every square of the last board size evaluated, so that
+     * evaluations do not divide (replaced whole, so threads never see a
+     * partly filled table)
+     */
+    private volatile int[] columns = new int[0];
+
+    /**
+     * Constructs an evaluator.
+     *
+     * @param weights The weight of each feature (FEATURE_COUNT values, copied)
+     * @throws IllegalArgumentException if weights is null, has the wrong
+     *                                  length or contains a value that is not finite
+     */
+    public LinearEvaluator(double[] weights) {
+        if (weights == null || weights.length != FEATURE_COUNT) {
+            throw new IllegalArgumentException(
+                    "LinearEvaluator Error: Expected " + FEATURE_COUNT + " weights."
+            );
+        }
+        for (double weight : weights) {
+            if (!Double.isFinite(weight)) {
+                throw new IllegalArgumentException(
+                        "LinearEvaluator Error: Weights must be finite. Received: " + Arrays.toString(weights)
+                );
+            }
+        }
+        this.weights = weights.clone();
+    }
+
+    /**
+     * Loads an evaluator from a weights file.
+     *
+     * @param path The path of the file
+     * @return The evaluator
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file contains invalid values
+     */
+    public static LinearEvaluator load(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            properties.load(reader);
+        }
+        return fromProperties(properties);
+    }
+
+    /**
+     * Creates an evaluator from properties. A missing feature keeps its
+     * DEFAULT weight.
+     *
+     * @param properties The weights as "evaluator.name" keys
+     * @return The evaluator
+     * @throws IllegalArgumentException if a value is invalid
+     */
+    public static LinearEvaluator fromProperties(Properties properties) {
+        if (properties == null) {
+            throw new IllegalArgumentException(
+                    "LinearEvaluator Error: Properties cannot be null."
+            );
+        }
+        double[] weights = new double[FEATURE_COUNT];
+        try {
+            for (int i = 0; i < FEATURE_COUNT; i++) {
+                String value = properties.getProperty("evaluator." + FEATURE_NAMES[i]);
+                weights[i] = value == null ? DEFAULT.weights[i] : Double.parseDouble(value.trim());
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    "LinearEvaluator Error: Invalid number in weights: " + e.getMessage(), e
+            );
+        }
+        return new LinearEvaluator(weights);
+    }
+
+    /**
+     * Saves the weights as a properties file.
+     *
+     * @param path    The path of the file (overwritten)
+     * @param comment The comment written at the top of the file
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path path, String comment) throws IOException {
+        Properties properties = new Properties();
+        for (int i = 0; i < FEATURE_COUNT; i++) {
+            properties.setProperty("evaluator." + FEATURE_NAMES[i], String.format(Locale.ROOT, "%.6f", weights[i]));
+        }
+        try (Writer writer = Files.newBufferedWriter(path)) {
+            properties.store(writer, comment);
+        }
+    }
+
+    /**
+     * Estimates the final weight of a penguin.
+     *
+     * @param board  The board
+     * @param p      The penguin index
+     * @param slides The number of slides the penguin has left
+     * @return The estimated final weight
+     */
+    public double evaluate(FastBoard board, int p, int slides) {
+        return compute(board, p, slides, null);
+    }
+
+    /**
+     * Extracts the features of a penguin.
+     *
+     * @param board  The board
+     * @param p      The penguin index (not eliminated)
+     * @param slides The number of slides the penguin has left (positive)
+     * @param out    Receives FEATURE_COUNT feature values
+     */
+    static void features(FastBoard board, int p, int slides, double[] out) {
+        DEFAULT.compute(board, p, slides, out);
+    }
+
+    /**
+     * Gets a copy of the weights.
+     *
+     * @return The weight of each feature
+     */
+    public double[] getWeights() {
+        return weights.clone();
+    }
+
+    /**
+     * Computes the features of a penguin and their weighted sum.
+     *
+     * @param board  The board
+     * @param p      The penguin index
+     * @param slides The number of slides the penguin has left
+     * @param out    Receives the features, or null
+     * @return The weighted sum, or the current weight if the penguin is
+     * eliminated or has no slide left
+     */
+    private double compute(FastBoard board, int p, int slides, double[] out) {
+        int score = board.getScore(p);
+        int cell = board.getPenguinCell(p);
+        if (cell < 0 || slides <= 0) {
+            return score;
+        }
+
+        int size = board.getSize();
+        int[] column = columns(board.getCellCount(), size);
+        int x = column[cell];
+        int y = (cell - x) / size;
+        int up = line(board, cell, -size, y);
+        int down = line(board, cell, size, size - 1 - y);
+        int left = line(board, cell, -1, x);
+        int right = line(board, cell, 1, size - 1 - x);
+
+        // A fatal line is -1: (v >>> 31) counts it, Math.max(v, 0) drops it
+        int bestFood = Math.max(Math.max(up, down), Math.max(Math.max(left, right), 0));
+        int lineFood = Math.max(up, 0) + Math.max(down, 0) + Math.max(left, 0) + Math.max(right, 0);
+        int fatalLines = (up >>> 31) + (down >>> 31) + (left >>> 31) + (right >>> 31);
+        int edge = Math.min(Math.min(x, y), Math.min(size - 1 - x, size - 1 - y));
+        int hazards = (y > 0 ? HAZARD >>> board.getKind(cell - size) & 1 : 0)
+                + (y < size - 1 ? HAZARD >>> board.getKind(cell + size) & 1 : 0)
+                + (x > 0 ? HAZARD >>> board.getKind(cell - 1) & 1 : 0)
+                + (x < size - 1 ? HAZARD >>> board.getKind(cell + 1) & 1 : 0);
+
+        int opponentFood = 0;
+        for (int q = 0; q < board.getPenguinCount(); q++) {
+            int other = board.getPenguinCell(q);
+            if (q != p && other >= 0) {
+                int ox = column[other];
+                int oy = (other - ox) / size;
+                opponentFood += Math.max(
+                        Math.max(line(board, other, -size, oy), line(board, other, size, size - 1 - oy)),
+                        Math.max(Math.max(line(board, other, -1, ox), line(board, other, 1, size - 1 - ox)), 0));
+            }
+        }
+        int abilityLeft = board.isAbilityUsed(p) ? 0 : 1;
+        int stunned = board.isStunned(p) ? 1 : 0;
+
+        if (out != null) {
+            out[0] = 1.0;
+            out[1] = score;
+            out[2] = slides;
+            out[3] = bestFood;
+            out[4] = lineFood;
+            out[5] = lineFood * (slides - 1);
+            out[6] = fatalLines;
+            out[7] = edge;
+            out[8] = hazards;
+            out[9] = opponentFood;
+            out[10] = abilityLeft;
+            out[11] = stunned;
+        }
+        double[] w = weights;
+        return w[0] + w[1] * score + w[2] * slides + w[3] * bestFood + w[4] * lineFood
+                + w[5] * (lineFood * (slides - 1)) + w[6] * fatalLines + w[7] * edge + w[8] * hazards
+                + w[9] * opponentFood + w[10] * abilityLeft + w[11] * stunned;
+    }
+
+    /**
+     * Gets the column table of a board size, building it on first use.
+     *
+     * @param cellCount The number of squares
+     * @param size      The board size
+     * @return The column of every square
+     */
+    private int[] columns(int cellCount, int size) {
+        int[] column = columns;
+        if (column.length != cellCount) {
+            column = new int[cellCount];
+            for (int cell = 0; cell < cellCount; cell++) {
+                column[cell] = cell % size;
+            }
+            columns = column;
+        }
+        return column;
+    }
+
+    /**
+     * Scans a slide line on the current board.
+     *
+     * @param board The board
+     * @param cell  The square of the penguin
+     * @param step  The cell index step of the direction
+     * @param steps The number of squares before the edge
+     * @return The food weight if the line ends on food, 0 if it ends in
+     * front of an obstacle, FATAL if it ends in the water or a hole
+     */
+    private static int line(FastBoard board, int cell, int step, int steps) {
+        for (int i = 0; i < steps; i++) {
+            cell += step;
+            byte k = board.getKind(cell);
+            if ((OPEN >>> k & 1) == 0) {
+                return k == FastBoard.FOOD ? board.getValue(cell) : k == FastBoard.HOLE_IN_ICE ? FATAL : 0;
+            }
+        }
+        return FATAL;
+    }
+
+    /**
+     * Returns the weights of the evaluator.
+     *
+     * @return A descriptive string
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("LinearEvaluator [");
+        for (int i = 0; i < FEATURE_COUNT; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(FEATURE_NAMES[i]).append('=').append(String.format(Locale.ROOT, "%.3f", weights[i]));
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,398 @@
+package game.ai;
+
+import game.GameManager;
+import game.SpawnProfile;
+import game.sim.FastBoard;
+import game.sim.FastGame;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Fits the weights of a LinearEvaluator offline by playing out random
+ * games.
+ * <p>
+ * Every game is played by FastGame, that is like the original AI. Before
+ * each action, the features of every penguin still in the game with a
+ * slide left are recorded; once the game is over each record is paired
+ * with that penguin's final weight. The weights are the ridge-regularized
+ * least-squares fit of the final weights on the features: the threads sum
+ * the normal equations of their games and the merged system is solved
+ * once, so the data never has to be kept in memory. Game i draws from
+ * its own random stream derived from the seed, so a fit gives the same
+ * weights on any number of threads.
+ * <p>
+ * The written file is used by the search AI through the policy spec
+ * "expectimax:ms:eval=file" (see Policies).
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class LinearEvaluatorTrainer {
+    /**
+     * Default ridge penalty of every weight but the bias
+     */
+    public static final double DEFAULT_RIDGE = 1.0;
+
+    /**
+     * Profile of the played boards (board size and object counts)
+     */
+    private final SpawnProfile profile;
+
+    /**
+     * Number of turns of the played games
+     */
+    private final int maxTurns;
+
+    /**
+     * Number of playing threads
+     */
+    private final int threads;
+
+    /**
+     * Root mean squared error of the last fit on its own data
+     */
+    private double rmse;
+
+    /**
+     * Share of the variance of the final weights explained by the last fit
+     */
+    private double r2;
+
+    /**
+     * Number of records of the last fit
+     */
+    private long records;
+
+    /**
+     * Constructs a trainer.
+     *
+     * @param profile  The profile of the played boards
+     * @param maxTurns The number of turns of a game
+     * @param threads  The number of playing threads
+     * @throws IllegalArgumentException if profile is null or a count is not positive
+     */
+    public LinearEvaluatorTrainer(SpawnProfile profile, int maxTurns, int threads) {
+        if (profile == null) {
+            throw new IllegalArgumentException(
+                    "LinearEvaluatorTrainer Error: Spawn profile cannot be null."
+            );
+        }
+        if (maxTurns <= 0 || threads <= 0) {
+            throw new IllegalArgumentException(
+                    "LinearEvaluatorTrainer Error: Turn and thread counts must be positive. Received: "
+                            + maxTurns + ", " + threads
+            );
+        }
+        this.profile = profile;
+        this.maxTurns = maxTurns;
+        this.threads = threads;
+    }
+
+    /**
+     * Plays games and fits the weights.
+     *
+     * @param games The number of games to play
+     * @param seed  The seed of the fit
+     * @param ridge The penalty added to the diagonal of every weight but the bias
+     * @return The fitted evaluator
+     * @throws IllegalArgumentException if games is not positive or ridge is negative
+     */
+    public LinearEvaluator train(long games, long seed, double ridge) {
+        if (games <= 0 || ridge < 0) {
+            throw new IllegalArgumentException(
+                    "LinearEvaluatorTrainer Error: Game count must be positive and the ridge not negative. "
+                            + "Received: " + games + ", " + ridge
+            );
+        }
+
+        NormalEquations total = new NormalEquations();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<NormalEquations>> tasks = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                long from = games * i / threads;
+                long to = games * (i + 1) / threads;
+                tasks.add(() -> sample(from, to, seed));
+            }
+            for (Future<NormalEquations> part : pool.invokeAll(tasks)) {
+                total.add(part.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("LinearEvaluatorTrainer Error: Interrupted while playing.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("LinearEvaluatorTrainer Error: Playing failed.", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        double[] weights = total.solve(ridge);
+        double residual = total.residual(weights);
+        double mean = total.ySum / total.count;
+        double variance = total.yySum / total.count - mean * mean;
+        rmse = Math.sqrt(Math.max(0.0, residual / total.count));
+        r2 = variance > 0.0 ? 1.0 - residual / total.count / variance : 0.0;
+        records = total.count;
+        return new LinearEvaluator(weights);
+    }
+
+    /**
+     * Plays a range of games and sums their normal equations.
+     *
+     * @param from The index of the first game
+     * @param to   The index after the last game
+     * @param seed The seed of the fit
+     * @return The summed normal equations
+     */
+    private NormalEquations sample(long from, long to, long seed) {
+        int penguins = profile.getPenguinCount();
+        FastBoard board = new FastBoard(profile.getBoardSize(), Math.max(penguins, FastBoard.DEFAULT_PENGUINS));
+        FastGame game = new FastGame(board, maxTurns);
+        int capacity = penguins * penguins * maxTurns;
+        double[][] features = new double[capacity][LinearEvaluator.FEATURE_COUNT];
+        int[] owners = new int[capacity];
+        NormalEquations sums = new NormalEquations();
+
+        for (long i = from; i < to; i++) {
+            SplittableRandom rng = new SplittableRandom(OpeningBookBuilder.boardSeed(seed, i));
+            board.spawnRandom(rng, penguins, profile.getHazardCount(), profile.getFoodCount());
+            int count = 0;
+            for (int turn = 1; turn <= maxTurns; turn++) {
+                for (int p = 0; p < penguins; p++) {
+                    if (board.isEliminated(p)) {
+                        continue;
+                    }
+                    if (board.isStunned(p)) {
+                        board.setStunned(p, false);
+                        continue;
+                    }
+                    for (int q = 0; q < penguins; q++) {
+                        int slides = maxTurns - turn + (q >= p ? 1 : 0);
+                        if (!board.isEliminated(q) && slides > 0) {
+                            LinearEvaluator.features(board, q, slides, features[count]);
+                            owners[count++] = q;
+                        }
+                    }
+                    game.playTurn(p, rng);
+                }
+            }
+            for (int r = 0; r < count; r++) {
+                sums.record(features[r], board.getScore(owners[r]));
+            }
+        }
+        return sums;
+    }
+
+    /**
+     * Gets the root mean squared error of the last fit on its own records.
+     *
+     * @return The error in weight units
+     */
+    public double getRmse() {
+        return rmse;
+    }
+
+    /**
+     * Gets the share of the variance of the final weights the last fit explains.
+     *
+     * @return R squared
+     */
+    public double getR2() {
+        return r2;
+    }
+
+    /**
+     * Gets the number of records of the last fit.
+     *
+     * @return The record count
+     */
+    public long getRecords() {
+        return records;
+    }
+
+    /**
+     * Summed normal equations of a least-squares fit: X'X, X'y, y'y.
+     */
+    private static final class NormalEquations {
+        /**
+         * X'X, row-major
+         */
+        private final double[] xx = new double[LinearEvaluator.FEATURE_COUNT * LinearEvaluator.FEATURE_COUNT];
+
+        /**
+         * X'y
+         */
+        private final double[] xy = new double[LinearEvaluator.FEATURE_COUNT];
+
+        /**
+         * Sum of y
+         */
+        private double ySum;
+
+        /**
+         * Sum of y squared
+         */
+        private double yySum;
+
+        /**
+         * Number of records
+         */
+        private long count;
+
+        /**
+         * Adds one record.
+         *
+         * @param x The features
+         * @param y The final weight
+         */
+        private void record(double[] x, double y) {
+            int n = LinearEvaluator.FEATURE_COUNT;
+            for (int i = 0; i < n; i++) {
+                double xi = x[i];
+                for (int j = 0; j < n; j++) {
+                    xx[i * n + j] += xi * x[j];
+                }
+                xy[i] += xi * y;
+            }
+            ySum += y;
+            yySum += y * y;
+            count++;
+        }
+
+        /**
+         * Adds the sums of another part of the fit.
+         *
+         * @param other The other sums
+         */
+        private void add(NormalEquations other) {
+            for (int i = 0; i < xx.length; i++) {
+                xx[i] += other.xx[i];
+            }
+            for (int i = 0; i < xy.length; i++) {
+                xy[i] += other.xy[i];
+            }
+            ySum += other.ySum;
+            yySum += other.yySum;
+            count += other.count;
+        }
+
+        /**
+         * Solves (X'X + ridge * I) w = X'y by Gaussian elimination with
+         * partial pivoting. The bias is not penalized.
+         *
+         * @param ridge The penalty
+         * @return The weights
+         * @throws IllegalStateException if there are no records or the system is singular
+         */
+        private double[] solve(double ridge) {
+            int n = LinearEvaluator.FEATURE_COUNT;
+            if (count == 0) {
+                throw new IllegalStateException("LinearEvaluatorTrainer Error: No positions were recorded.");
+            }
+            double[][] a = new double[n][n + 1];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    a[i][j] = xx[i * n + j];
+                }
+                a[i][i] += i == 0 ? 0.0 : ridge;
+                a[i][n] = xy[i];
+            }
+
+            for (int col = 0; col < n; col++) {
+                int pivot = col;
+                for (int row = col + 1; row < n; row++) {
+                    if (Math.abs(a[row][col]) > Math.abs(a[pivot][col])) {
+                        pivot = row;
+                    }
+                }
+                if (Math.abs(a[pivot][col]) < 1e-12) {
+                    throw new IllegalStateException(
+                            "LinearEvaluatorTrainer Error: Feature " + LinearEvaluator.FEATURE_NAMES[col]
+                                    + " does not vary; use a positive ridge."
+                    );
+                }
+                double[] swap = a[col];
+                a[col] = a[pivot];
+                a[pivot] = swap;
+                for (int row = 0; row < n; row++) {
+                    if (row != col) {
+                        double factor = a[row][col] / a[col][col];
+                        for (int k = col; k <= n; k++) {
+                            a[row][k] -= factor * a[col][k];
+                        }
+                    }
+                }
+            }
+
+            double[] w = new double[n];
+            for (int i = 0; i < n; i++) {
+                w[i] = a[i][n] / a[i][i];
+            }
+            return w;
+        }
+
+        /**
+         * Computes the summed squared error of weights on the records:
+         * y'y - 2 w'X'y + w'X'Xw.
+         *
+         * @param w The weights
+         * @return The summed squared error
+         */
+        private double residual(double[] w) {
+            int n = LinearEvaluator.FEATURE_COUNT;
+            double sum = yySum;
+            for (int i = 0; i < n; i++) {
+                sum -= 2.0 * w[i] * xy[i];
+                for (int j = 0; j < n; j++) {
+                    sum += w[i] * xx[i * n + j] * w[j];
+                }
+            }
+            return Math.max(0.0, sum);
+        }
+    }
+
+    /**
+     * Fits weights for the default profile and writes them.
+     * <p>
+     * Usage: LinearEvaluatorTrainer [games] [seed] [threads] [file] [ridge]
+     *
+     * @param args Command line arguments
+     */
+    public static void main(String[] args) {
+        try {
+            long games = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+            long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+            int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+            Path path = Path.of(args.length > 3 ? args[3] : "evaluator.properties");
+            double ridge = args.length > 4 ? Double.parseDouble(args[4]) : DEFAULT_RIDGE;
+
+            LinearEvaluatorTrainer trainer = new LinearEvaluatorTrainer(SpawnProfile.defaultProfile(),
+                    GameManager.DEFAULT_MAX_TURNS, threads);
+            long start = System.nanoTime();
+            LinearEvaluator evaluator = trainer.train(games, seed, ridge);
+            evaluator.save(path, String.format(Locale.ROOT, "Fitted on %d games (seed %d), %d positions, "
+                    + "RMSE %.4f, R2 %.4f", games, seed, trainer.getRecords(), trainer.getRmse(), trainer.getR2()));
+            System.out.println(evaluator);
+            System.out.printf(Locale.ROOT, "Fitted %d positions (RMSE %.4f, R2 %.4f) and wrote %s in %.1f s%n",
+                    trainer.getRecords(), trainer.getRmse(), trainer.getR2(), path,
+                    (System.nanoTime() - start) / 1e9);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Evaluator training failed.");
+            System.out.println("Reason: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println("Evaluator training failed.");
+            System.out.println("Reason: File error. " + e.getMessage());
+        }
+    }
+}
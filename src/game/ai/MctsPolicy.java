@@ -0,0 +1,663 @@
+package game.ai;
+
+import game.TerrainGrid;
+import game.sim.FastBoard;
+import game.sim.FastGame;
+import game.util.RandUtil;
+import models.penguins.Penguin;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Computer opponent that runs a parallel Monte Carlo tree search.
+ * <p>
+ * The tree holds the action sequences of the deciding penguin only (open
+ * loop): every iteration copies the current position into a FastBoard,
+ * walks down the tree choosing the deciding penguin's actions by UCT, and
+ * lets the other penguins act as FastGame does, that is like the original
+ * AI. Once the walk reaches an action that was never tried, the rest of
+ * the game is played out by FastGame for every penguin, and the final
+ * weight of the deciding penguin is added to every node on the path.
+ * <p>
+ * All threads share one tree per decision:
+ * - The calling thread searches, and threads - 1 helper threads of the
+ * policy's own pool search with it
+ * - Node statistics are updated with atomic field updaters and children
+ * are attached with compare-and-set, so no thread ever blocks
+ * - A thread walking through a node adds a virtual loss (a visit without
+ * weight) until its playout is backed up, so concurrent threads spread
+ * over different branches instead of repeating the same playout
+ * <p>
+ * In the last turn there is little left to sample, so the EndgameSolver
+ * decides instead whenever the turn fits its node limit.
+ * <p>
+ * The search stops after a number of iterations or a time budget,
+ * whichever comes first, and plays the most visited action. Playouts
+ * reuse the FastBoard and FastGame of their thread, so they do not
+ * allocate; only new tree nodes do.
+ * <p>
+ * The playout streams of a decision are seeded from one draw of RandUtil,
+ * so a game seeded through RandUtil's thread generator (as in batch runs)
+ * is reproduced exactly by a one-thread search with an iteration limit
+ * and no time budget. Helpers get streams split from the same seed, but
+ * how iterations spread over threads still depends on timing.
+ * <p>
+ * The policy may be shared by games on many threads, but their decisions
+ * then share the helper pool. Batch runs that already use every core
+ * should construct it with one thread. Call close() to stop the helpers.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class MctsPolicy implements PenguinPolicy, AutoCloseable {
+    /**
+     * Default time budget of one decision (see ExpectimaxPolicy)
+     */
+    public static final long DEFAULT_BUDGET_NANOS = ExpectimaxPolicy.DEFAULT_BUDGET_NANOS;
+
+    /**
+     * Value of the iteration limit or time budget that disables it
+     */
+    public static final long UNLIMITED = Long.MAX_VALUE;
+
+    /**
+     * UCT exploration constant, in units of the weight scale
+     */
+    private static final double EXPLORATION = 0.5;
+
+    /**
+     * Heaviest food item
+     */
+    private static final int MAX_FOOD_WEIGHT = 5;
+
+    /**
+     * Number of searching threads, including the caller
+     */
+    private final int threads;
+
+    /**
+     * Time budget of one decision in nanoseconds
+     */
+    private final long budgetNanos;
+
+    /**
+     * Most iterations of one decision
+     */
+    private final long maxIterations;
+
+    /**
+     * Helper threads (null with one thread)
+     */
+    private final ExecutorService helpers;
+
+    /**
+     * Playout state of each thread
+     */
+    private final ThreadLocal<Playout> playouts = ThreadLocal.withInitial(Playout::new);
+
+    /**
+     * Constructs the policy with the default budget on all available processors.
+     */
+    public MctsPolicy() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_BUDGET_NANOS, UNLIMITED);
+    }
+
+    /**
+     * Constructs the policy.
+     *
+     * @param threads       The number of searching threads, including the caller
+     * @param budgetNanos   The time budget of one decision in nanoseconds, or UNLIMITED
+     * @param maxIterations The most iterations of one decision, or UNLIMITED
+     * @throws IllegalArgumentException if threads, the budget or the iteration
+     *                                  limit is not positive, or both limits are UNLIMITED
+     */
+    public MctsPolicy(int threads, long budgetNanos, long maxIterations) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException(
+                    "MctsPolicy Error: Thread count must be positive. Received: " + threads
+            );
+        }
+        if (budgetNanos <= 0 || maxIterations <= 0) {
+            throw new IllegalArgumentException(
+                    "MctsPolicy Error: Time budget and iteration limit must be positive. Received: "
+                            + budgetNanos + ", " + maxIterations
+            );
+        }
+        if (budgetNanos == UNLIMITED && maxIterations == UNLIMITED) {
+            throw new IllegalArgumentException(
+                    "MctsPolicy Error: Either the time budget or the iteration limit must be set."
+            );
+        }
+        this.threads = threads;
+        this.budgetNanos = budgetNanos;
+        this.maxIterations = maxIterations;
+        this.helpers = threads == 1 ? null : Executors.newFixedThreadPool(threads - 1, task -> {
+            Thread thread = new Thread(task, "mcts-helper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the number of searching threads.
+     *
+     * @return The thread count, including the caller
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Gets the time budget of one decision.
+     *
+     * @return The budget in nanoseconds, or UNLIMITED
+     */
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    /**
+     * Gets the iteration limit of one decision.
+     *
+     * @return The limit, or UNLIMITED
+     */
+    public long getMaxIterations() {
+        return maxIterations;
+    }
+
+    /**
+     * Decides the action of a penguin by searching the rest of the game.
+     *
+     * @param penguin The penguin about to act
+     * @param grid    The current grid (read only)
+     * @param context The turn context
+     * @return The decision
+     * @throws IllegalArgumentException if an argument is null, the penguin is
+     *                                  eliminated or not in the context
+     */
+    @Override
+    public TurnDecision decide(Penguin penguin, TerrainGrid grid, TurnContext context) {
+        if (penguin == null || grid == null || context == null) {
+            throw new IllegalArgumentException(
+                    "MctsPolicy Error: Penguin, grid and context cannot be null."
+            );
+        }
+        if (penguin.getPosition() == null) {
+            throw new IllegalArgumentException(
+                    "MctsPolicy Error: " + penguin.getNotation() + " has been eliminated."
+            );
+        }
+        List<Penguin> penguins = context.getPenguins();
+        int me = penguins.indexOf(penguin);
+        if (me < 0) {
+            throw new IllegalArgumentException(
+                    "MctsPolicy Error: " + penguin.getNotation() + " is not in the turn context."
+            );
+        }
+
+        Playout playout = playouts.get();
+        playout.ensureCapacity(grid.getSize(), penguins.size(), context.getMaxTurns());
+        playout.root.loadFrom(grid, penguins);
+        if (context.getTurn() == context.getMaxTurns()) {
+            int solved = playout.endgame.solve(playout.root, me);
+            if (solved != EndgameSolver.UNSOLVED) {
+                return SearchActions.toDecision(solved);
+            }
+        }
+        Search search = new Search(playout.root, me, context.getTurn(), context.getMaxTurns(),
+                RandUtil.getRandomInt(Integer.MAX_VALUE));
+        playout.rng = search.streams.split();
+
+        for (int i = 1; i < threads; i++) {
+            helpers.execute(search::help);
+        }
+        playout.iterate(search);
+        while (search.claim()) {
+            playout.iterate(search);
+        }
+        search.stop();
+        return SearchActions.toDecision(search.bestAction());
+    }
+
+    /**
+     * Returns the limits of this policy.
+     *
+     * @return A descriptive string
+     */
+    @Override
+    public String toString() {
+        return "MctsPolicy [threads=" + threads
+                + ", budget=" + (budgetNanos == UNLIMITED ? "unlimited" : budgetNanos + " ns")
+                + ", iterations=" + (maxIterations == UNLIMITED ? "unlimited" : maxIterations) + "]";
+    }
+
+    /**
+     * Stops the helper threads. The policy must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        if (helpers != null) {
+            helpers.shutdownNow();
+        }
+    }
+
+    /**
+     * One tree node: the statistics of an action sequence of the deciding
+     * penguin and the nodes of its next actions, indexed by action code.
+     */
+    private static final class Node {
+        /**
+         * Updater of visits
+         */
+        private static final AtomicIntegerFieldUpdater<Node> VISITS =
+                AtomicIntegerFieldUpdater.newUpdater(Node.class, "visits");
+
+        /**
+         * Updater of virtualLosses
+         */
+        private static final AtomicIntegerFieldUpdater<Node> VIRTUAL_LOSSES =
+                AtomicIntegerFieldUpdater.newUpdater(Node.class, "virtualLosses");
+
+        /**
+         * Updater of totalWeight
+         */
+        private static final AtomicLongFieldUpdater<Node> TOTAL_WEIGHT =
+                AtomicLongFieldUpdater.newUpdater(Node.class, "totalWeight");
+
+        /**
+         * Updater of children
+         */
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<Node, AtomicReferenceArray> CHILDREN =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, AtomicReferenceArray.class, "children");
+
+        /**
+         * Number of finished playouts through this node
+         */
+        private volatile int visits;
+
+        /**
+         * Number of playouts through this node still in progress
+         */
+        private volatile int virtualLosses;
+
+        /**
+         * Sum of the final weights of the finished playouts
+         */
+        private volatile long totalWeight;
+
+        /**
+         * Child nodes by action code (null until the first one is created)
+         */
+        private volatile AtomicReferenceArray<Node> children;
+
+        /**
+         * Marks a playout entering the node.
+         */
+        private void addVirtualLoss() {
+            VIRTUAL_LOSSES.incrementAndGet(this);
+        }
+
+        /**
+         * Backs up a finished playout and removes its virtual loss.
+         *
+         * @param weight The final weight of the deciding penguin
+         */
+        private void update(int weight) {
+            TOTAL_WEIGHT.addAndGet(this, weight);
+            VISITS.incrementAndGet(this);
+            VIRTUAL_LOSSES.decrementAndGet(this);
+        }
+
+        /**
+         * Gets the visits including the playouts in progress.
+         *
+         * @return The effective visit count
+         */
+        private int effectiveVisits() {
+            return visits + virtualLosses;
+        }
+
+        /**
+         * Gets the child of an action, creating it if needed.
+         *
+         * @param action The action code
+         * @return The child node
+         */
+        @SuppressWarnings("unchecked")
+        private Node child(int action) {
+            AtomicReferenceArray<Node> list = children;
+            if (list == null) {
+                CHILDREN.compareAndSet(this, null, new AtomicReferenceArray<Node>(SearchActions.ACTION_COUNT));
+                list = children;
+            }
+            Node node = list.get(action);
+            if (node == null) {
+                list.compareAndSet(action, null, new Node());
+                node = list.get(action);
+            }
+            return node;
+        }
+
+        /**
+         * Gets the child of an action if it exists.
+         *
+         * @param action The action code
+         * @return The child node, or null
+         */
+        private Node peek(int action) {
+            AtomicReferenceArray<Node> list = children;
+            return list == null ? null : list.get(action);
+        }
+    }
+
+    /**
+     * The shared state of one decision: the root position and tree, the
+     * limits and the bookkeeping of the helper threads.
+     */
+    private final class Search {
+        /**
+         * The position to decide on (read only during the search)
+         */
+        private final FastBoard root;
+
+        /**
+         * The root of the tree
+         */
+        private final Node tree = new Node();
+
+        /**
+         * Index of the deciding penguin
+         */
+        private final int me;
+
+        /**
+         * The current turn
+         */
+        private final int turn;
+
+        /**
+         * Number of turns of the game
+         */
+        private final int maxTurns;
+
+        /**
+         * The deciding penguin's weight at the root
+         */
+        private final int rootWeight;
+
+        /**
+         * Weight that the deciding penguin can at most gain with its own
+         * slides, used to scale the UCT values
+         */
+        private final double scale;
+
+        /**
+         * When the search started (System.nanoTime())
+         */
+        private final long start = System.nanoTime();
+
+        /**
+         * Iterations started so far (the caller's first one included)
+         */
+        private final AtomicLong iterations = new AtomicLong(1);
+
+        /**
+         * Helper threads currently searching
+         */
+        private final AtomicInteger running = new AtomicInteger();
+
+        /**
+         * Whether the decision has been made
+         */
+        private volatile boolean stopped;
+
+        /**
+         * Source of the playout streams of this decision (split under the search's lock)
+         */
+        private final SplittableRandom streams;
+
+        /**
+         * Constructs the state of a decision.
+         *
+         * @param root     The position
+         * @param me       The index of the deciding penguin
+         * @param turn     The current turn
+         * @param maxTurns The number of turns
+         * @param seed     The seed of the playout streams
+         */
+        private Search(FastBoard root, int me, int turn, int maxTurns, long seed) {
+            this.streams = new SplittableRandom(seed);
+            this.root = root;
+            this.me = me;
+            this.turn = turn;
+            this.maxTurns = maxTurns;
+            this.rootWeight = root.getScore(me);
+            this.scale = MAX_FOOD_WEIGHT * (maxTurns - turn + 1);
+        }
+
+        /**
+         * Claims the next iteration.
+         *
+         * @return true if the iteration limit and time budget allow another one
+         */
+        private boolean claim() {
+            if (stopped || System.nanoTime() - start >= budgetNanos) {
+                return false;
+            }
+            return iterations.getAndIncrement() < maxIterations;
+        }
+
+        /**
+         * Runs iterations on a helper thread until the search ends.
+         */
+        private void help() {
+            running.incrementAndGet();
+            try {
+                if (stopped) {
+                    return;
+                }
+                Playout playout = playouts.get();
+                playout.ensureCapacity(root.getSize(), root.getPenguinCount(), maxTurns);
+                synchronized (this) {
+                    playout.rng = streams.split();
+                }
+                while (claim()) {
+                    playout.iterate(this);
+                }
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+
+        /**
+         * Ends the search and waits for the helpers still in an iteration,
+         * so none of them reads the root board after the decision.
+         */
+        private void stop() {
+            stopped = true;
+            while (running.get() > 0) {
+                Thread.yield();
+            }
+        }
+
+        /**
+         * Chooses the action of the deciding penguin by UCT.
+         *
+         * @param node  The node of the current action sequence
+         * @param board The current position
+         * @return The action code
+         */
+        private int select(Node node, FastBoard board) {
+            double logVisits = Math.log(Math.max(1, node.effectiveVisits()));
+            int best = -1;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (int action = 0; action < SearchActions.ACTION_COUNT; action++) {
+                if (!SearchActions.isLegal(board, me, action)) {
+                    continue;
+                }
+                Node child = node.peek(action);
+                int n = child == null ? 0 : child.effectiveVisits();
+                if (n == 0) {
+                    return action;
+                }
+                // Virtual losses count as visits without any gain
+                double mean = (child.totalWeight - (double) child.visits * rootWeight) / n / scale;
+                double value = mean + EXPLORATION * Math.sqrt(logVisits / n);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = action;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Gets the most visited action at the root.
+         *
+         * @return The action code
+         */
+        private int bestAction() {
+            int best = -1;
+            long bestVisits = -1;
+            double bestMean = 0.0;
+            for (int action = 0; action < SearchActions.ACTION_COUNT; action++) {
+                Node child = tree.peek(action);
+                if (child == null || child.visits == 0) {
+                    continue;
+                }
+                double mean = (double) child.totalWeight / child.visits;
+                if (child.visits > bestVisits || (child.visits == bestVisits && mean > bestMean)) {
+                    best = action;
+                    bestVisits = child.visits;
+                    bestMean = mean;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * Playout state of one thread: a board for the root position, a board
+     * and FastGame for the playouts, a random stream and the path of the
+     * current iteration.
+     */
+    private static final class Playout {
+        /**
+         * The root position (used by the deciding thread only)
+         */
+        private FastBoard root;
+
+        /**
+         * The board of the playouts
+         */
+        private FastBoard board;
+
+        /**
+         * The playout engine on board
+         */
+        private FastGame game;
+
+        /**
+         * The random stream of the other penguins' choices, reseeded for
+         * every decision
+         */
+        private SplittableRandom rng;
+
+        /**
+         * The exact solver of the last turn (used by the deciding thread only)
+         */
+        private final EndgameSolver endgame = new EndgameSolver();
+
+        /**
+         * Nodes visited by the current iteration
+         */
+        private Node[] path = new Node[0];
+
+        /**
+         * Makes sure the boards fit a board size and number of penguins,
+         * and the path fits a game length.
+         *
+         * @param size     The board size
+         * @param penguins The number of penguins
+         * @param maxTurns The number of turns
+         */
+        private void ensureCapacity(int size, int penguins, int maxTurns) {
+            if (board == null || board.getSize() != size || board.getMaxPenguins() < penguins) {
+                int maxPenguins = Math.max(penguins, FastBoard.DEFAULT_PENGUINS);
+                root = new FastBoard(size, maxPenguins);
+                board = new FastBoard(size, maxPenguins);
+                game = new FastGame(board);
+            }
+            if (path.length < maxTurns + 2) {
+                path = new Node[maxTurns + 2];
+            }
+        }
+
+        /**
+         * Runs one iteration: selection and expansion down the tree, a
+         * playout to the end of the game and the backup of its result.
+         *
+         * @param search The decision being searched
+         */
+        private void iterate(Search search) {
+            board.copyFrom(search.root);
+            int me = search.me;
+            int penguins = board.getPenguinCount();
+
+            Node node = search.tree;
+            node.addVirtualLoss();
+            path[0] = node;
+            int length = 1;
+            boolean inTree = true;
+
+            int turn = search.turn;
+            int idx = me;
+            while (true) {
+                if (idx >= penguins) {
+                    idx = 0;
+                    turn++;
+                }
+                if (turn > search.maxTurns || board.isEliminated(me)) {
+                    break;
+                }
+                if (board.isEliminated(idx)) {
+                    idx++;
+                    continue;
+                }
+                if (board.isStunned(idx)) {
+                    board.setStunned(idx, false);
+                    idx++;
+                    continue;
+                }
+                if (idx == me && inTree) {
+                    int action = search.select(node, board);
+                    node = node.child(action);
+                    // A new node ends the walk; the playout starts after its action
+                    inTree = node.effectiveVisits() > 0;
+                    node.addVirtualLoss();
+                    path[length++] = node;
+                    SearchActions.apply(board, me, action);
+                } else {
+                    game.playTurn(idx, rng);
+                }
+                idx++;
+            }
+
+            int weight = board.getScore(me);
+            for (int i = 0; i < length; i++) {
+                path[i].update(weight);
+            }
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package game.ai;
+
+import enums.PenguinType;
+import game.sim.BoardSymmetry;
+import game.sim.FastBoard;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Precomputed first moves, read from a memory-mapped file.
+ * <p>
+ * On its first turn a penguin's options are decided by what it would hit
+ * in each of the four directions. The book therefore keys a position on
+ * the penguin's neighbourhood instead of the whole board: its type and,
+ * for every direction, the first object on the line (food of some weight,
+ * a hazard, a penguin or the edge of the board) and the number of free
+ * squares before it. Penguins spawn on the edge, so these neighbourhoods
+ * repeat a lot across random boards.
+ * <p>
+ * Neighbourhoods that are rotations or reflections of each other share
+ * one entry: the four lines are permuted by each of the eight symmetries
+ * (see BoardSymmetry) and the smallest ordering is the key. The stored
+ * action is in that canonical frame and is turned back on lookup.
+ * <p>
+ * File format (big-endian, built by OpeningBookBuilder):
+ * - header of HEADER_BYTES: magic, version, board size, penguin count,
+ * turn count and entry count as ints, then padding
+ * - entries of ENTRY_BYTES sorted by key: the key as a long, the action
+ * in bits 0-4 and the sample count in bits 5-31 of an int, and the mean
+ * final weight of the action as a float
+ * <p>
+ * A lookup is a binary search on the mapped file, so opening a book reads
+ * nothing but the header and the pages a search touches. Books are
+ * immutable and can be shared between threads.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public final class OpeningBook {
+    /**
+     * Result of a lookup that found nothing
+     */
+    public static final int NO_MOVE = -1;
+
+    /**
+     * Largest board size whose lines fit a key
+     */
+    public static final int MAX_BOARD_SIZE = 16;
+
+    /**
+     * Bytes before the first entry
+     */
+    static final int HEADER_BYTES = 32;
+
+    /**
+     * Bytes of one entry
+     */
+    static final int ENTRY_BYTES = 16;
+
+    /**
+     * File magic ("BOOK")
+     */
+    private static final int MAGIC = 0x424F4F4B;
+
+    /**
+     * File format version
+     */
+    private static final int VERSION = 2;
+
+    /**
+     * Line code of the board edge
+     */
+    private static final int EDGE = 0;
+
+    /**
+     * Line code of the first hazard kind (food uses its weight, 1-5)
+     */
+    private static final int HAZARD_BASE = 6;
+
+    /**
+     * Line code of a penguin
+     */
+    private static final int PENGUIN = 11;
+
+    /**
+     * The mapped file
+     */
+    private final ByteBuffer entries;
+
+    /**
+     * Board size the book was built for
+     */
+    private final int boardSize;
+
+    /**
+     * Penguin count the book was built for
+     */
+    private final int penguinCount;
+
+    /**
+     * Turn count the book was built for
+     */
+    private final int maxTurns;
+
+    /**
+     * Number of entries
+     */
+    private final int size;
+
+    /**
+     * Constructs a book over a buffer holding a book file.
+     *
+     * @param buffer The file contents
+     * @throws IOException if the buffer does not hold a valid book
+     */
+    private OpeningBook(ByteBuffer buffer) throws IOException {
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IOException("OpeningBook Error: Not an opening book file.");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("OpeningBook Error: Unsupported opening book version " + buffer.getInt(4) + ".");
+        }
+        this.boardSize = buffer.getInt(8);
+        this.penguinCount = buffer.getInt(12);
+        this.maxTurns = buffer.getInt(16);
+        this.size = buffer.getInt(20);
+        if (boardSize <= 0 || boardSize > MAX_BOARD_SIZE || penguinCount <= 0 || maxTurns <= 0 || size < 0
+                || (long) size * ENTRY_BYTES + HEADER_BYTES != buffer.capacity()) {
+            throw new IOException("OpeningBook Error: Corrupt opening book header.");
+        }
+        this.entries = buffer;
+    }
+
+    /**
+     * Maps a book file into memory.
+     *
+     * @param path The file path
+     * @return The book
+     * @throws IOException if the file cannot be read or is not a book
+     */
+    public static OpeningBook load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("OpeningBook Error: Opening book file is too large.");
+            }
+            // The mapping stays valid after the channel is closed
+            return new OpeningBook(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Writes a book file.
+     *
+     * @param path         The file path
+     * @param boardSize    The board size the book was built for
+     * @param penguinCount The penguin count the book was built for
+     * @param maxTurns     The turn count the book was built for
+     * @param keys         The keys, sorted ascending without duplicates
+     * @param actions      The canonical action of each key
+     * @param samples      The sample count of each key
+     * @param values       The mean final weight of each key's action
+     * @throws IOException if writing fails
+     */
+    static void write(Path path, int boardSize, int penguinCount, int maxTurns,
+                      long[] keys, int[] actions, int[] samples, float[] values) throws IOException {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            DataOutputStream dataOut = new DataOutputStream(new BufferedOutputStream(out));
+            dataOut.writeInt(MAGIC);
+            dataOut.writeInt(VERSION);
+            dataOut.writeInt(boardSize);
+            dataOut.writeInt(penguinCount);
+            dataOut.writeInt(maxTurns);
+            dataOut.writeInt(keys.length);
+            dataOut.writeLong(0L);
+            for (int i = 0; i < keys.length; i++) {
+                dataOut.writeLong(keys[i]);
+                dataOut.writeInt(actions[i] | Math.min(samples[i], (1 << 27) - 1) << 5);
+                dataOut.writeFloat(values[i]);
+            }
+            dataOut.flush();
+        }
+    }
+
+    /**
+     * Checks if the book applies to a game.
+     *
+     * @param boardSize    The board size
+     * @param penguinCount The number of penguins
+     * @param maxTurns     The number of turns
+     * @return true if the book was built for such games
+     */
+    public boolean matches(int boardSize, int penguinCount, int maxTurns) {
+        return boardSize == this.boardSize && penguinCount == this.penguinCount && maxTurns == this.maxTurns;
+    }
+
+    /**
+     * Looks up the first move of a penguin.
+     *
+     * @param board The board
+     * @param p     The penguin index
+     * @return The action code on this board (see SearchActions), or NO_MOVE
+     * if the neighbourhood is not in the book or the move is not legal
+     */
+    public int lookup(FastBoard board, int p) {
+        if (board.getSize() != boardSize || board.isEliminated(p)) {
+            return NO_MOVE;
+        }
+        BoardSymmetry symmetry = BoardSymmetry.of(boardSize);
+        int[] lines = new int[4];
+        int t = canonicalLines(board, p, symmetry, lines);
+        int index = find(pack(board.getPenguinType(p), lines));
+        if (index < 0) {
+            return NO_MOVE;
+        }
+        int stored = entries.getInt(HEADER_BYTES + index * ENTRY_BYTES + 8) & 0x1F;
+        int action = mapAction(symmetry, BoardSymmetry.inverse(t), stored);
+        return SearchActions.isLegal(board, p, action) ? action : NO_MOVE;
+    }
+
+    /**
+     * Maps an action through a transform.
+     *
+     * @param symmetry The symmetry tables
+     * @param t        The transform id
+     * @param action   The action code
+     * @return The action code in the transformed frame
+     */
+    static int mapAction(BoardSymmetry symmetry, int t, int action) {
+        int dir = symmetry.mapDirection(t, action & 3);
+        int kind = action >> 2;
+        if (kind >= SearchActions.ROYAL_STEP) {
+            kind = SearchActions.ROYAL_STEP + symmetry.mapDirection(t, kind - SearchActions.ROYAL_STEP);
+        }
+        return dir + 4 * kind;
+    }
+
+    /**
+     * Reads the lines of a penguin and permutes them into the canonical
+     * frame: the transform whose lines, read in direction order, are
+     * smallest (the smallest id on ties).
+     *
+     * @param board    The board
+     * @param p        The penguin index
+     * @param symmetry The symmetry tables
+     * @param out      Receives the four canonical line codes
+     * @return The transform id
+     */
+    static int canonicalLines(FastBoard board, int p, BoardSymmetry symmetry, int[] out) {
+        int[] lines = new int[4];
+        for (int dir = 0; dir < 4; dir++) {
+            lines[dir] = line(board, p, dir);
+        }
+        int[] candidate = new int[4];
+        int best = -1;
+        for (int t = 0; t < BoardSymmetry.TRANSFORM_COUNT; t++) {
+            for (int dir = 0; dir < 4; dir++) {
+                candidate[symmetry.mapDirection(t, dir)] = lines[dir];
+            }
+            if (best < 0 || Arrays.compare(candidate, out) < 0) {
+                System.arraycopy(candidate, 0, out, 0, 4);
+                best = t;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Reads one line of a penguin: the number of free squares before the
+     * first object in a direction, and what that object is. Plugged holes
+     * count as free squares, because slides pass over them.
+     *
+     * @param board The board
+     * @param p     The penguin index
+     * @param dir   The Direction ordinal
+     * @return free squares * 16 + object code
+     */
+    private static int line(FastBoard board, int p, int dir) {
+        int size = board.getSize();
+        int cell = board.getPenguinCell(p);
+        int x = cell % size;
+        int y = cell / size;
+        int dx = dir == 2 ? -1 : dir == 3 ? 1 : 0;
+        int dy = dir == 0 ? -1 : dir == 1 ? 1 : 0;
+        int free = 0;
+        while (true) {
+            x += dx;
+            y += dy;
+            if (x < 0 || y < 0 || x >= size || y >= size) {
+                return free << 4 | EDGE;
+            }
+            int next = y * size + x;
+            byte kind = board.getKind(next);
+            if (kind == FastBoard.FOOD) {
+                return free << 4 | board.getValue(next);
+            }
+            if (kind == FastBoard.PENGUIN) {
+                return free << 4 | PENGUIN;
+            }
+            if (kind != FastBoard.EMPTY && kind != FastBoard.PLUGGED_HOLE) {
+                return free << 4 | (HAZARD_BASE + kind - FastBoard.LIGHT_ICE_BLOCK);
+            }
+            free++;
+        }
+    }
+
+    /**
+     * Packs a penguin type and four line codes into a key.
+     *
+     * @param type  The penguin type
+     * @param lines The canonical line codes (each below 256)
+     * @return The key
+     */
+    static long pack(PenguinType type, int[] lines) {
+        return (long) type.ordinal() << 32 | (long) lines[0] << 24 | lines[1] << 16 | lines[2] << 8 | lines[3];
+    }
+
+    /**
+     * Binary searches the entries for a key.
+     *
+     * @param key The key
+     * @return The entry index, or -1
+     */
+    private int find(long key) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midKey = entries.getLong(HEADER_BYTES + mid * ENTRY_BYTES);
+            if (midKey < key) {
+                low = mid + 1;
+            } else if (midKey > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the number of entries.
+     *
+     * @return The entry count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the board size the book was built for.
+     *
+     * @return The board size
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Returns a string representation of the book.
+     *
+     * @return A descriptive string
+     */
+    @Override
+    public String toString() {
+        return "OpeningBook [" + size + " entries, " + boardSize + "x" + boardSize + ", " + penguinCount
+                + " penguins, " + maxTurns + " turns]";
+    }
+}
@@ -0,0 +1,372 @@
+package game.ai;
+
+import game.GameManager;
+import game.SpawnProfile;
+import game.sim.BoardSymmetry;
+import game.sim.FastBoard;
+import game.sim.FastGame;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Builds an OpeningBook by playing out random starting boards.
+ * <p>
+ * For every sampled board, each penguin's first move is evaluated in
+ * turn order: every legal action is played a number of times and the
+ * rest of the game is played out by FastGame (so every penguin, including
+ * the one being evaluated, plays like the original AI afterwards). The
+ * final weights are summed per neighbourhood key (see OpeningBook) and
+ * per action in the canonical frame. The sampled board then goes on with
+ * the penguin's heuristic move, so later penguins are evaluated on boards
+ * that look like real first turns.
+ * <p>
+ * Once all boards are sampled, every key seen often enough gets the
+ * action with the best mean final weight. A margin keeps only the keys
+ * whose best action leads the second best by that much weight: the book
+ * then covers fewer positions, but only those where the neighbourhood
+ * alone decides the move, which matters in front of a policy that would
+ * otherwise have searched the whole board. Board i draws from its own
+ * random stream derived from the seed, so a build gives the same book on
+ * any number of threads.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class OpeningBookBuilder {
+    /**
+     * Default number of playouts of each action of each sampled position
+     */
+    public static final int DEFAULT_ROLLOUTS = 4;
+
+    /**
+     * Default number of sampled positions a key needs to enter the book
+     */
+    public static final int DEFAULT_MIN_VISITS = 4;
+
+    /**
+     * Default lead in mean final weight the best action needs over the
+     * second best to enter the book (0 keeps every key seen often enough)
+     */
+    public static final double DEFAULT_MIN_MARGIN = 0.0;
+
+    /**
+     * Profile of the sampled boards (board size and object counts)
+     */
+    private final SpawnProfile profile;
+
+    /**
+     * Number of turns of the played-out games
+     */
+    private final int maxTurns;
+
+    /**
+     * Playouts of each action of each sampled position
+     */
+    private final int rollouts;
+
+    /**
+     * Number of sampling threads
+     */
+    private final int threads;
+
+    /**
+     * Constructs a builder.
+     *
+     * @param profile  The profile of the sampled boards
+     * @param maxTurns The number of turns of a game
+     * @param rollouts The playouts of each action of each position
+     * @param threads  The number of sampling threads
+     * @throws IllegalArgumentException if profile is null, the board is
+     *                                  larger than OpeningBook.MAX_BOARD_SIZE,
+     *                                  or a count is not positive
+     */
+    public OpeningBookBuilder(SpawnProfile profile, int maxTurns, int rollouts, int threads) {
+        if (profile == null) {
+            throw new IllegalArgumentException(
+                    "OpeningBookBuilder Error: Spawn profile cannot be null."
+            );
+        }
+        if (profile.getBoardSize() > OpeningBook.MAX_BOARD_SIZE) {
+            throw new IllegalArgumentException(
+                    "OpeningBookBuilder Error: Board size must be at most " + OpeningBook.MAX_BOARD_SIZE
+                            + ". Received: " + profile.getBoardSize()
+            );
+        }
+        if (maxTurns <= 0 || rollouts <= 0 || threads <= 0) {
+            throw new IllegalArgumentException(
+                    "OpeningBookBuilder Error: Turn, playout and thread counts must be positive. Received: "
+                            + maxTurns + ", " + rollouts + ", " + threads
+            );
+        }
+        this.profile = profile;
+        this.maxTurns = maxTurns;
+        this.rollouts = rollouts;
+        this.threads = threads;
+    }
+
+    /**
+     * Samples boards and writes the book.
+     *
+     * @param boards    The number of boards to sample
+     * @param seed      The seed of the build
+     * @param minVisits The number of sampled positions a key needs to enter the book
+     * @param minMargin The lead in mean final weight the best action needs
+     *                  over the second best to enter the book
+     * @param path      The file to write
+     * @return The written book, mapped from the file
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if boards or minVisits is not positive, or minMargin is negative
+     */
+    public OpeningBook build(long boards, long seed, int minVisits, double minMargin, Path path)
+            throws IOException {
+        if (boards <= 0 || minVisits <= 0 || minMargin < 0) {
+            throw new IllegalArgumentException(
+                    "OpeningBookBuilder Error: Board count and minimum visits must be positive and the margin "
+                            + "not negative. Received: " + boards + ", " + minVisits + ", " + minMargin
+            );
+        }
+
+        Map<Long, KeyStats> total = new HashMap<>();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<Map<Long, KeyStats>>> tasks = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                long from = boards * i / threads;
+                long to = boards * (i + 1) / threads;
+                tasks.add(() -> sample(from, to, seed));
+            }
+            for (Future<Map<Long, KeyStats>> part : pool.invokeAll(tasks)) {
+                part.get().forEach((key, stats) -> total.merge(key, stats, KeyStats::add));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("OpeningBookBuilder Error: Interrupted while sampling.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("OpeningBookBuilder Error: Sampling failed.", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        long[] keys = total.entrySet().stream()
+                .filter(entry -> entry.getValue().visits >= minVisits
+                        && entry.getValue().lead() >= minMargin * entry.getValue().visits * rollouts)
+                .mapToLong(Map.Entry::getKey)
+                .sorted()
+                .toArray();
+        int[] actions = new int[keys.length];
+        int[] samples = new int[keys.length];
+        float[] values = new float[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            KeyStats stats = total.get(keys[i]);
+            int best = stats.bestAction();
+            actions[i] = best;
+            samples[i] = stats.visits;
+            values[i] = (float) (stats.sums[best] / ((double) stats.visits * rollouts));
+        }
+        OpeningBook.write(path, profile.getBoardSize(), profile.getPenguinCount(), maxTurns,
+                keys, actions, samples, values);
+        return OpeningBook.load(path);
+    }
+
+    /**
+     * Samples a range of boards.
+     *
+     * @param from The index of the first board
+     * @param to   The index after the last board
+     * @param seed The seed of the build
+     * @return The statistics of every key seen
+     */
+    private Map<Long, KeyStats> sample(long from, long to, long seed) {
+        int size = profile.getBoardSize();
+        int penguins = profile.getPenguinCount();
+        int capacity = Math.max(penguins, FastBoard.DEFAULT_PENGUINS);
+        BoardSymmetry symmetry = BoardSymmetry.of(size);
+        FastBoard start = new FastBoard(size, capacity);
+        FastBoard playout = new FastBoard(size, capacity);
+        FastGame startGame = new FastGame(start, maxTurns);
+        FastGame playoutGame = new FastGame(playout, maxTurns);
+        int[] lines = new int[4];
+        Map<Long, KeyStats> stats = new HashMap<>();
+
+        for (long i = from; i < to; i++) {
+            SplittableRandom rng = new SplittableRandom(boardSeed(seed, i));
+            start.spawnRandom(rng, penguins, profile.getHazardCount(), profile.getFoodCount());
+            for (int p = 0; p < penguins; p++) {
+                if (start.isEliminated(p)) {
+                    continue;
+                }
+                if (start.isStunned(p)) {
+                    start.setStunned(p, false);
+                    continue;
+                }
+                int t = OpeningBook.canonicalLines(start, p, symmetry, lines);
+                KeyStats key = stats.computeIfAbsent(OpeningBook.pack(start.getPenguinType(p), lines),
+                        k -> new KeyStats());
+                key.visits++;
+                for (int action = 0; action < SearchActions.ACTION_COUNT; action++) {
+                    if (!SearchActions.isLegal(start, p, action)) {
+                        continue;
+                    }
+                    int canonical = OpeningBook.mapAction(symmetry, t, action);
+                    for (int r = 0; r < rollouts; r++) {
+                        playout.copyFrom(start);
+                        SearchActions.apply(playout, p, action);
+                        finishFirstTurn(playout, playoutGame, p + 1, rng);
+                        for (int turn = 2; turn <= maxTurns; turn++) {
+                            playoutGame.playRound(rng);
+                        }
+                        key.sums[canonical] += playout.getScore(p);
+                    }
+                    key.legal |= 1 << canonical;
+                }
+                startGame.playTurn(p, rng);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Plays the rest of the first turn from a penguin on.
+     *
+     * @param board The board
+     * @param game  The game on the board
+     * @param first The index of the first penguin still to act
+     * @param rng   The random stream
+     */
+    private static void finishFirstTurn(FastBoard board, FastGame game, int first, SplittableRandom rng) {
+        for (int q = first; q < board.getPenguinCount(); q++) {
+            if (board.isEliminated(q)) {
+                continue;
+            }
+            if (board.isStunned(q)) {
+                board.setStunned(q, false);
+                continue;
+            }
+            game.playTurn(q, rng);
+        }
+    }
+
+    /**
+     * Derives the seed of one sampled board from the seed of the build.
+     *
+     * @param seed  The seed of the build
+     * @param index The index of the board
+     * @return The seed of the board's random stream
+     */
+    static long boardSeed(long seed, long index) {
+        long z = seed + index * 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    /**
+     * Summed playout results of one neighbourhood key.
+     */
+    private static final class KeyStats {
+        /**
+         * Summed final weight of each canonical action
+         */
+        private final double[] sums = new double[SearchActions.ACTION_COUNT];
+
+        /**
+         * Bit mask of the canonical actions that were legal
+         */
+        private int legal;
+
+        /**
+         * Number of sampled positions with this key
+         */
+        private int visits;
+
+        /**
+         * Adds the results of another part of the build.
+         *
+         * @param other The other statistics
+         * @return This object
+         */
+        private KeyStats add(KeyStats other) {
+            for (int a = 0; a < sums.length; a++) {
+                sums[a] += other.sums[a];
+            }
+            legal |= other.legal;
+            visits += other.visits;
+            return this;
+        }
+
+        /**
+         * Computes how much the summed weight of the best action exceeds
+         * that of the second best.
+         *
+         * @return The lead, or the best sum if only one action was legal
+         */
+        private double lead() {
+            int best = bestAction();
+            double second = 0.0;
+            for (int a = 0; a < sums.length; a++) {
+                if (a != best && (legal & 1 << a) != 0) {
+                    second = Math.max(second, sums[a]);
+                }
+            }
+            return sums[best] - second;
+        }
+
+        /**
+         * Finds the legal action with the highest summed weight (the
+         * lowest code on ties). Every legal action of a key is played the
+         * same number of times, so sums compare like means.
+         *
+         * @return The canonical action code
+         */
+        private int bestAction() {
+            int best = -1;
+            for (int a = 0; a < sums.length; a++) {
+                if ((legal & 1 << a) != 0 && (best < 0 || sums[a] > sums[best])) {
+                    best = a;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * Builds a book for the default profile.
+     * <p>
+     * Usage: OpeningBookBuilder [boards] [seed] [threads] [file] [margin]
+     *
+     * @param args Command line arguments
+     */
+    public static void main(String[] args) {
+        try {
+            long boards = args.length > 0 ? Long.parseLong(args[0]) : 100_000L;
+            long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+            int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+            Path path = Path.of(args.length > 3 ? args[3] : "opening.book");
+            double margin = args.length > 4 ? Double.parseDouble(args[4]) : DEFAULT_MIN_MARGIN;
+
+            OpeningBookBuilder builder = new OpeningBookBuilder(SpawnProfile.defaultProfile(),
+                    GameManager.DEFAULT_MAX_TURNS, DEFAULT_ROLLOUTS, threads);
+            long start = System.nanoTime();
+            OpeningBook book = builder.build(boards, seed, DEFAULT_MIN_VISITS, margin, path);
+            System.out.printf("Wrote %s to %s in %.1f s%n", book, path, (System.nanoTime() - start) / 1e9);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Opening book build failed.");
+            System.out.println("Reason: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println("Opening book build failed.");
+            System.out.println("Reason: File error. " + e.getMessage());
+        }
+    }
+}
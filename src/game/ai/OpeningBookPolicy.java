@@ -0,0 +1,130 @@
+package game.ai;
+
+import game.TerrainGrid;
+import game.sim.FastBoard;
+import models.penguins.Penguin;
+
+import java.util.List;
+
+/**
+ * A policy that plays a penguin's first move from an OpeningBook and
+ * leaves every other decision to another policy.
+ * <p>
+ * The book is consulted before the other policy is asked at all, so a
+ * first move that is in the book costs one board load and a binary search
+ * instead of a search. Positions the book does not cover, games it was not
+ * built for (board size, penguin count or turn count) and all later turns
+ * go to the other policy.
+ * <p>
+ * A book move only knows the penguin's neighbourhood, so in front of a
+ * policy that searches the whole board it trades strength for time; build
+ * the book with a margin (see OpeningBookBuilder) to keep only the moves
+ * the neighbourhood decides.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class OpeningBookPolicy implements PenguinPolicy {
+    /**
+     * The book of first moves
+     */
+    private final OpeningBook book;
+
+    /**
+     * Policy of every move the book does not cover
+     */
+    private final PenguinPolicy fallback;
+
+    /**
+     * Board each thread loads the grid into
+     */
+    private final ThreadLocal<FastBoard> boards = new ThreadLocal<>();
+
+    /**
+     * Constructs the policy.
+     *
+     * @param book     The book of first moves
+     * @param fallback The policy of every other move
+     * @throws IllegalArgumentException if an argument is null
+     */
+    public OpeningBookPolicy(OpeningBook book, PenguinPolicy fallback) {
+        if (book == null || fallback == null) {
+            throw new IllegalArgumentException(
+                    "OpeningBookPolicy Error: Book and fallback policy cannot be null."
+            );
+        }
+        this.book = book;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Gets the book of first moves.
+     *
+     * @return The book
+     */
+    public OpeningBook getBook() {
+        return book;
+    }
+
+    /**
+     * Decides the action of a penguin: from the book on its first turn if
+     * the book has the position, otherwise with the fallback policy.
+     *
+     * @param penguin The penguin about to act
+     * @param grid    The current grid (read only)
+     * @param context The turn context
+     * @return The decision
+     * @throws IllegalArgumentException if an argument is null, or the
+     *                                  fallback policy rejects the penguin
+     */
+    @Override
+    public TurnDecision decide(Penguin penguin, TerrainGrid grid, TurnContext context) {
+        if (penguin == null || grid == null || context == null) {
+            throw new IllegalArgumentException(
+                    "OpeningBookPolicy Error: Penguin, grid and context cannot be null."
+            );
+        }
+        List<Penguin> penguins = context.getPenguins();
+        if (context.getTurn() == 1 && !penguin.isAbilityUsed() && penguin.getPosition() != null
+                && book.matches(grid.getSize(), penguins.size(), context.getMaxTurns())) {
+            int me = penguins.indexOf(penguin);
+            if (me >= 0) {
+                FastBoard board = board(grid.getSize(), penguins.size());
+                board.loadFrom(grid, penguins);
+                int action = book.lookup(board, me);
+                if (action != OpeningBook.NO_MOVE) {
+                    return SearchActions.toDecision(action);
+                }
+            }
+        }
+        return fallback.decide(penguin, grid, context);
+    }
+
+    /**
+     * Returns the book and the fallback policy.
+     *
+     * @return A descriptive string
+     */
+    @Override
+    public String toString() {
+        return "OpeningBookPolicy [" + book + ", fallback=" + fallback + "]";
+    }
+
+    /**
+     * Gets the board of the calling thread, replacing it if it does not
+     * fit the game.
+     *
+     * @param size     The board size
+     * @param penguins The number of penguins
+     * @return The board
+     */
+    private FastBoard board(int size, int penguins) {
+        FastBoard board = boards.get();
+        if (board == null || board.getSize() != size || board.getMaxPenguins() < penguins) {
+            board = new FastBoard(size, Math.max(penguins, FastBoard.DEFAULT_PENGUINS));
+            boards.set(board);
+        }
+        return board;
+    }
+}
@@ -0,0 +1,156 @@
+package game.ai;
+
+import enums.PenguinType;
+import game.sim.FastBoard;
+
+/**
+ * The original AI (HeuristicPolicy) seen as a probability distribution
+ * over its actions, for searches that model the other penguins.
+ * <p>
+ * The opponent picks a random direction from its best non-empty outcome
+ * group (food, safe stop, fatal), uses its ability with a fixed chance
+ * (the Rockhopper when it faces a hazard) and, as a Royal Penguin, steps
+ * to a random safe neighbour. A model keeps scratch space, so every
+ * thread needs its own.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+final class OpponentModel {
+    /**
+     * Chance in percent that an opponent uses its ability (King, Emperor, Royal)
+     */
+    private final int abilityChance;
+
+    /**
+     * Scratch list of directions
+     */
+    private final int[] dirs = new int[4];
+
+    /**
+     * Constructs a model.
+     *
+     * @param abilityChance The chance in percent that an opponent uses its ability (0-100)
+     */
+    OpponentModel(int abilityChance) {
+        this.abilityChance = abilityChance;
+    }
+
+    /**
+     * Lists the actions of an opponent that plays like HeuristicPolicy,
+     * with their probabilities, most likely first.
+     *
+     * @param board  The board
+     * @param p      The opponent index
+     * @param out    The action list to fill
+     * @param chance The probability list to fill
+     * @return The number of outcomes
+     */
+    int outcomes(FastBoard board, int p, int[] out, double[] chance) {
+        // The best non-empty outcome group, as HeuristicPolicy.chooseDirection
+        int dirCount = 0;
+        for (int outcome = FastBoard.OUTCOME_FOOD; dirCount == 0; outcome++) {
+            for (int dir = 0; dir < 4; dir++) {
+                if (board.probe(p, dir) == outcome) {
+                    dirs[dirCount++] = dir;
+                }
+            }
+        }
+
+        double pDir = 1.0 / dirCount;
+        double pAbility = abilityChance / 100.0;
+        PenguinType type = board.getPenguinType(p);
+        int count = 0;
+        for (int i = 0; i < dirCount; i++) {
+            int dir = dirs[i];
+            if (board.isAbilityUsed(p)) {
+                count = add(out, chance, count, dir, pDir);
+            } else if (type == PenguinType.ROCKHOPPER) {
+                int kind = board.isFacingHazard(p, dir) ? SearchActions.ABILITY : SearchActions.SLIDE;
+                count = add(out, chance, count, dir + 4 * kind, pDir);
+            } else {
+                if (pAbility < 1.0) {
+                    count = add(out, chance, count, dir, pDir * (1.0 - pAbility));
+                }
+                if (pAbility > 0.0) {
+                    count = addAbility(board, p, type, dir, pDir * pAbility, out, chance, count);
+                }
+            }
+        }
+        sortByChance(out, chance, count);
+        return count;
+    }
+
+    /**
+     * Adds the ability outcomes of an opponent for one direction.
+     *
+     * @param board  The board
+     * @param p      The opponent index
+     * @param type   The opponent type
+     * @param dir    The slide direction
+     * @param prob   The probability of using the ability in that direction
+     * @param out    The action list
+     * @param chance The probability list
+     * @param count  The number of outcomes so far
+     * @return The new number of outcomes
+     */
+    private int addAbility(FastBoard board, int p, PenguinType type, int dir, double prob,
+                           int[] out, double[] chance, int count) {
+        if (type != PenguinType.ROYAL) {
+            return add(out, chance, count, dir + 4 * SearchActions.ABILITY, prob);
+        }
+        int safe = 0;
+        for (int step = 0; step < 4; step++) {
+            if (board.isSafeStep(p, step)) {
+                safe++;
+            }
+        }
+        for (int step = 0; step < 4; step++) {
+            if (safe == 0 || board.isSafeStep(p, step)) {
+                count = add(out, chance, count, dir + 4 * (SearchActions.ROYAL_STEP + step),
+                        prob / (safe == 0 ? 4 : safe));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Appends one outcome.
+     *
+     * @param out    The action list
+     * @param chance The probability list
+     * @param count  The number of outcomes so far
+     * @param action The action
+     * @param prob   Its probability
+     * @return The new number of outcomes
+     */
+    private static int add(int[] out, double[] chance, int count, int action, double prob) {
+        out[count] = action;
+        chance[count] = prob;
+        return count + 1;
+    }
+
+    /**
+     * Sorts outcomes by falling probability (insertion sort, at most
+     * 20 entries), so a search can cut after the likely ones.
+     *
+     * @param out    The action list
+     * @param chance The probability list
+     * @param count  The number of outcomes
+     */
+    private static void sortByChance(int[] out, double[] chance, int count) {
+        for (int i = 1; i < count; i++) {
+            int action = out[i];
+            double prob = chance[i];
+            int j = i - 1;
+            while (j >= 0 && chance[j] < prob) {
+                out[j + 1] = out[j];
+                chance[j + 1] = chance[j];
+                j--;
+            }
+            out[j + 1] = action;
+            chance[j + 1] = prob;
+        }
+    }
+}
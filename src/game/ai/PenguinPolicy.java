@@ -0,0 +1,31 @@
+package game.ai;
+
+import game.TerrainGrid;
+import models.penguins.Penguin;
+
+/**
+ * Decides what a computer-controlled penguin does on its turn.
+ * <p>
+ * GameManager asks the policy of a penguin for a TurnDecision whenever that
+ * penguin may act (it is neither eliminated nor stunned), then carries the
+ * decision out. Policies only read the grid; they must not move objects.
+ * <p>
+ * Implementations used by parallel simulations are called from many
+ * threads at once and must either be stateless or keep their state per
+ * thread.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public interface PenguinPolicy {
+    /**
+     * Decides the action of a penguin for this turn.
+     *
+     * @param penguin The penguin about to act
+     * @param grid    The current grid (read only)
+     * @param context The turn number and all penguins in turn order
+     * @return The decision, never null
+     */
+    TurnDecision decide(Penguin penguin, TerrainGrid grid, TurnContext context);
+}
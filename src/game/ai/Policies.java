@@ -0,0 +1,177 @@
+package game.ai;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Parser for policy specs, so batch tools can play any computer opponent.
+ * <p>
+ * A spec is name[:budget][:eval=weights][@book]:
+ * - heuristic - the original AI (HeuristicPolicy)
+ * - expectimax[:ms] - ExpectimaxPolicy with a time budget per decision in
+ * milliseconds (default 5)
+ * - expectimax[:ms]:eval=file - ExpectimaxPolicy that values cut-off
+ * positions with a LinearEvaluator loaded from a weights file written by
+ * LinearEvaluatorTrainer; eval=default uses LinearEvaluator.DEFAULT
+ * - mcts[:ms] - MctsPolicy on one thread with a time budget per decision
+ * in milliseconds (default 5); mcts:Nit plays N iterations per decision
+ * instead, which is reproducible for a seeded game
+ * - @book - plays first moves from an OpeningBook file and the named
+ * policy for every other move (OpeningBookPolicy)
+ * <p>
+ * Examples: "heuristic", "expectimax:20", "mcts:5000it", "expectimax@book.bin",
+ * "expectimax:20:eval=weights.properties"
+ * <p>
+ * The search policies run on one thread per decision, because batch
+ * tools already play one game per thread.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class Policies {
+    /**
+     * Spec of the original AI
+     */
+    public static final String DEFAULT_SPEC = "heuristic";
+
+    /**
+     * Option that names the weights file of the expectimax evaluator
+     */
+    private static final String EVAL_OPTION = "eval=";
+
+    /**
+     * Weights file name that selects LinearEvaluator.DEFAULT
+     */
+    private static final String DEFAULT_WEIGHTS = "default";
+
+    /**
+     * Private constructor to prevent instantiation.
+     * This is a utility class with only static methods.
+     */
+    private Policies() {
+        throw new UnsupportedOperationException(
+                "Policies is a utility class and should not be instantiated."
+        );
+    }
+
+    /**
+     * Parses a policy spec.
+     *
+     * @param spec The spec, e.g. "expectimax:20"
+     * @return The policy, safe to share between threads
+     * @throws IOException              if the opening book or the weights
+     *                                  file cannot be read
+     * @throws IllegalArgumentException if the spec is null or invalid
+     */
+    public static PenguinPolicy parse(String spec) throws IOException {
+        if (spec == null) {
+            throw new IllegalArgumentException(
+                    "Policies Error: Spec cannot be null."
+            );
+        }
+
+        String trimmed = spec.trim();
+        String book = null;
+        int at = trimmed.indexOf('@');
+        if (at >= 0) {
+            book = trimmed.substring(at + 1).trim();
+            trimmed = trimmed.substring(0, at).trim();
+        }
+
+        String[] parts = trimmed.split(":", 2);
+        String name = parts[0].trim().toLowerCase();
+        String budget = parts.length > 1 ? parts[1].trim() : null;
+        String weights = null;
+        if (budget != null) {
+            // The weights file comes last and may itself contain ':'
+            int colon = budget.startsWith(EVAL_OPTION) ? -1 : budget.indexOf(':');
+            String option = colon < 0 ? budget : budget.substring(colon + 1).trim();
+            if (option.startsWith(EVAL_OPTION)) {
+                weights = option.substring(EVAL_OPTION.length()).trim();
+                budget = colon < 0 ? null : budget.substring(0, colon).trim();
+            } else if (colon >= 0) {
+                throw new IllegalArgumentException(
+                        "Policies Error: Unknown option '" + option + "' in '" + spec.trim() + "'."
+                );
+            }
+        }
+        if (budget != null) {
+            budget = budget.toLowerCase();
+        }
+        if (weights != null && !name.equals("expectimax")) {
+            throw new IllegalArgumentException(
+                    "Policies Error: Only the expectimax policy takes an evaluator. Received: " + spec.trim()
+            );
+        }
+        if (weights != null && weights.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "Policies Error: Missing weights file after '" + EVAL_OPTION + "' in '" + spec.trim() + "'."
+            );
+        }
+        LinearEvaluator evaluator = weights == null ? null
+                : weights.equalsIgnoreCase(DEFAULT_WEIGHTS) ? LinearEvaluator.DEFAULT
+                : LinearEvaluator.load(Path.of(weights));
+
+        PenguinPolicy policy;
+        try {
+            policy = switch (name) {
+                case "heuristic" -> {
+                    if (budget != null) {
+                        throw new IllegalArgumentException(
+                                "Policies Error: The heuristic policy has no budget."
+                        );
+                    }
+                    yield new HeuristicPolicy();
+                }
+                case "expectimax" -> new ExpectimaxPolicy(
+                        budget == null ? ExpectimaxPolicy.DEFAULT_BUDGET_NANOS : nanos(budget),
+                        HeuristicPolicy.DEFAULT_ABILITY_CHANCE, new TranspositionTable(), evaluator);
+                case "mcts" -> {
+                    if (budget != null && budget.endsWith("it")) {
+                        long iterations = Long.parseLong(budget.substring(0, budget.length() - 2).trim());
+                        yield new MctsPolicy(1, MctsPolicy.UNLIMITED, iterations);
+                    }
+                    yield new MctsPolicy(1, budget == null ? MctsPolicy.DEFAULT_BUDGET_NANOS : nanos(budget),
+                            MctsPolicy.UNLIMITED);
+                }
+                default -> throw new IllegalArgumentException(
+                        "Policies Error: Unknown policy '" + parts[0].trim()
+                                + "'. Expected heuristic, expectimax or mcts."
+                );
+            };
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    "Policies Error: Invalid budget in '" + spec.trim() + "'.", e
+            );
+        }
+
+        if (book == null) {
+            return policy;
+        }
+        if (book.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "Policies Error: Missing opening book file after '@' in '" + spec.trim() + "'."
+            );
+        }
+        return new OpeningBookPolicy(OpeningBook.load(Path.of(book)), policy);
+    }
+
+    /**
+     * Converts a budget in milliseconds to nanoseconds.
+     *
+     * @param millis The budget in milliseconds (may have a fraction)
+     * @return The budget in nanoseconds
+     * @throws NumberFormatException    if millis is not a number
+     * @throws IllegalArgumentException if the budget is not positive
+     */
+    private static long nanos(String millis) {
+        double value = Double.parseDouble(millis);
+        if (!(value > 0.0) || value > Long.MAX_VALUE / 1_000_000.0) {
+            throw new IllegalArgumentException(
+                    "Policies Error: Budget must be a positive number of milliseconds. Received: " + millis
+            );
+        }
+        return Math.max(1L, (long) (value * 1_000_000.0));
+    }
+}
@@ -0,0 +1,307 @@
+package game.ai;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * The tunable constants of HeuristicPolicy.
+ * <p>
+ * Properties keys (all optional, the default is the original AI's value):
+ * - policy.ability    - ability chance of King, Emperor and Royal Penguins
+ * in percent (default 30)
+ * - policy.rockhopper - when a Rockhopper Penguin jumps: FACING_HAZARD,
+ * ABILITY_CHANCE or NEVER (default FACING_HAZARD)
+ * - policy.order      - the order in which slide outcomes are preferred,
+ * a permutation of FOOD, SAFE and FATAL (default FOOD,SAFE,FATAL)
+ * <p>
+ * A prefix can be put in front of every key, so several parameter sets
+ * fit in one file (see PolicyTuner). Parameters are immutable.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public final class PolicyParameters {
+    /**
+     * The constants of the original AI
+     */
+    public static final PolicyParameters DEFAULT = new PolicyParameters(
+            HeuristicPolicy.DEFAULT_ABILITY_CHANCE, RockhopperRule.FACING_HAZARD,
+            List.of(Outcome.FOOD, Outcome.SAFE, Outcome.FATAL));
+
+    /**
+     * Classes of slide outcomes, in the original order of preference.
+     */
+    public enum Outcome {
+        /**
+         * The slide ends on food
+         */
+        FOOD,
+
+        /**
+         * The slide ends safely in front of an obstacle
+         */
+        SAFE,
+
+        /**
+         * The slide ends in the water or a hole
+         */
+        FATAL
+    }
+
+    /**
+     * When a Rockhopper Penguin uses its jump.
+     */
+    public enum RockhopperRule {
+        /**
+         * When the first obstacle in the slide direction is a hazard
+         */
+        FACING_HAZARD,
+
+        /**
+         * With the ability chance of the other penguins
+         */
+        ABILITY_CHANCE,
+
+        /**
+         * Never
+         */
+        NEVER
+    }
+
+    /**
+     * Ability chance in percent
+     */
+    private final int abilityChance;
+
+    /**
+     * Rockhopper jump rule
+     */
+    private final RockhopperRule rockhopperRule;
+
+    /**
+     * Outcome classes, most preferred first
+     */
+    private final List<Outcome> outcomeOrder;
+
+    /**
+     * Constructs a parameter set.
+     *
+     * @param abilityChance  The ability chance in percent (0-100)
+     * @param rockhopperRule The Rockhopper jump rule
+     * @param outcomeOrder   Every outcome class once, most preferred first
+     * @throws IllegalArgumentException if the chance is outside 0-100, the
+     *                                  rule is null or the order is not a permutation
+     */
+    public PolicyParameters(int abilityChance, RockhopperRule rockhopperRule, List<Outcome> outcomeOrder) {
+        if (abilityChance < 0 || abilityChance > 100) {
+            throw new IllegalArgumentException(
+                    "PolicyParameters Error: Ability chance must be between 0 and 100. Received: " + abilityChance
+            );
+        }
+        if (rockhopperRule == null) {
+            throw new IllegalArgumentException(
+                    "PolicyParameters Error: Rockhopper rule cannot be null."
+            );
+        }
+        EnumSet<Outcome> listed = EnumSet.noneOf(Outcome.class);
+        if (outcomeOrder != null) {
+            for (Outcome outcome : outcomeOrder) {
+                if (outcome != null) {
+                    listed.add(outcome);
+                }
+            }
+        }
+        if (outcomeOrder == null || outcomeOrder.size() != listed.size()
+                || listed.size() != Outcome.values().length) {
+            throw new IllegalArgumentException(
+                    "PolicyParameters Error: Outcome order must list FOOD, SAFE and FATAL once each. Received: "
+                            + outcomeOrder
+            );
+        }
+        this.abilityChance = abilityChance;
+        this.rockhopperRule = rockhopperRule;
+        this.outcomeOrder = List.copyOf(outcomeOrder);
+    }
+
+    /**
+     * Loads a parameter set from a properties file.
+     *
+     * @param path   The path of the file
+     * @param prefix The prefix of the keys (may be empty)
+     * @return The parameters
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file contains invalid values
+     */
+    public static PolicyParameters load(Path path, String prefix) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            properties.load(reader);
+        }
+        return fromProperties(properties, prefix);
+    }
+
+    /**
+     * Creates a parameter set from properties (see the class documentation for the keys).
+     *
+     * @param properties The properties
+     * @param prefix     The prefix of the keys (may be empty)
+     * @return The parameters
+     * @throws IllegalArgumentException if a value is invalid
+     */
+    public static PolicyParameters fromProperties(Properties properties, String prefix) {
+        if (properties == null || prefix == null) {
+            throw new IllegalArgumentException(
+                    "PolicyParameters Error: Properties and prefix cannot be null."
+            );
+        }
+
+        String ability = properties.getProperty(prefix + "policy.ability");
+        String rule = properties.getProperty(prefix + "policy.rockhopper");
+        String order = properties.getProperty(prefix + "policy.order");
+        try {
+            List<Outcome> outcomes = new ArrayList<>();
+            if (order == null || order.isBlank()) {
+                outcomes.addAll(DEFAULT.outcomeOrder);
+            } else {
+                for (String name : order.split(",")) {
+                    outcomes.add(Outcome.valueOf(name.trim().toUpperCase()));
+                }
+            }
+            return new PolicyParameters(
+                    ability == null ? DEFAULT.abilityChance : Integer.parseInt(ability.trim()),
+                    rule == null ? DEFAULT.rockhopperRule : RockhopperRule.valueOf(rule.trim().toUpperCase()),
+                    outcomes);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    "PolicyParameters Error: Invalid number in parameters: " + e.getMessage(), e
+            );
+        }
+    }
+
+    /**
+     * Adds this parameter set to properties.
+     *
+     * @param properties The properties to fill
+     * @param prefix     The prefix of the keys (may be empty)
+     */
+    public void toProperties(Properties properties, String prefix) {
+        properties.setProperty(prefix + "policy.ability", String.valueOf(abilityChance));
+        properties.setProperty(prefix + "policy.rockhopper", rockhopperRule.name());
+        properties.setProperty(prefix + "policy.order", orderString());
+    }
+
+    /**
+     * Saves this parameter set as a properties file.
+     *
+     * @param path    The path of the file (overwritten)
+     * @param comment The comment written at the top of the file
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path path, String comment) throws IOException {
+        Properties properties = new Properties();
+        toProperties(properties, "");
+        try (Writer writer = Files.newBufferedWriter(path)) {
+            properties.store(writer, comment);
+        }
+    }
+
+    /**
+     * Gets the ability chance of King, Emperor and Royal Penguins.
+     *
+     * @return The chance in percent
+     */
+    public int getAbilityChance() {
+        return abilityChance;
+    }
+
+    /**
+     * Gets when a Rockhopper Penguin uses its jump.
+     *
+     * @return The rule
+     */
+    public RockhopperRule getRockhopperRule() {
+        return rockhopperRule;
+    }
+
+    /**
+     * Gets the order in which slide outcomes are preferred.
+     *
+     * @return The outcome classes, most preferred first (unmodifiable)
+     */
+    public List<Outcome> getOutcomeOrder() {
+        return outcomeOrder;
+    }
+
+    /**
+     * Creates a copy with another ability chance.
+     *
+     * @param chance The ability chance in percent (0-100)
+     * @return The parameters
+     * @throws IllegalArgumentException if the chance is outside 0-100
+     */
+    public PolicyParameters withAbilityChance(int chance) {
+        return new PolicyParameters(chance, rockhopperRule, outcomeOrder);
+    }
+
+    /**
+     * Formats the outcome order as in the properties file.
+     *
+     * @return The comma-separated outcome names
+     */
+    private String orderString() {
+        StringBuilder sb = new StringBuilder();
+        for (Outcome outcome : outcomeOrder) {
+            if (!sb.isEmpty()) {
+                sb.append(',');
+            }
+            sb.append(outcome.name());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Checks if another object holds the same parameters.
+     *
+     * @param o The other object
+     * @return true if it is a PolicyParameters with equal values
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PolicyParameters other)) {
+            return false;
+        }
+        return abilityChance == other.abilityChance && rockhopperRule == other.rockhopperRule
+                && outcomeOrder.equals(other.outcomeOrder);
+    }
+
+    /**
+     * Computes a hash code consistent with equals().
+     *
+     * @return The hash code
+     */
+    @Override
+    public int hashCode() {
+        return (abilityChance * 31 + rockhopperRule.hashCode()) * 31 + outcomeOrder.hashCode();
+    }
+
+    /**
+     * Returns a short description of the parameters.
+     *
+     * @return A descriptive string
+     */
+    @Override
+    public String toString() {
+        return "ability=" + abilityChance + "%, rockhopper=" + rockhopperRule + ", order=" + orderString();
+    }
+}
@@ -0,0 +1,131 @@
+package game.ai;
+
+import enums.Direction;
+import enums.PenguinType;
+import game.sim.FastBoard;
+
+/**
+ * Integer encoding of turn actions shared by the search-based policies.
+ * <p>
+ * An action is direction + 4 * kind, where direction is the ordinal of
+ * the slide direction and kind is one of:
+ * - SLIDE (0): slide without the ability
+ * - ABILITY (1): slide with the ability (King, Emperor, Rockhopper)
+ * - ROYAL_STEP + step (2-5): Royal step in direction step, then slide
+ * <p>
+ * Every action is therefore below ACTION_COUNT, so searches can keep
+ * per-action data in plain arrays.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+final class SearchActions {
+    /**
+     * Action kind: slide without the ability
+     */
+    static final int SLIDE = 0;
+
+    /**
+     * Action kind: slide with the ability
+     */
+    static final int ABILITY = 1;
+
+    /**
+     * Action kind offset: Royal step in direction (kind - ROYAL_STEP), then slide
+     */
+    static final int ROYAL_STEP = 2;
+
+    /**
+     * Number of action codes (4 directions x 6 kinds)
+     */
+    static final int ACTION_COUNT = 24;
+
+    /**
+     * Private constructor to prevent instantiation.
+     * This is a utility class with only static methods.
+     */
+    private SearchActions() {
+        throw new UnsupportedOperationException(
+                "SearchActions is a utility class and should not be instantiated."
+        );
+    }
+
+    /**
+     * Checks if a penguin may play an action on a board.
+     *
+     * @param board  The board
+     * @param p      The penguin index
+     * @param action The action
+     * @return true if the action is a slide, or the penguin still has the
+     * ability the action uses
+     */
+    static boolean isLegal(FastBoard board, int p, int action) {
+        int kind = action >> 2;
+        if (kind == SLIDE) {
+            return true;
+        }
+        if (board.isAbilityUsed(p)) {
+            return false;
+        }
+        boolean royal = board.getPenguinType(p) == PenguinType.ROYAL;
+        return kind == ABILITY ? !royal : royal;
+    }
+
+    /**
+     * Converts an encoded action into a decision.
+     *
+     * @param action The action
+     * @return The decision
+     */
+    static TurnDecision toDecision(int action) {
+        Direction direction = Direction.values()[action & 3];
+        int kind = action >> 2;
+        if (kind == SLIDE) {
+            return TurnDecision.slide(direction);
+        }
+        if (kind == ABILITY) {
+            return TurnDecision.withAbility(direction);
+        }
+        return TurnDecision.royalStep(Direction.values()[kind - ROYAL_STEP], direction);
+    }
+
+    /**
+     * Converts a decision into an encoded action.
+     *
+     * @param decision The decision
+     * @return The action
+     */
+    static int encode(TurnDecision decision) {
+        int dir = decision.getDirection().ordinal();
+        if (!decision.isUseAbility()) {
+            return dir + 4 * SLIDE;
+        }
+        if (decision.getRoyalDirection() == null) {
+            return dir + 4 * ABILITY;
+        }
+        return dir + 4 * (ROYAL_STEP + decision.getRoyalDirection().ordinal());
+    }
+
+    /**
+     * Applies an encoded action to a board, like FastGame.playTurn.
+     *
+     * @param board  The board
+     * @param p      The penguin index
+     * @param action The action
+     */
+    static void apply(FastBoard board, int p, int action) {
+        int dir = action & 3;
+        int kind = action >> 2;
+        if (kind == SLIDE) {
+            board.slide(p, dir);
+        } else if (kind == ABILITY) {
+            board.slideWithAbility(p, dir);
+        } else {
+            board.royalStep(p, kind - ROYAL_STEP);
+            if (!board.isEliminated(p)) {
+                board.slide(p, dir);
+            }
+        }
+    }
+}
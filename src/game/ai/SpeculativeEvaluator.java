@@ -0,0 +1,515 @@
+package game.ai;
+
+import game.TerrainGrid;
+import game.sim.FastBoard;
+import models.penguins.Penguin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Decides the turns of computer penguins ahead of time, while a human
+ * player is still choosing a move.
+ * <p>
+ * The penguins queued behind the player cannot be decided in parallel
+ * with each other: each one decides on the board the previous one left.
+ * What is known before the player answers is the small set of moves the
+ * player can make, so speculate() starts one branch per legal move on
+ * the worker threads. A branch copies the board into a FastBoard, plays
+ * the move, and then lets every queued penguin decide on its copy with
+ * its BoardPolicy and plays the decision, up to the player's next action
+ * (or the end of the game if the player is eliminated).
+ * <p>
+ * When a queued penguin's turn really comes, decide() loads the live
+ * grid and compares its state hash (see FastBoard.stateHash()) with the
+ * position each branch published for that penguin:
+ * - The first lookup keeps the branch whose position matches and cancels
+ * the others, so their threads stop searching at once
+ * - A matching decision is returned as soon as the branch has it, which
+ * is usually right away
+ * - Any difference in the board, the inventories or the flags misses, and
+ * the penguin's policy decides on the live grid as without speculation
+ * <p>
+ * A branch ends at a penguin whose policy is not a BoardPolicy (such as
+ * the random HeuristicPolicy, which must draw from RandUtil on the game
+ * thread) and at a human player. The evaluator is meant to be used from
+ * one game thread; call close() to stop the workers.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class SpeculativeEvaluator implements AutoCloseable {
+    /**
+     * Number of worker threads
+     */
+    private final int threads;
+
+    /**
+     * Threads that run the branches
+     */
+    private final ExecutorService workers;
+
+    /**
+     * Board the live grid is loaded into by decide()
+     */
+    private FastBoard scratch = new FastBoard();
+
+    /**
+     * Branches of the last speculate(), or null
+     */
+    private Round round;
+
+    /**
+     * Decisions taken from a branch
+     */
+    private long hits;
+
+    /**
+     * Lookups that found no decision
+     */
+    private long misses;
+
+    /**
+     * Constructs an evaluator with one worker per available processor.
+     */
+    public SpeculativeEvaluator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs an evaluator.
+     *
+     * @param threads The number of worker threads
+     * @throws IllegalArgumentException if threads is not positive
+     */
+    public SpeculativeEvaluator(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException(
+                    "SpeculativeEvaluator Error: Thread count must be positive. Received: " + threads
+            );
+        }
+        this.threads = threads;
+        this.workers = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "speculative-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the number of worker threads.
+     *
+     * @return The thread count
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Gets the number of decisions taken from a branch.
+     *
+     * @return The hit count
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of decide() calls that found no speculated decision
+     * while branches were running.
+     *
+     * @return The miss count
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Starts deciding the queued penguins for every legal move of the
+     * penguin about to act, replacing the branches of an earlier call.
+     *
+     * @param mover    The penguin about to act (usually the player's)
+     * @param policies The policies in turn order, used modulo their number
+     *                 as GameManager does
+     * @param grid     The current grid (read only)
+     * @param context  The turn context
+     * @return The number of branches started
+     * @throws IllegalArgumentException if an argument is null, policies is
+     *                                  empty, or the mover is eliminated or
+     *                                  not in the context
+     */
+    public int speculate(Penguin mover, List<PenguinPolicy> policies, TerrainGrid grid, TurnContext context) {
+        if (mover == null || policies == null || policies.isEmpty() || grid == null || context == null) {
+            throw new IllegalArgumentException(
+                    "SpeculativeEvaluator Error: Mover, policies, grid and context cannot be null or empty."
+            );
+        }
+        List<Penguin> penguins = context.getPenguins();
+        int me = penguins.indexOf(mover);
+        if (me < 0 || mover.getPosition() == null) {
+            throw new IllegalArgumentException(
+                    "SpeculativeEvaluator Error: " + mover.getNotation() + " is not in the game."
+            );
+        }
+        cancel();
+
+        // Only penguins of another player that decide on a board are queued
+        BoardPolicy[] queued = new BoardPolicy[penguins.size()];
+        for (int i = 0; i < queued.length; i++) {
+            PenguinPolicy policy = policies.get(i % policies.size());
+            if (!penguins.get(i).isPlayer() && policy instanceof BoardPolicy boardPolicy) {
+                queued[i] = boardPolicy;
+            }
+        }
+
+        FastBoard start = new FastBoard(grid.getSize(), Math.max(penguins.size(), FastBoard.DEFAULT_PENGUINS));
+        start.loadFrom(grid, penguins);
+        List<Branch> branches = new ArrayList<>();
+        for (int action = 0; action < SearchActions.ACTION_COUNT; action++) {
+            if (!SearchActions.isLegal(start, me, action)) {
+                continue;
+            }
+            FastBoard board = new FastBoard(start.getSize(), start.getMaxPenguins());
+            board.copyFrom(start);
+            SearchActions.apply(board, me, action);
+            Branch branch = new Branch(board, queued, me, context.getTurn(), context.getMaxTurns());
+            if (branch.next()) {
+                branches.add(branch);
+            }
+        }
+        round = new Round(branches);
+        for (Branch branch : branches) {
+            workers.execute(branch);
+        }
+        return branches.size();
+    }
+
+    /**
+     * Decides the action of a computer penguin, from the running branches
+     * if one of them reached the current position, or else with its policy.
+     *
+     * @param penguin The penguin about to act
+     * @param policy  Its policy
+     * @param grid    The current grid (read only)
+     * @param context The turn context
+     * @return The decision
+     * @throws IllegalArgumentException if an argument is null, or the policy rejects the penguin
+     */
+    public TurnDecision decide(Penguin penguin, PenguinPolicy policy, TerrainGrid grid, TurnContext context) {
+        if (penguin == null || policy == null || grid == null || context == null) {
+            throw new IllegalArgumentException(
+                    "SpeculativeEvaluator Error: Penguin, policy, grid and context cannot be null."
+            );
+        }
+        Round current = round;
+        if (current != null && policy instanceof BoardPolicy) {
+            List<Penguin> penguins = context.getPenguins();
+            int maxPenguins = Math.max(penguins.size(), FastBoard.DEFAULT_PENGUINS);
+            if (scratch.getSize() != grid.getSize() || scratch.getMaxPenguins() != maxPenguins) {
+                scratch = new FastBoard(grid.getSize(), maxPenguins);
+            }
+            scratch.loadFrom(grid, penguins);
+            TurnDecision decision = current.lookup(positionKey(scratch, context.getTurn(),
+                    penguins.indexOf(penguin)));
+            if (decision != null) {
+                hits++;
+                return decision;
+            }
+            misses++;
+            cancel();
+        }
+        return policy.decide(penguin, grid, context);
+    }
+
+    /**
+     * Cancels the running branches.
+     */
+    public void cancel() {
+        if (round != null) {
+            round.cancel(null);
+            round = null;
+        }
+    }
+
+    /**
+     * Cancels the running branches and stops the workers. The evaluator
+     * must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        cancel();
+        workers.shutdownNow();
+    }
+
+    /**
+     * Computes the key of a position: the board's state hash combined
+     * with whose action is next.
+     *
+     * @param board The board
+     * @param turn  The turn of the next action
+     * @param index The index of the penguin to act next
+     * @return The key
+     */
+    private static long positionKey(FastBoard board, int turn, int index) {
+        return board.stateHash() ^ ((long) turn << 16 | index) * 0x9e3779b97f4a7c15L;
+    }
+
+    /**
+     * The branches of one speculate() call.
+     */
+    private static final class Round {
+        /**
+         * One branch per legal move of the mover
+         */
+        private final List<Branch> branches;
+
+        /**
+         * The branch that matched the first lookup, or null
+         */
+        private Branch chosen;
+
+        /**
+         * Constructs a round.
+         *
+         * @param branches The branches
+         */
+        private Round(List<Branch> branches) {
+            this.branches = branches;
+        }
+
+        /**
+         * Looks up the decision for a position. The first lookup picks
+         * the branch and cancels the others.
+         *
+         * @param key The position key
+         * @return The decision, or null if no branch reached the position
+         */
+        private TurnDecision lookup(long key) {
+            if (chosen == null) {
+                for (Branch branch : branches) {
+                    if (branch.firstKey() == key) {
+                        chosen = branch;
+                        break;
+                    }
+                }
+                cancel(chosen);
+            }
+            return chosen == null ? null : chosen.await(key);
+        }
+
+        /**
+         * Cancels every branch but one.
+         *
+         * @param keep The branch to keep running, or null
+         */
+        private void cancel(Branch keep) {
+            for (Branch branch : branches) {
+                if (branch != keep) {
+                    branch.cancelled = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * One move of the mover and the decisions of the penguins after it.
+     * The worker thread plays the branch on its own board and publishes
+     * each position before deciding it and each decision once it has it.
+     */
+    private static final class Branch implements Runnable {
+        /**
+         * Board of the branch (only the worker touches it once it runs)
+         */
+        private final FastBoard board;
+
+        /**
+         * Board policy of each penguin, or null if it is not queued
+         */
+        private final BoardPolicy[] queued;
+
+        /**
+         * Index of the mover
+         */
+        private final int mover;
+
+        /**
+         * Number of turns of the game
+         */
+        private final int maxTurns;
+
+        /**
+         * Positions published so far, in turn order
+         */
+        private final long[] keys;
+
+        /**
+         * Decision of each published position, null until it is decided
+         */
+        private final TurnDecision[] decisions;
+
+        /**
+         * Stop signal of the searches
+         */
+        private final BooleanSupplier stop = () -> this.cancelled;
+
+        /**
+         * Penguin to decide next
+         */
+        private int index;
+
+        /**
+         * Turn of the next decision
+         */
+        private int turn;
+
+        /**
+         * Number of published positions
+         */
+        private int published;
+
+        /**
+         * Number of decisions handed out
+         */
+        private int read;
+
+        /**
+         * Whether the worker has finished
+         */
+        private boolean done;
+
+        /**
+         * Whether the branch is no longer needed
+         */
+        private volatile boolean cancelled;
+
+        /**
+         * Constructs a branch after the mover has played.
+         *
+         * @param board    The board after the mover's action
+         * @param queued   The board policy of each penguin, or null
+         * @param mover    The index of the mover
+         * @param turn     The turn of the mover's action
+         * @param maxTurns The number of turns
+         */
+        private Branch(FastBoard board, BoardPolicy[] queued, int mover, int turn, int maxTurns) {
+            this.board = board;
+            this.queued = queued;
+            this.mover = mover;
+            this.maxTurns = maxTurns;
+            // The rest of the game at most, once the mover has been eliminated
+            int length = queued.length * (maxTurns - turn + 1);
+            this.keys = new long[length];
+            this.decisions = new TurnDecision[length];
+            this.index = mover + 1;
+            this.turn = turn;
+        }
+
+        /**
+         * Moves to the next penguin that acts, passing over eliminated
+         * and stunned ones as GameManager does, and publishes its position.
+         * The branch ends at the mover's next action unless the mover has
+         * been eliminated.
+         *
+         * @return false if the branch ends before that penguin
+         */
+        private boolean next() {
+            while (true) {
+                if (index >= queued.length) {
+                    index = 0;
+                    turn++;
+                }
+                if (turn > maxTurns) {
+                    return false;
+                }
+                if (board.isEliminated(index)) {
+                    index++;
+                } else if (index == mover) {
+                    return false;
+                } else if (board.isStunned(index)) {
+                    board.setStunned(index, false);
+                    index++;
+                } else {
+                    break;
+                }
+            }
+            if (queued[index] == null) {
+                return false;
+            }
+            long key = positionKey(board, turn, index);
+            synchronized (this) {
+                keys[published++] = key;
+            }
+            return true;
+        }
+
+        /**
+         * Gets the first published position.
+         *
+         * @return The position key
+         */
+        private synchronized long firstKey() {
+            return keys[0];
+        }
+
+        /**
+         * Decides and plays the queued penguins until the branch ends or
+         * is cancelled.
+         */
+        @Override
+        public void run() {
+            try {
+                while (!cancelled) {
+                    TurnDecision decision = queued[index].decideOnBoard(board, index, turn, maxTurns, stop);
+                    if (cancelled) {
+                        break;
+                    }
+                    synchronized (this) {
+                        decisions[published - 1] = decision;
+                        notifyAll();
+                    }
+                    SearchActions.apply(board, index, SearchActions.encode(decision));
+                    index++;
+                    if (!next()) {
+                        break;
+                    }
+                }
+            } finally {
+                synchronized (this) {
+                    done = true;
+                    notifyAll();
+                }
+            }
+        }
+
+        /**
+         * Waits for the decision of the next position handed out.
+         *
+         * @param key The position key
+         * @return The decision, or null if the branch went elsewhere, ended
+         * first or the thread was interrupted
+         */
+        private synchronized TurnDecision await(long key) {
+            while (true) {
+                if (read < published && keys[read] != key) {
+                    return null;
+                }
+                if (read < published && decisions[read] != null) {
+                    return decisions[read++];
+                }
+                if (done) {
+                    return null;
+                }
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package game.ai;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, lock-free cache of search results keyed by a position hash
+ * (see FastBoard.stateHash()).
+ * <p>
+ * Each entry packs the searched value, the depth it was searched to, the
+ * kind of bound the value is and the best action into one long:
+ * - bits 0-31: the value as a float
+ * - bits 32-39: the depth (capped at 255)
+ * - bits 40-44: the best action + 1 (0 if none)
+ * - bits 45-46: the bound (EXACT, LOWER or UPPER; 0 marks an empty slot)
+ * - bits 47-52: the generation of the search that stored it
+ * <p>
+ * The table is split into buckets of two slots. The first slot is
+ * depth-preferred: it is only replaced by a result of the same or a
+ * greater depth, or once it is left over from an earlier search. The
+ * second slot always takes the newest result that the first one refused,
+ * so shallow results still get cached.
+ * <p>
+ * A slot is two longs, the hash XOR the entry and the entry itself.
+ * Threads read and write them without locks; a probe only accepts a slot
+ * whose two halves XOR back to the hash, so a slot torn by two concurrent
+ * writers reads as a miss instead of a wrong result.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class TranspositionTable {
+    /**
+     * Default size of a table in megabytes
+     */
+    public static final int DEFAULT_MEGABYTES = 16;
+
+    /**
+     * Result of a probe that found nothing
+     */
+    public static final long MISS = 0L;
+
+    /**
+     * Bound kind: the value is exact
+     */
+    public static final int EXACT = 1;
+
+    /**
+     * Bound kind: the true value is at least the value
+     */
+    public static final int LOWER = 2;
+
+    /**
+     * Bound kind: the true value is at most the value
+     */
+    public static final int UPPER = 3;
+
+    /**
+     * Largest table size in megabytes
+     */
+    private static final int MAX_MEGABYTES = 1 << 14;
+
+    /**
+     * Bytes per slot (two longs)
+     */
+    private static final int SLOT_BYTES = 16;
+
+    /**
+     * Largest storable depth
+     */
+    private static final int MAX_DEPTH = 255;
+
+    /**
+     * Number of generations before they repeat
+     */
+    private static final int GENERATIONS = 64;
+
+    /**
+     * Slot words: [2 * slot] is hash ^ entry, [2 * slot + 1] is the entry
+     */
+    private final AtomicLongArray words;
+
+    /**
+     * Bucket count - 1 (the bucket count is a power of two)
+     */
+    private final int bucketMask;
+
+    /**
+     * Generation of the current search
+     */
+    private volatile int generation;
+
+    /**
+     * Constructs a table with the default size.
+     */
+    public TranspositionTable() {
+        this(DEFAULT_MEGABYTES);
+    }
+
+    /**
+     * Constructs a table. The slot count is the largest power of two that
+     * fits the size.
+     *
+     * @param megabytes The size of the table in megabytes
+     * @throws IllegalArgumentException if the size is outside 1-16384
+     */
+    public TranspositionTable(int megabytes) {
+        if (megabytes <= 0 || megabytes > MAX_MEGABYTES) {
+            throw new IllegalArgumentException(
+                    "TranspositionTable Error: Size must be between 1 and " + MAX_MEGABYTES + " MB. Received: "
+                            + megabytes
+            );
+        }
+        long slots = Long.highestOneBit((long) megabytes * (1 << 20) / SLOT_BYTES);
+        // AtomicLongArray is indexed by int
+        slots = Math.min(slots, 1L << 29);
+        this.words = new AtomicLongArray((int) (slots * 2));
+        this.bucketMask = (int) (slots / 2) - 1;
+    }
+
+    /**
+     * Starts a new search, so entries of earlier searches become the
+     * first to be replaced.
+     */
+    public void newSearch() {
+        generation = (generation + 1) % GENERATIONS;
+    }
+
+    /**
+     * Looks up a position.
+     *
+     * @param hash The position hash
+     * @return The entry (read it with getValue(), getDepth(), getBound()
+     * and getBestAction()), or MISS
+     */
+    public long probe(long hash) {
+        int slot = bucketOf(hash);
+        for (int i = 0; i < 2; i++, slot++) {
+            long entry = words.getOpaque(2 * slot + 1);
+            if (entry != MISS && (words.getOpaque(2 * slot) ^ entry) == hash) {
+                return entry;
+            }
+        }
+        return MISS;
+    }
+
+    /**
+     * Stores the result of a search.
+     *
+     * @param hash       The position hash
+     * @param value      The value
+     * @param depth      The depth the position was searched to
+     * @param bound      EXACT, LOWER or UPPER
+     * @param bestAction The best action code (0-23), or -1 if none
+     * @throws IllegalArgumentException if the bound or action is invalid
+     */
+    public void store(long hash, double value, int depth, int bound, int bestAction) {
+        if (bound < EXACT || bound > UPPER || bestAction < -1 || bestAction >= SearchActions.ACTION_COUNT) {
+            throw new IllegalArgumentException(
+                    "TranspositionTable Error: Invalid bound or action. Received: " + bound + ", " + bestAction
+            );
+        }
+        int gen = generation;
+        long entry = (Float.floatToRawIntBits((float) value) & 0xFFFFFFFFL)
+                | (long) Math.min(Math.max(depth, 0), MAX_DEPTH) << 32
+                | (long) (bestAction + 1) << 40
+                | (long) bound << 45
+                | (long) gen << 47;
+
+        int first = bucketOf(hash);
+        int slot = first + 1;
+        long old = words.getOpaque(2 * first + 1);
+        if (old == MISS || (words.getOpaque(2 * first) ^ old) == hash
+                || depth >= getDepth(old) || generationOf(old) != gen) {
+            slot = first;
+        }
+        words.setOpaque(2 * slot, hash ^ entry);
+        words.setOpaque(2 * slot + 1, entry);
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        for (int i = 0; i < words.length(); i++) {
+            words.setOpaque(i, 0L);
+        }
+    }
+
+    /**
+     * Gets the number of slots.
+     *
+     * @return The slot count
+     */
+    public int getCapacity() {
+        return words.length() / 2;
+    }
+
+    /**
+     * Gets the value of an entry.
+     *
+     * @param entry The entry returned by probe()
+     * @return The value
+     */
+    public static double getValue(long entry) {
+        return Float.intBitsToFloat((int) entry);
+    }
+
+    /**
+     * Gets the depth of an entry.
+     *
+     * @param entry The entry returned by probe()
+     * @return The depth the position was searched to
+     */
+    public static int getDepth(long entry) {
+        return (int) (entry >>> 32) & 0xFF;
+    }
+
+    /**
+     * Gets the bound kind of an entry.
+     *
+     * @param entry The entry returned by probe()
+     * @return EXACT, LOWER or UPPER
+     */
+    public static int getBound(long entry) {
+        return (int) (entry >>> 45) & 3;
+    }
+
+    /**
+     * Gets the best action of an entry.
+     *
+     * @param entry The entry returned by probe()
+     * @return The action code, or -1 if none was stored
+     */
+    public static int getBestAction(long entry) {
+        return ((int) (entry >>> 40) & 0x1F) - 1;
+    }
+
+    /**
+     * Gets the generation of an entry.
+     *
+     * @param entry The entry
+     * @return The generation
+     */
+    private static int generationOf(long entry) {
+        return (int) (entry >>> 47) & (GENERATIONS - 1);
+    }
+
+    /**
+     * Gets the first slot of the bucket of a hash.
+     *
+     * @param hash The position hash
+     * @return The slot index
+     */
+    private int bucketOf(long hash) {
+        return ((int) (hash >>> 32) & bucketMask) * 2;
+    }
+
+    /**
+     * Returns a string representation of the table.
+     *
+     * @return A descriptive string
+     */
+    @Override
+    public String toString() {
+        return "TranspositionTable [" + getCapacity() + " slots]";
+    }
+}
@@ -0,0 +1,92 @@
+package game.ai;
+
+import models.penguins.Penguin;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Information about the game a policy may use besides the grid:
+ * the current turn, the number of turns and every penguin in turn order
+ * (including eliminated ones, whose position is null).
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public final class TurnContext {
+    /**
+     * The current turn (1-based)
+     */
+    private final int turn;
+
+    /**
+     * The number of turns in the game
+     */
+    private final int maxTurns;
+
+    /**
+     * All penguins in turn order (read-only view)
+     */
+    private final List<Penguin> penguins;
+
+    /**
+     * Constructs a turn context.
+     *
+     * @param turn     The current turn (1-based)
+     * @param maxTurns The number of turns in the game
+     * @param penguins All penguins in turn order
+     * @throws IllegalArgumentException if penguins is null or the turn is out of range
+     */
+    public TurnContext(int turn, int maxTurns, List<Penguin> penguins) {
+        if (penguins == null) {
+            throw new IllegalArgumentException(
+                    "TurnContext Error: Penguin list cannot be null."
+            );
+        }
+        if (turn < 1 || turn > maxTurns) {
+            throw new IllegalArgumentException(
+                    "TurnContext Error: Turn " + turn + " is outside 1-" + maxTurns + "."
+            );
+        }
+        this.turn = turn;
+        this.maxTurns = maxTurns;
+        this.penguins = Collections.unmodifiableList(penguins);
+    }
+
+    /**
+     * Gets the current turn.
+     *
+     * @return The turn number (1-based)
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+    /**
+     * Gets the number of turns in the game.
+     *
+     * @return The turn count
+     */
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    /**
+     * Gets the number of turns left after this one.
+     *
+     * @return The remaining turns
+     */
+    public int getRemainingTurns() {
+        return maxTurns - turn;
+    }
+
+    /**
+     * Gets all penguins in turn order.
+     *
+     * @return A read-only list of the penguins
+     */
+    public List<Penguin> getPenguins() {
+        return penguins;
+    }
+}
@@ -0,0 +1,158 @@
+package game.ai;
+
+import enums.Direction;
+
+/**
+ * The action a penguin takes on one turn: whether it uses its special
+ * ability, the single step of a Royal Penguin, and the slide direction.
+ * <p>
+ * Decisions are immutable. Use the factory methods to create them:
+ * - slide(d) - slide without the ability
+ * - withAbility(d) - use the ability, then slide (King, Emperor, Rockhopper)
+ * - hazardJump(d) - a Rockhopper Penguin jumps because it faces a hazard
+ * - royalStep(step, d) - Royal Penguin steps one square, then slides
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public final class TurnDecision {
+    /**
+     * Whether the special ability is used this turn
+     */
+    private final boolean useAbility;
+
+    /**
+     * Whether the ability is used because the penguin faces a hazard
+     */
+    private final boolean facingHazard;
+
+    /**
+     * Direction of the Royal Penguin's single step, or null
+     */
+    private final Direction royalDirection;
+
+    /**
+     * Direction of the slide
+     */
+    private final Direction direction;
+
+    /**
+     * Constructs a decision.
+     *
+     * @param useAbility     Whether the special ability is used
+     * @param facingHazard   Whether the ability is used because of a hazard
+     * @param royalDirection The Royal Penguin's step direction, or null
+     * @param direction      The slide direction
+     * @throws IllegalArgumentException if direction is null
+     */
+    private TurnDecision(boolean useAbility, boolean facingHazard, Direction royalDirection,
+                         Direction direction) {
+        if (direction == null) {
+            throw new IllegalArgumentException(
+                    "TurnDecision Error: Slide direction cannot be null."
+            );
+        }
+        this.useAbility = useAbility;
+        this.facingHazard = facingHazard;
+        this.royalDirection = royalDirection;
+        this.direction = direction;
+    }
+
+    /**
+     * Creates a decision to slide without using the ability.
+     *
+     * @param direction The slide direction
+     * @return The decision
+     */
+    public static TurnDecision slide(Direction direction) {
+        return new TurnDecision(false, false, null, direction);
+    }
+
+    /**
+     * Creates a decision to use the ability and slide.
+     *
+     * @param direction The slide direction
+     * @return The decision
+     */
+    public static TurnDecision withAbility(Direction direction) {
+        return new TurnDecision(true, false, null, direction);
+    }
+
+    /**
+     * Creates a decision to use the ability and slide because the penguin
+     * faces a hazard (the Rockhopper Penguin's jump).
+     *
+     * @param direction The slide direction
+     * @return The decision
+     */
+    public static TurnDecision hazardJump(Direction direction) {
+        return new TurnDecision(true, true, null, direction);
+    }
+
+    /**
+     * Creates a Royal Penguin decision to step one square and then slide.
+     *
+     * @param step      The direction of the single step
+     * @param direction The slide direction
+     * @return The decision
+     * @throws IllegalArgumentException if step is null
+     */
+    public static TurnDecision royalStep(Direction step, Direction direction) {
+        if (step == null) {
+            throw new IllegalArgumentException(
+                    "TurnDecision Error: Royal step direction cannot be null."
+            );
+        }
+        return new TurnDecision(true, false, step, direction);
+    }
+
+    /**
+     * Checks if the special ability is used.
+     *
+     * @return true if the ability is used this turn
+     */
+    public boolean isUseAbility() {
+        return useAbility;
+    }
+
+    /**
+     * Checks if the ability is used because the penguin faces a hazard.
+     *
+     * @return true if the decision came from the facing-hazard rule
+     */
+    public boolean isFacingHazard() {
+        return facingHazard;
+    }
+
+    /**
+     * Gets the Royal Penguin's step direction.
+     *
+     * @return The step direction, or null if there is no step
+     */
+    public Direction getRoyalDirection() {
+        return royalDirection;
+    }
+
+    /**
+     * Gets the slide direction.
+     *
+     * @return The slide direction
+     */
+    public Direction getDirection() {
+        return direction;
+    }
+
+    /**
+     * Returns a string representation of this decision.
+     *
+     * @return A descriptive string
+     */
+    @Override
+    public String toString() {
+        if (royalDirection != null) {
+            return "TurnDecision [step " + royalDirection + ", slide " + direction + "]";
+        }
+        return "TurnDecision [" + (useAbility ? "ability, " : "") + "slide " + direction + "]";
+    }
+}
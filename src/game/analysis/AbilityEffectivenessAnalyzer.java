@@ -0,0 +1,508 @@
+package game.analysis;
+
+import enums.Direction;
+import game.GameManager;
+import game.GameResult;
+import game.IcyTerrain;
+import game.SpawnProfile;
+import game.TerrainGrid;
+import game.ai.HeuristicPolicy;
+import game.ai.PenguinPolicy;
+import game.ai.TurnContext;
+import game.ai.TurnDecision;
+import game.util.GameConsole;
+import game.util.RandUtil;
+import interfaces.IHazard;
+import models.Position;
+import models.penguins.Penguin;
+import models.penguins.RoyalPenguin;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Measures the marginal value of the special ability of each penguin type
+ * (King, Emperor, Royal and Rockhopper) with common random numbers.
+ * <p>
+ * For every board and every penguin on it, the same game is played several
+ * times from the same random stream:
+ * 1. The penguin never uses its ability (the baseline)
+ * 2. The penguin uses its ability when the policy wants to
+ * 3. The penguin uses its ability on turn t, once for every turn t
+ * All other penguins play as usual. Each game differs from the baseline
+ * only in the ability use of that penguin, so both games share the board,
+ * the moves before the ability and every random draw the ability does not
+ * change, and the score delta of the pair has a far smaller variance than
+ * the difference of two independent games (see AbilityReport).
+ * <p>
+ * The baseline also shows on which turns the penguin gets to act; a turn
+ * on which it is eliminated or stunned is counted as unused without
+ * playing its game, since the ability could not change anything.
+ * <p>
+ * The games run on the full engine (IcyTerrain and the Penguin classes),
+ * where the abilities are implemented. Boards are handed out in chunks
+ * like in SpawnFairnessAnalyzer: each chunk derives its board seeds from
+ * the run seed and the chunk index, and each worker counts into its own
+ * long array, so a run gives the same report on any number of threads.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class AbilityEffectivenessAnalyzer {
+    private static final Logger LOGGER = Logger.getLogger(AbilityEffectivenessAnalyzer.class.getName());
+
+    /**
+     * Number of boards per work chunk
+     */
+    private static final int CHUNK_SIZE = 256;
+
+    /**
+     * The spawn profile of the boards
+     */
+    private final SpawnProfile profile;
+
+    /**
+     * The policy of all penguins
+     */
+    private final PenguinPolicy policy;
+
+    /**
+     * Number of turns per game
+     */
+    private final int maxTurns;
+
+    /**
+     * Number of worker threads
+     */
+    private final int threads;
+
+    /**
+     * Constructs an analyzer for the default game with the original AI
+     * using all available processors.
+     */
+    public AbilityEffectivenessAnalyzer() {
+        this(SpawnProfile.defaultProfile(), new HeuristicPolicy(), GameManager.DEFAULT_MAX_TURNS,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs an analyzer.
+     *
+     * @param profile  The spawn profile of the boards
+     * @param policy   The policy of all penguins (must be thread-safe)
+     * @param maxTurns The number of turns per game
+     * @param threads  The number of worker threads
+     * @throws IllegalArgumentException if profile or policy is null, or a count is not positive
+     */
+    public AbilityEffectivenessAnalyzer(SpawnProfile profile, PenguinPolicy policy, int maxTurns, int threads) {
+        if (profile == null || policy == null) {
+            throw new IllegalArgumentException(
+                    "AbilityEffectivenessAnalyzer Error: Profile and policy cannot be null."
+            );
+        }
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException(
+                    "AbilityEffectivenessAnalyzer Error: Turn count must be positive. Received: " + maxTurns
+            );
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException(
+                    "AbilityEffectivenessAnalyzer Error: Thread count must be positive. Received: " + threads
+            );
+        }
+        this.profile = profile;
+        this.policy = policy;
+        this.maxTurns = maxTurns;
+        this.threads = threads;
+    }
+
+    /**
+     * Analyzes the requested number of boards.
+     *
+     * @param boards The number of boards
+     * @param seed   The seed (same seed, same result)
+     * @return The ability report
+     * @throws IllegalArgumentException if boards is not positive
+     */
+    public AbilityReport run(long boards, long seed) {
+        if (boards <= 0) {
+            throw new IllegalArgumentException(
+                    "AbilityEffectivenessAnalyzer Error: Board count must be positive. Received: " + boards
+            );
+        }
+
+        long chunks = (boards + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        AtomicLong nextChunk = new AtomicLong();
+        AtomicLong games = new AtomicLong();
+        long[] total = new long[AbilityReport.statLength(maxTurns)];
+        long start = System.nanoTime();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> simulate(boards, chunks, nextChunk, seed, games)));
+            }
+            for (Future<long[]> future : futures) {
+                long[] local = future.get();
+                for (int i = 0; i < total.length; i++) {
+                    total[i] += local[i];
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error during ability analysis", e);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        return new AbilityReport(maxTurns, total, boards, games.get(), elapsed, threads);
+    }
+
+    /**
+     * Worker loop: claims chunks and analyzes their boards on a terrain of
+     * its own.
+     *
+     * @param boards    The total number of boards
+     * @param chunks    The number of chunks
+     * @param nextChunk The shared chunk counter
+     * @param seed      The run seed
+     * @param games     The shared counter of played games
+     * @return The worker's accumulators
+     */
+    private long[] simulate(long boards, long chunks, AtomicLong nextChunk, long seed, AtomicLong games) {
+        IcyTerrain terrain = new IcyTerrain(profile, maxTurns);
+        AbilityProbe probe = new AbilityProbe(policy, maxTurns);
+        long[] stats = new long[AbilityReport.statLength(maxTurns)];
+        long played = 0;
+
+        boolean wasMuted = GameConsole.isMuted();
+        GameConsole.setMuted(true);
+        try {
+            long chunk;
+            while ((chunk = nextChunk.getAndIncrement()) < chunks) {
+                SplittableRandom rng = new SplittableRandom(mix(seed + chunk));
+                long end = Math.min(boards, (chunk + 1) * CHUNK_SIZE);
+                for (long b = chunk * CHUNK_SIZE; b < end; b++) {
+                    played += analyzeBoard(terrain, probe, rng.nextLong(), stats);
+                }
+            }
+        } finally {
+            RandUtil.setThreadGenerator(null);
+            GameConsole.setMuted(wasMuted);
+        }
+        games.addAndGet(played);
+        return stats;
+    }
+
+    /**
+     * Plays every arm of every penguin of one board and records the pairs.
+     * A board whose games fail is counted as failed and not recorded.
+     *
+     * @param terrain   The worker's terrain
+     * @param probe     The worker's probe policy
+     * @param boardSeed The seed of the board's random stream
+     * @param stats     The worker's accumulators
+     * @return The number of games played
+     */
+    private int analyzeBoard(IcyTerrain terrain, AbilityProbe probe, long boardSeed, long[] stats) {
+        int played = 0;
+        int penguins = profile.getPenguinCount();
+        long[] pairs = new long[AbilityReport.statLength(maxTurns)];
+
+        for (int focus = 0; focus < penguins; focus++) {
+            probe.configure(focus, AbilityProbe.NEVER, boardSeed);
+            GameResult baseline = play(terrain, probe, boardSeed);
+            played++;
+            if (baseline == null || focus >= baseline.getPenguins().size()) {
+                stats[AbilityReport.failedSlot(maxTurns)]++;
+                return played;
+            }
+            GameResult.PenguinResult without = baseline.getPenguins().get(focus);
+            int type = without.getType().ordinal();
+            boolean[] acted = probe.getActedTurns();
+
+            for (int arm = AbilityReport.POLICY_ARM; arm <= maxTurns; arm++) {
+                int slot = AbilityReport.slot(maxTurns, type, arm);
+                if (arm != AbilityReport.POLICY_ARM && !acted[arm]) {
+                    pairs[slot + AbilityReport.UNUSED]++;
+                    continue;
+                }
+
+                probe.configure(focus, arm == AbilityReport.POLICY_ARM ? AbilityProbe.POLICY : arm, boardSeed);
+                GameResult result = play(terrain, probe, boardSeed);
+                played++;
+                if (result == null) {
+                    stats[AbilityReport.failedSlot(maxTurns)]++;
+                    return played;
+                }
+                if (arm == AbilityReport.POLICY_ARM && !probe.isAbilityUsed()) {
+                    pairs[slot + AbilityReport.UNUSED]++;
+                }
+                recordPair(pairs, slot, result.getPenguins().get(focus).getScore(), without.getScore());
+            }
+        }
+
+        for (int i = 0; i < pairs.length; i++) {
+            stats[i] += pairs[i];
+        }
+        return played;
+    }
+
+    /**
+     * Plays one arm: the board is spawned and played from the board seed,
+     * so every arm starts from the same board and random stream.
+     *
+     * @param terrain   The worker's terrain
+     * @param probe     The configured probe policy
+     * @param boardSeed The seed of the board's random stream
+     * @return The result, or null if the engine failed
+     */
+    private static GameResult play(IcyTerrain terrain, AbilityProbe probe, long boardSeed) {
+        RandUtil.setThreadGenerator(new SplittableRandom(boardSeed));
+        try {
+            terrain.reset();
+            terrain.spawn();
+            return terrain.run(probe);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Adds one pair of games to a key.
+     *
+     * @param stats   The accumulators
+     * @param slot    The first slot of the key
+     * @param with    The penguin's score with the ability
+     * @param without The penguin's score without the ability
+     */
+    private static void recordPair(long[] stats, int slot, int with, int without) {
+        long delta = with - without;
+        stats[slot + AbilityReport.SAMPLES]++;
+        stats[slot + AbilityReport.DELTA] += delta;
+        stats[slot + AbilityReport.DELTA_SQ] += delta * delta;
+        stats[slot + AbilityReport.WITH] += with;
+        stats[slot + AbilityReport.WITH_SQ] += (long) with * with;
+        stats[slot + AbilityReport.WITHOUT] += without;
+        stats[slot + AbilityReport.WITHOUT_SQ] += (long) without * without;
+    }
+
+    /**
+     * Scrambles a seed so neighbouring chunk indices get unrelated streams.
+     *
+     * @param z The value to scramble
+     * @return The scrambled value
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    /**
+     * Policy wrapper that controls the ability use of one focus penguin.
+     * <p>
+     * The wrapped policy is always asked first, so it makes the same
+     * random draws in every arm; only its ability choice for the focus
+     * penguin is replaced. A Royal Penguin forced to use its ability on a
+     * turn the policy did not pick draws its step from a separate stream,
+     * leaving the game's stream untouched. A probe is owned by one worker.
+     */
+    private static final class AbilityProbe implements PenguinPolicy {
+        /**
+         * Mode: the focus penguin never uses its ability
+         */
+        private static final int NEVER = -1;
+
+        /**
+         * Mode: the wrapped policy decides
+         */
+        private static final int POLICY = 0;
+
+        /**
+         * The wrapped policy
+         */
+        private final PenguinPolicy base;
+
+        /**
+         * Turns on which the focus penguin acted in the last game
+         */
+        private final boolean[] acted;
+
+        /**
+         * Index of the focus penguin in turn order
+         */
+        private int focus;
+
+        /**
+         * NEVER, POLICY or the turn on which the ability is used
+         */
+        private int mode;
+
+        /**
+         * Whether the focus penguin used its ability in the last game
+         */
+        private boolean abilityUsed;
+
+        /**
+         * Stream of forced Royal steps
+         */
+        private SplittableRandom stepRng;
+
+        /**
+         * Constructs a probe.
+         *
+         * @param base     The wrapped policy
+         * @param maxTurns The number of turns per game
+         */
+        private AbilityProbe(PenguinPolicy base, int maxTurns) {
+            this.base = base;
+            this.acted = new boolean[maxTurns + 1];
+        }
+
+        /**
+         * Prepares the probe for the next game.
+         *
+         * @param focus     The index of the focus penguin
+         * @param mode      NEVER, POLICY or the turn of use
+         * @param boardSeed The seed of the board
+         */
+        private void configure(int focus, int mode, long boardSeed) {
+            this.focus = focus;
+            this.mode = mode;
+            this.abilityUsed = false;
+            this.stepRng = new SplittableRandom(mix(~boardSeed));
+            Arrays.fill(acted, false);
+        }
+
+        /**
+         * Gets the turns on which the focus penguin acted in the last game.
+         *
+         * @return The flags indexed by turn (index 0 is unused)
+         */
+        private boolean[] getActedTurns() {
+            return acted.clone();
+        }
+
+        /**
+         * Checks whether the focus penguin used its ability in the last game.
+         *
+         * @return true if the ability was used
+         */
+        private boolean isAbilityUsed() {
+            return abilityUsed;
+        }
+
+        /**
+         * Asks the wrapped policy, then applies the mode to the focus penguin.
+         *
+         * @param penguin The penguin about to act
+         * @param grid    The current grid (read only)
+         * @param context The turn context
+         * @return The decision
+         */
+        @Override
+        public TurnDecision decide(Penguin penguin, TerrainGrid grid, TurnContext context) {
+            TurnDecision decision = base.decide(penguin, grid, context);
+            if (context.getPenguins().indexOf(penguin) != focus) {
+                return decision;
+            }
+
+            int turn = context.getTurn();
+            acted[turn] = true;
+            boolean use = mode == POLICY
+                    ? decision.isUseAbility()
+                    : turn == mode && !penguin.isAbilityUsed();
+            abilityUsed |= use;
+
+            if (use == decision.isUseAbility()) {
+                return decision;
+            }
+            if (!use) {
+                return TurnDecision.slide(decision.getDirection());
+            }
+            if (penguin instanceof RoyalPenguin) {
+                return TurnDecision.royalStep(safeStep(penguin, grid), decision.getDirection());
+            }
+            return TurnDecision.withAbility(decision.getDirection());
+        }
+
+        /**
+         * Chooses a Royal Penguin step that leads neither onto a hazard nor
+         * into the water, like HeuristicPolicy, drawing from stepRng.
+         *
+         * @param p    The Royal Penguin
+         * @param grid The grid
+         * @return The step direction
+         */
+        private Direction safeStep(Penguin p, TerrainGrid grid) {
+            List<Direction> safeDirs = new ArrayList<>();
+            for (Direction d : Direction.values()) {
+                int nx = p.getPosition().getX();
+                int ny = p.getPosition().getY();
+                switch (d) {
+                    case UP -> ny--;
+                    case DOWN -> ny++;
+                    case LEFT -> nx--;
+                    case RIGHT -> nx++;
+                }
+                if (nx < 0 || ny < 0 || nx >= grid.getSize() || ny >= grid.getSize()) {
+                    continue;
+                }
+                if (!(grid.getObjectAt(new Position(nx, ny)) instanceof IHazard)) {
+                    safeDirs.add(d);
+                }
+            }
+
+            Direction[] all = Direction.values();
+            return safeDirs.isEmpty()
+                    ? all[stepRng.nextInt(all.length)]
+                    : safeDirs.get(stepRng.nextInt(safeDirs.size()));
+        }
+    }
+
+    /**
+     * Command-line entry point.
+     * <p>
+     * Usage: AbilityEffectivenessAnalyzer [boards] [seed] [threads] [csv file]
+     * <p>
+     * Example: AbilityEffectivenessAnalyzer 200000 42 16 abilities.csv
+     *
+     * @param args Command line arguments (all optional)
+     */
+    public static void main(String[] args) {
+        try {
+            long boards = args.length > 0 ? Long.parseLong(args[0]) : 100_000L;
+            long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+            int threads = args.length > 2 ? Integer.parseInt(args[2])
+                    : Runtime.getRuntime().availableProcessors();
+
+            AbilityEffectivenessAnalyzer analyzer = new AbilityEffectivenessAnalyzer(
+                    SpawnProfile.defaultProfile(), new HeuristicPolicy(), GameManager.DEFAULT_MAX_TURNS, threads);
+            AbilityReport report = analyzer.run(boards, seed);
+            System.out.print(report);
+
+            if (args.length > 3) {
+                report.writeCsv(Path.of(args[3]));
+                System.out.println("Wrote CSV to " + args[3]);
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Ability analysis failed.");
+            System.out.println("Reason: " + e.getMessage());
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error writing ability CSV", e);
+        }
+    }
+}
@@ -0,0 +1,399 @@
+package game.analysis;
+
+import enums.PenguinType;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Result of an AbilityEffectivenessAnalyzer run: the score gained by using
+ * the special ability, per penguin type and per turn of use.
+ * <p>
+ * Every sample is a pair of games on the same board and random stream
+ * that differ only in the ability use of one penguin. For each penguin
+ * type there is one key per arm:
+ * - POLICY_ARM - the penguin uses its ability when the policy wants to
+ * - turn t (1 to maxTurns) - the penguin uses its ability on turn t
+ * Each arm is compared with the same game in which the penguin never uses
+ * its ability.
+ * <p>
+ * All statistics live in one flat long array, like FairnessReport. Every
+ * key owns STAT_COUNT consecutive slots: samples, unused samples, and the
+ * sums and sums of squares of the score delta, the score with the ability
+ * and the score without it. The last slot counts failed boards. Merging
+ * per-thread results is a plain element-wise sum.
+ * <p>
+ * An arm at turn t is unused when the penguin could not act on turn t (it
+ * was eliminated or stunned); the pair would be two identical games, so it
+ * is left out of the mean. The POLICY_ARM is unused when the policy never
+ * used the ability; such pairs stay in the mean, since not using the
+ * ability is part of how the policy plays.
+ * <p>
+ * Deltas are reported with 95% confidence intervals. The variance
+ * reduction compares the variance of the paired delta with the variance
+ * of the difference of two independent games: naive sampling would need
+ * that many times more games for an interval of the same width.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class AbilityReport {
+    /**
+     * Arm of the games in which the policy decides when to use the ability
+     */
+    public static final int POLICY_ARM = 0;
+
+    /**
+     * Slot of the sample counter
+     */
+    public static final int SAMPLES = 0;
+
+    /**
+     * Slot of the unused sample counter
+     */
+    public static final int UNUSED = 1;
+
+    /**
+     * Slot of the score delta sum
+     */
+    public static final int DELTA = 2;
+
+    /**
+     * Slot of the squared score delta sum
+     */
+    public static final int DELTA_SQ = 3;
+
+    /**
+     * Slot of the score sum with the ability
+     */
+    public static final int WITH = 4;
+
+    /**
+     * Slot of the squared score sum with the ability
+     */
+    public static final int WITH_SQ = 5;
+
+    /**
+     * Slot of the score sum without the ability
+     */
+    public static final int WITHOUT = 6;
+
+    /**
+     * Slot of the squared score sum without the ability
+     */
+    public static final int WITHOUT_SQ = 7;
+
+    /**
+     * Number of slots per key
+     */
+    public static final int STAT_COUNT = 8;
+
+    /**
+     * z-value of a 95% confidence interval
+     */
+    private static final double Z_95 = 1.959964;
+
+    /**
+     * Number of turns of the analyzed games
+     */
+    private final int maxTurns;
+
+    /**
+     * The merged accumulators
+     */
+    private final long[] stats;
+
+    /**
+     * Number of boards analyzed
+     */
+    private final long boards;
+
+    /**
+     * Number of games played
+     */
+    private final long games;
+
+    /**
+     * Wall-clock duration of the run in nanoseconds
+     */
+    private final long elapsedNanos;
+
+    /**
+     * Number of worker threads used
+     */
+    private final int threads;
+
+    /**
+     * Constructs a report.
+     *
+     * @param maxTurns     The number of turns of the analyzed games
+     * @param stats        The merged accumulators (see the layout helpers)
+     * @param boards       The number of boards analyzed
+     * @param games        The number of games played
+     * @param elapsedNanos The run duration in nanoseconds
+     * @param threads      The number of worker threads
+     */
+    public AbilityReport(int maxTurns, long[] stats, long boards, long games, long elapsedNanos, int threads) {
+        this.maxTurns = maxTurns;
+        this.stats = stats;
+        this.boards = boards;
+        this.games = games;
+        this.elapsedNanos = elapsedNanos;
+        this.threads = threads;
+    }
+
+    // Layout helpers shared with AbilityEffectivenessAnalyzer
+
+    /**
+     * Gets the number of accumulator slots for a game length.
+     *
+     * @param maxTurns The number of turns
+     * @return The accumulator length
+     */
+    public static int statLength(int maxTurns) {
+        return PenguinType.values().length * (maxTurns + 1) * STAT_COUNT + 1;
+    }
+
+    /**
+     * Gets the first slot of a penguin type and arm.
+     *
+     * @param maxTurns The number of turns
+     * @param type     The PenguinType ordinal
+     * @param arm      POLICY_ARM or the turn of use (1 to maxTurns)
+     * @return The slot offset
+     */
+    public static int slot(int maxTurns, int type, int arm) {
+        return (type * (maxTurns + 1) + arm) * STAT_COUNT;
+    }
+
+    /**
+     * Gets the slot of the failed board counter.
+     *
+     * @param maxTurns The number of turns
+     * @return The slot offset
+     */
+    public static int failedSlot(int maxTurns) {
+        return statLength(maxTurns) - 1;
+    }
+
+    // Accessors
+
+    /**
+     * Gets a raw statistic.
+     *
+     * @param slot The first slot of a key (see slot())
+     * @param stat One of the slot constants
+     * @return The accumulated value
+     */
+    public long get(int slot, int stat) {
+        return stats[slot + stat];
+    }
+
+    /**
+     * Gets the number of samples of a type and arm.
+     *
+     * @param type The penguin type
+     * @param arm  POLICY_ARM or the turn of use
+     * @return The sample count
+     */
+    public long getSamples(PenguinType type, int arm) {
+        return stats[slot(maxTurns, type.ordinal(), arm) + SAMPLES];
+    }
+
+    /**
+     * Gets the mean score gained by using the ability.
+     *
+     * @param type The penguin type
+     * @param arm  POLICY_ARM or the turn of use
+     * @return The mean delta, or 0 if there are no samples
+     */
+    public double getMeanDelta(PenguinType type, int arm) {
+        int slot = slot(maxTurns, type.ordinal(), arm);
+        return mean(stats[slot + DELTA], stats[slot + SAMPLES]);
+    }
+
+    /**
+     * Gets the 95% confidence interval of the mean score delta.
+     *
+     * @param type The penguin type
+     * @param arm  POLICY_ARM or the turn of use
+     * @return {low, high}, or {NaN, NaN} with fewer than two samples
+     */
+    public double[] getDeltaInterval(PenguinType type, int arm) {
+        int slot = slot(maxTurns, type.ordinal(), arm);
+        long n = stats[slot + SAMPLES];
+        if (n < 2) {
+            return new double[]{Double.NaN, Double.NaN};
+        }
+        double m = mean(stats[slot + DELTA], n);
+        double half = Z_95 * Math.sqrt(variance(stats[slot + DELTA], stats[slot + DELTA_SQ], n) / n);
+        return new double[]{m - half, m + half};
+    }
+
+    /**
+     * Gets how many times more games naive (unpaired) sampling would need
+     * for a confidence interval of the same width.
+     *
+     * @param type The penguin type
+     * @param arm  POLICY_ARM or the turn of use
+     * @return The variance ratio, or NaN if it is undefined
+     */
+    public double getVarianceReduction(PenguinType type, int arm) {
+        int slot = slot(maxTurns, type.ordinal(), arm);
+        long n = stats[slot + SAMPLES];
+        double paired = variance(stats[slot + DELTA], stats[slot + DELTA_SQ], n);
+        double independent = variance(stats[slot + WITH], stats[slot + WITH_SQ], n)
+                + variance(stats[slot + WITHOUT], stats[slot + WITHOUT_SQ], n);
+        if (n < 2 || paired <= 0.0) {
+            return Double.NaN;
+        }
+        return independent / paired;
+    }
+
+    /**
+     * Gets the number of boards analyzed.
+     *
+     * @return The board count
+     */
+    public long getBoards() {
+        return boards;
+    }
+
+    /**
+     * Gets the number of games played.
+     *
+     * @return The game count
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of boards whose games failed with an engine error.
+     *
+     * @return The failed board count
+     */
+    public long getFailedBoards() {
+        return stats[failedSlot(maxTurns)];
+    }
+
+    /**
+     * Gets the number of turns of the analyzed games.
+     *
+     * @return The turn count
+     */
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    /**
+     * Gets the simulation throughput.
+     *
+     * @return Games per second
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : games * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Computes a mean.
+     *
+     * @param sum The sum
+     * @param n   The number of values
+     * @return The mean, or 0 if n is 0
+     */
+    private static double mean(long sum, long n) {
+        return n == 0 ? 0.0 : (double) sum / n;
+    }
+
+    /**
+     * Computes a sample variance from a sum and a sum of squares.
+     *
+     * @param sum   The sum
+     * @param sumSq The sum of squares
+     * @param n     The number of values
+     * @return The variance, or 0 with fewer than two values
+     */
+    private static double variance(long sum, long sumSq, long n) {
+        if (n < 2) {
+            return 0.0;
+        }
+        double m = (double) sum / n;
+        return Math.max(0.0, (sumSq - m * sum) / (n - 1));
+    }
+
+    /**
+     * Gets the display name of an arm.
+     *
+     * @param arm POLICY_ARM or the turn of use
+     * @return The arm name
+     */
+    private static String armName(int arm) {
+        return arm == POLICY_ARM ? "Policy" : "Turn " + arm;
+    }
+
+    /**
+     * Writes every type and arm as one CSV row.
+     *
+     * @param path The output file
+     * @throws IOException if writing fails
+     */
+    public void writeCsv(Path path) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(path)) {
+            out.write("type,arm,samples,unused,mean_delta,ci_low,ci_high,mean_with,mean_without,variance_reduction");
+            out.newLine();
+            for (PenguinType type : PenguinType.values()) {
+                for (int arm = 0; arm <= maxTurns; arm++) {
+                    int slot = slot(maxTurns, type.ordinal(), arm);
+                    long n = stats[slot + SAMPLES];
+                    double[] ci = getDeltaInterval(type, arm);
+                    out.write(String.format(Locale.ROOT, "%s,%s,%d,%d,%.6f,%.6f,%.6f,%.6f,%.6f,%.6f",
+                            type.name(), arm == POLICY_ARM ? "policy" : String.valueOf(arm), n,
+                            stats[slot + UNUSED], getMeanDelta(type, arm), ci[0], ci[1],
+                            mean(stats[slot + WITH], n), mean(stats[slot + WITHOUT], n),
+                            getVarianceReduction(type, arm)));
+                    out.newLine();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the delta table of every penguin type.
+     *
+     * @return The formatted report
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Analyzed %d boards (%d games, %d-turn games) in %.3f s on %d threads%n",
+                boards, games, maxTurns, elapsedNanos / 1e9, threads));
+        sb.append(String.format("  |---> Throughput: %.0f games/s%n", getGamesPerSecond()));
+        if (getFailedBoards() > 0) {
+            sb.append(String.format("  |---> Failed boards: %d (engine errors, left out)%n", getFailedBoards()));
+        }
+        sb.append("  |---> Delta = score with the ability - score of the same game without it\n");
+        sb.append("  |---> Unused = penguin could not act on that turn (Policy: never used it)\n");
+
+        for (PenguinType type : PenguinType.values()) {
+            sb.append(String.format("%n%s:%n", type.getDisplayName()));
+            sb.append(String.format("  %-8s %10s %8s %8s  %-18s %8s %8s %8s%n",
+                    "Use", "Samples", "Unused", "Delta", "95% CI", "With", "Without", "VR"));
+            for (int arm = 0; arm <= maxTurns; arm++) {
+                int slot = slot(maxTurns, type.ordinal(), arm);
+                long n = stats[slot + SAMPLES];
+                double[] ci = getDeltaInterval(type, arm);
+                double reduction = getVarianceReduction(type, arm);
+                sb.append(String.format("  %-8s %10d %8d %+8.3f  [%+7.3f, %+7.3f] %8.3f %8.3f %8s%n",
+                        armName(arm), n, stats[slot + UNUSED], getMeanDelta(type, arm), ci[0], ci[1],
+                        mean(stats[slot + WITH], n), mean(stats[slot + WITHOUT], n),
+                        Double.isNaN(reduction) ? "-" : String.format("%.1fx", reduction)));
+            }
+        }
+        return sb.toString();
+    }
+}
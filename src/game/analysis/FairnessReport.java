@@ -0,0 +1,384 @@
+package game.analysis;
+
+import enums.PenguinType;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Result of a SpawnFairnessAnalyzer run: win statistics per spawn cell,
+ * spawn edge, penguin type and turn order.
+ * <p>
+ * All statistics live in one flat long array. Every key (a cell, an edge,
+ * a type or a turn position) owns STAT_COUNT consecutive slots:
+ * games played, sole wins, shared wins (top score tied) and total score.
+ * The same layout is used by the analyzer's per-thread accumulators, so
+ * merging results is a plain element-wise sum.
+ * <p>
+ * Win rates are reported with 95% Wilson score intervals, which stay
+ * inside [0, 1] and behave well for rare spawn cells.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class FairnessReport {
+    /**
+     * Slot of the games counter
+     */
+    public static final int GAMES = 0;
+
+    /**
+     * Slot of the sole-win counter
+     */
+    public static final int WINS = 1;
+
+    /**
+     * Slot of the shared-win counter
+     */
+    public static final int TIES = 2;
+
+    /**
+     * Slot of the score sum
+     */
+    public static final int SCORE = 3;
+
+    /**
+     * Number of slots per key
+     */
+    public static final int STAT_COUNT = 4;
+
+    /**
+     * Names of the spawn edge groups (corners belong to two edges and are kept apart)
+     */
+    public static final String[] EDGE_NAMES = {"Top", "Bottom", "Left", "Right", "Corner"};
+
+    /**
+     * z-value of a 95% confidence interval
+     */
+    private static final double Z_95 = 1.959964;
+
+    /**
+     * Board size of the simulated games
+     */
+    private final int boardSize;
+
+    /**
+     * Number of penguins per game
+     */
+    private final int penguins;
+
+    /**
+     * The merged accumulators
+     */
+    private final long[] stats;
+
+    /**
+     * Number of games played
+     */
+    private final long games;
+
+    /**
+     * Wall-clock duration of the run in nanoseconds
+     */
+    private final long elapsedNanos;
+
+    /**
+     * Number of worker threads used
+     */
+    private final int threads;
+
+    /**
+     * Constructs a report.
+     *
+     * @param boardSize    The board size
+     * @param penguins     The number of penguins per game
+     * @param stats        The merged accumulators (see the layout helpers)
+     * @param games        The number of games played
+     * @param elapsedNanos The run duration in nanoseconds
+     * @param threads      The number of worker threads
+     */
+    public FairnessReport(int boardSize, int penguins, long[] stats, long games,
+                          long elapsedNanos, int threads) {
+        this.boardSize = boardSize;
+        this.penguins = penguins;
+        this.stats = stats;
+        this.games = games;
+        this.elapsedNanos = elapsedNanos;
+        this.threads = threads;
+    }
+
+    // Layout helpers shared with SpawnFairnessAnalyzer
+
+    /**
+     * Gets the number of accumulator slots for a board.
+     *
+     * @param boardSize The board size
+     * @param penguins  The number of penguins per game
+     * @return The accumulator length
+     */
+    public static int statLength(int boardSize, int penguins) {
+        return (boardSize * boardSize + EDGE_NAMES.length + PenguinType.values().length + penguins) * STAT_COUNT;
+    }
+
+    /**
+     * Gets the first slot of a spawn cell.
+     *
+     * @param cell The cell index (y * size + x)
+     * @return The slot offset
+     */
+    public static int cellSlot(int cell) {
+        return cell * STAT_COUNT;
+    }
+
+    /**
+     * Gets the first slot of a spawn edge group.
+     *
+     * @param boardSize The board size
+     * @param edge      The index into EDGE_NAMES
+     * @return The slot offset
+     */
+    public static int edgeSlot(int boardSize, int edge) {
+        return (boardSize * boardSize + edge) * STAT_COUNT;
+    }
+
+    /**
+     * Gets the first slot of a penguin type.
+     *
+     * @param boardSize The board size
+     * @param type      The PenguinType ordinal
+     * @return The slot offset
+     */
+    public static int typeSlot(int boardSize, int type) {
+        return (boardSize * boardSize + EDGE_NAMES.length + type) * STAT_COUNT;
+    }
+
+    /**
+     * Gets the first slot of a turn position.
+     *
+     * @param boardSize The board size
+     * @param order     The turn position (0 for P1)
+     * @return The slot offset
+     */
+    public static int orderSlot(int boardSize, int order) {
+        return (boardSize * boardSize + EDGE_NAMES.length + PenguinType.values().length + order) * STAT_COUNT;
+    }
+
+    /**
+     * Classifies an edge cell into a spawn edge group.
+     *
+     * @param boardSize The board size
+     * @param cell      The cell index
+     * @return The index into EDGE_NAMES
+     */
+    public static int edgeOf(int boardSize, int cell) {
+        int x = cell % boardSize;
+        int y = cell / boardSize;
+        boolean vertical = x == 0 || x == boardSize - 1;
+        boolean horizontal = y == 0 || y == boardSize - 1;
+        if (vertical && horizontal) {
+            return 4;
+        }
+        if (y == 0) {
+            return 0;
+        }
+        if (y == boardSize - 1) {
+            return 1;
+        }
+        return (x == 0) ? 2 : 3;
+    }
+
+    /**
+     * Computes the 95% Wilson score interval of a proportion.
+     *
+     * @param successes The number of successes
+     * @param trials    The number of trials
+     * @return {low, high}, or {0, 1} if there were no trials
+     */
+    public static double[] wilson(long successes, long trials) {
+        if (trials <= 0) {
+            return new double[]{0.0, 1.0};
+        }
+        double n = trials;
+        double p = successes / n;
+        double z2 = Z_95 * Z_95;
+        double denominator = 1 + z2 / n;
+        double center = (p + z2 / (2 * n)) / denominator;
+        double half = Z_95 * Math.sqrt(p * (1 - p) / n + z2 / (4 * n * n)) / denominator;
+        return new double[]{Math.max(0.0, center - half), Math.min(1.0, center + half)};
+    }
+
+    // Accessors
+
+    /**
+     * Gets a raw statistic.
+     *
+     * @param slot The first slot of a key (see the layout helpers)
+     * @param stat GAMES, WINS, TIES or SCORE
+     * @return The accumulated value
+     */
+    public long get(int slot, int stat) {
+        return stats[slot + stat];
+    }
+
+    /**
+     * Gets the sole-win rate of a key.
+     *
+     * @param slot The first slot of the key
+     * @return Wins per game, or 0 if the key never occurred
+     */
+    public double getWinRate(int slot) {
+        long n = stats[slot + GAMES];
+        return n == 0 ? 0.0 : (double) stats[slot + WINS] / n;
+    }
+
+    /**
+     * Gets the number of games played.
+     *
+     * @return The game count
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the simulation throughput.
+     *
+     * @return Games per second
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : games * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Gets the board size of the simulated games.
+     *
+     * @return The board size
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Writes every key as one CSV row.
+     *
+     * @param path The output file
+     * @throws IOException if writing fails
+     */
+    public void writeCsv(Path path) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(path)) {
+            out.write("group,key,games,wins,ties,score_sum,win_rate,ci_low,ci_high");
+            out.newLine();
+            for (int cell = 0; cell < boardSize * boardSize; cell++) {
+                if (stats[cellSlot(cell) + GAMES] > 0) {
+                    writeCsvRow(out, "cell", (cell % boardSize) + ":" + (cell / boardSize), cellSlot(cell));
+                }
+            }
+            for (int e = 0; e < EDGE_NAMES.length; e++) {
+                writeCsvRow(out, "edge", EDGE_NAMES[e], edgeSlot(boardSize, e));
+            }
+            for (PenguinType type : PenguinType.values()) {
+                writeCsvRow(out, "type", type.name(), typeSlot(boardSize, type.ordinal()));
+            }
+            for (int o = 0; o < penguins; o++) {
+                writeCsvRow(out, "order", "P" + (o + 1), orderSlot(boardSize, o));
+            }
+        }
+    }
+
+    /**
+     * Writes one CSV row.
+     *
+     * @param out   The writer
+     * @param group The key group
+     * @param key   The key name
+     * @param slot  The first slot of the key
+     * @throws IOException if writing fails
+     */
+    private void writeCsvRow(BufferedWriter out, String group, String key, int slot) throws IOException {
+        double[] ci = wilson(stats[slot + WINS], stats[slot + GAMES]);
+        out.write(String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%d,%.6f,%.6f,%.6f",
+                group, key, stats[slot + GAMES], stats[slot + WINS], stats[slot + TIES],
+                stats[slot + SCORE], getWinRate(slot), ci[0], ci[1]));
+        out.newLine();
+    }
+
+    /**
+     * Appends one table row.
+     *
+     * @param sb   The builder
+     * @param name The key name
+     * @param slot The first slot of the key
+     */
+    private void appendRow(StringBuilder sb, String name, int slot) {
+        long n = stats[slot + GAMES];
+        double[] ci = wilson(stats[slot + WINS], n);
+        sb.append(String.format("  %-12s %12d %7.2f%%  [%6.2f%%, %6.2f%%] %7.2f%% %9.3f%n",
+                name, n, getWinRate(slot) * 100, ci[0] * 100, ci[1] * 100,
+                n == 0 ? 0.0 : 100.0 * stats[slot + TIES] / n,
+                n == 0 ? 0.0 : (double) stats[slot + SCORE] / n));
+    }
+
+    /**
+     * Appends a table header.
+     *
+     * @param sb    The builder
+     * @param title The table title
+     */
+    private void appendHeader(StringBuilder sb, String title) {
+        sb.append(String.format("%n%s%n", title));
+        sb.append(String.format("  %-12s %12s %8s  %-18s %8s %9s%n",
+                "Key", "Games", "Win", "95% CI", "Tie", "Avg score"));
+    }
+
+    /**
+     * Returns the fairness tables.
+     *
+     * @return The formatted report
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Simulated %d games on a %dx%d board with %d penguins in %.3f s on %d threads%n",
+                games, boardSize, boardSize, penguins, elapsedNanos / 1e9, threads));
+        sb.append(String.format("  |---> Throughput: %.0f games/s%n", getGamesPerSecond()));
+        sb.append("  |---> Win = sole highest score; Tie = highest score shared with another penguin\n");
+
+        appendHeader(sb, "By turn order:");
+        for (int o = 0; o < penguins; o++) {
+            appendRow(sb, "P" + (o + 1), orderSlot(boardSize, o));
+        }
+
+        appendHeader(sb, "By penguin type:");
+        for (PenguinType type : PenguinType.values()) {
+            appendRow(sb, type.getDisplayName(), typeSlot(boardSize, type.ordinal()));
+        }
+
+        appendHeader(sb, "By spawn edge:");
+        for (int e = 0; e < EDGE_NAMES.length; e++) {
+            appendRow(sb, EDGE_NAMES[e], edgeSlot(boardSize, e));
+        }
+
+        appendHeader(sb, "By spawn cell (x,y):");
+        for (int cell = 0; cell < boardSize * boardSize; cell++) {
+            if (stats[cellSlot(cell) + GAMES] > 0) {
+                appendRow(sb, "(" + (cell % boardSize) + "," + (cell / boardSize) + ")", cellSlot(cell));
+            }
+        }
+
+        sb.append(String.format("%nWin rate by spawn cell (%%):%n"));
+        for (int y = 0; y < boardSize; y++) {
+            for (int x = 0; x < boardSize; x++) {
+                int slot = cellSlot(y * boardSize + x);
+                sb.append(stats[slot + GAMES] > 0
+                        ? String.format("%6.1f", getWinRate(slot) * 100)
+                        : "     .");
+            }
+            sb.append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+}
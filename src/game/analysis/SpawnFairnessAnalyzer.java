@@ -0,0 +1,268 @@
+package game.analysis;
+
+import enums.PenguinType;
+import game.sim.FastBoard;
+import game.sim.FastGame;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Measures how spawn position, penguin type and turn order affect the
+ * chance of winning, by playing millions of AI-vs-AI games.
+ * <p>
+ * Every game spawns a random board with the ObjectSpawner rules, plays it
+ * to the end with FastGame, and credits each penguin's spawn cell, spawn
+ * edge, type and turn position with one game, a sole win or a shared win,
+ * and its score.
+ * <p>
+ * Games are handed out in fixed-size chunks. Each chunk draws from its own
+ * random stream derived from the seed and the chunk index, so a run gives
+ * the same result for the same seed on any number of threads. Workers
+ * count into their own primitive long arrays and the arrays are summed
+ * once at the end, so the hot loop never touches shared memory.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class SpawnFairnessAnalyzer {
+    private static final Logger LOGGER = Logger.getLogger(SpawnFairnessAnalyzer.class.getName());
+
+    /**
+     * Number of games per work chunk
+     */
+    private static final int CHUNK_SIZE = 8192;
+
+    /**
+     * Width and height of the simulated board
+     */
+    private final int boardSize;
+
+    /**
+     * Number of penguins per game
+     */
+    private final int penguins;
+
+    /**
+     * Number of hazards per game
+     */
+    private final int hazards;
+
+    /**
+     * Number of food items per game
+     */
+    private final int food;
+
+    /**
+     * Number of worker threads
+     */
+    private final int threads;
+
+    /**
+     * Constructs an analyzer for the default game (10x10, 3 penguins, 15 hazards,
+     * 20 food) using all available processors.
+     */
+    public SpawnFairnessAnalyzer() {
+        this(10, FastBoard.DEFAULT_PENGUINS, 15, 20, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs an analyzer.
+     *
+     * @param boardSize The board size
+     * @param penguins  The number of penguins per game
+     * @param hazards   The number of hazards per game
+     * @param food      The number of food items per game
+     * @param threads   The number of worker threads
+     * @throws IllegalArgumentException if a count is invalid or the objects do not fit
+     */
+    public SpawnFairnessAnalyzer(int boardSize, int penguins, int hazards, int food, int threads) {
+        if (boardSize < 2 || penguins <= 0 || hazards < 0 || food < 0) {
+            throw new IllegalArgumentException(
+                    "SpawnFairnessAnalyzer Error: Invalid board setup " + boardSize + "x" + boardSize +
+                            " with " + penguins + " penguins, " + hazards + " hazards, " + food + " food."
+            );
+        }
+        if (penguins > 4 * (boardSize - 1) || penguins + hazards + food > boardSize * boardSize) {
+            throw new IllegalArgumentException(
+                    "SpawnFairnessAnalyzer Error: The objects do not fit on a " +
+                            boardSize + "x" + boardSize + " board."
+            );
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException(
+                    "SpawnFairnessAnalyzer Error: Thread count must be positive. Received: " + threads
+            );
+        }
+
+        this.boardSize = boardSize;
+        this.penguins = penguins;
+        this.hazards = hazards;
+        this.food = food;
+        this.threads = threads;
+    }
+
+    /**
+     * Plays the requested number of games and aggregates the statistics.
+     *
+     * @param games The number of games to play
+     * @param seed  The seed (same seed, same result)
+     * @return The fairness report
+     * @throws IllegalArgumentException if games is not positive
+     */
+    public FairnessReport run(long games, long seed) {
+        if (games <= 0) {
+            throw new IllegalArgumentException(
+                    "SpawnFairnessAnalyzer Error: Game count must be positive. Received: " + games
+            );
+        }
+
+        long chunks = (games + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        AtomicLong nextChunk = new AtomicLong();
+        long[] total = new long[FairnessReport.statLength(boardSize, penguins)];
+        long start = System.nanoTime();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> simulate(games, chunks, nextChunk, seed)));
+            }
+            for (Future<long[]> future : futures) {
+                long[] local = future.get();
+                for (int i = 0; i < total.length; i++) {
+                    total[i] += local[i];
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error during fairness simulation", e);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        return new FairnessReport(boardSize, penguins, total, games, elapsed, threads);
+    }
+
+    /**
+     * Worker loop: claims chunks and plays their games on thread-owned state.
+     *
+     * @param games     The total number of games
+     * @param chunks    The number of chunks
+     * @param nextChunk The shared chunk counter
+     * @param seed      The run seed
+     * @return The worker's accumulators
+     */
+    private long[] simulate(long games, long chunks, AtomicLong nextChunk, long seed) {
+        FastBoard board = new FastBoard(boardSize, penguins);
+        FastGame game = new FastGame(board);
+        long[] stats = new long[FairnessReport.statLength(boardSize, penguins)];
+        int[] spawnCells = new int[penguins];
+        int typeCount = PenguinType.values().length;
+        int[] typeSlots = new int[typeCount];
+        for (int type = 0; type < typeCount; type++) {
+            typeSlots[type] = FairnessReport.typeSlot(boardSize, type);
+        }
+
+        long chunk;
+        while ((chunk = nextChunk.getAndIncrement()) < chunks) {
+            SplittableRandom rng = new SplittableRandom(mix(seed + chunk));
+            long end = Math.min(games, (chunk + 1) * CHUNK_SIZE);
+
+            for (long g = chunk * CHUNK_SIZE; g < end; g++) {
+                board.spawnRandom(rng, penguins, hazards, food);
+                for (int p = 0; p < penguins; p++) {
+                    spawnCells[p] = board.getPenguinCell(p);
+                }
+
+                game.play(rng);
+
+                int winner = game.getWinner();
+                int topScore = game.getTopScore();
+                for (int p = 0; p < penguins; p++) {
+                    int score = board.getScore(p);
+                    int win = (p == winner) ? 1 : 0;
+                    int tie = (winner < 0 && score == topScore) ? 1 : 0;
+
+                    record(stats, FairnessReport.cellSlot(spawnCells[p]), win, tie, score);
+                    record(stats, FairnessReport.edgeSlot(boardSize,
+                            FairnessReport.edgeOf(boardSize, spawnCells[p])), win, tie, score);
+                    record(stats, typeSlots[board.getPenguinType(p).ordinal()], win, tie, score);
+                    record(stats, FairnessReport.orderSlot(boardSize, p), win, tie, score);
+                }
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Adds one game to a key.
+     *
+     * @param stats The accumulators
+     * @param slot  The first slot of the key
+     * @param win   1 for a sole win
+     * @param tie   1 for a shared win
+     * @param score The penguin's score
+     */
+    private static void record(long[] stats, int slot, int win, int tie, int score) {
+        stats[slot + FairnessReport.GAMES]++;
+        stats[slot + FairnessReport.WINS] += win;
+        stats[slot + FairnessReport.TIES] += tie;
+        stats[slot + FairnessReport.SCORE] += score;
+    }
+
+    /**
+     * Scrambles a seed so neighbouring chunk indices get unrelated streams.
+     *
+     * @param z The value to scramble
+     * @return The scrambled value
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    /**
+     * Command-line entry point.
+     * <p>
+     * Usage: SpawnFairnessAnalyzer [games] [seed] [threads] [csv file]
+     * <p>
+     * Example: SpawnFairnessAnalyzer 10000000 42 16 fairness.csv
+     *
+     * @param args Command line arguments (all optional)
+     */
+    public static void main(String[] args) {
+        try {
+            long games = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+            long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+            int threads = args.length > 2 ? Integer.parseInt(args[2])
+                    : Runtime.getRuntime().availableProcessors();
+
+            SpawnFairnessAnalyzer analyzer = new SpawnFairnessAnalyzer(
+                    10, FastBoard.DEFAULT_PENGUINS, 15, 20, threads);
+            FairnessReport report = analyzer.run(games, seed);
+            System.out.print(report);
+
+            if (args.length > 3) {
+                report.writeCsv(Path.of(args[3]));
+                System.out.println("Wrote CSV to " + args[3]);
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Fairness analysis failed.");
+            System.out.println("Reason: " + e.getMessage());
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error writing fairness CSV", e);
+        }
+    }
+}
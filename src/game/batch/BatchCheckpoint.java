@@ -0,0 +1,333 @@
+package game.batch;
+
+import game.stats.CellHeatmap;
+import game.stats.GameSketches;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Saved progress of a TournamentRunner batch.
+ * <p>
+ * A batch plays games in index order, in segments; after each segment
+ * every game below nextGame is finished and counted in the stats, the
+ * sketches and the heatmap (if the run records one). Game i draws from its own random stream seeded from the base
+ * seed and i, so the base seed and nextGame are all that is needed to
+ * restore the random state: no generator position has to be stored.
+ * <p>
+ * save() writes the checkpoint to a temporary file next to the target,
+ * forces it to the disk and then moves it over the target, atomically
+ * where the file system allows it. A killed JVM or a power loss therefore
+ * leaves either the previous or the new checkpoint, never a partly written
+ * one.
+ * <p>
+ * A checkpoint also stores the identity of its run (see
+ * TournamentRunner.getIdentity()), so a resume with another profile or
+ * policy is rejected instead of mixing incompatible statistics.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class BatchCheckpoint {
+    /**
+     * File signature ("TCKP")
+     */
+    private static final int MAGIC = 0x54434B50;
+
+    /**
+     * File format version
+     */
+    private static final int VERSION = 4;
+
+    /**
+     * Seed of the whole run
+     */
+    private final long baseSeed;
+
+    /**
+     * Total number of games of the run
+     */
+    private final long totalGames;
+
+    /**
+     * Index of the first game that is not finished yet
+     */
+    private final long nextGame;
+
+    /**
+     * Identity of the run (profile rules and policy), used to reject a mismatched resume
+     */
+    private final String identity;
+
+    /**
+     * Time spent on the run so far in nanoseconds
+     */
+    private final long elapsedNanos;
+
+    /**
+     * The counters of games [0, nextGame)
+     */
+    private final TournamentStats stats;
+
+    /**
+     * The sketches of games [0, nextGame)
+     */
+    private final GameSketches sketches;
+
+    /**
+     * The heatmap of games [0, nextGame), or null if the run records none
+     */
+    private final CellHeatmap heatmap;
+
+    /**
+     * Constructs a checkpoint.
+     *
+     * @param baseSeed     The seed of the run
+     * @param totalGames   The total number of games
+     * @param nextGame     The index of the first unfinished game
+     * @param identity     The identity of the run
+     * @param elapsedNanos The time spent so far
+     * @param stats        The counters of the finished games
+     * @param sketches     The sketches of the finished games
+     * @param heatmap      The heatmap of the finished games, or null
+     * @throws IllegalArgumentException if a value is invalid
+     */
+    public BatchCheckpoint(long baseSeed, long totalGames, long nextGame, String identity, long elapsedNanos,
+                           TournamentStats stats, GameSketches sketches, CellHeatmap heatmap) {
+        if (totalGames < 0 || nextGame < 0 || nextGame > totalGames) {
+            throw new IllegalArgumentException(
+                    "BatchCheckpoint Error: Invalid progress " + nextGame + " of " + totalGames + " games."
+            );
+        }
+        if (identity == null || stats == null || sketches == null) {
+            throw new IllegalArgumentException(
+                    "BatchCheckpoint Error: Identity, stats and sketches cannot be null."
+            );
+        }
+        this.baseSeed = baseSeed;
+        this.totalGames = totalGames;
+        this.nextGame = nextGame;
+        this.identity = identity;
+        this.elapsedNanos = elapsedNanos;
+        this.stats = stats;
+        this.sketches = sketches;
+        this.heatmap = heatmap;
+    }
+
+    /**
+     * Writes the checkpoint to a stream.
+     *
+     * @param out The output stream
+     * @throws IOException if writing fails
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.writeInt(MAGIC);
+        dataOut.writeByte(VERSION);
+        dataOut.writeLong(baseSeed);
+        dataOut.writeLong(totalGames);
+        dataOut.writeLong(nextGame);
+        dataOut.writeUTF(identity);
+        dataOut.writeLong(elapsedNanos);
+        dataOut.writeInt(stats.getPenguins());
+
+        long[] counters = stats.toArray();
+        dataOut.writeInt(counters.length);
+        for (long counter : counters) {
+            dataOut.writeLong(counter);
+        }
+        sketches.write(dataOut);
+        dataOut.writeBoolean(heatmap != null);
+        if (heatmap != null) {
+            heatmap.write(dataOut);
+        }
+        dataOut.flush();
+    }
+
+    /**
+     * Reads a checkpoint from a stream.
+     *
+     * @param in The input stream
+     * @return The checkpoint
+     * @throws IOException if reading fails or the data is not a checkpoint
+     */
+    public static BatchCheckpoint read(InputStream in) throws IOException {
+        DataInputStream dataIn = new DataInputStream(in);
+        if (dataIn.readInt() != MAGIC) {
+            throw new IOException("BatchCheckpoint Error: Not a checkpoint file.");
+        }
+        int version = dataIn.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("BatchCheckpoint Error: Unsupported checkpoint version " + version + ".");
+        }
+
+        long baseSeed = dataIn.readLong();
+        long totalGames = dataIn.readLong();
+        long nextGame = dataIn.readLong();
+        String identity = dataIn.readUTF();
+        long elapsedNanos = dataIn.readLong();
+        int penguins = dataIn.readInt();
+        if (penguins <= 0) {
+            throw new IOException("BatchCheckpoint Error: Corrupt checkpoint header.");
+        }
+
+        TournamentStats stats = new TournamentStats(penguins);
+        long[] counters = new long[dataIn.readInt()];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = dataIn.readLong();
+        }
+        GameSketches sketches = new GameSketches();
+        sketches.readAndMerge(dataIn);
+        CellHeatmap heatmap = dataIn.readBoolean() ? CellHeatmap.read(dataIn) : null;
+
+        try {
+            stats.addArray(counters);
+            return new BatchCheckpoint(baseSeed, totalGames, nextGame, identity, elapsedNanos, stats, sketches,
+                    heatmap);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("BatchCheckpoint Error: Corrupt checkpoint. " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Saves the checkpoint, replacing the previous one atomically. The data
+     * reaches the disk before the move, so the move never replaces the
+     * previous checkpoint with a file whose contents were not written yet.
+     *
+     * @param path The checkpoint file
+     * @throws IOException if writing fails
+     */
+    public void save(Path path) throws IOException {
+        Path target = path.toAbsolutePath();
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            write(out);
+            out.flush();
+            channel.force(true);
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Loads a checkpoint from a file.
+     *
+     * @param path The checkpoint file
+     * @return The checkpoint
+     * @throws IOException if reading fails or the file is not a checkpoint
+     */
+    public static BatchCheckpoint load(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Gets the seed of the run.
+     *
+     * @return The base seed
+     */
+    public long getBaseSeed() {
+        return baseSeed;
+    }
+
+    /**
+     * Gets the total number of games of the run.
+     *
+     * @return The game count
+     */
+    public long getTotalGames() {
+        return totalGames;
+    }
+
+    /**
+     * Gets the index of the first unfinished game.
+     *
+     * @return The next game index
+     */
+    public long getNextGame() {
+        return nextGame;
+    }
+
+    /**
+     * Gets the identity of the run: the rules of its spawn profile and its policy.
+     *
+     * @return The identity
+     */
+    public String getIdentity() {
+        return identity;
+    }
+
+    /**
+     * Gets the time spent on the run so far.
+     *
+     * @return The elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the counters of the finished games.
+     *
+     * @return The statistics
+     */
+    public TournamentStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Gets the sketches of the finished games.
+     *
+     * @return The sketches
+     */
+    public GameSketches getSketches() {
+        return sketches;
+    }
+
+    /**
+     * Gets the heatmap of the finished games.
+     *
+     * @return The heatmap, or null if the run records none
+     */
+    public CellHeatmap getHeatmap() {
+        return heatmap;
+    }
+
+    /**
+     * Checks whether every game of the run is finished.
+     *
+     * @return true if nextGame equals the total game count
+     */
+    public boolean isComplete() {
+        return nextGame == totalGames;
+    }
+
+    /**
+     * Returns a string representation of this checkpoint.
+     *
+     * @return A descriptive string
+     */
+    @Override
+    public String toString() {
+        return "BatchCheckpoint [" + nextGame + "/" + totalGames + " games, seed=" + baseSeed + ", " + identity + "]";
+    }
+}
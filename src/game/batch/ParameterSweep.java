@@ -0,0 +1,554 @@
+package game.batch;
+
+import enums.PenguinType;
+import game.GameManager;
+import game.IcyTerrain;
+import game.SpawnProfile;
+import game.ai.HeuristicPolicy;
+import game.util.GameConsole;
+import game.util.RandUtil;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Plays a fixed number of headless games for every combination of a
+ * SweepSpace (turns, board size, object counts, AI ability chance) on all
+ * cores and streams one CSV row of aggregated metrics per combination.
+ * <p>
+ * Scheduling: worker threads pull chunks of games from a shared scheduler.
+ * The first chunk of a combination is a small probe; once its cost per
+ * game is known, chunks are sized to take about TARGET_CHUNK_NANOS, so a
+ * cheap 8x8 game is handed out in large chunks and an expensive large
+ * board in small ones. Near the end of the sweep chunks shrink further so
+ * that all threads finish at about the same time. Combinations are handed
+ * out in order, so their rows are written as soon as they are complete
+ * instead of at the end of the sweep.
+ * <p>
+ * Game g of combination c always uses the same random stream, so the
+ * metrics of a combination do not depend on chunking or thread count.
+ * Combinations whose objects do not fit on the board are written with a
+ * note and no games.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class ParameterSweep {
+    private static final Logger LOGGER = Logger.getLogger(ParameterSweep.class.getName());
+
+    /**
+     * CSV header of the results file
+     */
+    public static final String CSV_HEADER = SweepPoint.CSV_HEADER
+            + ",games,failed,avg_actions,elimination_rate,tie_rate,avg_top_score,avg_score,"
+            + "first_win_rate,last_win_rate,type_win_spread,us_per_game,note";
+
+    /**
+     * Games of the first chunk of a combination, used to measure its cost
+     */
+    private static final int PROBE_GAMES = 16;
+
+    /**
+     * Desired duration of one chunk
+     */
+    private static final long TARGET_CHUNK_NANOS = 50_000_000L;
+
+    /**
+     * Largest chunk handed out
+     */
+    private static final int MAX_CHUNK_GAMES = 1 << 16;
+
+    /**
+     * The parameter grid
+     */
+    private final SweepSpace space;
+
+    /**
+     * Number of worker threads
+     */
+    private final int threads;
+
+    /**
+     * Constructs a sweep.
+     *
+     * @param space   The parameter grid
+     * @param threads The number of worker threads
+     * @throws IllegalArgumentException if space is null or threads is not positive
+     */
+    public ParameterSweep(SweepSpace space, int threads) {
+        if (space == null) {
+            throw new IllegalArgumentException(
+                    "ParameterSweep Error: Sweep space cannot be null."
+            );
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException(
+                    "ParameterSweep Error: Thread count must be positive. Received: " + threads
+            );
+        }
+        this.space = space;
+        this.threads = threads;
+    }
+
+    /**
+     * Plays every combination and writes the results file.
+     *
+     * @param gamesPerPoint The number of games per combination
+     * @param seed          The seed of the sweep
+     * @param csv           The results file (overwritten)
+     * @return The number of combinations that were played
+     * @throws IOException              if the results file cannot be written
+     * @throws IllegalArgumentException if gamesPerPoint is not positive
+     */
+    public int run(long gamesPerPoint, long seed, Path csv) throws IOException {
+        if (gamesPerPoint <= 0) {
+            throw new IllegalArgumentException(
+                    "ParameterSweep Error: Game count must be positive. Received: " + gamesPerPoint
+            );
+        }
+
+        try (BufferedWriter out = Files.newBufferedWriter(csv)) {
+            out.write(CSV_HEADER);
+            out.newLine();
+            out.flush();
+
+            Scheduler scheduler = new Scheduler(space.combinations(), gamesPerPoint, seed, out);
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    futures.add(pool.submit(() -> work(scheduler)));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (Exception e) {
+                LOGGER.log(Level.SEVERE, "Error during parameter sweep", e);
+            } finally {
+                pool.shutdownNow();
+            }
+
+            if (scheduler.error != null) {
+                throw scheduler.error;
+            }
+            return scheduler.finished;
+        }
+    }
+
+    /**
+     * Worker loop: claims chunks and plays them on a thread-owned terrain.
+     *
+     * @param scheduler The shared scheduler
+     */
+    private void work(Scheduler scheduler) {
+        GameConsole.setMuted(true);
+        IcyTerrain terrain = null;
+        Combination terrainOwner = null;
+
+        try {
+            Chunk chunk;
+            while ((chunk = scheduler.next()) != null) {
+                Combination c = chunk.combination;
+                if (terrainOwner != c) {
+                    terrain = new IcyTerrain(c.profile, c.point.getTurns());
+                    terrainOwner = c;
+                }
+
+                TournamentStats stats = new TournamentStats(c.point.getPenguins());
+                long actions = 0;
+                long start = System.nanoTime();
+                for (long g = chunk.from; g < chunk.to; g++) {
+                    RandUtil.setThreadGenerator(new SplittableRandom(TournamentRunner.gameSeed(c.seed, g)));
+                    try {
+                        terrain.reset();
+                        terrain.spawn();
+                        GameManager game = terrain.begin(c.policy);
+                        while (game.stepAction()) {
+                            actions++;
+                        }
+                        stats.record(game.getResult());
+                    } catch (RuntimeException e) {
+                        stats.recordFailure();
+                    }
+                }
+                scheduler.complete(chunk, stats, actions, System.nanoTime() - start);
+            }
+        } finally {
+            RandUtil.setThreadGenerator(null);
+            GameConsole.setMuted(false);
+        }
+    }
+
+    /**
+     * Formats the metrics row of a finished combination.
+     *
+     * @param c The combination
+     * @return The CSV row
+     */
+    private static String formatRow(Combination c) {
+        if (c.profile == null) {
+            return c.point.toCsv() + ",0,0,,,,,,,,,," + c.note.replace(',', ';');
+        }
+
+        TournamentStats s = c.stats;
+        int penguins = s.getPenguins();
+        long games = s.getGames();
+        long penguinGames = games * penguins;
+        long eliminations = 0;
+        long score = 0;
+        for (int o = 0; o < penguins; o++) {
+            eliminations += s.getByOrder(o, TournamentStats.ELIMINATIONS);
+            score += s.getByOrder(o, TournamentStats.SCORE);
+        }
+
+        double minTypeWin = Double.MAX_VALUE;
+        double maxTypeWin = 0.0;
+        for (PenguinType type : PenguinType.values()) {
+            long n = s.getByType(type, TournamentStats.GAMES);
+            if (n > 0) {
+                double rate = (double) s.getByType(type, TournamentStats.WINS) / n;
+                minTypeWin = Math.min(minTypeWin, rate);
+                maxTypeWin = Math.max(maxTypeWin, rate);
+            }
+        }
+
+        return String.format(Locale.ROOT, "%s,%d,%d,%.4f,%.4f,%.4f,%.4f,%.4f,%.4f,%.4f,%.4f,%.2f,",
+                c.point.toCsv(), games, s.getFailedGames(),
+                ratio(c.actions, games),
+                ratio(eliminations, penguinGames),
+                ratio(s.getTies(), games),
+                s.getAverageTopScore(),
+                ratio(score, penguinGames),
+                ratio(s.getByOrder(0, TournamentStats.WINS), games),
+                ratio(s.getByOrder(penguins - 1, TournamentStats.WINS), games),
+                maxTypeWin >= minTypeWin ? maxTypeWin - minTypeWin : 0.0,
+                c.busyNanos / 1e3 / Math.max(1, games + s.getFailedGames()));
+    }
+
+    /**
+     * Divides two counters.
+     *
+     * @param a The numerator
+     * @param b The denominator
+     * @return a / b, or 0 if b is 0
+     */
+    private static double ratio(long a, long b) {
+        return b == 0 ? 0.0 : (double) a / b;
+    }
+
+    /**
+     * Progress and merged metrics of one combination.
+     */
+    private static final class Combination {
+        /**
+         * The parameters
+         */
+        private final SweepPoint point;
+
+        /**
+         * The spawn profile, or null if the combination is invalid
+         */
+        private final SpawnProfile profile;
+
+        /**
+         * The AI of every penguin
+         */
+        private final HeuristicPolicy policy;
+
+        /**
+         * Why the combination is invalid, or null
+         */
+        private final String note;
+
+        /**
+         * Seed of the combination's game streams
+         */
+        private final long seed;
+
+        /**
+         * The merged statistics
+         */
+        private final TournamentStats stats;
+
+        /**
+         * Index of the next game to hand out
+         */
+        private long nextGame;
+
+        /**
+         * Number of games whose results were merged
+         */
+        private long doneGames;
+
+        /**
+         * Number of penguin actions played
+         */
+        private long actions;
+
+        /**
+         * Total thread time spent on the combination
+         */
+        private long busyNanos;
+
+        /**
+         * Constructs the state of a combination.
+         *
+         * @param point    The parameters
+         * @param baseSeed The seed of the sweep
+         */
+        private Combination(SweepPoint point, long baseSeed) {
+            SpawnProfile spawnProfile = null;
+            HeuristicPolicy aiPolicy = null;
+            String reason = null;
+            try {
+                if (point.getPenguins() <= 0 || point.getTurns() <= 0) {
+                    throw new IllegalArgumentException(
+                            "ParameterSweep Error: A game needs at least one penguin and one turn."
+                    );
+                }
+                spawnProfile = point.toProfile();
+                aiPolicy = new HeuristicPolicy(point.getAbilityChance());
+            } catch (IllegalArgumentException e) {
+                reason = e.getMessage();
+                spawnProfile = null;
+            }
+
+            this.point = point;
+            this.profile = spawnProfile;
+            this.policy = aiPolicy;
+            this.note = reason;
+            this.seed = TournamentRunner.gameSeed(baseSeed, point.getIndex());
+            this.stats = spawnProfile != null ? new TournamentStats(point.getPenguins()) : null;
+        }
+
+        /**
+         * Gets the measured cost of one game.
+         *
+         * @return Nanoseconds per game, or 0 before the first chunk is done
+         */
+        private double nanosPerGame() {
+            return doneGames == 0 ? 0.0 : (double) busyNanos / doneGames;
+        }
+    }
+
+    /**
+     * A range of games of one combination.
+     */
+    private static final class Chunk {
+        /**
+         * The combination
+         */
+        private final Combination combination;
+
+        /**
+         * The first game index
+         */
+        private final long from;
+
+        /**
+         * The game index after the last one
+         */
+        private final long to;
+
+        /**
+         * Constructs a chunk.
+         *
+         * @param combination The combination
+         * @param from        The first game index
+         * @param to          The game index after the last one
+         */
+        private Chunk(Combination combination, long from, long to) {
+            this.combination = combination;
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    /**
+     * Hands out chunks, merges their results and writes finished rows.
+     * All methods are synchronized; they run once per chunk, which is rare
+     * compared to the games inside a chunk.
+     */
+    private final class Scheduler {
+        /**
+         * All combinations in sweep order
+         */
+        private final List<Combination> combinations;
+
+        /**
+         * Games per combination
+         */
+        private final long gamesPerPoint;
+
+        /**
+         * The results file
+         */
+        private final BufferedWriter out;
+
+        /**
+         * Index of the first combination that still has games to hand out
+         */
+        private int cursor;
+
+        /**
+         * Number of combinations whose row was written
+         */
+        private int finished;
+
+        /**
+         * First write error, after which no more chunks are handed out
+         */
+        private IOException error;
+
+        /**
+         * Constructs the scheduler and writes the rows of invalid combinations.
+         *
+         * @param points        The combinations
+         * @param gamesPerPoint The games per combination
+         * @param seed          The seed of the sweep
+         * @param out           The results file
+         */
+        private Scheduler(List<SweepPoint> points, long gamesPerPoint, long seed, BufferedWriter out) {
+            this.combinations = new ArrayList<>();
+            this.gamesPerPoint = gamesPerPoint;
+            this.out = out;
+            for (SweepPoint point : points) {
+                Combination c = new Combination(point, seed);
+                combinations.add(c);
+                if (c.profile == null) {
+                    c.nextGame = gamesPerPoint;
+                    writeRow(c);
+                }
+            }
+        }
+
+        /**
+         * Hands out the next chunk.
+         *
+         * @return The chunk, or null if every game has been handed out
+         */
+        private synchronized Chunk next() {
+            while (cursor < combinations.size() && combinations.get(cursor).nextGame >= gamesPerPoint) {
+                cursor++;
+            }
+            if (cursor >= combinations.size() || error != null) {
+                return null;
+            }
+
+            Combination c = combinations.get(cursor);
+            long remaining = gamesPerPoint - c.nextGame;
+            long size = Math.min(remaining, chunkSize(c));
+            Chunk chunk = new Chunk(c, c.nextGame, c.nextGame + size);
+            c.nextGame += size;
+            return chunk;
+        }
+
+        /**
+         * Sizes the next chunk of a combination from its measured cost.
+         *
+         * @param c The combination
+         * @return The number of games
+         */
+        private long chunkSize(Combination c) {
+            double cost = c.nanosPerGame();
+            if (cost <= 0.0) {
+                return PROBE_GAMES;
+            }
+
+            // Toward the end of the sweep, split the remaining work evenly between threads
+            double remainingNanos = 0.0;
+            for (int i = cursor; i < combinations.size(); i++) {
+                Combination other = combinations.get(i);
+                double otherCost = other.nanosPerGame() > 0.0 ? other.nanosPerGame() : cost;
+                remainingNanos += (gamesPerPoint - other.nextGame) * otherCost;
+            }
+            double targetNanos = Math.min(TARGET_CHUNK_NANOS, remainingNanos / (2.0 * threads));
+
+            long size = (long) (targetNanos / cost);
+            return Math.max(PROBE_GAMES, Math.min(MAX_CHUNK_GAMES, size));
+        }
+
+        /**
+         * Merges the results of a played chunk and writes the row of a
+         * finished combination.
+         *
+         * @param chunk   The chunk
+         * @param stats   The statistics of its games
+         * @param actions The number of penguin actions played
+         * @param nanos   The time spent on the chunk
+         */
+        private synchronized void complete(Chunk chunk, TournamentStats stats, long actions, long nanos) {
+            Combination c = chunk.combination;
+            c.stats.merge(stats);
+            c.actions += actions;
+            c.busyNanos += nanos;
+            c.doneGames += chunk.to - chunk.from;
+
+            if (c.doneGames == gamesPerPoint) {
+                writeRow(c);
+            }
+        }
+
+        /**
+         * Writes and flushes the row of a combination.
+         *
+         * @param c The finished combination
+         */
+        private void writeRow(Combination c) {
+            if (error != null) {
+                return;
+            }
+            try {
+                out.write(formatRow(c));
+                out.newLine();
+                out.flush();
+                finished++;
+            } catch (IOException e) {
+                error = e;
+            }
+        }
+    }
+
+    /**
+     * Command-line entry point.
+     * <p>
+     * Usage: ParameterSweep [sweep file | default] [games per combination] [csv file] [seed] [threads]
+     * <p>
+     * Example: ParameterSweep sweep.properties 20000 sweep.csv 42 16
+     *
+     * @param args Command line arguments (all optional)
+     */
+    public static void main(String[] args) {
+        try {
+            SweepSpace space = args.length > 0 && !args[0].equals("default")
+                    ? SweepSpace.load(Path.of(args[0])) : SweepSpace.defaultSpace();
+            long games = args.length > 1 ? Long.parseLong(args[1]) : 10_000L;
+            Path csv = Path.of(args.length > 2 ? args[2] : "sweep.csv");
+            long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+            int threads = args.length > 4 ? Integer.parseInt(args[4])
+                    : Runtime.getRuntime().availableProcessors();
+
+            System.out.println("Sweeping " + space.size() + " combinations x " + games + " games: " + space);
+            long start = System.nanoTime();
+            int rows = new ParameterSweep(space, threads).run(games, seed, csv);
+            System.out.printf("Wrote %d rows to %s in %.1f s%n", rows, csv, (System.nanoTime() - start) / 1e9);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Parameter sweep failed.");
+            System.out.println("Reason: " + e.getMessage());
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error during parameter sweep", e);
+        }
+    }
+}
@@ -0,0 +1,724 @@
+package game.batch;
+
+import game.GameManager;
+import game.IcyTerrain;
+import game.SpawnProfile;
+import game.TerrainGrid;
+import game.ai.HeuristicPolicy;
+import game.ai.PenguinPolicy;
+import game.ai.PolicyParameters;
+import game.ai.TurnContext;
+import game.ai.TurnDecision;
+import game.util.GameConsole;
+import game.util.RandUtil;
+import models.penguins.Penguin;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Evolves the constants of HeuristicPolicy (see PolicyParameters) with a
+ * genetic algorithm on self-play tournaments.
+ * <p>
+ * Every generation each distinct candidate plays the same games against
+ * the incumbent, the best candidate of the previous generation (the
+ * original AI in the first one): game g of a generation is spawned from
+ * the same random stream for every candidate, and the candidate sits in
+ * seat g modulo the penguin count while the incumbent plays the other
+ * seats. Using common random numbers, the differences between candidates
+ * come from their parameters, not from the boards they drew. The fitness
+ * is the candidate's mean final weight; a game that throws counts as 0.
+ * <p>
+ * The next generation keeps the ELITES best candidates and fills up with
+ * children of tournament-selected parents: uniform crossover, a Gaussian
+ * step of the ability chance, and now and then a new Rockhopper rule or
+ * two swapped outcome priorities. The games of all candidates are played
+ * in chunks on all cores.
+ * <p>
+ * The tuner is meant to run unattended: after every generation the state
+ * (seed, generation and population) and the best parameters so far are
+ * written to files, replacing the old ones atomically where the file
+ * system allows it. Generation g draws its games and its genetic choices
+ * from streams seeded with the run seed and g, so a run resumed from the
+ * state file continues exactly as if it had not stopped. The run ends
+ * after a number of generations or a time limit, whichever comes first.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class PolicyTuner {
+    private static final Logger LOGGER = Logger.getLogger(PolicyTuner.class.getName());
+
+    /**
+     * Default number of candidates per generation
+     */
+    public static final int DEFAULT_POPULATION = 16;
+
+    /**
+     * Default number of games per candidate and generation
+     */
+    public static final long DEFAULT_GAMES = 20_000L;
+
+    /**
+     * Candidates kept unchanged in the next generation
+     */
+    private static final int ELITES = 2;
+
+    /**
+     * Candidates compared to select one parent
+     */
+    private static final int TOURNAMENT_SIZE = 3;
+
+    /**
+     * Standard deviation of an ability chance mutation, in percent
+     */
+    private static final double ABILITY_SIGMA = 8.0;
+
+    /**
+     * Chance that a child's ability chance is mutated
+     */
+    private static final double ABILITY_MUTATION_RATE = 0.5;
+
+    /**
+     * Chance that a child's Rockhopper rule or outcome order is mutated
+     */
+    private static final double RULE_MUTATION_RATE = 0.1;
+
+    /**
+     * Games handed to a worker at a time
+     */
+    private static final int CHUNK_GAMES = 256;
+
+    /**
+     * Seed offset of the genetic choices, so they do not share the game streams
+     */
+    private static final long GENETIC_STREAM = 0x6A09E667F3BCC909L;
+
+    /**
+     * The spawn profile of every game
+     */
+    private final SpawnProfile profile;
+
+    /**
+     * Number of turns of every game
+     */
+    private final int maxTurns;
+
+    /**
+     * Number of worker threads
+     */
+    private final int threads;
+
+    /**
+     * Number of candidates per generation
+     */
+    private final int populationSize;
+
+    /**
+     * Number of games per candidate and generation
+     */
+    private final long games;
+
+    /**
+     * Terrain and seat policy of each worker thread
+     */
+    private final ThreadLocal<Table> tables = new ThreadLocal<>();
+
+    /**
+     * Seed of the last run, or null before the first run
+     */
+    private Long runSeed;
+
+    /**
+     * Constructs a tuner.
+     *
+     * @param profile        The spawn profile of every game
+     * @param maxTurns       The number of turns of every game
+     * @param threads        The number of worker threads
+     * @param populationSize The number of candidates per generation
+     * @param games          The number of games per candidate and generation
+     * @throws IllegalArgumentException if profile is null or a count is too small
+     */
+    public PolicyTuner(SpawnProfile profile, int maxTurns, int threads, int populationSize, long games) {
+        if (profile == null) {
+            throw new IllegalArgumentException(
+                    "PolicyTuner Error: Spawn profile cannot be null."
+            );
+        }
+        if (maxTurns <= 0 || threads <= 0 || games <= 0) {
+            throw new IllegalArgumentException(
+                    "PolicyTuner Error: Turn, thread and game counts must be positive."
+            );
+        }
+        if (populationSize <= ELITES) {
+            throw new IllegalArgumentException(
+                    "PolicyTuner Error: Population must be larger than " + ELITES + ". Received: " + populationSize
+            );
+        }
+        this.profile = profile;
+        this.maxTurns = maxTurns;
+        this.threads = threads;
+        this.populationSize = populationSize;
+        this.games = games;
+    }
+
+    /**
+     * Runs the genetic algorithm.
+     *
+     * @param seed        The seed of the run (ignored when resuming)
+     * @param generations The generation to stop before
+     * @param maxMillis   The time after which no new generation is started
+     * @param state       The state file
+     * @param best        The file the best parameters are written to
+     * @param resume      Whether to continue from an existing state file
+     * @return The best parameters of the last finished generation
+     * @throws IOException              if a file cannot be read or written
+     * @throws IllegalArgumentException if an argument is invalid or the
+     *                                  state belongs to another setup
+     */
+    public PolicyParameters run(long seed, int generations, long maxMillis, Path state, Path best, boolean resume)
+            throws IOException {
+        if (state == null || best == null || generations <= 0 || maxMillis <= 0) {
+            throw new IllegalArgumentException(
+                    "PolicyTuner Error: State and best files, generations and a time limit are required."
+            );
+        }
+
+        State current;
+        if (resume && Files.exists(state)) {
+            current = State.load(state, describe());
+        } else {
+            current = new State(seed, 0, initialPopulation(seed), PolicyParameters.DEFAULT, 0.0);
+            current.save(state, describe());
+        }
+
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            while (current.generation < generations
+                    && (System.nanoTime() - start) / 1_000_000L < maxMillis) {
+                current = step(current, pool);
+                current.save(state, describe());
+                current.incumbent.save(best, String.format(Locale.ROOT,
+                        "Best of generation %d, mean weight %.4f against the previous best",
+                        current.generation - 1, current.incumbentFitness));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.log(Level.WARNING, "Policy tuning interrupted", e);
+        } finally {
+            pool.shutdownNow();
+        }
+        runSeed = current.seed;
+        return current.incumbent;
+    }
+
+    /**
+     * Gets the seed of the last run, which is the stored seed when the run
+     * was resumed from a state file.
+     *
+     * @return The seed of the last run
+     * @throws IllegalStateException if run has not been called
+     */
+    public long getRunSeed() {
+        if (runSeed == null) {
+            throw new IllegalStateException(
+                    "PolicyTuner Error: No run has been made yet."
+            );
+        }
+        return runSeed;
+    }
+
+    /**
+     * Plays the games of one generation and breeds the next.
+     *
+     * @param current The state before the generation
+     * @param pool    The worker pool
+     * @return The state after the generation
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    private State step(State current, ExecutorService pool) throws InterruptedException {
+        long generationStart = System.nanoTime();
+        long gameSeed = TournamentRunner.gameSeed(current.seed, current.generation);
+        double[] fitness = evaluate(current.population, current.incumbent, gameSeed, pool);
+
+        Integer[] ranking = new Integer[fitness.length];
+        for (int i = 0; i < ranking.length; i++) {
+            ranking[i] = i;
+        }
+        Arrays.sort(ranking, (a, b) -> Double.compare(fitness[b], fitness[a]));
+
+        SplittableRandom rng = new SplittableRandom(
+                TournamentRunner.gameSeed(current.seed ^ GENETIC_STREAM, current.generation));
+        List<PolicyParameters> next = new ArrayList<>();
+        for (int i = 0; i < ELITES; i++) {
+            next.add(current.population.get(ranking[i]));
+        }
+        while (next.size() < populationSize) {
+            PolicyParameters a = current.population.get(select(fitness, rng));
+            PolicyParameters b = current.population.get(select(fitness, rng));
+            next.add(mutate(crossover(a, b, rng), rng));
+        }
+
+        PolicyParameters winner = current.population.get(ranking[0]);
+        double seconds = (System.nanoTime() - generationStart) / 1e9;
+        LOGGER.log(Level.INFO, () -> String.format(Locale.ROOT,
+                "Generation %d: best %.4f [%s], median %.4f, %.1f s",
+                current.generation, fitness[ranking[0]], winner, fitness[ranking[ranking.length / 2]], seconds));
+        return new State(current.seed, current.generation + 1, next, winner, fitness[ranking[0]]);
+    }
+
+    /**
+     * Measures the mean final weight of every candidate against one
+     * opponent on the same games. Identical candidates are played once.
+     *
+     * @param candidates The candidates
+     * @param opponent   The parameters of the other seats
+     * @param seed       The seed of the games
+     * @param pool       The worker pool
+     * @return The fitness of every candidate
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    private double[] evaluate(List<PolicyParameters> candidates, PolicyParameters opponent, long seed,
+                              ExecutorService pool) throws InterruptedException {
+        Map<PolicyParameters, List<Future<Long>>> parts = new HashMap<>();
+        HeuristicPolicy opponentPolicy = new HeuristicPolicy(opponent);
+        for (PolicyParameters candidate : candidates) {
+            if (parts.containsKey(candidate)) {
+                continue;
+            }
+            HeuristicPolicy candidatePolicy = new HeuristicPolicy(candidate);
+            List<Future<Long>> futures = new ArrayList<>();
+            for (long from = 0; from < games; from += CHUNK_GAMES) {
+                long first = from;
+                long last = Math.min(games, from + CHUNK_GAMES);
+                futures.add(pool.submit(() -> play(candidatePolicy, opponentPolicy, seed, first, last)));
+            }
+            parts.put(candidate, futures);
+        }
+
+        Map<PolicyParameters, Double> scores = new HashMap<>();
+        try {
+            for (Map.Entry<PolicyParameters, List<Future<Long>>> entry : parts.entrySet()) {
+                long weight = 0;
+                for (Future<Long> future : entry.getValue()) {
+                    weight += future.get();
+                }
+                scores.put(entry.getKey(), (double) weight / games);
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("PolicyTuner Error: A worker failed. " + e.getCause(), e.getCause());
+        }
+
+        double[] fitness = new double[candidates.size()];
+        for (int i = 0; i < fitness.length; i++) {
+            fitness[i] = scores.get(candidates.get(i));
+        }
+        return fitness;
+    }
+
+    /**
+     * Plays a range of games of a candidate against an opponent on the
+     * calling worker thread.
+     *
+     * @param candidate The policy of the candidate's seat
+     * @param opponent  The policy of the other seats
+     * @param seed      The seed of the games
+     * @param from      The first game index
+     * @param to        The game index after the last one
+     * @return The candidate's total final weight
+     */
+    private long play(PenguinPolicy candidate, PenguinPolicy opponent, long seed, long from, long to) {
+        Table table = tables.get();
+        if (table == null) {
+            table = new Table(new IcyTerrain(profile, maxTurns));
+            tables.set(table);
+        }
+        table.seats.candidate = candidate;
+        table.seats.opponent = opponent;
+
+        GameConsole.setMuted(true);
+        long weight = 0;
+        try {
+            for (long g = from; g < to; g++) {
+                RandUtil.setThreadGenerator(new SplittableRandom(TournamentRunner.gameSeed(seed, g)));
+                table.seats.seat = (int) (g % profile.getPenguinCount());
+                try {
+                    table.terrain.reset();
+                    table.terrain.spawn();
+                    GameManager game = table.terrain.begin(table.seats);
+                    weight += game.runToEnd().getPenguins().get(table.seats.seat).getScore();
+                } catch (RuntimeException e) {
+                    // A failed game counts as no weight
+                }
+            }
+        } finally {
+            RandUtil.setThreadGenerator(null);
+            GameConsole.setMuted(false);
+        }
+        return weight;
+    }
+
+    /**
+     * Plays a candidate against an opponent and returns its mean final weight.
+     *
+     * @param candidate The parameters of the candidate's seat
+     * @param opponent  The parameters of the other seats
+     * @param seed      The seed of the games
+     * @return The mean final weight of the candidate
+     * @throws IllegalArgumentException if an argument is null
+     */
+    public double score(PolicyParameters candidate, PolicyParameters opponent, long seed) {
+        if (candidate == null || opponent == null) {
+            throw new IllegalArgumentException(
+                    "PolicyTuner Error: Candidate and opponent cannot be null."
+            );
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            return evaluate(List.of(candidate), opponent, seed, pool)[0];
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Double.NaN;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Creates the first generation: the original AI and random parameters.
+     *
+     * @param seed The seed of the run
+     * @return The population
+     */
+    private List<PolicyParameters> initialPopulation(long seed) {
+        SplittableRandom rng = new SplittableRandom(seed ^ GENETIC_STREAM);
+        List<PolicyParameters> population = new ArrayList<>();
+        population.add(PolicyParameters.DEFAULT);
+        while (population.size() < populationSize) {
+            List<PolicyParameters.Outcome> order = new ArrayList<>(PolicyParameters.DEFAULT.getOutcomeOrder());
+            for (int i = order.size() - 1; i > 0; i--) {
+                Collections.swap(order, i, rng.nextInt(i + 1));
+            }
+            PolicyParameters.RockhopperRule[] rules = PolicyParameters.RockhopperRule.values();
+            population.add(new PolicyParameters(rng.nextInt(101), rules[rng.nextInt(rules.length)], order));
+        }
+        return population;
+    }
+
+    /**
+     * Selects a parent by tournament.
+     *
+     * @param fitness The fitness of every candidate
+     * @param rng     The random stream
+     * @return The index of the fittest of TOURNAMENT_SIZE random candidates
+     */
+    private static int select(double[] fitness, SplittableRandom rng) {
+        int best = rng.nextInt(fitness.length);
+        for (int i = 1; i < TOURNAMENT_SIZE; i++) {
+            int other = rng.nextInt(fitness.length);
+            if (fitness[other] > fitness[best]) {
+                best = other;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Combines two parents gene by gene.
+     *
+     * @param a   The first parent
+     * @param b   The second parent
+     * @param rng The random stream
+     * @return The child
+     */
+    private static PolicyParameters crossover(PolicyParameters a, PolicyParameters b, SplittableRandom rng) {
+        return new PolicyParameters(
+                (rng.nextBoolean() ? a : b).getAbilityChance(),
+                (rng.nextBoolean() ? a : b).getRockhopperRule(),
+                (rng.nextBoolean() ? a : b).getOutcomeOrder());
+    }
+
+    /**
+     * Mutates a child.
+     *
+     * @param p   The child
+     * @param rng The random stream
+     * @return The mutated child
+     */
+    private static PolicyParameters mutate(PolicyParameters p, SplittableRandom rng) {
+        int ability = p.getAbilityChance();
+        if (rng.nextDouble() < ABILITY_MUTATION_RATE) {
+            ability = (int) Math.round(ability + rng.nextGaussian() * ABILITY_SIGMA);
+            ability = Math.max(0, Math.min(100, ability));
+        }
+        PolicyParameters.RockhopperRule rule = p.getRockhopperRule();
+        if (rng.nextDouble() < RULE_MUTATION_RATE) {
+            PolicyParameters.RockhopperRule[] rules = PolicyParameters.RockhopperRule.values();
+            rule = rules[rng.nextInt(rules.length)];
+        }
+        List<PolicyParameters.Outcome> order = new ArrayList<>(p.getOutcomeOrder());
+        if (rng.nextDouble() < RULE_MUTATION_RATE) {
+            int i = rng.nextInt(order.size());
+            int j = rng.nextInt(order.size());
+            Collections.swap(order, i, j);
+        }
+        return new PolicyParameters(ability, rule, order);
+    }
+
+    /**
+     * Describes the setup of this tuner, used to reject a mismatched resume.
+     *
+     * @return The description
+     */
+    private String describe() {
+        return profile + ", " + maxTurns + " turns, " + populationSize + " candidates, " + games + " games";
+    }
+
+    /**
+     * The terrain and seat policy of one worker thread.
+     */
+    private static final class Table {
+        /**
+         * The terrain the games are spawned on
+         */
+        private final IcyTerrain terrain;
+
+        /**
+         * The policy of all penguins, which hands each seat to its parameters
+         */
+        private final SeatPolicy seats = new SeatPolicy();
+
+        /**
+         * Constructs a table.
+         *
+         * @param terrain The terrain
+         */
+        private Table(IcyTerrain terrain) {
+            this.terrain = terrain;
+        }
+    }
+
+    /**
+     * Plays one seat with the candidate and the others with the opponent.
+     * IcyTerrain keeps its GameManager as long as the same policy is
+     * passed, so a worker reuses one SeatPolicy and changes its fields.
+     */
+    private static final class SeatPolicy implements PenguinPolicy {
+        /**
+         * The policy of the candidate's seat
+         */
+        private PenguinPolicy candidate;
+
+        /**
+         * The policy of the other seats
+         */
+        private PenguinPolicy opponent;
+
+        /**
+         * The candidate's penguin index
+         */
+        private int seat;
+
+        /**
+         * Decides with the policy of the penguin's seat.
+         *
+         * @param penguin The penguin about to act
+         * @param grid    The current grid (read only)
+         * @param context The turn context
+         * @return The decision
+         */
+        @Override
+        public TurnDecision decide(Penguin penguin, TerrainGrid grid, TurnContext context) {
+            boolean mine = context.getPenguins().indexOf(penguin) == seat;
+            return (mine ? candidate : opponent).decide(penguin, grid, context);
+        }
+    }
+
+    /**
+     * The saved progress of a run.
+     */
+    private static final class State {
+        /**
+         * The seed of the run
+         */
+        private final long seed;
+
+        /**
+         * The next generation to play
+         */
+        private final int generation;
+
+        /**
+         * The candidates of the next generation
+         */
+        private final List<PolicyParameters> population;
+
+        /**
+         * The best candidate of the last generation (the opponent of the next)
+         */
+        private final PolicyParameters incumbent;
+
+        /**
+         * The fitness of the incumbent in its generation
+         */
+        private final double incumbentFitness;
+
+        /**
+         * Constructs a state.
+         *
+         * @param seed             The seed of the run
+         * @param generation       The next generation to play
+         * @param population       The candidates of the next generation
+         * @param incumbent        The best candidate of the last generation
+         * @param incumbentFitness The fitness of the incumbent
+         */
+        private State(long seed, int generation, List<PolicyParameters> population,
+                      PolicyParameters incumbent, double incumbentFitness) {
+            this.seed = seed;
+            this.generation = generation;
+            this.population = List.copyOf(population);
+            this.incumbent = incumbent;
+            this.incumbentFitness = incumbentFitness;
+        }
+
+        /**
+         * Saves the state as a properties file, replacing the previous one
+         * atomically.
+         *
+         * @param path  The state file
+         * @param setup The description of the tuner
+         * @throws IOException if writing fails
+         */
+        private void save(Path path, String setup) throws IOException {
+            Properties properties = new Properties();
+            properties.setProperty("tuner.setup", setup);
+            properties.setProperty("tuner.seed", String.valueOf(seed));
+            properties.setProperty("tuner.generation", String.valueOf(generation));
+            properties.setProperty("tuner.population", String.valueOf(population.size()));
+            properties.setProperty("tuner.fitness", String.valueOf(incumbentFitness));
+            incumbent.toProperties(properties, "best.");
+            for (int i = 0; i < population.size(); i++) {
+                population.get(i).toProperties(properties, "candidate." + i + ".");
+            }
+
+            Path target = path.toAbsolutePath();
+            Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp)) {
+                properties.store(writer, "PolicyTuner state");
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        /**
+         * Loads a state file.
+         *
+         * @param path  The state file
+         * @param setup The description of the tuner
+         * @return The state
+         * @throws IOException              if the file cannot be read or is not a state
+         * @throws IllegalArgumentException if the state belongs to another setup
+         */
+        private static State load(Path path, String setup) throws IOException {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(path)) {
+                properties.load(reader);
+            }
+            String saved = properties.getProperty("tuner.setup");
+            if (saved == null) {
+                throw new IOException("PolicyTuner Error: Not a tuner state file.");
+            }
+            if (!saved.equals(setup)) {
+                throw new IllegalArgumentException(
+                        "PolicyTuner Error: State was written for " + saved + "."
+                );
+            }
+            try {
+                int size = Integer.parseInt(properties.getProperty("tuner.population"));
+                List<PolicyParameters> population = new ArrayList<>();
+                for (int i = 0; i < size; i++) {
+                    population.add(PolicyParameters.fromProperties(properties, "candidate." + i + "."));
+                }
+                return new State(Long.parseLong(properties.getProperty("tuner.seed")),
+                        Integer.parseInt(properties.getProperty("tuner.generation")), population,
+                        PolicyParameters.fromProperties(properties, "best."),
+                        Double.parseDouble(properties.getProperty("tuner.fitness")));
+            } catch (NumberFormatException | NullPointerException e) {
+                throw new IOException("PolicyTuner Error: Corrupt tuner state. " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Command-line entry point. After the run, the best parameters and the
+     * original AI are both played against the original AI on fresh games.
+     * <p>
+     * Usage: PolicyTuner [generations] [hours] [seed] [threads] [state file] [best file] [--resume]
+     * <p>
+     * Example: PolicyTuner 1000 8 42 16 tuner.state best.properties --resume
+     *
+     * @param args Command line arguments (all optional)
+     */
+    public static void main(String[] args) {
+        try {
+            List<String> positional = new ArrayList<>();
+            boolean resume = false;
+            for (String arg : args) {
+                if (arg.equals("--resume")) {
+                    resume = true;
+                } else {
+                    positional.add(arg);
+                }
+            }
+
+            int generations = positional.size() > 0 ? Integer.parseInt(positional.get(0)) : 100;
+            double hours = positional.size() > 1 ? Double.parseDouble(positional.get(1)) : 8.0;
+            long seed = positional.size() > 2 ? Long.parseLong(positional.get(2)) : System.nanoTime();
+            int threads = positional.size() > 3 ? Integer.parseInt(positional.get(3))
+                    : Runtime.getRuntime().availableProcessors();
+            Path state = Path.of(positional.size() > 4 ? positional.get(4) : "tuner.state");
+            Path best = Path.of(positional.size() > 5 ? positional.get(5) : "best.properties");
+
+            PolicyTuner tuner = new PolicyTuner(SpawnProfile.defaultProfile(), GameManager.DEFAULT_MAX_TURNS,
+                    threads, DEFAULT_POPULATION, DEFAULT_GAMES);
+            PolicyParameters result = tuner.run(seed, generations, (long) (hours * 3_600_000L), state, best, resume);
+
+            long validation = TournamentRunner.gameSeed(tuner.getRunSeed(), -1L);
+            System.out.printf(Locale.ROOT, "Best [%s]: %.4f against the original AI (original AI: %.4f)%n",
+                    result, tuner.score(result, PolicyParameters.DEFAULT, validation),
+                    tuner.score(PolicyParameters.DEFAULT, PolicyParameters.DEFAULT, validation));
+            System.out.println("Wrote " + best);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Policy tuning failed.");
+            System.out.println("Reason: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println("Policy tuning failed.");
+            System.out.println("Reason: File error. " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,685 @@
+package game.batch;
+
+import game.SpawnProfile;
+import game.ai.HeuristicPolicy;
+import game.ai.Policies;
+import game.stats.CellHeatmap;
+import game.stats.GameSketches;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Plays a tournament on several worker JVMs of the same host, for batches
+ * whose heap or garbage collection outgrow a single JVM.
+ * <p>
+ * The coordinator listens on a loopback port and starts the ShardWorker
+ * processes itself, with the same java binary and class path. Every run
+ * has a random token that is passed on the workers' command line; only a
+ * connection that sends it back and plays the same profile and policy
+ * (the same TournamentRunner identity) gets shards, so no other local
+ * process can join the run or have its results merged. The game
+ * indices [0, games) are split into shards of consecutive indices; as game
+ * i is seeded from the base seed and i, a shard is fully described by its
+ * range. Idle workers take the next shard from a queue and stream back
+ * the aggregates of its games in PARTIAL messages (see ShardProtocol),
+ * which the coordinator merges as they arrive.
+ * <p>
+ * Every shard remembers how far its partials got. When a worker dies, its
+ * socket fails (or times out, if the worker hangs), the rest of its shard
+ * goes back to the queue and a replacement process is started, up to a
+ * restart limit. Games that were already merged are never played again
+ * and lost games are played exactly once elsewhere, so the result equals
+ * a single-process TournamentRunner run with the same seed.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class ShardCoordinator {
+    private static final Logger LOGGER = Logger.getLogger(ShardCoordinator.class.getName());
+
+    /**
+     * Default time a worker may stay silent before it is considered hung
+     */
+    public static final long DEFAULT_WORKER_TIMEOUT_MILLIS = 120_000L;
+
+    /**
+     * Number of shards per worker, so fast workers can take more of them
+     */
+    private static final int SHARDS_PER_WORKER = 8;
+
+    /**
+     * Smallest shard
+     */
+    private static final long MIN_SHARD_GAMES = 1024;
+
+    /**
+     * Time a stopped worker gets to exit before it is killed
+     */
+    private static final long EXIT_GRACE_MILLIS = 5_000L;
+
+    /**
+     * Spawn rules of every game (the workers use the same)
+     */
+    private final SpawnProfile profile;
+
+    /**
+     * Policy spec the workers are started with (see Policies)
+     */
+    private String policySpec = Policies.DEFAULT_SPEC;
+
+    /**
+     * Identity of the runs the workers must play (see TournamentRunner.getIdentity())
+     */
+    private String identity;
+
+    /**
+     * Number of worker processes
+     */
+    private final int workers;
+
+    /**
+     * Number of threads of each worker process
+     */
+    private final int threadsPerWorker;
+
+    /**
+     * Number of crashed workers that may be replaced during a run
+     */
+    private int maxRestarts;
+
+    /**
+     * Time a worker may stay silent before it is considered hung
+     */
+    private long workerTimeoutMillis = DEFAULT_WORKER_TIMEOUT_MILLIS;
+
+    /**
+     * Extra JVM options of the worker processes, such as -Xmx
+     */
+    private List<String> jvmOptions = List.of();
+
+    /**
+     * Whether workers record per-square heatmaps
+     */
+    private boolean heatmapsEnabled;
+
+    /**
+     * Constructs a coordinator for the default game with the original AI.
+     *
+     * @param workers          The number of worker processes
+     * @param threadsPerWorker The number of threads of each worker
+     * @throws IllegalArgumentException if a count is not positive
+     */
+    public ShardCoordinator(int workers, int threadsPerWorker) {
+        if (workers <= 0 || threadsPerWorker <= 0) {
+            throw new IllegalArgumentException(
+                    "ShardCoordinator Error: Worker and thread counts must be positive. Received: "
+                            + workers + " workers, " + threadsPerWorker + " threads."
+            );
+        }
+        this.profile = SpawnProfile.defaultProfile();
+        this.identity = TournamentRunner.identity(profile, new HeuristicPolicy());
+        this.workers = workers;
+        this.threadsPerWorker = threadsPerWorker;
+        this.maxRestarts = workers;
+    }
+
+    /**
+     * Sets the policy of every penguin for the following runs. The workers
+     * are started with the same spec.
+     *
+     * @param spec The policy spec (see Policies)
+     * @throws IOException              if the spec names an opening book that cannot be read
+     * @throws IllegalArgumentException if the spec is invalid
+     */
+    public void setPolicySpec(String spec) throws IOException {
+        this.identity = TournamentRunner.identity(profile, Policies.parse(spec));
+        this.policySpec = spec;
+    }
+
+    /**
+     * Sets how many crashed workers may be replaced during a run.
+     * The default is one per worker.
+     *
+     * @param maxRestarts The restart limit
+     * @throws IllegalArgumentException if maxRestarts is negative
+     */
+    public void setMaxRestarts(int maxRestarts) {
+        if (maxRestarts < 0) {
+            throw new IllegalArgumentException(
+                    "ShardCoordinator Error: Restart limit cannot be negative. Received: " + maxRestarts
+            );
+        }
+        this.maxRestarts = maxRestarts;
+    }
+
+    /**
+     * Sets how long a worker may stay silent before it is killed and its
+     * shard reassigned.
+     *
+     * @param millis The timeout in milliseconds
+     * @throws IllegalArgumentException if millis is not positive
+     */
+    public void setWorkerTimeoutMillis(long millis) {
+        if (millis <= 0) {
+            throw new IllegalArgumentException(
+                    "ShardCoordinator Error: Worker timeout must be positive. Received: " + millis
+            );
+        }
+        this.workerTimeoutMillis = millis;
+    }
+
+    /**
+     * Sets extra JVM options of the worker processes.
+     *
+     * @param options The options, such as "-Xmx2g"
+     * @throws IllegalArgumentException if options is null
+     */
+    public void setJvmOptions(List<String> options) {
+        if (options == null) {
+            throw new IllegalArgumentException(
+                    "ShardCoordinator Error: JVM options cannot be null."
+            );
+        }
+        this.jvmOptions = List.copyOf(options);
+    }
+
+    /**
+     * Enables or disables per-square heatmaps for the following runs.
+     *
+     * @param enabled Whether workers record heatmaps
+     */
+    public void setHeatmapsEnabled(boolean enabled) {
+        this.heatmapsEnabled = enabled;
+    }
+
+    /**
+     * Plays a tournament on the worker processes.
+     *
+     * @param games    The number of games to play
+     * @param baseSeed The seed of the whole run
+     * @return The merged statistics and throughput
+     * @throws IOException              if the workers cannot be started or all of them died
+     * @throws IllegalArgumentException if games is negative
+     */
+    public TournamentResult run(long games, long baseSeed) throws IOException {
+        if (games < 0) {
+            throw new IllegalArgumentException(
+                    "ShardCoordinator Error: Game count cannot be negative. Received: " + games
+            );
+        }
+
+        long start = System.nanoTime();
+        Batch batch = new Batch(games, baseSeed);
+        try (ServerSocket server = new ServerSocket(0, workers * 2, InetAddress.getLoopbackAddress())) {
+            batch.port = server.getLocalPort();
+            Thread acceptor = new Thread(() -> acceptLoop(server, batch), "shard-acceptor");
+            acceptor.setDaemon(true);
+            acceptor.start();
+
+            synchronized (batch) {
+                for (int i = 0; i < Math.min(workers, batch.queue.size()); i++) {
+                    batch.launch();
+                }
+            }
+            batch.await();
+        } finally {
+            batch.shutdown();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        return new TournamentResult(batch.total, batch.sketches, batch.heatmap, elapsed, workers * threadsPerWorker);
+    }
+
+    /**
+     * Accepts worker connections until the server socket is closed.
+     *
+     * @param server The server socket
+     * @param batch  The running batch
+     */
+    private void acceptLoop(ServerSocket server, Batch batch) {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                Thread handler = new Thread(() -> batch.serve(socket), "shard-handler");
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                if (!server.isClosed()) {
+                    LOGGER.log(Level.WARNING, "ShardCoordinator Warning: Accept failed", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * A range of game indices and how far its partials got.
+     */
+    private static final class Shard {
+        /**
+         * The shard id
+         */
+        private final int id;
+
+        /**
+         * The first game whose aggregates have not been merged
+         */
+        private long next;
+
+        /**
+         * The game index after the last one
+         */
+        private final long to;
+
+        /**
+         * Constructs a shard.
+         *
+         * @param id   The shard id
+         * @param from The first game index
+         * @param to   The game index after the last one
+         */
+        private Shard(int id, long from, long to) {
+            this.id = id;
+            this.next = from;
+            this.to = to;
+        }
+    }
+
+    /**
+     * State of one run, shared by the handler threads. Every field that
+     * changes is guarded by the batch's monitor.
+     */
+    private final class Batch {
+        /**
+         * The seed of the run
+         */
+        private final long baseSeed;
+
+        /**
+         * The secret the workers of this run are started with
+         */
+        private final String token = ShardProtocol.newToken();
+
+        /**
+         * Shards waiting for a worker
+         */
+        private final Deque<Shard> queue = new ArrayDeque<>();
+
+        /**
+         * Worker processes by process id
+         */
+        private final Map<Long, Process> processes = new ConcurrentHashMap<>();
+
+        /**
+         * The merged counters
+         */
+        private final TournamentStats total;
+
+        /**
+         * The merged sketches
+         */
+        private final GameSketches sketches;
+
+        /**
+         * The merged heatmap, or null
+         */
+        private final CellHeatmap heatmap;
+
+        /**
+         * Number of games whose aggregates have not been merged
+         */
+        private long remaining;
+
+        /**
+         * Number of running worker processes
+         */
+        private int live;
+
+        /**
+         * Number of replacements still allowed
+         */
+        private int restartsLeft;
+
+        /**
+         * Why the run failed, or null
+         */
+        private String failure;
+
+        /**
+         * Whether the run is over and no process may be started
+         */
+        private boolean closed;
+
+        /**
+         * The coordinator's port
+         */
+        private int port;
+
+        /**
+         * Splits the games into shards.
+         *
+         * @param games    The number of games
+         * @param baseSeed The seed of the run
+         */
+        private Batch(long games, long baseSeed) {
+            this.baseSeed = baseSeed;
+            this.total = new TournamentStats(profile.getPenguinCount());
+            this.sketches = new GameSketches();
+            this.heatmap = heatmapsEnabled ? new CellHeatmap(profile.getBoardSize()) : null;
+            this.remaining = games;
+            this.restartsLeft = maxRestarts;
+
+            long shardGames = Math.max(MIN_SHARD_GAMES, (games + (long) workers * SHARDS_PER_WORKER - 1)
+                    / ((long) workers * SHARDS_PER_WORKER));
+            int id = 0;
+            for (long from = 0; from < games; from += shardGames) {
+                queue.add(new Shard(id++, from, Math.min(games, from + shardGames)));
+            }
+        }
+
+        /**
+         * Starts a worker process. Must be called while holding the monitor.
+         */
+        private void launch() {
+            List<String> command = new ArrayList<>();
+            command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+            command.addAll(jvmOptions);
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(ShardWorker.class.getName());
+            command.add(String.valueOf(port));
+            command.add(String.valueOf(threadsPerWorker));
+            command.add(token);
+            command.add(policySpec);
+
+            try {
+                Process process = new ProcessBuilder(command)
+                        .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                        .redirectError(ProcessBuilder.Redirect.INHERIT)
+                        .start();
+                processes.put(process.pid(), process);
+                live++;
+                process.onExit().thenRun(() -> exited(process));
+            } catch (IOException e) {
+                failure = "Cannot start a worker process. " + e.getMessage();
+                notifyAll();
+            }
+        }
+
+        /**
+         * Called when a worker process exits: replaces it if work is left.
+         *
+         * @param process The process
+         */
+        private synchronized void exited(Process process) {
+            processes.remove(process.pid());
+            live--;
+            if (closed || failure != null || remaining == 0) {
+                return;
+            }
+            if (restartsLeft > 0) {
+                restartsLeft--;
+                LOGGER.log(Level.WARNING, "ShardCoordinator Warning: Worker " + process.pid()
+                        + " exited with code " + process.exitValue() + "; starting a replacement.");
+                launch();
+            } else if (live == 0) {
+                failure = "Every worker process died and the restart limit is reached.";
+                notifyAll();
+            }
+        }
+
+        /**
+         * Talks to one worker until it is stopped or lost.
+         *
+         * @param socket The worker's connection
+         */
+        private void serve(Socket socket) {
+            Shard shard = null;
+            long pid = -1;
+            try (socket) {
+                socket.setSoTimeout((int) Math.min(Integer.MAX_VALUE, workerTimeoutMillis));
+                socket.setTcpNoDelay(true);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+                if (in.readInt() != ShardProtocol.MAGIC || in.readUnsignedByte() != ShardProtocol.VERSION) {
+                    throw new IOException("ShardCoordinator Error: Not a shard worker.");
+                }
+                long claimedPid = in.readLong();
+                if (!ShardProtocol.tokenMatches(token, in.readUTF())) {
+                    throw new IOException("ShardCoordinator Error: Connection did not send the run token.");
+                }
+                pid = claimedPid;
+                String workerIdentity = in.readUTF();
+                if (!workerIdentity.equals(identity)) {
+                    throw new IOException("ShardCoordinator Error: Worker plays " + workerIdentity + ".");
+                }
+
+                while ((shard = take()) != null) {
+                    out.writeByte(ShardProtocol.ASSIGN);
+                    out.writeInt(shard.id);
+                    out.writeLong(shard.next);
+                    out.writeLong(shard.to);
+                    out.writeLong(baseSeed);
+                    out.writeBoolean(heatmap != null);
+                    out.flush();
+
+                    while (shard.next < shard.to) {
+                        readPartial(in, shard);
+                    }
+                    shard = null;
+                }
+                out.writeByte(ShardProtocol.STOP);
+                out.flush();
+            } catch (IOException e) {
+                lost(pid, shard, e);
+            }
+        }
+
+        /**
+         * Reads one PARTIAL message of a shard and merges it.
+         *
+         * @param in    The worker's input stream
+         * @param shard The shard the worker plays
+         * @throws IOException if reading fails or the message does not continue the shard
+         */
+        private void readPartial(DataInputStream in, Shard shard) throws IOException {
+            int type = in.readUnsignedByte();
+            if (type != ShardProtocol.PARTIAL) {
+                throw new IOException("ShardCoordinator Error: Unexpected message type " + type + ".");
+            }
+            int id = in.readInt();
+            long from = in.readLong();
+            long end = in.readLong();
+            long elapsed = in.readLong();
+            if (id != shard.id || from != shard.next || end <= from || end > shard.to) {
+                throw new IOException("ShardCoordinator Error: Partial [" + from + ", " + end
+                        + ") does not continue shard " + shard.id + " at " + shard.next + ".");
+            }
+            TournamentResult part = ShardProtocol.readAggregates(in, profile.getPenguinCount(), elapsed);
+            if ((part.getHeatmap() != null) != (heatmap != null)) {
+                throw new IOException("ShardCoordinator Error: Partial heatmap does not match the run.");
+            }
+
+            synchronized (this) {
+                total.merge(part.getStats());
+                sketches.merge(part.getSketches());
+                if (heatmap != null) {
+                    heatmap.merge(part.getHeatmap());
+                }
+                shard.next = end;
+                remaining -= end - from;
+                if (remaining == 0) {
+                    notifyAll();
+                }
+            }
+        }
+
+        /**
+         * Puts the unfinished rest of a lost worker's shard back into the
+         * queue and kills the worker.
+         *
+         * @param pid   The worker's process id, or -1 if unknown
+         * @param shard The shard it played, or null
+         * @param cause The error
+         */
+        private void lost(long pid, Shard shard, IOException cause) {
+            synchronized (this) {
+                if (shard != null && shard.next < shard.to) {
+                    LOGGER.log(Level.WARNING, "ShardCoordinator Warning: Lost worker " + pid + " ("
+                            + cause + "); reassigning games [" + shard.next + ", " + shard.to + ").");
+                    queue.addFirst(shard);
+                    notifyAll();
+                }
+            }
+            Process process = processes.get(pid);
+            if (process != null) {
+                process.destroyForcibly();
+            }
+        }
+
+        /**
+         * Takes the next shard, waiting while other workers may still
+         * give one back.
+         *
+         * @return The shard, or null if the run is over
+         */
+        private synchronized Shard take() {
+            while (queue.isEmpty() && remaining > 0 && failure == null && !closed) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+            return failure != null || closed ? null : queue.poll();
+        }
+
+        /**
+         * Waits until every game is merged or the run fails.
+         *
+         * @throws IOException if the run failed
+         */
+        private synchronized void await() throws IOException {
+            while (remaining > 0 && failure == null) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("ShardCoordinator Error: Interrupted.", e);
+                }
+            }
+            if (failure != null) {
+                throw new IOException("ShardCoordinator Error: " + failure);
+            }
+        }
+
+        /**
+         * Ends the run: wakes idle handlers (which stop their workers) and
+         * kills workers that do not exit in time.
+         */
+        private void shutdown() {
+            synchronized (this) {
+                closed = true;
+                notifyAll();
+            }
+            for (Process process : processes.values()) {
+                try {
+                    if (!process.waitFor(EXIT_GRACE_MILLIS, TimeUnit.MILLISECONDS)) {
+                        process.destroyForcibly();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    process.destroyForcibly();
+                }
+            }
+        }
+    }
+
+    /**
+     * Command-line entry point.
+     * <p>
+     * Usage: ShardCoordinator [games] [seed] [workers] [threads per worker]
+     * [--heatmap prefix] [--jvm "options"] [--restarts n] [--policy spec]
+     * <p>
+     * --policy picks the policy of every penguin (see Policies); the default is heuristic.
+     * <p>
+     * Example: ShardCoordinator 100000000 42 4 8 --jvm "-Xmx1g -XX:+UseParallelGC"
+     *
+     * @param args Command line arguments (all optional)
+     */
+    public static void main(String[] args) {
+        try {
+            List<String> positional = new ArrayList<>();
+            String heatmapPrefix = null;
+            List<String> jvmOptions = List.of();
+            int restarts = -1;
+            String policySpec = Policies.DEFAULT_SPEC;
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--heatmap") && i + 1 < args.length) {
+                    heatmapPrefix = args[++i];
+                } else if (args[i].equals("--jvm") && i + 1 < args.length) {
+                    jvmOptions = Arrays.asList(args[++i].trim().split("\\s+"));
+                } else if (args[i].equals("--restarts") && i + 1 < args.length) {
+                    restarts = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("--policy") && i + 1 < args.length) {
+                    policySpec = args[++i];
+                } else {
+                    positional.add(args[i]);
+                }
+            }
+
+            long games = positional.size() > 0 ? Long.parseLong(positional.get(0)) : 1_000_000L;
+            long seed = positional.size() > 1 ? Long.parseLong(positional.get(1)) : System.nanoTime();
+            int cores = Runtime.getRuntime().availableProcessors();
+            int workers = positional.size() > 2 ? Integer.parseInt(positional.get(2)) : Math.max(1, cores / 4);
+            int threads = positional.size() > 3 ? Integer.parseInt(positional.get(3))
+                    : Math.max(1, cores / workers);
+
+            ShardCoordinator coordinator = new ShardCoordinator(workers, threads);
+            coordinator.setHeatmapsEnabled(heatmapPrefix != null);
+            coordinator.setJvmOptions(jvmOptions);
+            coordinator.setPolicySpec(policySpec);
+            if (restarts >= 0) {
+                coordinator.setMaxRestarts(restarts);
+            }
+
+            TournamentResult result = coordinator.run(games, seed);
+            System.out.println("Sharded over " + workers + " worker processes with " + threads + " threads each");
+            System.out.print(result);
+
+            if (heatmapPrefix != null) {
+                result.getHeatmap().writeCsv(Path.of(heatmapPrefix + ".csv"));
+                result.getHeatmap().save(Path.of(heatmapPrefix + ".heat"));
+                System.out.println();
+                System.out.println("Wrote " + result.getHeatmap() + " to " + heatmapPrefix + ".csv and "
+                        + heatmapPrefix + ".heat");
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Sharded tournament failed.");
+            System.out.println("Reason: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println("Sharded tournament failed.");
+            System.out.println("Reason: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package game.batch;
+
+import game.stats.CellHeatmap;
+import game.stats.GameSketches;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+
+/**
+ * Binary protocol between a ShardCoordinator and its ShardWorker processes.
+ * <p>
+ * Messages are written with DataOutputStream over a loopback socket:
+ * - HELLO (worker, once): MAGIC, VERSION, process id, run token, run
+ * identity (see TournamentRunner.getIdentity())
+ * - ASSIGN (coordinator): shard id, first game, end game, base seed,
+ * heatmap flag
+ * - PARTIAL (worker, repeated): shard id, first game, end game, elapsed
+ * nanoseconds, then the aggregates of those games
+ * - STOP (coordinator): no more work, the worker exits
+ * <p>
+ * The run token is a random string the coordinator passes on the command
+ * line of the workers it starts; a connection that does not send it back,
+ * or that plays another profile or policy, is closed before it gets work.
+ * <p>
+ * A worker answers an ASSIGN with PARTIAL messages for consecutive game
+ * ranges until the shard is done. The aggregates are the raw counters of
+ * a TournamentStats, the GameSketches in their own format and an optional
+ * CellHeatmap, so the coordinator merges them without any per-game data.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+final class ShardProtocol {
+    /**
+     * Signature of the HELLO message ("SHRD")
+     */
+    static final int MAGIC = 0x53485244;
+
+    /**
+     * Protocol version
+     */
+    static final int VERSION = 2;
+
+    /**
+     * Number of random bytes of a run token
+     */
+    static final int TOKEN_BYTES = 16;
+
+    /**
+     * Coordinator to worker: play a shard
+     */
+    static final int ASSIGN = 1;
+
+    /**
+     * Worker to coordinator: aggregates of finished games of a shard
+     */
+    static final int PARTIAL = 2;
+
+    /**
+     * Coordinator to worker: exit
+     */
+    static final int STOP = 3;
+
+    /**
+     * Private constructor to prevent instantiation.
+     * This is a utility class with only static methods.
+     */
+    private ShardProtocol() {
+        throw new UnsupportedOperationException(
+                "ShardProtocol is a utility class and should not be instantiated."
+        );
+    }
+
+    /**
+     * Creates a random run token.
+     *
+     * @return The token as a hexadecimal string
+     */
+    static String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+
+    /**
+     * Compares a received run token with the expected one in constant time.
+     *
+     * @param expected The token of the run
+     * @param received The token sent by a worker
+     * @return true if they are equal
+     */
+    static boolean tokenMatches(String expected, String received) {
+        return MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8),
+                received.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes the aggregates of a range of games.
+     *
+     * @param out    The output stream
+     * @param result The result of the games
+     * @throws IOException if writing fails
+     */
+    static void writeAggregates(DataOutputStream out, TournamentResult result) throws IOException {
+        long[] counters = result.getStats().toArray();
+        out.writeInt(counters.length);
+        for (long counter : counters) {
+            out.writeLong(counter);
+        }
+        result.getSketches().write(out);
+        out.writeBoolean(result.getHeatmap() != null);
+        if (result.getHeatmap() != null) {
+            result.getHeatmap().write(out);
+        }
+    }
+
+    /**
+     * Reads aggregates written by writeAggregates().
+     *
+     * @param in           The input stream
+     * @param penguins     The number of penguins per game
+     * @param elapsedNanos The time the worker spent on the games
+     * @return The aggregates as a result
+     * @throws IOException if reading fails or the data is corrupt
+     */
+    static TournamentResult readAggregates(DataInputStream in, int penguins, long elapsedNanos) throws IOException {
+        long[] counters = new long[in.readInt()];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = in.readLong();
+        }
+        GameSketches sketches = new GameSketches();
+        sketches.readAndMerge(in);
+        CellHeatmap heatmap = in.readBoolean() ? CellHeatmap.read(in) : null;
+
+        TournamentStats stats = new TournamentStats(penguins);
+        try {
+            stats.addArray(counters);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("ShardProtocol Error: Corrupt aggregates. " + e.getMessage(), e);
+        }
+        return new TournamentResult(stats, sketches, heatmap, elapsedNanos, 1);
+    }
+}
@@ -0,0 +1,182 @@
+package game.batch;
+
+import game.SpawnProfile;
+import game.ai.PenguinPolicy;
+import game.ai.Policies;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Worker process of a multi-process tournament (see ShardCoordinator).
+ * <p>
+ * The worker connects to the coordinator over the loopback interface,
+ * introduces itself with a HELLO carrying the run token it was started
+ * with and the identity of its runner, and then plays the shards it is assigned
+ * on a TournamentRunner of its own. Every shard is played in segments of
+ * about PARTIAL_MILLIS, and the aggregates of each segment are sent back
+ * as soon as it is done, so a crash only loses the segment in progress.
+ * The worker exits on STOP or when the coordinator goes away.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class ShardWorker {
+    private static final Logger LOGGER = Logger.getLogger(ShardWorker.class.getName());
+
+    /**
+     * Desired time between two PARTIAL messages
+     */
+    private static final long PARTIAL_MILLIS = 1_000L;
+
+    /**
+     * Games per thread of the first segment of a shard
+     */
+    private static final int FIRST_SEGMENT_GAMES = 256;
+
+    /**
+     * The runner of this process
+     */
+    private final TournamentRunner runner;
+
+    /**
+     * The spawn rules of every game
+     */
+    private final SpawnProfile profile;
+
+    /**
+     * Number of worker threads
+     */
+    private final int threads;
+
+    /**
+     * The run token given by the coordinator
+     */
+    private final String token;
+
+    /**
+     * Constructs a worker for the default game.
+     *
+     * @param threads The number of worker threads
+     * @param token   The run token given by the coordinator
+     * @param policy  The policy of every penguin, shared by all threads
+     * @throws IllegalArgumentException if threads is not positive, or token or policy is null
+     */
+    public ShardWorker(int threads, String token, PenguinPolicy policy) {
+        if (token == null) {
+            throw new IllegalArgumentException(
+                    "ShardWorker Error: Run token cannot be null."
+            );
+        }
+        this.token = token;
+        this.profile = SpawnProfile.defaultProfile();
+        this.runner = new TournamentRunner(profile, policy, threads);
+        this.threads = threads;
+    }
+
+    /**
+     * Connects to a coordinator and plays shards until it sends STOP.
+     *
+     * @param port The coordinator's loopback port
+     * @throws IOException if the connection fails or the coordinator breaks the protocol
+     */
+    public void serve(int port) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+            out.writeInt(ShardProtocol.MAGIC);
+            out.writeByte(ShardProtocol.VERSION);
+            out.writeLong(ProcessHandle.current().pid());
+            out.writeUTF(token);
+            out.writeUTF(runner.getIdentity());
+            out.flush();
+
+            while (true) {
+                int type;
+                try {
+                    type = in.readUnsignedByte();
+                } catch (EOFException e) {
+                    return;
+                }
+                if (type == ShardProtocol.STOP) {
+                    return;
+                }
+                if (type != ShardProtocol.ASSIGN) {
+                    throw new IOException("ShardWorker Error: Unexpected message type " + type + ".");
+                }
+                int shard = in.readInt();
+                long from = in.readLong();
+                long to = in.readLong();
+                long baseSeed = in.readLong();
+                runner.setHeatmapsEnabled(in.readBoolean());
+                playShard(out, shard, from, to, baseSeed);
+            }
+        }
+    }
+
+    /**
+     * Plays one shard in segments and sends the aggregates of every segment.
+     *
+     * @param out      The output stream
+     * @param shard    The shard id
+     * @param from     The first game index
+     * @param to       The game index after the last one
+     * @param baseSeed The seed of the whole run
+     * @throws IOException if sending fails
+     */
+    private void playShard(DataOutputStream out, int shard, long from, long to, long baseSeed) throws IOException {
+        long next = from;
+        long segment = (long) FIRST_SEGMENT_GAMES * threads;
+        while (next < to) {
+            long end = Math.min(to, next + segment);
+            TournamentResult part = runner.run(next, end, baseSeed);
+
+            out.writeByte(ShardProtocol.PARTIAL);
+            out.writeInt(shard);
+            out.writeLong(next);
+            out.writeLong(end);
+            out.writeLong(part.getElapsedNanos());
+            ShardProtocol.writeAggregates(out, part);
+            out.flush();
+
+            next = end;
+            double gamesPerMilli = part.getGamesPerSecond() / 1000.0;
+            segment = Math.max(threads, (long) (gamesPerMilli * PARTIAL_MILLIS));
+        }
+    }
+
+    /**
+     * Worker process entry point, started by ShardCoordinator.
+     * <p>
+     * Usage: ShardWorker port threads token [policy spec]
+     *
+     * @param args The coordinator's port, the number of threads, the run
+     *             token and the policy spec (see Policies, default heuristic)
+     */
+    public static void main(String[] args) {
+        try {
+            if (args.length < 3) {
+                System.err.println("Usage: ShardWorker port threads token [policy spec]");
+                System.exit(2);
+            }
+            int port = Integer.parseInt(args[0]);
+            int threads = Integer.parseInt(args[1]);
+            PenguinPolicy policy = Policies.parse(args.length > 3 ? args[3] : Policies.DEFAULT_SPEC);
+            new ShardWorker(threads, args[2], policy).serve(port);
+        } catch (IllegalArgumentException | IOException e) {
+            LOGGER.log(Level.SEVERE, "Shard worker failed", e);
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package game.batch;
+
+import game.SpawnProfile;
+
+/**
+ * One combination of game parameters in a SweepSpace.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public final class SweepPoint {
+    /**
+     * CSV column names of the parameters
+     */
+    public static final String CSV_HEADER = "turns,board,penguins,hazards,food,ability";
+
+    /**
+     * Position of this combination in the sweep
+     */
+    private final int index;
+
+    /**
+     * Number of turns
+     */
+    private final int turns;
+
+    /**
+     * Board width and height
+     */
+    private final int boardSize;
+
+    /**
+     * Number of penguins
+     */
+    private final int penguins;
+
+    /**
+     * Number of hazards
+     */
+    private final int hazards;
+
+    /**
+     * Number of food items
+     */
+    private final int food;
+
+    /**
+     * AI ability chance in percent
+     */
+    private final int abilityChance;
+
+    /**
+     * Constructs a combination.
+     *
+     * @param index         The position in the sweep
+     * @param turns         The number of turns
+     * @param boardSize     The board width and height
+     * @param penguins      The number of penguins
+     * @param hazards       The number of hazards
+     * @param food          The number of food items
+     * @param abilityChance The AI ability chance in percent
+     */
+    public SweepPoint(int index, int turns, int boardSize, int penguins,
+                      int hazards, int food, int abilityChance) {
+        this.index = index;
+        this.turns = turns;
+        this.boardSize = boardSize;
+        this.penguins = penguins;
+        this.hazards = hazards;
+        this.food = food;
+        this.abilityChance = abilityChance;
+    }
+
+    /**
+     * Creates the spawn profile of this combination.
+     *
+     * @return The profile
+     * @throws IllegalArgumentException if the counts do not fit on the board
+     */
+    public SpawnProfile toProfile() {
+        return SpawnProfile.of(boardSize, penguins, hazards, food);
+    }
+
+    /**
+     * Gets the position of this combination in the sweep.
+     *
+     * @return The index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the number of turns.
+     *
+     * @return The turn count
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Gets the board width and height.
+     *
+     * @return The board size
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Gets the number of penguins.
+     *
+     * @return The penguin count
+     */
+    public int getPenguins() {
+        return penguins;
+    }
+
+    /**
+     * Gets the number of hazards.
+     *
+     * @return The hazard count
+     */
+    public int getHazards() {
+        return hazards;
+    }
+
+    /**
+     * Gets the number of food items.
+     *
+     * @return The food count
+     */
+    public int getFood() {
+        return food;
+    }
+
+    /**
+     * Gets the AI ability chance.
+     *
+     * @return The chance in percent
+     */
+    public int getAbilityChance() {
+        return abilityChance;
+    }
+
+    /**
+     * Returns the parameters as CSV columns (see CSV_HEADER).
+     *
+     * @return The CSV columns
+     */
+    public String toCsv() {
+        return turns + "," + boardSize + "," + penguins + "," + hazards + "," + food + "," + abilityChance;
+    }
+
+    /**
+     * Returns a short description of the combination.
+     *
+     * @return A descriptive string
+     */
+    @Override
+    public String toString() {
+        return "#" + index + " [turns=" + turns + ", board=" + boardSize + ", penguins=" + penguins
+                + ", hazards=" + hazards + ", food=" + food + ", ability=" + abilityChance + "%]";
+    }
+}
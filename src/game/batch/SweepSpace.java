@@ -0,0 +1,241 @@
+package game.batch;
+
+import game.GameManager;
+import game.ai.HeuristicPolicy;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * The grid of game parameters explored by a ParameterSweep.
+ * <p>
+ * Every parameter has a list of values; the sweep plays every combination.
+ * Properties keys (all optional, the default is the original game's value):
+ * - sweep.turns     - number of turns (default 4)
+ * - sweep.board     - board width and height (default 10)
+ * - sweep.penguins  - number of penguins (default 3)
+ * - sweep.hazards   - number of hazards (default 15)
+ * - sweep.food      - number of food items (default 20)
+ * - sweep.ability   - AI ability chance in percent (default 30)
+ * <p>
+ * A value list is comma-separated and may contain ranges written as
+ * "from..to" or "from..to:step", for example "sweep.board=8..16:2, 20".
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class SweepSpace {
+    /**
+     * Values of the number of turns
+     */
+    private final int[] turns;
+
+    /**
+     * Values of the board size
+     */
+    private final int[] boardSizes;
+
+    /**
+     * Values of the penguin count
+     */
+    private final int[] penguins;
+
+    /**
+     * Values of the hazard count
+     */
+    private final int[] hazards;
+
+    /**
+     * Values of the food count
+     */
+    private final int[] food;
+
+    /**
+     * Values of the AI ability chance in percent
+     */
+    private final int[] abilityChances;
+
+    /**
+     * Constructs a parameter grid.
+     *
+     * @param turns          The values of the number of turns
+     * @param boardSizes     The values of the board size
+     * @param penguins       The values of the penguin count
+     * @param hazards        The values of the hazard count
+     * @param food           The values of the food count
+     * @param abilityChances The values of the ability chance in percent
+     * @throws IllegalArgumentException if a value list is null or empty
+     */
+    public SweepSpace(int[] turns, int[] boardSizes, int[] penguins,
+                      int[] hazards, int[] food, int[] abilityChances) {
+        this.turns = checkValues("turns", turns);
+        this.boardSizes = checkValues("board", boardSizes);
+        this.penguins = checkValues("penguins", penguins);
+        this.hazards = checkValues("hazards", hazards);
+        this.food = checkValues("food", food);
+        this.abilityChances = checkValues("ability", abilityChances);
+    }
+
+    /**
+     * Creates the grid used when no sweep file is given: number of turns,
+     * board size and ability chance around the original game.
+     *
+     * @return The default grid (27 combinations)
+     */
+    public static SweepSpace defaultSpace() {
+        return new SweepSpace(new int[]{2, 4, 6}, new int[]{8, 10, 12}, new int[]{3},
+                new int[]{15}, new int[]{20}, new int[]{0, 30, 60});
+    }
+
+    /**
+     * Loads a grid from a properties file.
+     *
+     * @param path The path of the file
+     * @return The grid
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file contains invalid values
+     */
+    public static SweepSpace load(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            properties.load(reader);
+        }
+        return fromProperties(properties);
+    }
+
+    /**
+     * Creates a grid from properties (see the class documentation for the keys).
+     *
+     * @param properties The sweep properties
+     * @return The grid
+     * @throws IllegalArgumentException if a value is invalid
+     */
+    public static SweepSpace fromProperties(Properties properties) {
+        if (properties == null) {
+            throw new IllegalArgumentException(
+                    "SweepSpace Error: Properties cannot be null."
+            );
+        }
+        return new SweepSpace(
+                parseValues(properties.getProperty("sweep.turns"), GameManager.DEFAULT_MAX_TURNS),
+                parseValues(properties.getProperty("sweep.board"), 10),
+                parseValues(properties.getProperty("sweep.penguins"), 3),
+                parseValues(properties.getProperty("sweep.hazards"), 15),
+                parseValues(properties.getProperty("sweep.food"), 20),
+                parseValues(properties.getProperty("sweep.ability"), HeuristicPolicy.DEFAULT_ABILITY_CHANCE));
+    }
+
+    /**
+     * Parses a value list such as "2, 4, 8..16:4".
+     *
+     * @param spec         The value list, or null
+     * @param defaultValue The value used if spec is null or blank
+     * @return The values
+     * @throws IllegalArgumentException if the list is malformed
+     */
+    static int[] parseValues(String spec, int defaultValue) {
+        if (spec == null || spec.isBlank()) {
+            return new int[]{defaultValue};
+        }
+
+        List<Integer> values = new ArrayList<>();
+        try {
+            for (String part : spec.split(",")) {
+                String item = part.trim();
+                int range = item.indexOf("..");
+                if (range < 0) {
+                    values.add(Integer.parseInt(item));
+                    continue;
+                }
+
+                int colon = item.indexOf(':', range);
+                int from = Integer.parseInt(item.substring(0, range).trim());
+                int to = Integer.parseInt(item.substring(range + 2, colon < 0 ? item.length() : colon).trim());
+                int step = colon < 0 ? 1 : Integer.parseInt(item.substring(colon + 1).trim());
+                if (step <= 0 || to < from) {
+                    throw new IllegalArgumentException(
+                            "SweepSpace Error: Invalid range '" + item + "'."
+                    );
+                }
+                for (int v = from; v <= to; v += step) {
+                    values.add(v);
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    "SweepSpace Error: Invalid value list '" + spec + "'.", e
+            );
+        }
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Validates a value list.
+     *
+     * @param name   The parameter name
+     * @param values The values
+     * @return A copy of the values
+     * @throws IllegalArgumentException if the list is null or empty
+     */
+    private static int[] checkValues(String name, int[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException(
+                    "SweepSpace Error: Parameter '" + name + "' needs at least one value."
+            );
+        }
+        return values.clone();
+    }
+
+    /**
+     * Lists every combination of the parameter values. The last parameter
+     * (ability chance) varies fastest.
+     *
+     * @return The combinations, indexed from 0
+     */
+    public List<SweepPoint> combinations() {
+        List<SweepPoint> points = new ArrayList<>();
+        for (int t : turns) {
+            for (int b : boardSizes) {
+                for (int p : penguins) {
+                    for (int h : hazards) {
+                        for (int f : food) {
+                            for (int a : abilityChances) {
+                                points.add(new SweepPoint(points.size(), t, b, p, h, f, a));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Gets the number of combinations.
+     *
+     * @return The product of the value list lengths
+     */
+    public long size() {
+        return (long) turns.length * boardSizes.length * penguins.length
+                * hazards.length * food.length * abilityChances.length;
+    }
+
+    /**
+     * Returns the value lists of the grid.
+     *
+     * @return A descriptive string
+     */
+    @Override
+    public String toString() {
+        return "SweepSpace [turns=" + Arrays.toString(turns) + ", board=" + Arrays.toString(boardSizes)
+                + ", penguins=" + Arrays.toString(penguins) + ", hazards=" + Arrays.toString(hazards)
+                + ", food=" + Arrays.toString(food) + ", ability=" + Arrays.toString(abilityChances) + "]";
+    }
+}
@@ -0,0 +1,124 @@
+package game.batch;
+
+import game.stats.CellHeatmap;
+import game.stats.GameSketches;
+
+/**
+ * Result of a TournamentRunner run: the merged statistics, the merged
+ * sketches, the merged heatmap (if enabled) and the throughput.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class TournamentResult {
+    /**
+     * The merged statistics of all workers
+     */
+    private final TournamentStats stats;
+
+    /**
+     * The merged score, board, elimination and collision sketches
+     */
+    private final GameSketches sketches;
+
+    /**
+     * The merged per-square heatmap, or null if heatmaps were off
+     */
+    private final CellHeatmap heatmap;
+
+    /**
+     * Wall-clock duration of the run in nanoseconds
+     */
+    private final long elapsedNanos;
+
+    /**
+     * Number of worker threads used
+     */
+    private final int threads;
+
+    /**
+     * Constructs a result.
+     *
+     * @param stats        The merged statistics
+     * @param sketches     The merged sketches
+     * @param heatmap      The merged heatmap, or null if heatmaps were off
+     * @param elapsedNanos The run duration in nanoseconds
+     * @param threads      The number of worker threads
+     */
+    public TournamentResult(TournamentStats stats, GameSketches sketches, CellHeatmap heatmap,
+                            long elapsedNanos, int threads) {
+        this.stats = stats;
+        this.sketches = sketches;
+        this.heatmap = heatmap;
+        this.elapsedNanos = elapsedNanos;
+        this.threads = threads;
+    }
+
+    /**
+     * Gets the merged statistics.
+     *
+     * @return The statistics
+     */
+    public TournamentStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Gets the merged sketches.
+     *
+     * @return The sketches
+     */
+    public GameSketches getSketches() {
+        return sketches;
+    }
+
+    /**
+     * Gets the merged heatmap.
+     *
+     * @return The heatmap, or null if heatmaps were off
+     */
+    public CellHeatmap getHeatmap() {
+        return heatmap;
+    }
+
+    /**
+     * Gets the run duration.
+     *
+     * @return The duration in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the number of worker threads.
+     *
+     * @return The thread count
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Gets the throughput of the run (finished and failed games).
+     *
+     * @return Games per second
+     */
+    public double getGamesPerSecond() {
+        long games = stats.getGames() + stats.getFailedGames();
+        return elapsedNanos == 0 ? 0.0 : games * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Returns a multi-line summary of the run.
+     *
+     * @return The formatted report
+     */
+    @Override
+    public String toString() {
+        return String.format("Played %d games in %.3f s on %d threads%n  |---> Throughput: %.0f games/s%n",
+                stats.getGames() + stats.getFailedGames(), elapsedNanos / 1e9, threads, getGamesPerSecond())
+                + stats + System.lineSeparator() + sketches;
+    }
+}
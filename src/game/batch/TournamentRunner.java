@@ -0,0 +1,592 @@
+package game.batch;
+
+import game.GameResult;
+import game.IcyTerrain;
+import game.SpawnProfile;
+import game.ai.HeuristicPolicy;
+import game.ai.PenguinPolicy;
+import game.ai.Policies;
+import game.stats.CellHeatmap;
+import game.stats.GameSketches;
+import game.util.GameConsole;
+import game.util.HeatmapRecorder;
+import game.util.RandUtil;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Plays many complete headless games (spawn, all turns, score) in
+ * parallel on a work-stealing ForkJoinPool.
+ * <p>
+ * The range of game indices is split in halves until a block is small
+ * enough for one thread; idle threads steal the other halves. Every pool
+ * thread owns a Worker with its own IcyTerrain (whose grid, GameManager,
+ * penguins and hazards are reused for each game), TournamentStats and
+ * GameSketches, so games never share mutable state. The workers' stats are merged once after the pool is
+ * done.
+ * <p>
+ * Game i draws all its random numbers from its own stream, seeded from the
+ * base seed and i, through RandUtil's per-thread generator. A run therefore
+ * gives the same result for the same seed on any number of threads.
+ * <p>
+ * Games that crash in the engine (a RuntimeException or a stack overflow
+ * from a long chain of pushes) are counted as failed instead of stopping
+ * the run.
+ * <p>
+ * With heatmaps enabled, every worker also counts stops, eliminations, food
+ * pickups and collisions per square in its own CellHeatmap (through
+ * HeatmapRecorder), and the heatmaps are merged like the stats.
+ * <p>
+ * Long runs can be checkpointed: the games are then played in segments of
+ * roughly the checkpoint interval, and the progress is saved to a
+ * BatchCheckpoint after each segment. A resumed run continues at the first
+ * unfinished game and ends with the same statistics as an uninterrupted
+ * run, because the counters only add up and every game has its own seed.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class TournamentRunner {
+    /**
+     * Largest block of games played by one thread without splitting
+     */
+    private static final int LEAF_GAMES = 64;
+
+    /**
+     * Default time between two checkpoints
+     */
+    public static final long DEFAULT_CHECKPOINT_MILLIS = 30_000L;
+
+    /**
+     * Spawn rules of every game
+     */
+    private final SpawnProfile profile;
+
+    /**
+     * Policy of every penguin (must be safe to share between threads)
+     */
+    private final PenguinPolicy policy;
+
+    /**
+     * Number of worker threads
+     */
+    private final int threads;
+
+    /**
+     * Whether workers record per-square heatmaps
+     */
+    private boolean heatmapsEnabled;
+
+    /**
+     * Constructs a runner for the default game with the original AI on all
+     * available processors.
+     */
+    public TournamentRunner() {
+        this(SpawnProfile.defaultProfile(), new HeuristicPolicy(), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a runner.
+     *
+     * @param profile The spawn rules of every game
+     * @param policy  The policy of every penguin, shared by all threads
+     * @param threads The number of worker threads
+     * @throws IllegalArgumentException if profile or policy is null, or threads is not positive
+     */
+    public TournamentRunner(SpawnProfile profile, PenguinPolicy policy, int threads) {
+        if (profile == null || policy == null) {
+            throw new IllegalArgumentException(
+                    "TournamentRunner Error: Profile and policy cannot be null."
+            );
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException(
+                    "TournamentRunner Error: Thread count must be positive. Received: " + threads
+            );
+        }
+        this.profile = profile;
+        this.policy = policy;
+        this.threads = threads;
+    }
+
+    /**
+     * Plays a tournament.
+     *
+     * @param games    The number of games to play
+     * @param baseSeed The seed of the whole run
+     * @return The merged statistics and throughput
+     * @throws IllegalArgumentException if games is negative
+     */
+    public TournamentResult run(long games, long baseSeed) {
+        return run(0, games, baseSeed);
+    }
+
+    /**
+     * Plays the games with indices [from, to) of a tournament.
+     *
+     * @param from     The first game index
+     * @param to       The game index after the last one
+     * @param baseSeed The seed of the whole run
+     * @return The merged statistics and throughput
+     * @throws IllegalArgumentException if the range is invalid
+     */
+    public TournamentResult run(long from, long to, long baseSeed) {
+        if (from < 0 || to < from) {
+            throw new IllegalArgumentException(
+                    "TournamentRunner Error: Invalid game range [" + from + ", " + to + ")."
+            );
+        }
+
+        Queue<Worker> workers = new ConcurrentLinkedQueue<>();
+        ThreadLocal<Worker> local = ThreadLocal.withInitial(() -> {
+            Worker worker = new Worker(baseSeed);
+            workers.add(worker);
+            return worker;
+        });
+
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.invoke(new GameBlock(local, from, to));
+        } finally {
+            pool.shutdown();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        TournamentStats total = new TournamentStats(profile.getPenguinCount());
+        GameSketches sketches = new GameSketches();
+        CellHeatmap heatmap = heatmapsEnabled ? new CellHeatmap(profile.getBoardSize()) : null;
+        for (Worker worker : workers) {
+            total.merge(worker.stats);
+            sketches.merge(worker.sketches);
+            if (heatmap != null) {
+                heatmap.merge(worker.heatmap);
+            }
+        }
+        return new TournamentResult(total, sketches, heatmap, elapsed, threads);
+    }
+
+    /**
+     * Plays a tournament in segments and saves a checkpoint after each one.
+     * <p>
+     * If resume is true and the checkpoint file exists, the run continues
+     * from it; the game count and seed stored in the checkpoint are used
+     * instead of the given ones. The checkpoint is kept after the last
+     * segment, so resuming a finished run only returns its result. With
+     * heatmaps enabled, the heatmap is checkpointed too.
+     *
+     * @param games          The number of games to play
+     * @param baseSeed       The seed of the whole run
+     * @param checkpoint     The checkpoint file
+     * @param intervalMillis The desired time between two checkpoints
+     * @param resume         Whether to continue from an existing checkpoint
+     * @return The merged statistics of the whole run and its total duration
+     * @throws IOException              if the checkpoint cannot be read or written
+     * @throws IllegalArgumentException if an argument is invalid or the
+     *                                  checkpoint belongs to another profile or
+     *                                  policy, or has no heatmap while heatmaps are enabled
+     */
+    public TournamentResult run(long games, long baseSeed, Path checkpoint, long intervalMillis, boolean resume)
+            throws IOException {
+        if (checkpoint == null || intervalMillis <= 0) {
+            throw new IllegalArgumentException(
+                    "TournamentRunner Error: A checkpoint file and a positive interval are required."
+            );
+        }
+
+        long totalGames = games;
+        long seed = baseSeed;
+        long next = 0;
+        long elapsed = 0;
+        String identity = getIdentity();
+        TournamentStats total = new TournamentStats(profile.getPenguinCount());
+        GameSketches sketches = new GameSketches();
+        CellHeatmap heatmap = heatmapsEnabled ? new CellHeatmap(profile.getBoardSize()) : null;
+
+        if (resume && Files.exists(checkpoint)) {
+            BatchCheckpoint saved = BatchCheckpoint.load(checkpoint);
+            if (!saved.getIdentity().equals(identity)) {
+                throw new IllegalArgumentException(
+                        "TournamentRunner Error: Checkpoint was written for another run. Checkpoint: "
+                                + saved.getIdentity() + ". This run: " + identity + "."
+                );
+            }
+            totalGames = saved.getTotalGames();
+            seed = saved.getBaseSeed();
+            next = saved.getNextGame();
+            elapsed = saved.getElapsedNanos();
+            total.merge(saved.getStats());
+            sketches.merge(saved.getSketches());
+            if (heatmap != null) {
+                if (saved.getHeatmap() == null) {
+                    throw new IllegalArgumentException(
+                            "TournamentRunner Error: Checkpoint was written without heatmaps."
+                    );
+                }
+                heatmap.merge(saved.getHeatmap());
+            }
+        } else if (games < 0) {
+            throw new IllegalArgumentException(
+                    "TournamentRunner Error: Game count cannot be negative. Received: " + games
+            );
+        }
+
+        // The first segment measures the throughput; later ones last about one interval
+        long segment = (long) LEAF_GAMES * threads * 4;
+        while (next < totalGames) {
+            long end = Math.min(totalGames, next + segment);
+            TournamentResult part = run(next, end, seed);
+            total.merge(part.getStats());
+            sketches.merge(part.getSketches());
+            if (heatmap != null) {
+                heatmap.merge(part.getHeatmap());
+            }
+            elapsed += part.getElapsedNanos();
+            next = end;
+            new BatchCheckpoint(seed, totalGames, next, identity, elapsed, total, sketches, heatmap)
+                    .save(checkpoint);
+
+            double gamesPerMilli = part.getGamesPerSecond() / 1000.0;
+            segment = Math.max((long) LEAF_GAMES * threads, (long) (gamesPerMilli * intervalMillis));
+        }
+        return new TournamentResult(total, sketches, heatmap, elapsed, threads);
+    }
+
+    /**
+     * Describes what this runner plays: every rule of the spawn profile and
+     * the class and parameters of the policy. A checkpoint is only resumed
+     * by a runner with the same identity.
+     *
+     * @return The identity of the runs
+     */
+    public String getIdentity() {
+        return identity(profile, policy);
+    }
+
+    /**
+     * Describes a profile and a policy (see getIdentity()).
+     *
+     * @param profile The spawn profile
+     * @param policy  The policy of every penguin
+     * @return The identity
+     */
+    static String identity(SpawnProfile profile, PenguinPolicy policy) {
+        return profile.getIdentity() + "; policy=" + policy.getClass().getName() + " " + policy;
+    }
+
+    /**
+     * Enables or disables per-square heatmaps for the following runs.
+     * Heatmaps are off by default.
+     *
+     * @param enabled Whether workers record heatmaps
+     */
+    public void setHeatmapsEnabled(boolean enabled) {
+        this.heatmapsEnabled = enabled;
+    }
+
+    /**
+     * Plays the same tournament on a growing number of threads to measure
+     * how the throughput scales.
+     *
+     * @param games        The number of games per run
+     * @param baseSeed     The seed of every run
+     * @param threadCounts The thread counts to try
+     * @return One result per thread count
+     */
+    public List<TournamentResult> runScaling(long games, long baseSeed, int[] threadCounts) {
+        List<TournamentResult> results = new ArrayList<>();
+        for (int count : threadCounts) {
+            results.add(new TournamentRunner(profile, policy, count).run(games, baseSeed));
+        }
+        return results;
+    }
+
+    /**
+     * Formats a scaling curve: throughput, speedup over the first run and
+     * parallel efficiency per thread count.
+     *
+     * @param results The results of runScaling
+     * @return The formatted table
+     */
+    public static String formatScaling(List<TournamentResult> results) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("  %8s %14s %9s %11s%n", "Threads", "Games/s", "Speedup", "Efficiency"));
+        if (results.isEmpty()) {
+            return sb.toString();
+        }
+
+        TournamentResult base = results.get(0);
+        double basePerThread = base.getGamesPerSecond() / base.getThreads();
+        for (TournamentResult result : results) {
+            double speedup = result.getGamesPerSecond() / base.getGamesPerSecond();
+            double efficiency = result.getGamesPerSecond() / (basePerThread * result.getThreads());
+            sb.append(String.format("  %8d %14.0f %8.2fx %10.1f%%%n", result.getThreads(),
+                    result.getGamesPerSecond(), speedup, 100.0 * efficiency));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Derives the seed of one game from the seed of the run.
+     *
+     * @param baseSeed  The seed of the run
+     * @param gameIndex The index of the game
+     * @return The seed of the game's random stream
+     */
+    public static long gameSeed(long baseSeed, long gameIndex) {
+        long z = baseSeed + gameIndex * 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    /**
+     * Per-thread state: a reusable terrain and private counters.
+     */
+    private final class Worker {
+        /**
+         * The seed of the run
+         */
+        private final long baseSeed;
+
+        /**
+         * The terrain of this thread, reset before every game
+         */
+        private final IcyTerrain terrain;
+
+        /**
+         * The counters of this thread
+         */
+        private final TournamentStats stats;
+
+        /**
+         * The sketches of this thread
+         */
+        private final GameSketches sketches;
+
+        /**
+         * The heatmap of this thread, or null if heatmaps are off
+         */
+        private final CellHeatmap heatmap;
+
+        /**
+         * The events of the game being played, added to heatmap only if
+         * the game finishes (a failed game is not counted anywhere)
+         */
+        private final CellHeatmap gameHeatmap;
+
+        /**
+         * Constructs the state of one thread.
+         *
+         * @param baseSeed The seed of the run
+         */
+        private Worker(long baseSeed) {
+            this.baseSeed = baseSeed;
+            this.terrain = new IcyTerrain(profile);
+            this.stats = new TournamentStats(profile.getPenguinCount());
+            this.sketches = new GameSketches();
+            this.heatmap = heatmapsEnabled ? new CellHeatmap(profile.getBoardSize()) : null;
+            this.gameHeatmap = heatmapsEnabled ? new CellHeatmap(profile.getBoardSize()) : null;
+        }
+
+        /**
+         * Plays one game and counts its result.
+         *
+         * @param gameIndex The index of the game
+         */
+        private void play(long gameIndex) {
+            RandUtil.setThreadGenerator(new SplittableRandom(gameSeed(baseSeed, gameIndex)));
+            try {
+                terrain.reset();
+                terrain.spawn();
+                GameResult result = terrain.run(policy);
+                stats.record(result);
+                sketches.record(result, terrain.getSpawnHash());
+                if (heatmap != null) {
+                    heatmap.drain(gameHeatmap);
+                }
+            } catch (RuntimeException e) {
+                stats.recordFailure();
+                if (gameHeatmap != null) {
+                    gameHeatmap.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * A range of game indices, split in halves until it is small enough.
+     */
+    private final class GameBlock extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The per-thread workers of the run
+         */
+        private final transient ThreadLocal<Worker> local;
+
+        /**
+         * The first game index
+         */
+        private final long from;
+
+        /**
+         * The game index after the last one
+         */
+        private final long to;
+
+        /**
+         * Constructs a block.
+         *
+         * @param local The per-thread workers
+         * @param from  The first game index
+         * @param to    The game index after the last one
+         */
+        private GameBlock(ThreadLocal<Worker> local, long from, long to) {
+            this.local = local;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Plays the block or splits it.
+         */
+        @Override
+        protected void compute() {
+            if (to - from > LEAF_GAMES) {
+                long mid = from + (to - from) / 2;
+                invokeAll(new GameBlock(local, from, mid), new GameBlock(local, mid, to));
+                return;
+            }
+
+            Worker worker = local.get();
+            boolean wasMuted = GameConsole.isMuted();
+            GameConsole.setMuted(true);
+            HeatmapRecorder.setThreadHeatmap(worker.gameHeatmap);
+            try {
+                for (long g = from; g < to; g++) {
+                    worker.play(g);
+                }
+            } finally {
+                HeatmapRecorder.setThreadHeatmap(null);
+                RandUtil.setThreadGenerator(null);
+                GameConsole.setMuted(wasMuted);
+            }
+        }
+    }
+
+    /**
+     * Command-line entry point.
+     * <p>
+     * Usage: TournamentRunner [games] [seed] [threads | scale] [--checkpoint file] [--resume]
+     * [--heatmap prefix] [--policy spec]
+     * <p>
+     * --policy picks the policy of every penguin (see Policies), e.g.
+     * heuristic (the default), expectimax:20 or mcts:5000it.
+     * <p>
+     * With --checkpoint the progress is saved to the file every
+     * DEFAULT_CHECKPOINT_MILLIS; --resume continues a run from that file.
+     * With --heatmap the per-square heatmap is written to prefix.csv and,
+     * in the binary format, to prefix.heat.
+     * <p>
+     * With "scale" the tournament is played on 1, 2, 4, ... threads up to
+     * the number of available processors and the scaling curve is printed.
+     * <p>
+     * Example: TournamentRunner 1000000 42 scale
+     * <p>
+     * Example: TournamentRunner 100000000 42 16 --checkpoint run.ckpt --resume
+     * <p>
+     * Example: TournamentRunner 1000000 42 16 --heatmap heat
+     * <p>
+     * Example: TournamentRunner 10000 42 16 --policy expectimax:5
+     *
+     * @param args Command line arguments (all optional)
+     */
+    public static void main(String[] args) {
+        try {
+            List<String> positional = new ArrayList<>();
+            Path checkpoint = null;
+            boolean resume = false;
+            String heatmapPrefix = null;
+            String policySpec = Policies.DEFAULT_SPEC;
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--resume")) {
+                    resume = true;
+                } else if (args[i].equals("--checkpoint") && i + 1 < args.length) {
+                    checkpoint = Path.of(args[++i]);
+                } else if (args[i].equals("--heatmap") && i + 1 < args.length) {
+                    heatmapPrefix = args[++i];
+                } else if (args[i].equals("--policy") && i + 1 < args.length) {
+                    policySpec = args[++i];
+                } else {
+                    positional.add(args[i]);
+                }
+            }
+
+            long games = positional.size() > 0 ? Long.parseLong(positional.get(0)) : 100_000L;
+            long seed = positional.size() > 1 ? Long.parseLong(positional.get(1)) : System.nanoTime();
+            int cores = Runtime.getRuntime().availableProcessors();
+            PenguinPolicy policy = Policies.parse(policySpec);
+
+            if (positional.size() > 2 && positional.get(2).equalsIgnoreCase("scale")) {
+                List<Integer> counts = new ArrayList<>();
+                for (int t = 1; t < cores; t *= 2) {
+                    counts.add(t);
+                }
+                counts.add(cores);
+                int[] threadCounts = counts.stream().mapToInt(Integer::intValue).toArray();
+
+                TournamentRunner runner = new TournamentRunner(SpawnProfile.defaultProfile(), policy, cores);
+                List<TournamentResult> results = runner.runScaling(games, seed, threadCounts);
+                System.out.print(results.get(results.size() - 1));
+                System.out.println();
+                System.out.print(formatScaling(results));
+                return;
+            }
+
+            int threads = positional.size() > 2 ? Integer.parseInt(positional.get(2)) : cores;
+            TournamentRunner runner = new TournamentRunner(SpawnProfile.defaultProfile(), policy, threads);
+            if (!policySpec.equals(Policies.DEFAULT_SPEC)) {
+                System.out.println("Policy: " + policy);
+            }
+            runner.setHeatmapsEnabled(heatmapPrefix != null);
+
+            TournamentResult result;
+            if (checkpoint == null) {
+                result = runner.run(games, seed);
+            } else {
+                if (resume && Files.exists(checkpoint)) {
+                    System.out.println("Resuming " + BatchCheckpoint.load(checkpoint));
+                }
+                result = runner.run(games, seed, checkpoint, DEFAULT_CHECKPOINT_MILLIS, resume);
+            }
+            System.out.print(result);
+
+            if (heatmapPrefix != null) {
+                result.getHeatmap().writeCsv(Path.of(heatmapPrefix + ".csv"));
+                result.getHeatmap().save(Path.of(heatmapPrefix + ".heat"));
+                System.out.println();
+                System.out.println("Wrote " + result.getHeatmap() + " to " + heatmapPrefix + ".csv and "
+                        + heatmapPrefix + ".heat");
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Tournament failed.");
+            System.out.println("Reason: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println("Tournament failed.");
+            System.out.println("Reason: File error. " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package game.batch;
+
+import enums.PenguinType;
+import game.GameResult;
+
+import java.util.List;
+
+/**
+ * Mergeable counters of a batch of games.
+ * <p>
+ * Every worker thread owns one TournamentStats and updates it without
+ * synchronization; the runner merges the workers' stats once at the end.
+ * All counters are longs in a single flat array:
+ * - totals: games, failed games, shared wins, sum of winning scores
+ * - per turn position (P1, P2, ...): games, wins, score sum, eliminations
+ * - per PenguinType: games, wins, score sum, eliminations
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class TournamentStats {
+    /**
+     * Slot of the games counter of a key
+     */
+    public static final int GAMES = 0;
+
+    /**
+     * Slot of the sole-win counter of a key
+     */
+    public static final int WINS = 1;
+
+    /**
+     * Slot of the score sum of a key
+     */
+    public static final int SCORE = 2;
+
+    /**
+     * Slot of the elimination counter of a key
+     */
+    public static final int ELIMINATIONS = 3;
+
+    /**
+     * Number of slots per key
+     */
+    private static final int STAT_COUNT = 4;
+
+    /**
+     * Index of the total game counter
+     */
+    private static final int TOTAL_GAMES = 0;
+
+    /**
+     * Index of the failed game counter
+     */
+    private static final int TOTAL_FAILED = 1;
+
+    /**
+     * Index of the shared-win counter
+     */
+    private static final int TOTAL_TIES = 2;
+
+    /**
+     * Index of the winning score sum
+     */
+    private static final int TOTAL_TOP_SCORE = 3;
+
+    /**
+     * Number of total counters
+     */
+    private static final int TOTAL_COUNT = 4;
+
+    /**
+     * Number of penguin types
+     */
+    private static final int TYPE_COUNT = PenguinType.values().length;
+
+    /**
+     * Number of penguins per game
+     */
+    private final int penguins;
+
+    /**
+     * The counters
+     */
+    private final long[] data;
+
+    /**
+     * Constructs empty stats.
+     *
+     * @param penguins The number of penguins per game
+     * @throws IllegalArgumentException if penguins is not positive
+     */
+    public TournamentStats(int penguins) {
+        if (penguins <= 0) {
+            throw new IllegalArgumentException(
+                    "TournamentStats Error: Penguin count must be positive. Received: " + penguins
+            );
+        }
+        this.penguins = penguins;
+        this.data = new long[TOTAL_COUNT + (penguins + TYPE_COUNT) * STAT_COUNT];
+    }
+
+    /**
+     * Adds a finished game.
+     *
+     * @param result The game result
+     */
+    public void record(GameResult result) {
+        List<GameResult.PenguinResult> results = result.getPenguins();
+        int winner = result.getWinnerIndex();
+        int topScore = 0;
+
+        for (int i = 0; i < results.size(); i++) {
+            GameResult.PenguinResult penguin = results.get(i);
+            int win = (i == winner) ? 1 : 0;
+            int eliminated = penguin.isEliminated() ? 1 : 0;
+            topScore = Math.max(topScore, penguin.getScore());
+
+            if (i < penguins) {
+                add(orderSlot(i), win, penguin.getScore(), eliminated);
+            }
+            add(typeSlot(penguin.getType().ordinal()), win, penguin.getScore(), eliminated);
+        }
+
+        data[TOTAL_GAMES]++;
+        data[TOTAL_TOP_SCORE] += topScore;
+        if (winner < 0) {
+            data[TOTAL_TIES]++;
+        }
+    }
+
+    /**
+     * Counts a game that could not be finished.
+     */
+    public void recordFailure() {
+        data[TOTAL_FAILED]++;
+    }
+
+    /**
+     * Adds another worker's counters to these.
+     *
+     * @param other The stats to add
+     * @throws IllegalArgumentException if the stats have a different layout
+     */
+    public void merge(TournamentStats other) {
+        if (other == null || other.penguins != penguins) {
+            throw new IllegalArgumentException(
+                    "TournamentStats Error: Can only merge stats with the same penguin count."
+            );
+        }
+        for (int i = 0; i < data.length; i++) {
+            data[i] += other.data[i];
+        }
+    }
+
+    /**
+     * Adds one penguin's game to a key.
+     *
+     * @param slot       The first slot of the key
+     * @param win        1 for a sole win
+     * @param score      The penguin's score
+     * @param eliminated 1 if the penguin was eliminated
+     */
+    private void add(int slot, int win, int score, int eliminated) {
+        data[slot + GAMES]++;
+        data[slot + WINS] += win;
+        data[slot + SCORE] += score;
+        data[slot + ELIMINATIONS] += eliminated;
+    }
+
+    /**
+     * Gets the first slot of a turn position.
+     *
+     * @param order The turn position (0 for P1)
+     * @return The slot index
+     */
+    private int orderSlot(int order) {
+        return TOTAL_COUNT + order * STAT_COUNT;
+    }
+
+    /**
+     * Gets the first slot of a penguin type.
+     *
+     * @param type The PenguinType ordinal
+     * @return The slot index
+     */
+    private int typeSlot(int type) {
+        return TOTAL_COUNT + (penguins + type) * STAT_COUNT;
+    }
+
+    /**
+     * Gets a counter of a turn position.
+     *
+     * @param order The turn position (0 for P1)
+     * @param stat  GAMES, WINS, SCORE or ELIMINATIONS
+     * @return The counter value
+     */
+    public long getByOrder(int order, int stat) {
+        return data[orderSlot(order) + stat];
+    }
+
+    /**
+     * Gets a counter of a penguin type.
+     *
+     * @param type The penguin type
+     * @param stat GAMES, WINS, SCORE or ELIMINATIONS
+     * @return The counter value
+     */
+    public long getByType(PenguinType type, int stat) {
+        return data[typeSlot(type.ordinal()) + stat];
+    }
+
+    /**
+     * Gets the number of finished games.
+     *
+     * @return The game count
+     */
+    public long getGames() {
+        return data[TOTAL_GAMES];
+    }
+
+    /**
+     * Gets the number of games that could not be finished.
+     *
+     * @return The failed game count
+     */
+    public long getFailedGames() {
+        return data[TOTAL_FAILED];
+    }
+
+    /**
+     * Gets the number of games whose top score was shared.
+     *
+     * @return The tie count
+     */
+    public long getTies() {
+        return data[TOTAL_TIES];
+    }
+
+    /**
+     * Gets the average winning score.
+     *
+     * @return The mean top score per finished game
+     */
+    public double getAverageTopScore() {
+        return data[TOTAL_GAMES] == 0 ? 0.0 : (double) data[TOTAL_TOP_SCORE] / data[TOTAL_GAMES];
+    }
+
+    /**
+     * Gets the number of penguins per game.
+     *
+     * @return The penguin count
+     */
+    public int getPenguins() {
+        return penguins;
+    }
+
+    /**
+     * Gets a copy of the raw counters (used for checkpoints).
+     *
+     * @return The counters
+     */
+    public long[] toArray() {
+        return data.clone();
+    }
+
+    /**
+     * Adds raw counters from toArray() to these stats.
+     *
+     * @param counters The counters to add
+     * @throws IllegalArgumentException if the array has the wrong length
+     */
+    public void addArray(long[] counters) {
+        if (counters == null || counters.length != data.length) {
+            throw new IllegalArgumentException(
+                    "TournamentStats Error: Expected " + data.length + " counters."
+            );
+        }
+        for (int i = 0; i < data.length; i++) {
+            data[i] += counters[i];
+        }
+    }
+
+    /**
+     * Returns the tables of this batch.
+     *
+     * @return The formatted statistics
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        long games = getGames();
+        sb.append(String.format("  |---> Finished games: %d (failed: %d)%n", games, getFailedGames()));
+        sb.append(String.format("  |---> Shared wins: %.2f%%%n", games == 0 ? 0.0 : 100.0 * getTies() / games));
+        sb.append(String.format("  |---> Average winning score: %.3f units%n", getAverageTopScore()));
+
+        sb.append(String.format("%n  %-12s %12s %8s %10s %12s%n", "Penguin", "Games", "Win", "Avg score", "Eliminated"));
+        for (int o = 0; o < penguins; o++) {
+            appendRow(sb, "P" + (o + 1), orderSlot(o));
+        }
+        for (PenguinType type : PenguinType.values()) {
+            appendRow(sb, type.getDisplayName(), typeSlot(type.ordinal()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Appends one table row.
+     *
+     * @param sb   The builder
+     * @param name The key name
+     * @param slot The first slot of the key
+     */
+    private void appendRow(StringBuilder sb, String name, int slot) {
+        long n = data[slot + GAMES];
+        sb.append(String.format("  %-12s %12d %7.2f%% %10.3f %11.2f%%%n", name, n,
+                n == 0 ? 0.0 : 100.0 * data[slot + WINS] / n,
+                n == 0 ? 0.0 : (double) data[slot + SCORE] / n,
+                n == 0 ? 0.0 : 100.0 * data[slot + ELIMINATIONS] / n));
+    }
+}
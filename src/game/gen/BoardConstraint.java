@@ -0,0 +1,35 @@
+package game.gen;
+
+import game.sim.FastBoard;
+
+/**
+ * A declarative condition a generated starting board must satisfy.
+ * Constraints are evaluated by the BoardGenerator on freshly spawned boards,
+ * in the order they were given, and a board is rejected at the first
+ * constraint that fails. Cheap constraints should therefore come first.
+ * <p>
+ * Implementations must not modify the board. Move simulations should be run
+ * on the scratch board, which the generator owns per worker thread.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public interface BoardConstraint {
+
+    /**
+     * Checks whether a board satisfies this constraint.
+     *
+     * @param board   The spawned board (must not be modified)
+     * @param scratch A board with the same dimensions for forked simulations
+     * @return true if the board is acceptable
+     */
+    boolean test(FastBoard board, FastBoard scratch);
+
+    /**
+     * Returns a short description of this constraint for reports.
+     *
+     * @return The constraint description (e.g. "minReachableFood:3")
+     */
+    String describe();
+}
@@ -0,0 +1,186 @@
+package game.gen;
+
+import game.sim.FastBoard;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Factory for the standard BoardConstraints and parser for constraint specs.
+ * <p>
+ * Available constraints:
+ * - minReachableFood:k[:slides] - every penguin can reach at least k food items
+ * within the given number of slides (default: 4, one per turn)
+ * - noTurnOneDeath - no penguin dies in every direction on its first move
+ * - balancedSpawns:t[:slides] - the reachable food weight of the best and the
+ * worst placed penguin differs by at most t units
+ * <p>
+ * A spec is a comma-separated list of constraints, for example:
+ * "noTurnOneDeath,minReachableFood:3,balancedSpawns:6"
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class BoardConstraints {
+    /**
+     * Default search depth: one slide per game turn
+     */
+    public static final int DEFAULT_SLIDES = 4;
+
+    /**
+     * Private constructor to prevent instantiation.
+     * This is a utility class with only static methods.
+     */
+    private BoardConstraints() {
+        throw new UnsupportedOperationException(
+                "BoardConstraints is a utility class and should not be instantiated."
+        );
+    }
+
+    /**
+     * Every penguin must be able to reach at least k food items.
+     *
+     * @param k         The minimum number of reachable food items
+     * @param maxSlides The number of slides the search may use
+     * @return The constraint
+     * @throws IllegalArgumentException if k is negative or maxSlides is not positive
+     */
+    public static BoardConstraint minReachableFood(int k, int maxSlides) {
+        if (k < 0 || maxSlides <= 0) {
+            throw new IllegalArgumentException(
+                    "BoardConstraints Error: Invalid minReachableFood arguments " + k + ", " + maxSlides
+            );
+        }
+
+        return new BoardConstraint() {
+            @Override
+            public boolean test(FastBoard board, FastBoard scratch) {
+                for (int p = 0; p < board.getPenguinCount(); p++) {
+                    if (board.reachableFood(p, maxSlides, false) < k) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public String describe() {
+                return "minReachableFood:" + k + ":" + maxSlides;
+            }
+        };
+    }
+
+    /**
+     * No penguin may be in a position where every direction is fatal on turn 1.
+     * Each direction is simulated with the full slide rules on the scratch board.
+     *
+     * @return The constraint
+     */
+    public static BoardConstraint noTurnOneDeath() {
+        return new BoardConstraint() {
+            @Override
+            public boolean test(FastBoard board, FastBoard scratch) {
+                for (int p = 0; p < board.getPenguinCount(); p++) {
+                    boolean survives = false;
+                    for (int dir = 0; dir < 4 && !survives; dir++) {
+                        scratch.copyFrom(board);
+                        scratch.slide(p, dir);
+                        survives = !scratch.isEliminated(p);
+                    }
+                    if (!survives) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public String describe() {
+                return "noTurnOneDeath";
+            }
+        };
+    }
+
+    /**
+     * The reachable food weight of all penguins must be within a tolerance.
+     *
+     * @param tolerance The maximum difference in reachable weight
+     * @param maxSlides The number of slides the search may use
+     * @return The constraint
+     * @throws IllegalArgumentException if tolerance is negative or maxSlides is not positive
+     */
+    public static BoardConstraint balancedSpawns(int tolerance, int maxSlides) {
+        if (tolerance < 0 || maxSlides <= 0) {
+            throw new IllegalArgumentException(
+                    "BoardConstraints Error: Invalid balancedSpawns arguments " + tolerance + ", " + maxSlides
+            );
+        }
+
+        return new BoardConstraint() {
+            @Override
+            public boolean test(FastBoard board, FastBoard scratch) {
+                int min = Integer.MAX_VALUE;
+                int max = Integer.MIN_VALUE;
+                for (int p = 0; p < board.getPenguinCount(); p++) {
+                    int weight = board.reachableFood(p, maxSlides, true);
+                    min = Math.min(min, weight);
+                    max = Math.max(max, weight);
+                    if (max - min > tolerance) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public String describe() {
+                return "balancedSpawns:" + tolerance + ":" + maxSlides;
+            }
+        };
+    }
+
+    /**
+     * Parses a comma-separated constraint spec.
+     *
+     * @param spec The spec, e.g. "noTurnOneDeath,minReachableFood:3"
+     * @return The constraints in the order they appear in the spec
+     * @throws IllegalArgumentException if the spec is null or contains an unknown constraint
+     */
+    public static List<BoardConstraint> parse(String spec) {
+        if (spec == null) {
+            throw new IllegalArgumentException(
+                    "BoardConstraints Error: Spec cannot be null."
+            );
+        }
+
+        List<BoardConstraint> constraints = new ArrayList<>();
+        for (String entry : spec.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+
+            String[] parts = trimmed.split(":");
+            try {
+                switch (parts[0]) {
+                    case "minReachableFood" -> constraints.add(minReachableFood(
+                            Integer.parseInt(parts[1]),
+                            parts.length > 2 ? Integer.parseInt(parts[2]) : DEFAULT_SLIDES));
+                    case "noTurnOneDeath" -> constraints.add(noTurnOneDeath());
+                    case "balancedSpawns" -> constraints.add(balancedSpawns(
+                            Integer.parseInt(parts[1]),
+                            parts.length > 2 ? Integer.parseInt(parts[2]) : DEFAULT_SLIDES));
+                    default -> throw new IllegalArgumentException(
+                            "BoardConstraints Error: Unknown constraint '" + parts[0] + "'."
+                    );
+                }
+            } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+                throw new IllegalArgumentException(
+                        "BoardConstraints Error: Invalid constraint '" + trimmed + "'.", e
+                );
+            }
+        }
+        return constraints;
+    }
+}
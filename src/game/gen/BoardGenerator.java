@@ -0,0 +1,359 @@
+package game.gen;
+
+import game.ObjectSpawner;
+import game.SpawnProfile;
+import game.TerrainGrid;
+import game.sim.FastBoard;
+import game.util.GridRenderer;
+import game.util.RandUtil;
+import interfaces.ITerrainObject;
+import models.penguins.Penguin;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Searches for starting boards that satisfy a list of BoardConstraints.
+ * <p>
+ * Random ObjectSpawner boards are often degenerate (boxed-in penguins,
+ * unreachable food, unfair edge spawns). The generator spawns candidate
+ * boards from a SpawnProfile on FastBoards and keeps only those that pass
+ * every constraint, so the boards match what the game and the tournaments
+ * play with that profile.
+ * <p>
+ * A profile with equal type weights and the default regions is spawned
+ * directly with FastBoard.spawnRandom(); any other profile is spawned by an
+ * ObjectSpawner on a grid of the worker and loaded into the FastBoard.
+ * <p>
+ * Search process (per worker thread):
+ * 1. Spawn a random candidate on the worker's own FastBoard
+ * 2. Evaluate the constraints in order, rejecting at the first failure
+ * 3. Copy accepted boards into the shared result list
+ * 4. Repeat until enough boards are found or the time limit is reached
+ * <p>
+ * Every worker draws from its own split of the seeded random stream,
+ * so workers never contend on a shared generator.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class BoardGenerator {
+    private static final Logger LOGGER = Logger.getLogger(BoardGenerator.class.getName());
+
+    /**
+     * Number of candidates a worker evaluates between stop checks
+     */
+    private static final int BATCH_SIZE = 256;
+
+    /**
+     * The constraints every accepted board must satisfy
+     */
+    private final List<BoardConstraint> constraints;
+
+    /**
+     * The spawn rules of every candidate
+     */
+    private final SpawnProfile profile;
+
+    /**
+     * Number of worker threads
+     */
+    private final int threads;
+
+    /**
+     * Constructs a generator for the default profile using all available processors.
+     *
+     * @param constraints The constraints, evaluated in order
+     * @throws IllegalArgumentException if constraints is null
+     */
+    public BoardGenerator(List<BoardConstraint> constraints) {
+        this(constraints, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a generator for the default profile.
+     *
+     * @param constraints The constraints, evaluated in order
+     * @param threads     The number of worker threads
+     * @throws IllegalArgumentException if constraints is null or threads is not positive
+     */
+    public BoardGenerator(List<BoardConstraint> constraints, int threads) {
+        this(SpawnProfile.defaultProfile(), constraints, threads);
+    }
+
+    /**
+     * Constructs a generator.
+     *
+     * @param profile     The spawn rules of every candidate
+     * @param constraints The constraints, evaluated in order
+     * @param threads     The number of worker threads
+     * @throws IllegalArgumentException if profile or constraints is null, or threads is not positive
+     */
+    public BoardGenerator(SpawnProfile profile, List<BoardConstraint> constraints, int threads) {
+        if (profile == null || constraints == null) {
+            throw new IllegalArgumentException(
+                    "BoardGenerator Error: Profile and constraint list cannot be null."
+            );
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException(
+                    "BoardGenerator Error: Thread count must be positive. Received: " + threads
+            );
+        }
+
+        this.profile = profile;
+        this.constraints = List.copyOf(constraints);
+        this.threads = threads;
+    }
+
+    /**
+     * Gets the spawn rules of the candidates.
+     *
+     * @return The profile
+     */
+    public SpawnProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * Generates boards until the requested number is found or time runs out.
+     *
+     * @param count       The number of boards wanted
+     * @param seed        The seed of the random stream (same seed, same candidates)
+     * @param timeLimitMs The time limit in milliseconds
+     * @return The report with the accepted boards and throughput statistics
+     * @throws IllegalArgumentException if count is not positive
+     */
+    public GenerationReport generate(int count, long seed, long timeLimitMs) {
+        if (count <= 0) {
+            throw new IllegalArgumentException(
+                    "BoardGenerator Error: Board count must be positive. Received: " + count
+            );
+        }
+
+        List<FastBoard> accepted = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger remaining = new AtomicInteger(count);
+        AtomicLongArray rejections = new AtomicLongArray(constraints.size());
+        LongAdder evaluated = new LongAdder();
+
+        SplittableRandom root = new SplittableRandom(seed);
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeLimitMs);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                SplittableRandom rng = root.split();
+                futures.add(pool.submit(() ->
+                        search(rng, accepted, remaining, rejections, evaluated, deadline)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error during board generation", e);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        long[] rejected = new long[constraints.size()];
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < constraints.size(); i++) {
+            rejected[i] = rejections.get(i);
+            names.add(constraints.get(i).describe());
+        }
+
+        List<FastBoard> boards = new ArrayList<>(accepted);
+        return new GenerationReport(boards, names, rejected, evaluated.sum(), elapsed, threads);
+    }
+
+    /**
+     * Worker loop: spawns and evaluates candidates on thread-owned boards.
+     *
+     * @param rng        The worker's random stream
+     * @param accepted   The shared list of accepted boards
+     * @param remaining  The number of boards still wanted
+     * @param rejections The shared rejection counters
+     * @param evaluated  The shared evaluation counter
+     * @param deadline   The System.nanoTime() deadline
+     */
+    private void search(SplittableRandom rng, List<FastBoard> accepted, AtomicInteger remaining,
+                        AtomicLongArray rejections, LongAdder evaluated, long deadline) {
+        int size = profile.getBoardSize();
+        int maxPenguins = Math.max(profile.getPenguinCount(), FastBoard.DEFAULT_PENGUINS);
+        FastBoard board = new FastBoard(size, maxPenguins);
+        FastBoard scratch = new FastBoard(size, maxPenguins);
+        long[] localRejections = new long[constraints.size()];
+        int constraintCount = constraints.size();
+
+        // Profiles FastBoard cannot spawn go through a spawner on this thread's grid
+        TerrainGrid grid = isPlainProfile(profile) ? null : new TerrainGrid(size);
+        ObjectSpawner spawner = grid == null ? null : new ObjectSpawner(profile);
+        List<Penguin> penguins = new ArrayList<>();
+        if (grid != null) {
+            RandUtil.setThreadGenerator(rng);
+        }
+
+        try {
+            while (remaining.get() > 0 && System.nanoTime() < deadline) {
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    if (grid == null) {
+                        board.spawnRandom(rng, profile.getPenguinCount(), profile.getHazardCount(),
+                                profile.getFoodCount());
+                    } else {
+                        spawnProfiled(grid, spawner, penguins, board);
+                    }
+
+                    int failed = -1;
+                    for (int c = 0; c < constraintCount && failed < 0; c++) {
+                        if (!constraints.get(c).test(board, scratch)) {
+                            failed = c;
+                        }
+                    }
+
+                    if (failed >= 0) {
+                        localRejections[failed]++;
+                    } else if (remaining.getAndDecrement() > 0) {
+                        FastBoard copy = new FastBoard(size, maxPenguins);
+                        copy.copyFrom(board);
+                        accepted.add(copy);
+                    }
+                }
+                evaluated.add(BATCH_SIZE);
+            }
+        } finally {
+            if (grid != null) {
+                RandUtil.setThreadGenerator(null);
+            }
+        }
+
+        for (int c = 0; c < constraintCount; c++) {
+            rejections.addAndGet(c, localRejections[c]);
+        }
+    }
+
+    /**
+     * Spawns a candidate with an ObjectSpawner and loads it into a board.
+     * The spawner draws from the thread's RandUtil generator.
+     *
+     * @param grid     The grid of the worker (cleared first)
+     * @param spawner  The spawner of the profile
+     * @param penguins A scratch list for the spawned penguins
+     * @param board    The board to load
+     */
+    private static void spawnProfiled(TerrainGrid grid, ObjectSpawner spawner, List<Penguin> penguins,
+                                      FastBoard board) {
+        grid.clearGrid();
+        spawner.spawnObjects(grid);
+        penguins.clear();
+        int size = grid.getSize();
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                ITerrainObject obj = grid.getObjectAt(x, y);
+                if (obj instanceof Penguin penguin) {
+                    penguins.add(penguin);
+                }
+            }
+        }
+        penguins.sort(Penguin.TURN_ORDER);
+        board.loadFrom(grid, penguins);
+    }
+
+    /**
+     * Checks if FastBoard.spawnRandom() follows a profile: every type and
+     * food weight equally likely, penguins anywhere on the edge and the
+     * other objects anywhere on the board.
+     *
+     * @param profile The profile
+     * @return true if the profile can be spawned directly on a FastBoard
+     */
+    private static boolean isPlainProfile(SpawnProfile profile) {
+        return isUniform(profile.getPenguinTypeWeights()) && isUniform(profile.getHazardTypeWeights())
+                && isUniform(profile.getFoodTypeWeights()) && isUniform(profile.getFoodWeightWeights())
+                && profile.getPenguinRegion().toString().equals("edge")
+                && profile.getHazardRegion().toString().equals("all")
+                && profile.getFoodRegion().toString().equals("all");
+    }
+
+    /**
+     * Checks if all weights are equal.
+     *
+     * @param weights The weights (at least one is positive)
+     * @return true if every weight equals the first
+     */
+    private static boolean isUniform(int[] weights) {
+        for (int weight : weights) {
+            if (weight != weights[0]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Command-line entry point.
+     * <p>
+     * Usage: BoardGenerator [count] [constraint spec] [seed] [threads] [--profile file]
+     * <p>
+     * Without --profile the boards follow the default profile of the original game.
+     * <p>
+     * Example: BoardGenerator 100 "noTurnOneDeath,minReachableFood:3,balancedSpawns:6" 42 8
+     * <p>
+     * Example: BoardGenerator 100 noTurnOneDeath 42 8 --profile large.properties
+     *
+     * @param args Command line arguments (all optional)
+     */
+    public static void main(String[] args) {
+        try {
+            List<String> positional = new ArrayList<>();
+            SpawnProfile profile = SpawnProfile.defaultProfile();
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--profile") && i + 1 < args.length) {
+                    profile = SpawnProfile.load(Path.of(args[++i]));
+                } else {
+                    positional.add(args[i]);
+                }
+            }
+
+            int count = positional.size() > 0 ? Integer.parseInt(positional.get(0)) : 100;
+            String spec = positional.size() > 1 ? positional.get(1)
+                    : "noTurnOneDeath,minReachableFood:3,balancedSpawns:6";
+            long seed = positional.size() > 2 ? Long.parseLong(positional.get(2)) : System.nanoTime();
+            int threads = positional.size() > 3 ? Integer.parseInt(positional.get(3))
+                    : Runtime.getRuntime().availableProcessors();
+
+            BoardGenerator generator = new BoardGenerator(profile, BoardConstraints.parse(spec), threads);
+            GenerationReport report = generator.generate(count, seed, 60_000);
+            System.out.print(report);
+
+            if (!report.getBoards().isEmpty()) {
+                System.out.println("First generated board:");
+                TerrainGrid grid = new TerrainGrid(profile.getBoardSize());
+                report.getBoards().get(0).writeTo(grid);
+                new GridRenderer().renderState(grid);
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Board generation failed.");
+            System.out.println("Reason: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println("Board generation failed.");
+            System.out.println("Reason: File error. " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package game.gen;
+
+import game.sim.FastBoard;
+
+import java.util.List;
+
+/**
+ * Result of a BoardGenerator run: the accepted boards and throughput statistics.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class GenerationReport {
+    /**
+     * The boards that satisfied every constraint
+     */
+    private final List<FastBoard> boards;
+
+    /**
+     * Descriptions of the constraints, in evaluation order
+     */
+    private final List<String> constraintNames;
+
+    /**
+     * Number of boards rejected by each constraint
+     */
+    private final long[] rejections;
+
+    /**
+     * Total number of boards spawned and evaluated
+     */
+    private final long evaluated;
+
+    /**
+     * Wall-clock duration of the run in nanoseconds
+     */
+    private final long elapsedNanos;
+
+    /**
+     * Number of worker threads used
+     */
+    private final int threads;
+
+    /**
+     * Constructs a report.
+     *
+     * @param boards          The accepted boards
+     * @param constraintNames The constraint descriptions
+     * @param rejections      The rejection count per constraint
+     * @param evaluated       The number of evaluated boards
+     * @param elapsedNanos    The run duration in nanoseconds
+     * @param threads         The number of worker threads
+     */
+    public GenerationReport(List<FastBoard> boards, List<String> constraintNames,
+                            long[] rejections, long evaluated, long elapsedNanos, int threads) {
+        this.boards = boards;
+        this.constraintNames = constraintNames;
+        this.rejections = rejections;
+        this.evaluated = evaluated;
+        this.elapsedNanos = elapsedNanos;
+        this.threads = threads;
+    }
+
+    /**
+     * Gets the accepted boards.
+     *
+     * @return The boards that satisfied all constraints
+     */
+    public List<FastBoard> getBoards() {
+        return boards;
+    }
+
+    /**
+     * Gets the number of evaluated boards.
+     *
+     * @return The number of spawned boards
+     */
+    public long getEvaluated() {
+        return evaluated;
+    }
+
+    /**
+     * Gets the number of boards rejected by a constraint.
+     *
+     * @param index The constraint index in evaluation order
+     * @return The rejection count
+     */
+    public long getRejections(int index) {
+        return rejections[index];
+    }
+
+    /**
+     * Gets the evaluation throughput.
+     *
+     * @return Evaluated boards per second
+     */
+    public double getBoardsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : evaluated * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Gets the acceptance rate.
+     *
+     * @return Accepted boards per evaluated board
+     */
+    public double getAcceptanceRate() {
+        return evaluated == 0 ? 0.0 : (double) boards.size() / evaluated;
+    }
+
+    /**
+     * Returns a multi-line summary of the run.
+     *
+     * @return The formatted report
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Generated %d boards from %d candidates in %.3f s on %d threads%n",
+                boards.size(), evaluated, elapsedNanos / 1e9, threads));
+        sb.append(String.format("  |---> Throughput: %.0f boards/s%n", getBoardsPerSecond()));
+        sb.append(String.format("  |---> Acceptance rate: %.4f%%%n", getAcceptanceRate() * 100));
+        for (int i = 0; i < constraintNames.size(); i++) {
+            sb.append(String.format("  |---> Rejected by %s: %d%n", constraintNames.get(i), rejections[i]));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,313 @@
+package game.sim;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps boards that are equal up to rotation and reflection to one
+ * canonical form.
+ * <p>
+ * A square board has eight symmetries (the identity, three rotations and
+ * four reflections). Turning a board with its penguins by one of them
+ * gives an equivalent game as long as moves are turned too: sliding UP on
+ * the original board is sliding RIGHT on the board rotated clockwise.
+ * <p>
+ * The canonical form is the transformed board whose square codes
+ * (FastBoard.getCellCode, read in index order) are lexicographically
+ * smallest. The transform tables are built once per board size. Finding
+ * the canonical transform compares the candidates square by square and
+ * drops a candidate at its first larger square, so typical boards are
+ * decided after a handful of squares and never copied.
+ * <p>
+ * Transform ids:
+ * 0 identity, 1 rotate 90 clockwise, 2 rotate 180, 3 rotate 90 counter-clockwise,
+ * 4 mirror left-right, 5 mirror top-bottom, 6 transpose, 7 anti-transpose.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class BoardSymmetry {
+    /**
+     * Number of symmetries of a square
+     */
+    public static final int TRANSFORM_COUNT = 8;
+
+    /**
+     * Transform id of the identity
+     */
+    public static final int IDENTITY = 0;
+
+    /**
+     * Inverse of each transform (only the two quarter turns are not their own inverse)
+     */
+    private static final int[] INVERSE = {0, 3, 2, 1, 4, 5, 6, 7};
+
+    /**
+     * Direction ordinals by vector, indexed [dy + 1][dx + 1]
+     */
+    private static final int[][] DIRECTION_BY_VECTOR = {
+            {-1, 0, -1},
+            {2, -1, 3},
+            {-1, 1, -1}
+    };
+
+    /**
+     * Shared instances per board size
+     */
+    private static final Map<Integer, BoardSymmetry> INSTANCES = new ConcurrentHashMap<>();
+
+    /**
+     * Width and height of the boards
+     */
+    private final int size;
+
+    /**
+     * Image of each square under each transform, [transform][cell]
+     */
+    private final int[][] forward;
+
+    /**
+     * Source square of each square under each transform, [transform][cell]
+     */
+    private final int[][] backward;
+
+    /**
+     * Image of each Direction ordinal under each transform, [transform][direction]
+     */
+    private final int[][] directions;
+
+    /**
+     * Builds the transform tables for a board size.
+     *
+     * @param size The width and height of the boards
+     * @throws IllegalArgumentException if size is not positive
+     */
+    public BoardSymmetry(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException(
+                    "BoardSymmetry Error: Size must be positive. Received: " + size
+            );
+        }
+
+        this.size = size;
+        int cellCount = size * size;
+        this.forward = new int[TRANSFORM_COUNT][cellCount];
+        this.backward = new int[TRANSFORM_COUNT][cellCount];
+        this.directions = new int[TRANSFORM_COUNT][4];
+
+        int[] dx = {0, 0, -1, 1};
+        int[] dy = {-1, 1, 0, 0};
+        int[] image = new int[2];
+
+        for (int t = 0; t < TRANSFORM_COUNT; t++) {
+            for (int cell = 0; cell < cellCount; cell++) {
+                apply(t, cell % size, cell / size, size - 1, image);
+                int target = image[1] * size + image[0];
+                forward[t][cell] = target;
+                backward[t][target] = cell;
+            }
+            for (int dir = 0; dir < 4; dir++) {
+                // Vectors turn like squares of a board whose far corner is (0,0)
+                apply(t, dx[dir], dy[dir], 0, image);
+                directions[t][dir] = DIRECTION_BY_VECTOR[image[1] + 1][image[0] + 1];
+            }
+        }
+    }
+
+    /**
+     * Gets the shared instance for a board size.
+     *
+     * @param size The width and height of the boards
+     * @return The symmetry tables for that size
+     */
+    public static BoardSymmetry of(int size) {
+        return INSTANCES.computeIfAbsent(size, BoardSymmetry::new);
+    }
+
+    /**
+     * Applies a transform to a coordinate pair.
+     *
+     * @param t     The transform id
+     * @param x     The x-coordinate
+     * @param y     The y-coordinate
+     * @param max   The largest coordinate (size - 1, or 0 for direction vectors)
+     * @param image Receives the transformed {x, y}
+     */
+    private static void apply(int t, int x, int y, int max, int[] image) {
+        switch (t) {
+            case 1 -> { image[0] = max - y; image[1] = x; }
+            case 2 -> { image[0] = max - x; image[1] = max - y; }
+            case 3 -> { image[0] = y; image[1] = max - x; }
+            case 4 -> { image[0] = max - x; image[1] = y; }
+            case 5 -> { image[0] = x; image[1] = max - y; }
+            case 6 -> { image[0] = y; image[1] = x; }
+            case 7 -> { image[0] = max - y; image[1] = max - x; }
+            default -> { image[0] = x; image[1] = y; }
+        }
+    }
+
+    /**
+     * Finds the transform that turns a board into its canonical form.
+     * If several transforms give the same form (a symmetric board), the
+     * smallest id is returned.
+     *
+     * @param board The board
+     * @return The transform id
+     * @throws IllegalArgumentException if the board has a different size
+     */
+    public int canonicalTransform(FastBoard board) {
+        checkSize(board);
+
+        int cellCount = size * size;
+        int best = IDENTITY;
+        int[] bestSource = backward[IDENTITY];
+
+        for (int t = 1; t < TRANSFORM_COUNT; t++) {
+            int[] source = backward[t];
+            for (int cell = 0; cell < cellCount; cell++) {
+                int candidate = board.getCellCode(source[cell]);
+                int current = board.getCellCode(bestSource[cell]);
+                if (candidate != current) {
+                    if (candidate < current) {
+                        best = t;
+                        bestSource = source;
+                    }
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Writes the canonical form of a board into another board.
+     *
+     * @param board     The board to canonicalize
+     * @param canonical Receives the canonical form (same dimensions, not the same object)
+     * @return The transform id that maps board to canonical
+     * @throws IllegalArgumentException if the boards have different dimensions
+     */
+    public int canonicalize(FastBoard board, FastBoard canonical) {
+        int t = canonicalTransform(board);
+        transform(board, t, canonical);
+        return t;
+    }
+
+    /**
+     * Writes a transformed copy of a board into another board.
+     *
+     * @param board  The board to transform
+     * @param t      The transform id
+     * @param target Receives the transformed board (same dimensions, not the same object)
+     * @throws IllegalArgumentException if the boards have different dimensions
+     */
+    public void transform(FastBoard board, int t, FastBoard target) {
+        checkSize(board);
+        target.copyTransformed(board, forward[checkTransform(t)]);
+    }
+
+    /**
+     * Computes a 64-bit hash of a board as seen through a transform, without
+     * copying it. The hash of the canonical transform identifies the whole
+     * symmetry class, which is what caches should use as their key.
+     *
+     * @param board The board
+     * @param t     The transform id
+     * @return The hash of the transformed squares
+     */
+    public long hash(FastBoard board, int t) {
+        checkSize(board);
+        int[] source = backward[checkTransform(t)];
+        long h = 0xcbf29ce484222325L;
+        for (int cell = 0; cell < source.length; cell++) {
+            h = (h ^ board.getCellCode(source[cell])) * 0x100000001b3L;
+        }
+        return h ^ (h >>> 29);
+    }
+
+    /**
+     * Computes the hash of a board's canonical form.
+     *
+     * @param board The board
+     * @return The canonical hash, equal for all eight equivalent boards
+     */
+    public long canonicalHash(FastBoard board) {
+        return hash(board, canonicalTransform(board));
+    }
+
+    /**
+     * Maps a square through a transform.
+     *
+     * @param t    The transform id
+     * @param cell The square index on the original board
+     * @return The square index on the transformed board
+     */
+    public int mapCell(int t, int cell) {
+        return forward[checkTransform(t)][cell];
+    }
+
+    /**
+     * Maps a Direction ordinal through a transform. A move on the original
+     * board equals the mapped move on the transformed board.
+     *
+     * @param t   The transform id
+     * @param dir The Direction ordinal on the original board
+     * @return The Direction ordinal on the transformed board
+     */
+    public int mapDirection(int t, int dir) {
+        return directions[checkTransform(t)][dir];
+    }
+
+    /**
+     * Gets the transform that undoes another one. Use it to map a move
+     * found on the canonical board back to the original board.
+     *
+     * @param t The transform id
+     * @return The inverse transform id
+     */
+    public static int inverse(int t) {
+        return INVERSE[checkTransform(t)];
+    }
+
+    /**
+     * Gets the board size of these tables.
+     *
+     * @return The board size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Validates a transform id.
+     *
+     * @param t The transform id
+     * @return The same id
+     * @throws IllegalArgumentException if t is not between 0 and 7
+     */
+    private static int checkTransform(int t) {
+        if (t < 0 || t >= TRANSFORM_COUNT) {
+            throw new IllegalArgumentException(
+                    "BoardSymmetry Error: Transform id must be between 0 and 7. Received: " + t
+            );
+        }
+        return t;
+    }
+
+    /**
+     * Validates that a board matches these tables.
+     *
+     * @param board The board
+     * @throws IllegalArgumentException if board is null or has a different size
+     */
+    private void checkSize(FastBoard board) {
+        if (board == null || board.getSize() != size) {
+            throw new IllegalArgumentException(
+                    "BoardSymmetry Error: Board must be " + size + "x" + size + "."
+            );
+        }
+    }
+}
@@ -0,0 +1,1414 @@
+package game.sim;
+
+import enums.Direction;
+import enums.FoodType;
+import enums.PenguinType;
+import game.TerrainGrid;
+import interfaces.ITerrainObject;
+import models.Food;
+import models.Position;
+import models.hazards.HeavyIceBlock;
+import models.hazards.HoleInIce;
+import models.hazards.LightIceBlock;
+import models.hazards.SeaLion;
+import models.penguins.EmperorPenguin;
+import models.penguins.KingPenguin;
+import models.penguins.Penguin;
+import models.penguins.RockhopperPenguin;
+import models.penguins.RoyalPenguin;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Compact, allocation-free model of the icy terrain used for fast simulation.
+ * Instead of ITerrainObjects the board stores one cell kind and one value per
+ * square in flat arrays, and keeps the penguin state (position, inventory,
+ * stun and ability flags) in primitive arrays indexed by turn order.
+ * <p>
+ * The slide rules follow the Penguin, KingPenguin, EmperorPenguin,
+ * RockhopperPenguin and RoyalPenguin implementations:
+ * - Penguins slide until they hit an object or fall into the water
+ * - Food stops the penguin and is collected
+ * - Hitting a penguin stops the slider and the other penguin slides instead
+ * - Sea Lions bounce penguins back (Rockhoppers and ability slides do not bounce)
+ * - Light Ice Blocks stun, Heavy Ice Blocks remove the lightest food
+ * - Holes eliminate penguins, sliding hazards plug them
+ * <p>
+ * Differences from the object engine. Every tool built on FastBoard
+ * (generator constraints, expectimax, MCTS, the endgame solver and the
+ * opening book) predicts the FastBoard result in these positions:
+ * - A sliding hazard is moved to its final square. The engine places the
+ * hazard object on every square it passes without clearing the previous
+ * one, so one object with one position ends up on several squares and a
+ * later hit on a copy moves or removes the wrong square. One cell kind
+ * per square cannot hold such shared objects, and a moving hazard is the
+ * behaviour the game rules describe.
+ * - A Royal Penguin cannot step onto a square occupied by another penguin;
+ * the step is skipped. The engine moves the Royal Penguin there and drops
+ * the other penguin from the grid while it stays in the game with that
+ * position, which one penguin per square cannot represent.
+ * <p>
+ * Sea Lion bounces agree: a pushed penguin continues the bounce count of
+ * the penguin that hit it in both models (push() and Penguin.slideRecursive).
+ * <p>
+ * Cells are indexed as y * size + x and directions by Direction ordinal.
+ * A FastBoard is not thread-safe; every worker thread should own its boards
+ * and fork them with copyFrom().
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class FastBoard {
+    // Cell kinds
+    /**
+     * Empty square of ice
+     */
+    public static final byte EMPTY = 0;
+
+    /**
+     * Food item; the cell value holds its weight
+     */
+    public static final byte FOOD = 1;
+
+    /**
+     * Light Ice Block (LB)
+     */
+    public static final byte LIGHT_ICE_BLOCK = 2;
+
+    /**
+     * Heavy Ice Block (HB)
+     */
+    public static final byte HEAVY_ICE_BLOCK = 3;
+
+    /**
+     * Sea Lion (SL)
+     */
+    public static final byte SEA_LION = 4;
+
+    /**
+     * Unplugged Hole In Ice (HI)
+     */
+    public static final byte HOLE_IN_ICE = 5;
+
+    /**
+     * Plugged Hole (PH)
+     */
+    public static final byte PLUGGED_HOLE = 6;
+
+    /**
+     * Penguin; the cell value holds its index in turn order
+     */
+    public static final byte PENGUIN = 7;
+
+    // Slide event flags returned by the slide methods
+    /**
+     * The penguin collected a food item
+     */
+    public static final int EVENT_FOOD = 1;
+
+    /**
+     * The penguin fell into the water
+     */
+    public static final int EVENT_WATER = 1 << 1;
+
+    /**
+     * The penguin fell into a Hole In Ice
+     */
+    public static final int EVENT_HOLE = 1 << 2;
+
+    /**
+     * The penguin was stunned by a Light Ice Block
+     */
+    public static final int EVENT_STUNNED = 1 << 3;
+
+    /**
+     * The penguin hit a Heavy Ice Block
+     */
+    public static final int EVENT_HEAVY_HIT = 1 << 4;
+
+    /**
+     * The penguin bounced off a Sea Lion
+     */
+    public static final int EVENT_BOUNCE = 1 << 5;
+
+    /**
+     * The penguin pushed another penguin
+     */
+    public static final int EVENT_PUSH = 1 << 6;
+
+    /**
+     * The penguin jumped over a hazard
+     */
+    public static final int EVENT_JUMP = 1 << 7;
+
+    // Probe outcomes, same buckets as the GameManager AI
+    /**
+     * The slide ends on a food item
+     */
+    public static final int OUTCOME_FOOD = 0;
+
+    /**
+     * The slide ends against an obstacle
+     */
+    public static final int OUTCOME_SAFE = 1;
+
+    /**
+     * The slide ends in the water or in a hole
+     */
+    public static final int OUTCOME_FATAL = 2;
+
+    /**
+     * Default number of penguins in a game
+     */
+    public static final int DEFAULT_PENGUINS = 3;
+
+    /**
+     * Maximum number of Sea Lion bounces in a single slide (same as Penguin)
+     */
+    private static final int MAX_BOUNCES = 5;
+
+    /**
+     * Number of squares a King Penguin slides with its ability
+     */
+    private static final int KING_TARGET = 5;
+
+    /**
+     * Number of squares an Emperor Penguin slides with its ability
+     */
+    private static final int EMPEROR_TARGET = 3;
+
+    /**
+     * Highest food weight, used to size the per-penguin weight counters
+     */
+    private static final int MAX_FOOD_WEIGHT = 5;
+
+    /**
+     * Column offsets indexed by Direction ordinal (UP, DOWN, LEFT, RIGHT)
+     */
+    private static final int[] DX = {0, 0, -1, 1};
+
+    /**
+     * Row offsets indexed by Direction ordinal (UP, DOWN, LEFT, RIGHT)
+     */
+    private static final int[] DY = {-1, 1, 0, 0};
+
+    /**
+     * Cached penguin types for ordinal lookups
+     */
+    private static final PenguinType[] PENGUIN_TYPES = PenguinType.values();
+
+    /**
+     * Cached food types for ordinal lookups
+     */
+    private static final FoodType[] FOOD_TYPES = FoodType.values();
+
+    /**
+     * Width and height of the board
+     */
+    private final int size;
+
+    /**
+     * Number of squares on the board (size * size)
+     */
+    private final int cellCount;
+
+    /**
+     * Capacity of the penguin arrays
+     */
+    private final int maxPenguins;
+
+    /**
+     * Kind of object on each square
+     */
+    private final byte[] kind;
+
+    /**
+     * Food weight or penguin index on each square
+     */
+    private final int[] value;
+
+    /**
+     * FoodType ordinal of the food on each square
+     */
+    private final byte[] foodType;
+
+    /**
+     * Square of each penguin, or -1 if eliminated
+     */
+    private final int[] penguinCell;
+
+    /**
+     * PenguinType ordinal of each penguin
+     */
+    private final byte[] penguinType;
+
+    /**
+     * Stun flag of each penguin
+     */
+    private final boolean[] stunned;
+
+    /**
+     * Ability flag of each penguin
+     */
+    private final boolean[] abilityUsed;
+
+    /**
+     * Number of collected food items per penguin and weight (index p * 6 + weight)
+     */
+    private final int[] foodCounts;
+
+    /**
+     * Total carried weight of each penguin
+     */
+    private final int[] score;
+
+    /**
+     * Scratch queue used by the reachability search
+     */
+    private final int[] searchQueue;
+
+    /**
+     * Scratch visit stamps used by the reachability search
+     */
+    private final int[] searchStamp;
+
+    /**
+     * Scratch visit stamps for food squares in the reachability search
+     */
+    private final int[] foodStamp;
+
+    /**
+     * Current stamp value of the reachability search
+     */
+    private int stamp = 0;
+
+    /**
+     * Number of penguins currently registered
+     */
+    private int penguinCount = 0;
+
+    /**
+     * Creates an empty board of the default 10x10 size for three penguins.
+     */
+    public FastBoard() {
+        this(TerrainGrid.GRID_SIZE, DEFAULT_PENGUINS);
+    }
+
+    /**
+     * Creates an empty board.
+     *
+     * @param size        The width and height of the board
+     * @param maxPenguins The maximum number of penguins the board can hold
+     * @throws IllegalArgumentException if size or maxPenguins is not positive
+     */
+    public FastBoard(int size, int maxPenguins) {
+        if (size <= 0) {
+            throw new IllegalArgumentException(
+                    "FastBoard Error: Size must be positive. Received: " + size
+            );
+        }
+        if (maxPenguins <= 0) {
+            throw new IllegalArgumentException(
+                    "FastBoard Error: Penguin capacity must be positive. Received: " + maxPenguins
+            );
+        }
+
+        this.size = size;
+        this.cellCount = size * size;
+        this.maxPenguins = maxPenguins;
+        this.kind = new byte[cellCount];
+        this.value = new int[cellCount];
+        this.foodType = new byte[cellCount];
+        this.penguinCell = new int[maxPenguins];
+        this.penguinType = new byte[maxPenguins];
+        this.stunned = new boolean[maxPenguins];
+        this.abilityUsed = new boolean[maxPenguins];
+        this.foodCounts = new int[maxPenguins * (MAX_FOOD_WEIGHT + 1)];
+        this.score = new int[maxPenguins];
+        this.searchQueue = new int[cellCount];
+        this.searchStamp = new int[cellCount];
+        this.foodStamp = new int[cellCount];
+    }
+
+    // Setup
+
+    /**
+     * Removes every object and penguin from the board.
+     */
+    public void clear() {
+        Arrays.fill(kind, EMPTY);
+        Arrays.fill(value, 0);
+        Arrays.fill(foodType, (byte) 0);
+        Arrays.fill(foodCounts, 0);
+        Arrays.fill(score, 0);
+        Arrays.fill(stunned, false);
+        Arrays.fill(abilityUsed, false);
+        penguinCount = 0;
+    }
+
+    /**
+     * Copies the complete state of another board into this one.
+     * This is how simulations fork a position without allocating.
+     *
+     * @param other The board to copy
+     * @throws IllegalArgumentException if the boards have different dimensions
+     */
+    public void copyFrom(FastBoard other) {
+        if (other == null || other.size != size || other.maxPenguins != maxPenguins) {
+            throw new IllegalArgumentException(
+                    "FastBoard Error: Can only copy a board with the same dimensions."
+            );
+        }
+
+        System.arraycopy(other.kind, 0, kind, 0, cellCount);
+        System.arraycopy(other.value, 0, value, 0, cellCount);
+        System.arraycopy(other.foodType, 0, foodType, 0, cellCount);
+        System.arraycopy(other.penguinCell, 0, penguinCell, 0, maxPenguins);
+        System.arraycopy(other.penguinType, 0, penguinType, 0, maxPenguins);
+        System.arraycopy(other.stunned, 0, stunned, 0, maxPenguins);
+        System.arraycopy(other.abilityUsed, 0, abilityUsed, 0, maxPenguins);
+        System.arraycopy(other.foodCounts, 0, foodCounts, 0, foodCounts.length);
+        System.arraycopy(other.score, 0, score, 0, maxPenguins);
+        penguinCount = other.penguinCount;
+    }
+
+    /**
+     * Copies another board into this one with every square moved to a new
+     * index, for example rotated or mirrored (see BoardSymmetry).
+     * Penguin state is copied unchanged apart from the penguin squares.
+     *
+     * @param other   The board to copy
+     * @param cellMap The new index of each square of the other board (a permutation)
+     * @throws IllegalArgumentException if the boards have different dimensions
+     *                                  or the map has the wrong length
+     */
+    public void copyTransformed(FastBoard other, int[] cellMap) {
+        if (other == null || other.size != size || other.maxPenguins != maxPenguins) {
+            throw new IllegalArgumentException(
+                    "FastBoard Error: Can only copy a board with the same dimensions."
+            );
+        }
+        if (cellMap == null || cellMap.length != cellCount) {
+            throw new IllegalArgumentException(
+                    "FastBoard Error: Cell map must have exactly " + cellCount + " entries."
+            );
+        }
+        if (other == this) {
+            throw new IllegalArgumentException(
+                    "FastBoard Error: Cannot transform a board into itself."
+            );
+        }
+
+        for (int cell = 0; cell < cellCount; cell++) {
+            int target = cellMap[cell];
+            kind[target] = other.kind[cell];
+            value[target] = other.value[cell];
+            foodType[target] = other.foodType[cell];
+        }
+        for (int p = 0; p < maxPenguins; p++) {
+            int cell = other.penguinCell[p];
+            penguinCell[p] = (cell >= 0 && p < other.penguinCount) ? cellMap[cell] : cell;
+        }
+        System.arraycopy(other.penguinType, 0, penguinType, 0, maxPenguins);
+        System.arraycopy(other.stunned, 0, stunned, 0, maxPenguins);
+        System.arraycopy(other.abilityUsed, 0, abilityUsed, 0, maxPenguins);
+        System.arraycopy(other.foodCounts, 0, foodCounts, 0, foodCounts.length);
+        System.arraycopy(other.score, 0, score, 0, maxPenguins);
+        penguinCount = other.penguinCount;
+    }
+
+    /**
+     * Places a food item on an empty square.
+     *
+     * @param cell   The square index
+     * @param type   The type of food
+     * @param weight The weight of the food (1-5)
+     */
+    public void placeFood(int cell, FoodType type, int weight) {
+        kind[cell] = FOOD;
+        value[cell] = weight;
+        foodType[cell] = (byte) type.ordinal();
+    }
+
+    /**
+     * Places a hazard of the given kind on a square.
+     *
+     * @param cell       The square index
+     * @param hazardKind One of LIGHT_ICE_BLOCK, HEAVY_ICE_BLOCK, SEA_LION,
+     *                   HOLE_IN_ICE or PLUGGED_HOLE
+     */
+    public void placeHazard(int cell, byte hazardKind) {
+        kind[cell] = hazardKind;
+        value[cell] = 0;
+    }
+
+    /**
+     * Adds a penguin at the end of the turn order.
+     *
+     * @param cell The square index, or -1 for an eliminated penguin
+     * @param type The type of the penguin
+     * @return The index of the new penguin
+     * @throws IllegalStateException if the penguin capacity is exhausted
+     */
+    public int addPenguin(int cell, PenguinType type) {
+        if (penguinCount >= maxPenguins) {
+            throw new IllegalStateException(
+                    "FastBoard Error: Cannot add more than " + maxPenguins + " penguins."
+            );
+        }
+
+        int p = penguinCount++;
+        penguinCell[p] = cell;
+        penguinType[p] = (byte) type.ordinal();
+        stunned[p] = false;
+        abilityUsed[p] = false;
+        score[p] = 0;
+        for (int w = 0; w <= MAX_FOOD_WEIGHT; w++) {
+            foodCounts[p * (MAX_FOOD_WEIGHT + 1) + w] = 0;
+        }
+        if (cell >= 0) {
+            kind[cell] = PENGUIN;
+            value[cell] = p;
+        }
+        return p;
+    }
+
+    /**
+     * Fills the board with a random spawn using the same rules as ObjectSpawner:
+     * penguins on random edge squares (random side first, then a random square
+     * on that side), then hazards and food on random empty squares, all types
+     * with equal probability and food weights between 1 and 5.
+     *
+     * @param rng      The random stream to draw from
+     * @param penguins Number of penguins to spawn
+     * @param hazards  Number of hazards to spawn
+     * @param food     Number of food items to spawn
+     * @throws IllegalArgumentException if the objects do not fit on the board
+     */
+    public void spawnRandom(SplittableRandom rng, int penguins, int hazards, int food) {
+        if (penguins > maxPenguins || penguins > 4 * (size - 1)
+                || penguins + hazards + food > cellCount) {
+            throw new IllegalArgumentException(
+                    "FastBoard Error: " + penguins + " penguins, " + hazards + " hazards and "
+                            + food + " food items do not fit on a " + size + "x" + size + " board."
+            );
+        }
+
+        clear();
+
+        while (penguinCount < penguins) {
+            int cell = randomEdgeCell(rng);
+            if (kind[cell] == EMPTY) {
+                addPenguin(cell, PENGUIN_TYPES[rng.nextInt(PENGUIN_TYPES.length)]);
+            }
+        }
+
+        int placed = 0;
+        while (placed < hazards) {
+            int cell = rng.nextInt(size) + rng.nextInt(size) * size;
+            if (kind[cell] == EMPTY) {
+                placeHazard(cell, (byte) (LIGHT_ICE_BLOCK + rng.nextInt(4)));
+                placed++;
+            }
+        }
+
+        placed = 0;
+        while (placed < food) {
+            int cell = rng.nextInt(size) + rng.nextInt(size) * size;
+            if (kind[cell] == EMPTY) {
+                FoodType type = FOOD_TYPES[rng.nextInt(FOOD_TYPES.length)];
+                placeFood(cell, type, 1 + rng.nextInt(MAX_FOOD_WEIGHT));
+                placed++;
+            }
+        }
+    }
+
+    /**
+     * Picks a random edge square the same way ObjectSpawner.getRandomEdgePosition does.
+     *
+     * @param rng The random stream
+     * @return The index of an edge square
+     */
+    private int randomEdgeCell(SplittableRandom rng) {
+        int side = rng.nextInt(4);
+        int along = rng.nextInt(size);
+        return switch (side) {
+            case 0 -> along;                              // Top edge
+            case 1 -> (size - 1) * size + along;          // Bottom edge
+            case 2 -> along * size;                       // Left edge
+            default -> along * size + size - 1;           // Right edge
+        };
+    }
+
+    /**
+     * Loads the state of a TerrainGrid and its penguins into this board.
+     * Penguins are indexed in the order of the given list.
+     *
+     * @param grid     The grid to read
+     * @param penguins The penguins in turn order
+     * @throws IllegalArgumentException if grid or penguins is null,
+     *                                  or the list does not fit this board
+     */
+    public void loadFrom(TerrainGrid grid, List<Penguin> penguins) {
+        if (grid == null || penguins == null) {
+            throw new IllegalArgumentException(
+                    "FastBoard Error: Grid and penguin list cannot be null."
+            );
+        }
+        if (penguins.size() > maxPenguins) {
+            throw new IllegalArgumentException(
+                    "FastBoard Error: Board holds " + maxPenguins + " penguins, got " + penguins.size()
+            );
+        }
+
+        clear();
+
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                int cell = y * size + x;
+                ITerrainObject obj = grid.getObjectAt(new Position(x, y));
+                switch (obj) {
+                    case null -> {
+                    }
+                    case Food food -> placeFood(cell, food.getType(), food.getWeight());
+                    case LightIceBlock block -> placeHazard(cell, LIGHT_ICE_BLOCK);
+                    case HeavyIceBlock block -> placeHazard(cell, HEAVY_ICE_BLOCK);
+                    case SeaLion seaLion -> placeHazard(cell, SEA_LION);
+                    case HoleInIce hole -> placeHazard(cell, hole.isPlugged() ? PLUGGED_HOLE : HOLE_IN_ICE);
+                    default -> {
+                        // Penguins are registered from the list below
+                    }
+                }
+            }
+        }
+
+        for (Penguin penguin : penguins) {
+            Position pos = penguin.getPosition();
+            int cell = (pos == null) ? -1 : pos.getY() * size + pos.getX();
+            int p = addPenguin(cell, penguin.getPenguinType());
+            stunned[p] = penguin.isStunned();
+            abilityUsed[p] = penguin.isAbilityUsed();
+            for (Food food : penguin.getInventory()) {
+                foodCounts[p * (MAX_FOOD_WEIGHT + 1) + food.getWeight()]++;
+                score[p] += food.getWeight();
+            }
+        }
+    }
+
+    /**
+     * Writes the board into a TerrainGrid as real game objects.
+     * The grid is cleared first and penguins receive IDs P1, P2, ... in turn order.
+     * Inventories are not materialized since spawned boards start empty.
+     *
+     * @param grid The grid to fill
+     * @throws IllegalArgumentException if grid is null
+     */
+    public void writeTo(TerrainGrid grid) {
+        if (grid == null) {
+            throw new IllegalArgumentException(
+                    "FastBoard Error: Cannot write to a null grid."
+            );
+        }
+
+        grid.clearGrid();
+        for (int cell = 0; cell < cellCount; cell++) {
+            Position pos = new Position(cell % size, cell / size);
+            switch (kind[cell]) {
+                case FOOD -> grid.placeObject(pos, new Food(FOOD_TYPES[foodType[cell]], pos, value[cell]));
+                case LIGHT_ICE_BLOCK -> grid.placeObject(pos, new LightIceBlock(pos));
+                case HEAVY_ICE_BLOCK -> grid.placeObject(pos, new HeavyIceBlock(pos));
+                case SEA_LION -> grid.placeObject(pos, new SeaLion(pos));
+                case HOLE_IN_ICE, PLUGGED_HOLE -> {
+                    HoleInIce hole = new HoleInIce(pos);
+                    if (kind[cell] == PLUGGED_HOLE) {
+                        hole.plug();
+                    }
+                    grid.placeObject(pos, hole);
+                }
+                case PENGUIN -> {
+                    int p = value[cell];
+                    Penguin penguin = switch (PENGUIN_TYPES[penguinType[p]]) {
+                        case EMPEROR -> new EmperorPenguin(pos);
+                        case KING -> new KingPenguin(pos);
+                        case ROCKHOPPER -> new RockhopperPenguin(pos);
+                        case ROYAL -> new RoyalPenguin(pos);
+                    };
+                    penguin.setPenguinID("P" + (p + 1));
+                    penguin.setStunned(stunned[p]);
+                    penguin.setAbilityUsed(abilityUsed[p]);
+                    grid.placeObject(pos, penguin);
+                }
+                default -> {
+                }
+            }
+        }
+    }
+
+    // Moves
+
+    /**
+     * Slides a penguin without its special ability.
+     * Mirrors Penguin.slide (and RockhopperPenguin.slide, which never bounces).
+     *
+     * @param p   The penguin index
+     * @param dir The Direction ordinal
+     * @return The EVENT_* flags of the sliding penguin
+     */
+    public int slide(int p, int dir) {
+        if (penguinCell[p] < 0) {
+            return 0;
+        }
+        boolean canBounce = penguinType[p] != PenguinType.ROCKHOPPER.ordinal();
+        return slideFrom(p, dir, 0, canBounce, false);
+    }
+
+    /**
+     * Slides a penguin with its special ability and marks the ability as used.
+     * King and Emperor Penguins stop at the 5th or 3rd square, Rockhoppers jump
+     * over the first hazard. Royal Penguins use royalStep() before a normal slide,
+     * so for them this is a normal slide.
+     *
+     * @param p   The penguin index
+     * @param dir The Direction ordinal
+     * @return The EVENT_* flags of the sliding penguin
+     */
+    public int slideWithAbility(int p, int dir) {
+        if (penguinCell[p] < 0) {
+            return 0;
+        }
+        abilityUsed[p] = true;
+
+        PenguinType type = PENGUIN_TYPES[penguinType[p]];
+        return switch (type) {
+            case KING -> slideLimited(p, dir, KING_TARGET);
+            case EMPEROR -> slideLimited(p, dir, EMPEROR_TARGET);
+            case ROCKHOPPER -> slideFrom(p, dir, 0, false, true);
+            case ROYAL -> slideFrom(p, dir, 0, true, false);
+        };
+    }
+
+    /**
+     * Performs the Royal Penguin's single-square special move and marks the
+     * ability as used. Mirrors RoyalPenguin.performSpecialMove: stepping on a
+     * hazard destroys it and applies its collision effect. A step onto
+     * another penguin is skipped (see the class comment).
+     *
+     * @param p   The penguin index
+     * @param dir The Direction ordinal
+     * @return The EVENT_* flags of the step
+     */
+    public int royalStep(int p, int dir) {
+        int cell = penguinCell[p];
+        if (cell < 0) {
+            return 0;
+        }
+        abilityUsed[p] = true;
+
+        int nx = cell % size + DX[dir];
+        int ny = cell / size + DY[dir];
+        if (nx < 0 || ny < 0 || nx >= size || ny >= size) {
+            eliminate(p);
+            return EVENT_WATER;
+        }
+
+        int next = ny * size + nx;
+        byte k = kind[next];
+        if (k == PENGUIN) {
+            return 0;
+        }
+        if (k == FOOD) {
+            int events = eat(p, next);
+            movePenguin(p, next);
+            return events;
+        }
+
+        movePenguin(p, next);
+        return switch (k) {
+            case LIGHT_ICE_BLOCK -> {
+                stunned[p] = true;
+                yield EVENT_STUNNED;
+            }
+            case HEAVY_ICE_BLOCK -> {
+                removeLightestFood(p);
+                yield EVENT_HEAVY_HIT;
+            }
+            case HOLE_IN_ICE -> {
+                eliminate(p);
+                yield EVENT_HOLE;
+            }
+            default -> 0;
+        };
+    }
+
+    /**
+     * Core sliding loop for normal and Rockhopper slides.
+     *
+     * @param p         The penguin index
+     * @param dir       The Direction ordinal
+     * @param bounces   Number of Sea Lion bounces so far
+     * @param canBounce Whether Sea Lions bounce this penguin back
+     * @param canJump   Whether the Rockhopper jump is armed
+     * @return The EVENT_* flags of the sliding penguin
+     */
+    private int slideFrom(int p, int dir, int bounces, boolean canBounce, boolean canJump) {
+        if (bounces > MAX_BOUNCES) {
+            return 0;
+        }
+
+        int events = 0;
+        int cell = penguinCell[p];
+        int x = cell % size;
+        int y = cell / size;
+
+        while (true) {
+            int nx = x + DX[dir];
+            int ny = y + DY[dir];
+            if (nx < 0 || ny < 0 || nx >= size || ny >= size) {
+                eliminate(p);
+                return events | EVENT_WATER;
+            }
+
+            int next = ny * size + nx;
+            byte k = kind[next];
+
+            if (k == EMPTY) {
+                movePenguin(p, next);
+                x = nx;
+                y = ny;
+                continue;
+            }
+            if (k == FOOD) {
+                events |= eat(p, next);
+                movePenguin(p, next);
+                return events;
+            }
+            if (k == PENGUIN) {
+                push(value[next], dir, bounces);
+                return events | EVENT_PUSH;
+            }
+            if (canJump) {
+                return events | jump(p, next, dir);
+            }
+            if (k == SEA_LION && canBounce) {
+                kind[next] = EMPTY;
+                slideHazard(SEA_LION, next, dir);
+                return events | EVENT_BOUNCE
+                        | slideFrom(p, opposite(dir), bounces + 1, true, false);
+            }
+            return events | collide(p, next, dir);
+        }
+    }
+
+    /**
+     * Makes a penguin that was hit slide in the same direction.
+     * The pushed penguin inherits the bounce count of the chain, as in
+     * Penguin.slideRecursive, so two penguins trapped between blocked Sea
+     * Lions cannot push each other forever.
+     *
+     * @param other   The index of the penguin that was hit
+     * @param dir     The Direction ordinal
+     * @param bounces Number of Sea Lion bounces so far in this chain
+     */
+    private void push(int other, int dir, int bounces) {
+        boolean canBounce = penguinType[other] != PenguinType.ROCKHOPPER.ordinal();
+        slideFrom(other, dir, bounces, canBounce, false);
+    }
+
+    /**
+     * Handles an armed Rockhopper meeting a hazard, mirroring RockhopperPenguin.slide.
+     *
+     * @param p          The penguin index
+     * @param hazardCell The square of the hazard in front of the penguin
+     * @param dir        The Direction ordinal
+     * @return The EVENT_* flags of the jump and the rest of the slide
+     */
+    private int jump(int p, int hazardCell, int dir) {
+        int lx = hazardCell % size + DX[dir];
+        int ly = hazardCell / size + DY[dir];
+        if (lx < 0 || ly < 0 || lx >= size || ly >= size) {
+            eliminate(p);
+            return EVENT_WATER;
+        }
+
+        int land = ly * size + lx;
+        if (kind[land] == EMPTY) {
+            movePenguin(p, land);
+            return EVENT_JUMP | slideFrom(p, dir, 0, false, false);
+        }
+        if (kind[land] == FOOD) {
+            int events = eat(p, land);
+            movePenguin(p, land);
+            return events | EVENT_JUMP;
+        }
+        return collide(p, hazardCell, dir);
+    }
+
+    /**
+     * Slides a King or Emperor Penguin at most the given number of squares,
+     * mirroring their slideWithAbility methods. Sea Lions do not bounce here.
+     *
+     * @param p      The penguin index
+     * @param dir    The Direction ordinal
+     * @param target The square to stop at
+     * @return The EVENT_* flags of the sliding penguin
+     */
+    private int slideLimited(int p, int dir, int target) {
+        int cell = penguinCell[p];
+        int x = cell % size;
+        int y = cell / size;
+
+        for (int step = 1; step <= target; step++) {
+            int nx = x + DX[dir];
+            int ny = y + DY[dir];
+            if (nx < 0 || ny < 0 || nx >= size || ny >= size) {
+                eliminate(p);
+                return EVENT_WATER;
+            }
+
+            int next = ny * size + nx;
+            byte k = kind[next];
+            if (k == EMPTY) {
+                movePenguin(p, next);
+                x = nx;
+                y = ny;
+            } else if (k == FOOD) {
+                int events = eat(p, next);
+                movePenguin(p, next);
+                return events;
+            } else if (k == PENGUIN) {
+                push(value[next], dir, 0);
+                return EVENT_PUSH;
+            } else {
+                return collide(p, next, dir);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Applies the collision effect of a hazard the penguin ran into, then
+     * slides the hazard if it can slide. The penguin stays where it is.
+     *
+     * @param p          The penguin index
+     * @param hazardCell The square of the hazard
+     * @param dir        The Direction ordinal of the penguin's movement
+     * @return The EVENT_* flags of the collision
+     */
+    private int collide(int p, int hazardCell, int dir) {
+        byte k = kind[hazardCell];
+        switch (k) {
+            case LIGHT_ICE_BLOCK -> {
+                stunned[p] = true;
+                kind[hazardCell] = EMPTY;
+                slideHazard(LIGHT_ICE_BLOCK, hazardCell, dir);
+                return EVENT_STUNNED;
+            }
+            case HEAVY_ICE_BLOCK -> {
+                removeLightestFood(p);
+                return EVENT_HEAVY_HIT;
+            }
+            case SEA_LION -> {
+                kind[hazardCell] = EMPTY;
+                slideHazard(SEA_LION, hazardCell, dir);
+                return 0;
+            }
+            case HOLE_IN_ICE -> {
+                eliminate(p);
+                return EVENT_HOLE;
+            }
+            default -> {
+                // Plugged hole: the penguin stops in front of it
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Slides a hazard that has been removed from its square. Food on the way
+     * is destroyed, holes are plugged (the hazard disappears) and the hazard
+     * stops in front of penguins and other hazards. Only the final square
+     * keeps the hazard (see the class comment).
+     *
+     * @param hazardKind The kind of the sliding hazard
+     * @param from       The square the hazard starts from (already emptied)
+     * @param dir        The Direction ordinal
+     */
+    private void slideHazard(byte hazardKind, int from, int dir) {
+        int x = from % size;
+        int y = from / size;
+
+        while (true) {
+            int nx = x + DX[dir];
+            int ny = y + DY[dir];
+            if (nx < 0 || ny < 0 || nx >= size || ny >= size) {
+                return; // Falls into the water
+            }
+
+            int next = ny * size + nx;
+            byte k = kind[next];
+            if (k == EMPTY || k == FOOD) {
+                kind[next] = EMPTY;
+                x = nx;
+                y = ny;
+            } else if (k == HOLE_IN_ICE || k == PLUGGED_HOLE) {
+                kind[next] = PLUGGED_HOLE;
+                return;
+            } else {
+                break;
+            }
+        }
+
+        int stop = y * size + x;
+        kind[stop] = hazardKind;
+        value[stop] = 0;
+    }
+
+    /**
+     * Moves a penguin to a square, emptying its old square.
+     *
+     * @param p    The penguin index
+     * @param cell The destination square
+     */
+    private void movePenguin(int p, int cell) {
+        int old = penguinCell[p];
+        if (old >= 0) {
+            kind[old] = EMPTY;
+        }
+        kind[cell] = PENGUIN;
+        value[cell] = p;
+        penguinCell[p] = cell;
+    }
+
+    /**
+     * Adds the food on a square to a penguin's inventory.
+     *
+     * @param p    The penguin index
+     * @param cell The food square
+     * @return EVENT_FOOD
+     */
+    private int eat(int p, int cell) {
+        int weight = value[cell];
+        foodCounts[p * (MAX_FOOD_WEIGHT + 1) + weight]++;
+        score[p] += weight;
+        kind[cell] = EMPTY;
+        return EVENT_FOOD;
+    }
+
+    /**
+     * Removes the lightest food item of a penguin (Heavy Ice Block penalty).
+     *
+     * @param p The penguin index
+     */
+    private void removeLightestFood(int p) {
+        int base = p * (MAX_FOOD_WEIGHT + 1);
+        for (int w = 1; w <= MAX_FOOD_WEIGHT; w++) {
+            if (foodCounts[base + w] > 0) {
+                foodCounts[base + w]--;
+                score[p] -= w;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes a penguin from the board. Its food still counts for scoring.
+     *
+     * @param p The penguin index
+     */
+    private void eliminate(int p) {
+        int cell = penguinCell[p];
+        if (cell >= 0 && kind[cell] == PENGUIN && value[cell] == p) {
+            kind[cell] = EMPTY;
+        }
+        penguinCell[p] = -1;
+    }
+
+    // Read-only queries
+
+    /**
+     * Classifies where a slide would end, like GameManager.simulateMove.
+     * Plugged holes are treated as open ice, as the AI does.
+     *
+     * @param p   The penguin index
+     * @param dir The Direction ordinal
+     * @return OUTCOME_FOOD, OUTCOME_SAFE or OUTCOME_FATAL
+     */
+    public int probe(int p, int dir) {
+        int cell = penguinCell[p];
+        int x = cell % size;
+        int y = cell / size;
+
+        while (true) {
+            x += DX[dir];
+            y += DY[dir];
+            if (x < 0 || y < 0 || x >= size || y >= size) {
+                return OUTCOME_FATAL;
+            }
+            byte k = kind[y * size + x];
+            if (k == FOOD) {
+                return OUTCOME_FOOD;
+            }
+            if (k == HOLE_IN_ICE) {
+                return OUTCOME_FATAL;
+            }
+            if (k != EMPTY && k != PLUGGED_HOLE) {
+                return OUTCOME_SAFE;
+            }
+        }
+    }
+
+    /**
+     * Checks if the first obstacle in a direction is a hazard, like
+     * GameManager.isFacingHazard. Food squares are looked through.
+     *
+     * @param p   The penguin index
+     * @param dir The Direction ordinal
+     * @return true if a hazard is the first obstacle in that direction
+     */
+    public boolean isFacingHazard(int p, int dir) {
+        int cell = penguinCell[p];
+        if (cell < 0) {
+            return false;
+        }
+        int x = cell % size;
+        int y = cell / size;
+
+        while (true) {
+            x += DX[dir];
+            y += DY[dir];
+            if (x < 0 || y < 0 || x >= size || y >= size) {
+                return false;
+            }
+            byte k = kind[y * size + x];
+            if (k == PENGUIN) {
+                return false;
+            }
+            if (k != EMPTY && k != FOOD) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Checks if a single step is safe for a Royal Penguin, like
+     * GameManager.getSafeRoyalMove: the square must be on the board and
+     * must not hold a hazard.
+     *
+     * @param p   The penguin index
+     * @param dir The Direction ordinal
+     * @return true if the step is safe
+     */
+    public boolean isSafeStep(int p, int dir) {
+        int cell = penguinCell[p];
+        int nx = cell % size + DX[dir];
+        int ny = cell / size + DY[dir];
+        if (nx < 0 || ny < 0 || nx >= size || ny >= size) {
+            return false;
+        }
+        byte k = kind[ny * size + nx];
+        return k == EMPTY || k == FOOD || k == PENGUIN;
+    }
+
+    /**
+     * Counts the food a penguin could reach within a number of slides on the
+     * current board, ignoring how hazards would move. A slide ends on food
+     * (which is counted), in front of an obstacle, or in the water or a hole.
+     *
+     * @param p         The penguin index
+     * @param maxSlides The maximum number of slides
+     * @param byWeight  true to sum food weights, false to count food items
+     * @return The number or total weight of reachable food items
+     */
+    public int reachableFood(int p, int maxSlides, boolean byWeight) {
+        int start = penguinCell[p];
+        if (start < 0) {
+            return 0;
+        }
+
+        stamp++;
+        int head = 0;
+        int tail = 0;
+        int total = 0;
+        searchQueue[tail++] = start;
+        searchStamp[start] = stamp;
+
+        for (int depth = 0; depth < maxSlides && head < tail; depth++) {
+            int levelEnd = tail;
+            while (head < levelEnd) {
+                int from = searchQueue[head++];
+                for (int dir = 0; dir < 4; dir++) {
+                    int stop = staticSlideEnd(from, dir, start);
+                    if (stop < 0) {
+                        continue;
+                    }
+                    if (kind[stop] == FOOD && foodStamp[stop] != stamp) {
+                        foodStamp[stop] = stamp;
+                        total += byWeight ? value[stop] : 1;
+                    }
+                    if (searchStamp[stop] != stamp) {
+                        searchStamp[stop] = stamp;
+                        searchQueue[tail++] = stop;
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Finds where a slide from a square would end on the current board
+     * without changing it. The square the search started from counts as empty.
+     *
+     * @param from   The starting square
+     * @param dir    The Direction ordinal
+     * @param origin The square of the penguin being searched
+     * @return The final square, or -1 if the slide ends in water or a hole
+     */
+    private int staticSlideEnd(int from, int dir, int origin) {
+        int x = from % size;
+        int y = from / size;
+        while (true) {
+            int nx = x + DX[dir];
+            int ny = y + DY[dir];
+            if (nx < 0 || ny < 0 || nx >= size || ny >= size) {
+                return -1;
+            }
+            int next = ny * size + nx;
+            byte k = kind[next];
+            if (k == FOOD) {
+                return next;
+            }
+            if (k == HOLE_IN_ICE) {
+                return -1;
+            }
+            if (k != EMPTY && next != origin) {
+                int here = y * size + x;
+                return (here == from) ? -1 : here;
+            }
+            x = nx;
+            y = ny;
+        }
+    }
+
+    /**
+     * Computes a 64-bit hash of the game state: the object on every
+     * square, and the square, stun flag, ability flag and food counts of
+     * every penguin. Positions reached through different move orders get
+     * the same hash, so searches can use it as a transposition key.
+     * Leftover values on empty squares are ignored.
+     *
+     * @return The state hash
+     */
+    public long stateHash() {
+        long h = 0xcbf29ce484222325L;
+        for (int cell = 0; cell < cellCount; cell++) {
+            int code = kind[cell];
+            if (code == FOOD) {
+                code |= value[cell] << 3 | foodType[cell] << 16;
+            } else if (code == PENGUIN) {
+                code |= value[cell] << 3;
+            }
+            h = (h ^ code) * 0x100000001b3L;
+        }
+        for (int p = 0; p < penguinCount; p++) {
+            int flags = (stunned[p] ? 1 : 0) | (abilityUsed[p] ? 2 : 0);
+            h = (h ^ ((penguinCell[p] + 1) << 2 | flags)) * 0x100000001b3L;
+            for (int weight = 1; weight <= MAX_FOOD_WEIGHT; weight++) {
+                h = (h ^ foodCounts[p * (MAX_FOOD_WEIGHT + 1) + weight]) * 0x100000001b3L;
+            }
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        return h ^ (h >>> 33);
+    }
+
+    // Accessors
+
+    /**
+     * Gets the width and height of the board.
+     *
+     * @return The board size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the number of squares on the board.
+     *
+     * @return size * size
+     */
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    /**
+     * Gets the number of penguins on the board (including eliminated ones).
+     *
+     * @return The penguin count
+     */
+    public int getPenguinCount() {
+        return penguinCount;
+    }
+
+    /**
+     * Gets the penguin capacity of the board.
+     *
+     * @return The maximum number of penguins
+     */
+    public int getMaxPenguins() {
+        return maxPenguins;
+    }
+
+    /**
+     * Gets the kind of object on a square.
+     *
+     * @param cell The square index
+     * @return One of the cell kind constants
+     */
+    public byte getKind(int cell) {
+        return kind[cell];
+    }
+
+    /**
+     * Gets a code that identifies everything relevant on a square: the kind,
+     * plus the food weight and type on food squares or the penguin index on
+     * penguin squares. Two squares with the same code are interchangeable.
+     *
+     * @param cell The square index
+     * @return The square code (0 for empty ice)
+     */
+    public int getCellCode(int cell) {
+        byte k = kind[cell];
+        if (k == FOOD) {
+            return FOOD | (value[cell] << 3) | (foodType[cell] << 6);
+        }
+        if (k == PENGUIN) {
+            return PENGUIN | (value[cell] << 3);
+        }
+        return k;
+    }
+
+    /**
+     * Gets the value stored on a square (food weight or penguin index).
+     *
+     * @param cell The square index
+     * @return The square's value
+     */
+    public int getValue(int cell) {
+        return value[cell];
+    }
+
+    /**
+     * Gets the square of a penguin.
+     *
+     * @param p The penguin index
+     * @return The square index, or -1 if the penguin is eliminated
+     */
+    public int getPenguinCell(int p) {
+        return penguinCell[p];
+    }
+
+    /**
+     * Checks if a penguin has been eliminated.
+     *
+     * @param p The penguin index
+     * @return true if the penguin is no longer on the board
+     */
+    public boolean isEliminated(int p) {
+        return penguinCell[p] < 0;
+    }
+
+    /**
+     * Gets the type of a penguin.
+     *
+     * @param p The penguin index
+     * @return The PenguinType
+     */
+    public PenguinType getPenguinType(int p) {
+        return PENGUIN_TYPES[penguinType[p]];
+    }
+
+    /**
+     * Gets the total food weight a penguin carries.
+     *
+     * @param p The penguin index
+     * @return The carried weight
+     */
+    public int getScore(int p) {
+        return score[p];
+    }
+
+    /**
+     * Checks if a penguin is stunned.
+     *
+     * @param p The penguin index
+     * @return true if the penguin skips its next turn
+     */
+    public boolean isStunned(int p) {
+        return stunned[p];
+    }
+
+    /**
+     * Sets the stun flag of a penguin.
+     *
+     * @param p       The penguin index
+     * @param isStunned The new flag value
+     */
+    public void setStunned(int p, boolean isStunned) {
+        stunned[p] = isStunned;
+    }
+
+    /**
+     * Checks if a penguin has used its special ability.
+     *
+     * @param p The penguin index
+     * @return true if the ability is used
+     */
+    public boolean isAbilityUsed(int p) {
+        return abilityUsed[p];
+    }
+
+    /**
+     * Sets the ability flag of a penguin.
+     *
+     * @param p    The penguin index
+     * @param used The new flag value
+     */
+    public void setAbilityUsed(int p, boolean used) {
+        abilityUsed[p] = used;
+    }
+
+    /**
+     * Converts a Direction to the ordinal used by this class.
+     *
+     * @param direction The direction
+     * @return The direction ordinal
+     */
+    public static int dir(Direction direction) {
+        return direction.ordinal();
+    }
+
+    /**
+     * Returns the opposite direction ordinal.
+     *
+     * @param dir The Direction ordinal
+     * @return The ordinal of the opposite direction
+     */
+    public static int opposite(int dir) {
+        return dir ^ 1;
+    }
+
+    /**
+     * Returns a string representation of the board.
+     *
+     * @return A descriptive string
+     */
+    @Override
+    public String toString() {
+        return "FastBoard [" + size + "x" + size + "] with " + penguinCount + " penguins";
+    }
+}
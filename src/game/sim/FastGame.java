@@ -0,0 +1,261 @@
+package game.sim;
+
+import enums.PenguinType;
+
+import java.util.SplittableRandom;
+
+/**
+ * Plays complete AI-vs-AI games on a FastBoard.
+ * <p>
+ * Every penguin follows the same heuristic as GameManager.handleAITurn:
+ * 1. Probe all four directions and sort them into food, safe and fatal
+ * 2. Pick a random direction from the best non-empty group
+ * 3. Rockhoppers use their ability when the first obstacle is a hazard,
+ * the other penguins use it with a 30% chance
+ * 4. Royal Penguins step to a random safe neighbour before sliding
+ * <p>
+ * Turn structure follows GameManager.gameLoop: 4 turns, penguins act in
+ * index order, eliminated penguins are skipped and stunned penguins lose
+ * one turn. The game draws from a SplittableRandom instead of RandUtil, so
+ * a FastGame never touches shared state and millions of games can run in
+ * parallel, one FastGame per thread.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class FastGame {
+    /**
+     * Number of turns in a game (same as GameManager)
+     */
+    public static final int DEFAULT_MAX_TURNS = 4;
+
+    /**
+     * Chance out of ten that a non-Rockhopper AI uses its ability
+     */
+    private static final int ABILITY_CHANCE_IN_TEN = 3;
+
+    /**
+     * The board the game is played on
+     */
+    private final FastBoard board;
+
+    /**
+     * Number of turns per game
+     */
+    private final int maxTurns;
+
+    /**
+     * Scratch list of directions leading to food
+     */
+    private final int[] foodDirs = new int[4];
+
+    /**
+     * Scratch list of directions ending safely
+     */
+    private final int[] safeDirs = new int[4];
+
+    /**
+     * Scratch list of directions ending in water or a hole
+     */
+    private final int[] fatalDirs = new int[4];
+
+    /**
+     * Constructs a game with the default number of turns.
+     *
+     * @param board The board to play on
+     * @throws IllegalArgumentException if board is null
+     */
+    public FastGame(FastBoard board) {
+        this(board, DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * Constructs a game.
+     *
+     * @param board    The board to play on
+     * @param maxTurns The number of turns per game
+     * @throws IllegalArgumentException if board is null or maxTurns is not positive
+     */
+    public FastGame(FastBoard board, int maxTurns) {
+        if (board == null) {
+            throw new IllegalArgumentException(
+                    "FastGame Error: Board cannot be null."
+            );
+        }
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException(
+                    "FastGame Error: Turn count must be positive. Received: " + maxTurns
+            );
+        }
+
+        this.board = board;
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Plays all turns on the current board state.
+     *
+     * @param rng The random stream for the AI decisions
+     */
+    public void play(SplittableRandom rng) {
+        for (int turn = 1; turn <= maxTurns; turn++) {
+            playRound(rng);
+        }
+    }
+
+    /**
+     * Plays one round: every penguin still in the game takes one turn.
+     *
+     * @param rng The random stream for the AI decisions
+     */
+    public void playRound(SplittableRandom rng) {
+        int count = board.getPenguinCount();
+        for (int p = 0; p < count; p++) {
+            if (board.isEliminated(p)) {
+                continue;
+            }
+            if (board.isStunned(p)) {
+                board.setStunned(p, false);
+                continue;
+            }
+            playTurn(p, rng);
+        }
+    }
+
+    /**
+     * Plays one AI turn for a penguin, like GameManager.handleAITurn.
+     *
+     * @param p   The penguin index
+     * @param rng The random stream for the AI decisions
+     */
+    public void playTurn(int p, SplittableRandom rng) {
+        int dir = chooseDirection(p, rng);
+
+        boolean useAbility = false;
+        if (!board.isAbilityUsed(p)) {
+            if (board.getPenguinType(p) == PenguinType.ROCKHOPPER) {
+                useAbility = board.isFacingHazard(p, dir);
+            } else {
+                useAbility = rng.nextInt(10) < ABILITY_CHANCE_IN_TEN;
+            }
+        }
+
+        if (!useAbility) {
+            board.slide(p, dir);
+            return;
+        }
+
+        if (board.getPenguinType(p) == PenguinType.ROYAL) {
+            board.royalStep(p, chooseRoyalStep(p, rng));
+            if (board.isEliminated(p)) {
+                return;
+            }
+            board.slide(p, dir);
+        } else {
+            board.slideWithAbility(p, dir);
+        }
+    }
+
+    /**
+     * Chooses a slide direction: random food direction, else random safe
+     * direction, else random fatal direction.
+     *
+     * @param p   The penguin index
+     * @param rng The random stream
+     * @return The Direction ordinal
+     */
+    public int chooseDirection(int p, SplittableRandom rng) {
+        int foodCount = 0;
+        int safeCount = 0;
+        int fatalCount = 0;
+
+        for (int dir = 0; dir < 4; dir++) {
+            switch (board.probe(p, dir)) {
+                case FastBoard.OUTCOME_FOOD -> foodDirs[foodCount++] = dir;
+                case FastBoard.OUTCOME_SAFE -> safeDirs[safeCount++] = dir;
+                default -> fatalDirs[fatalCount++] = dir;
+            }
+        }
+
+        if (foodCount > 0) {
+            return foodDirs[rng.nextInt(foodCount)];
+        }
+        if (safeCount > 0) {
+            return safeDirs[rng.nextInt(safeCount)];
+        }
+        return fatalDirs[rng.nextInt(fatalCount)];
+    }
+
+    /**
+     * Chooses a Royal Penguin step like GameManager.getSafeRoyalMove:
+     * a random safe neighbour, or any direction if none is safe.
+     *
+     * @param p   The penguin index
+     * @param rng The random stream
+     * @return The Direction ordinal
+     */
+    private int chooseRoyalStep(int p, SplittableRandom rng) {
+        int safeCount = 0;
+        for (int dir = 0; dir < 4; dir++) {
+            if (board.isSafeStep(p, dir)) {
+                safeDirs[safeCount++] = dir;
+            }
+        }
+        return safeCount > 0 ? safeDirs[rng.nextInt(safeCount)] : rng.nextInt(4);
+    }
+
+    /**
+     * Gets the penguin with the strictly highest score.
+     *
+     * @return The winning penguin index, or -1 if the top score is shared
+     */
+    public int getWinner() {
+        int best = -1;
+        int bestScore = Integer.MIN_VALUE;
+        boolean shared = false;
+
+        for (int p = 0; p < board.getPenguinCount(); p++) {
+            int score = board.getScore(p);
+            if (score > bestScore) {
+                bestScore = score;
+                best = p;
+                shared = false;
+            } else if (score == bestScore) {
+                shared = true;
+            }
+        }
+        return shared ? -1 : best;
+    }
+
+    /**
+     * Gets the highest score of the game.
+     *
+     * @return The top score
+     */
+    public int getTopScore() {
+        int bestScore = 0;
+        for (int p = 0; p < board.getPenguinCount(); p++) {
+            bestScore = Math.max(bestScore, board.getScore(p));
+        }
+        return bestScore;
+    }
+
+    /**
+     * Gets the board of this game.
+     *
+     * @return The board
+     */
+    public FastBoard getBoard() {
+        return board;
+    }
+
+    /**
+     * Gets the number of turns per game.
+     *
+     * @return The turn count
+     */
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+}
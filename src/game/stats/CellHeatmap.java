@@ -0,0 +1,334 @@
+package game.stats;
+
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Per-square event counters of one board size, accumulated over many games.
+ * <p>
+ * The counters are one flat long[] indexed by event * cells + cell, where
+ * cell = y * size + x, so recording an event is a single array increment.
+ * A heatmap is not thread-safe: every worker fills its own (see
+ * HeatmapRecorder) and the heatmaps are merged when the workers are done.
+ * <p>
+ * Heatmaps can be exported as CSV (one row per square, one column per
+ * event) or in a compact binary format, where every counter is a
+ * variable-length integer: untouched squares take one byte.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class CellHeatmap {
+    /**
+     * A penguin ended its action on the square
+     */
+    public static final int STOP = 0;
+
+    /**
+     * A penguin was eliminated from the square (its last square before the
+     * water or a hole)
+     */
+    public static final int DEATH = 1;
+
+    /**
+     * A penguin picked up food on the square
+     */
+    public static final int FOOD = 2;
+
+    /**
+     * A penguin collided with a penguin or hazard standing on the square
+     */
+    public static final int COLLISION = 3;
+
+    /**
+     * Number of event kinds
+     */
+    public static final int EVENT_COUNT = 4;
+
+    /**
+     * CSV column names of the events, indexed by event
+     */
+    private static final String[] EVENT_NAMES = {"stop", "death", "food", "collision"};
+
+    /**
+     * File signature ("HEAT")
+     */
+    private static final int MAGIC = 0x48454154;
+
+    /**
+     * File format version
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Width and height of the board
+     */
+    private final int size;
+
+    /**
+     * Number of squares
+     */
+    private final int cells;
+
+    /**
+     * Counters indexed by event * cells + cell
+     */
+    private final long[] counts;
+
+    /**
+     * Constructs an empty heatmap.
+     *
+     * @param size The width and height of the board
+     * @throws IllegalArgumentException if size is not positive
+     */
+    public CellHeatmap(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException(
+                    "CellHeatmap Error: Board size must be positive. Received: " + size
+            );
+        }
+        this.size = size;
+        this.cells = size * size;
+        this.counts = new long[EVENT_COUNT * cells];
+    }
+
+    /**
+     * Counts one event. Squares outside the board are ignored.
+     *
+     * @param event The event (STOP, DEATH, FOOD or COLLISION)
+     * @param x     The column
+     * @param y     The row
+     */
+    public void add(int event, int x, int y) {
+        if (x >= 0 && y >= 0 && x < size && y < size) {
+            counts[event * cells + y * size + x]++;
+        }
+    }
+
+    /**
+     * Adds the counters of another heatmap of the same size.
+     *
+     * @param other The heatmap to merge
+     * @throws IllegalArgumentException if the board sizes differ
+     */
+    public void merge(CellHeatmap other) {
+        if (other.size != size) {
+            throw new IllegalArgumentException(
+                    "CellHeatmap Error: Cannot merge a " + other.size + "x" + other.size
+                            + " heatmap into a " + size + "x" + size + " one."
+            );
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+    }
+
+    /**
+     * Adds the counters of another heatmap of the same size and resets
+     * them to zero, in one pass. Used to commit the events of one game.
+     *
+     * @param other The heatmap to empty into this one
+     * @throws IllegalArgumentException if the board sizes differ
+     */
+    public void drain(CellHeatmap other) {
+        merge(other);
+        other.clear();
+    }
+
+    /**
+     * Resets every counter to zero.
+     */
+    public void clear() {
+        Arrays.fill(counts, 0L);
+    }
+
+    /**
+     * Gets the counter of one event on one square.
+     *
+     * @param event The event
+     * @param x     The column
+     * @param y     The row
+     * @return The number of events
+     */
+    public long get(int event, int x, int y) {
+        return counts[event * cells + y * size + x];
+    }
+
+    /**
+     * Gets the number of events of one kind on the whole board.
+     *
+     * @param event The event
+     * @return The total count
+     */
+    public long total(int event) {
+        long sum = 0;
+        for (int cell = 0; cell < cells; cell++) {
+            sum += counts[event * cells + cell];
+        }
+        return sum;
+    }
+
+    /**
+     * Gets the width and height of the board.
+     *
+     * @return The board size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Writes the heatmap as CSV: a header, then one row per square with
+     * its coordinates and one column per event.
+     *
+     * @param path The CSV file (overwritten)
+     * @throws IOException if writing fails
+     */
+    public void writeCsv(Path path) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(path)) {
+            out.write("x,y," + String.join(",", EVENT_NAMES));
+            out.newLine();
+            for (int y = 0; y < size; y++) {
+                for (int x = 0; x < size; x++) {
+                    StringBuilder row = new StringBuilder().append(x).append(',').append(y);
+                    for (int event = 0; event < EVENT_COUNT; event++) {
+                        row.append(',').append(get(event, x, y));
+                    }
+                    out.write(row.toString());
+                    out.newLine();
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the heatmap in the binary format.
+     *
+     * @param out The output stream
+     * @throws IOException if writing fails
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.writeInt(MAGIC);
+        dataOut.writeByte(VERSION);
+        dataOut.writeInt(size);
+        dataOut.writeByte(EVENT_COUNT);
+        for (long count : counts) {
+            long v = count;
+            while ((v & ~0x7FL) != 0) {
+                dataOut.writeByte((int) (v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            dataOut.writeByte((int) v);
+        }
+        dataOut.flush();
+    }
+
+    /**
+     * Reads a heatmap written by write().
+     *
+     * @param in The input stream
+     * @return The heatmap
+     * @throws IOException if reading fails or the data is not a heatmap
+     */
+    public static CellHeatmap read(InputStream in) throws IOException {
+        DataInputStream dataIn = new DataInputStream(in);
+        if (dataIn.readInt() != MAGIC) {
+            throw new IOException("CellHeatmap Error: Not a heatmap file.");
+        }
+        int version = dataIn.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("CellHeatmap Error: Unsupported heatmap version " + version + ".");
+        }
+        int size = dataIn.readInt();
+        int events = dataIn.readUnsignedByte();
+        if (size <= 0 || size > 1 << 14 || events != EVENT_COUNT) {
+            throw new IOException("CellHeatmap Error: Corrupt heatmap header.");
+        }
+
+        CellHeatmap heatmap = new CellHeatmap(size);
+        for (int i = 0; i < heatmap.counts.length; i++) {
+            long v = 0;
+            int shift = 0;
+            int b;
+            do {
+                if (shift > 63) {
+                    throw new IOException("CellHeatmap Error: Corrupt counter.");
+                }
+                b = dataIn.readUnsignedByte();
+                v |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            heatmap.counts[i] = v;
+        }
+        return heatmap;
+    }
+
+    /**
+     * Saves the heatmap to a file in the binary format.
+     *
+     * @param path The file path
+     * @throws IOException if writing fails
+     */
+    public void save(Path path) throws IOException {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            write(out);
+        }
+    }
+
+    /**
+     * Loads a heatmap from a binary file.
+     *
+     * @param path The file path
+     * @return The heatmap
+     * @throws IOException if reading fails or the file is not a heatmap
+     */
+    public static CellHeatmap load(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Checks whether two heatmaps have the same size and counters.
+     *
+     * @param o The other object
+     * @return true if the heatmaps are equal
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof CellHeatmap other && other.size == size && Arrays.equals(other.counts, counts);
+    }
+
+    /**
+     * Computes a hash code from the size and counters.
+     *
+     * @return The hash code
+     */
+    @Override
+    public int hashCode() {
+        return 31 * size + Arrays.hashCode(counts);
+    }
+
+    /**
+     * Returns the board size and the event totals.
+     *
+     * @return A descriptive string
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("CellHeatmap [").append(size).append('x').append(size);
+        for (int event = 0; event < EVENT_COUNT; event++) {
+            sb.append(", ").append(EVENT_NAMES[event]).append('=').append(total(event));
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,163 @@
+package game.stats;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Mergeable HyperLogLog sketch that estimates how many distinct 64-bit
+ * keys (such as board fingerprints) were added.
+ * <p>
+ * The sketch keeps 4096 registers. Each key is mixed and then selects one
+ * register by its top 12 bits; the register keeps the longest run of
+ * leading zeros seen in the remaining bits. The estimate has a standard
+ * error of about 1.6% and the memory use does not grow with the number of
+ * keys. Small counts use linear counting, which is nearly exact.
+ * <p>
+ * Registers only grow, and two sketches merge by taking the larger value
+ * of every register, so merging is order-independent and adding the same
+ * key twice changes nothing. Registers are updated with compare-and-set,
+ * so add() and merge() are lock-free and safe from several threads.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class DistinctCounter {
+    /**
+     * Number of index bits
+     */
+    private static final int PRECISION = 12;
+
+    /**
+     * Number of registers (2^PRECISION)
+     */
+    private static final int REGISTERS = 1 << PRECISION;
+
+    /**
+     * Leading-zero run length per register
+     */
+    private final AtomicIntegerArray registers;
+
+    /**
+     * Constructs an empty sketch.
+     */
+    public DistinctCounter() {
+        this.registers = new AtomicIntegerArray(REGISTERS);
+    }
+
+    /**
+     * Adds a key.
+     *
+     * @param key The key (need not be well mixed)
+     */
+    public void add(long key) {
+        long x = mix(key);
+        int index = (int) (x >>> (64 - PRECISION));
+        long rest = (x << PRECISION) | (1L << (PRECISION - 1));
+        raise(index, Long.numberOfLeadingZeros(rest) + 1);
+    }
+
+    /**
+     * Merges another sketch into this one.
+     *
+     * @param other The sketch to merge
+     */
+    public void merge(DistinctCounter other) {
+        for (int i = 0; i < REGISTERS; i++) {
+            raise(i, other.registers.get(i));
+        }
+    }
+
+    /**
+     * Raises a register to at least a value.
+     *
+     * @param index The register
+     * @param rank  The new value
+     */
+    private void raise(int index, int rank) {
+        int current = registers.get(index);
+        while (rank > current && !registers.compareAndSet(index, current, rank)) {
+            current = registers.get(index);
+        }
+    }
+
+    /**
+     * Spreads the bits of a key (SplitMix64 finalizer). Keys such as board
+     * fingerprints can be structured, and any bias in the top bits would
+     * bias the estimate, so a simple finalizer is not enough.
+     *
+     * @param key The key
+     * @return The mixed key
+     */
+    private static long mix(long key) {
+        long z = key * 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Estimates the number of distinct keys added.
+     *
+     * @return The estimated count
+     */
+    public long estimate() {
+        double sum = 0.0;
+        int zeros = 0;
+        for (int i = 0; i < REGISTERS; i++) {
+            int rank = registers.get(i);
+            sum += Math.scalb(1.0, -rank);
+            if (rank == 0) {
+                zeros++;
+            }
+        }
+
+        double alpha = 0.7213 / (1.0 + 1.079 / REGISTERS);
+        double estimate = alpha * REGISTERS * (double) REGISTERS / sum;
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * Writes the registers to a stream.
+     *
+     * @param out The output stream
+     * @throws IOException if writing fails
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(REGISTERS);
+        for (int i = 0; i < REGISTERS; i++) {
+            out.writeByte(registers.get(i));
+        }
+    }
+
+    /**
+     * Merges registers written by write() into this sketch.
+     *
+     * @param in The input stream
+     * @throws IOException if reading fails or the data is corrupt
+     */
+    public void readAndMerge(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count != REGISTERS) {
+            throw new IOException("DistinctCounter Error: Expected " + REGISTERS + " registers, found " + count + ".");
+        }
+        for (int i = 0; i < REGISTERS; i++) {
+            raise(i, in.readUnsignedByte());
+        }
+    }
+
+    /**
+     * Returns the current estimate.
+     *
+     * @return A descriptive string
+     */
+    @Override
+    public String toString() {
+        return "DistinctCounter [~" + estimate() + " distinct]";
+    }
+}
@@ -0,0 +1,260 @@
+package game.stats;
+
+import enums.CollisionType;
+import enums.EliminationCause;
+import enums.PenguinType;
+import game.GameResult;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Streaming summary of many headless games with fixed memory: score
+ * quantiles per PenguinType, the number of distinct spawned boards, and
+ * counters of elimination causes and collision types.
+ * <p>
+ * Nothing per game is kept. A record() call updates the sketches and the
+ * GameResult can be dropped, so billions of games fit in the same few
+ * kilobytes. Every part is lock-free and mergeable (see LogHistogram and
+ * DistinctCounter); a batch gives each worker its own GameSketches and
+ * merges them at the end, in any order.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class GameSketches {
+    /**
+     * Index of the game counter
+     */
+    private static final int GAMES = 0;
+
+    /**
+     * Index of the counter of eliminations without a known cause
+     */
+    private static final int UNKNOWN_CAUSE = 1;
+
+    /**
+     * Index of the first elimination cause counter
+     */
+    private static final int CAUSE_BASE = 2;
+
+    /**
+     * Index of the first collision type counter
+     */
+    private static final int COLLISION_BASE = CAUSE_BASE + EliminationCause.values().length;
+
+    /**
+     * Number of counters
+     */
+    private static final int COUNTERS = COLLISION_BASE + CollisionType.values().length;
+
+    /**
+     * Score histogram per PenguinType ordinal
+     */
+    private final LogHistogram[] scores;
+
+    /**
+     * Distinct spawned boards
+     */
+    private final DistinctCounter boards;
+
+    /**
+     * Game, elimination and collision counters
+     */
+    private final AtomicLongArray counters;
+
+    /**
+     * Constructs empty sketches.
+     */
+    public GameSketches() {
+        this.scores = new LogHistogram[PenguinType.values().length];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = new LogHistogram();
+        }
+        this.boards = new DistinctCounter();
+        this.counters = new AtomicLongArray(COUNTERS);
+    }
+
+    /**
+     * Adds one finished game.
+     *
+     * @param result    The result of the game
+     * @param boardHash The fingerprint of the spawned board (IcyTerrain.getSpawnHash())
+     * @throws IllegalArgumentException if result is null
+     */
+    public void record(GameResult result, long boardHash) {
+        if (result == null) {
+            throw new IllegalArgumentException(
+                    "GameSketches Error: Game result cannot be null."
+            );
+        }
+
+        counters.getAndIncrement(GAMES);
+        boards.add(boardHash);
+        for (GameResult.PenguinResult penguin : result.getPenguins()) {
+            scores[penguin.getType().ordinal()].record(penguin.getScore());
+
+            if (penguin.isEliminated()) {
+                EliminationCause cause = penguin.getEliminationCause();
+                counters.getAndIncrement(cause == null ? UNKNOWN_CAUSE : CAUSE_BASE + cause.ordinal());
+            }
+            for (CollisionType collision : CollisionType.values()) {
+                int count = penguin.getCollisionCount(collision);
+                if (count != 0) {
+                    counters.getAndAdd(COLLISION_BASE + collision.ordinal(), count);
+                }
+            }
+        }
+    }
+
+    /**
+     * Merges other sketches into these.
+     *
+     * @param other The sketches to merge
+     */
+    public void merge(GameSketches other) {
+        for (int i = 0; i < scores.length; i++) {
+            scores[i].merge(other.scores[i]);
+        }
+        boards.merge(other.boards);
+        for (int i = 0; i < COUNTERS; i++) {
+            counters.getAndAdd(i, other.counters.get(i));
+        }
+    }
+
+    /**
+     * Gets the score histogram of one penguin type.
+     *
+     * @param type The penguin type
+     * @return The live histogram
+     */
+    public LogHistogram getScores(PenguinType type) {
+        return scores[type.ordinal()];
+    }
+
+    /**
+     * Gets the number of recorded games.
+     *
+     * @return The game count
+     */
+    public long getGames() {
+        return counters.get(GAMES);
+    }
+
+    /**
+     * Estimates the number of distinct spawned boards.
+     *
+     * @return The estimated count
+     */
+    public long getDistinctBoards() {
+        return boards.estimate();
+    }
+
+    /**
+     * Gets the number of eliminations with a cause.
+     *
+     * @param cause The elimination cause
+     * @return The count over all penguins and games
+     */
+    public long getEliminations(EliminationCause cause) {
+        return counters.get(CAUSE_BASE + cause.ordinal());
+    }
+
+    /**
+     * Gets the number of collisions of one type.
+     *
+     * @param collision The collision type
+     * @return The count over all penguins and games
+     */
+    public long getCollisions(CollisionType collision) {
+        return counters.get(COLLISION_BASE + collision.ordinal());
+    }
+
+    /**
+     * Writes the sketches to a stream.
+     *
+     * @param out The output stream
+     * @throws IOException if writing fails
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(COUNTERS);
+        for (int i = 0; i < COUNTERS; i++) {
+            out.writeLong(counters.get(i));
+        }
+        boards.write(out);
+        out.writeInt(scores.length);
+        for (LogHistogram histogram : scores) {
+            histogram.write(out);
+        }
+    }
+
+    /**
+     * Merges sketches written by write() into these.
+     *
+     * @param in The input stream
+     * @throws IOException if reading fails or the data is corrupt
+     */
+    public void readAndMerge(DataInputStream in) throws IOException {
+        if (in.readInt() != COUNTERS) {
+            throw new IOException("GameSketches Error: Counter layout does not match.");
+        }
+        for (int i = 0; i < COUNTERS; i++) {
+            counters.getAndAdd(i, in.readLong());
+        }
+        boards.readAndMerge(in);
+        if (in.readInt() != scores.length) {
+            throw new IOException("GameSketches Error: Penguin type count does not match.");
+        }
+        for (LogHistogram histogram : scores) {
+            histogram.readAndMerge(in);
+        }
+    }
+
+    /**
+     * Returns the score quantiles and the cause and collision tables.
+     *
+     * @return The formatted summary
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        long games = getGames();
+        sb.append(String.format("  |---> Distinct boards: ~%d of %d games%n", getDistinctBoards(), games));
+
+        sb.append(String.format("%n  %-12s %12s %8s %8s %8s %8s%n", "Score", "Penguins", "p10", "p50", "p90", "p99"));
+        for (PenguinType type : PenguinType.values()) {
+            LogHistogram h = scores[type.ordinal()];
+            sb.append(String.format("  %-12s %12d %8.1f %8.1f %8.1f %8.1f%n", type.getDisplayName(), h.getCount(),
+                    h.quantile(0.1), h.quantile(0.5), h.quantile(0.9), h.quantile(0.99)));
+        }
+
+        sb.append(String.format("%n  %-16s %12s %10s%n", "Eliminated by", "Count", "Per game"));
+        for (EliminationCause cause : EliminationCause.values()) {
+            appendCount(sb, cause.getDisplayName(), getEliminations(cause), games);
+        }
+        if (counters.get(UNKNOWN_CAUSE) != 0) {
+            appendCount(sb, "Unknown", counters.get(UNKNOWN_CAUSE), games);
+        }
+
+        sb.append(String.format("%n  %-16s %12s %10s%n", "Collision with", "Count", "Per game"));
+        for (CollisionType collision : CollisionType.values()) {
+            appendCount(sb, collision.getDisplayName(), getCollisions(collision), games);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Appends one counter row.
+     *
+     * @param sb    The builder
+     * @param label The row label
+     * @param count The counter
+     * @param games The number of games
+     */
+    private static void appendCount(StringBuilder sb, String label, long count, long games) {
+        sb.append(String.format("  %-16s %12d %10.3f%n", label, count, games == 0 ? 0.0 : (double) count / games));
+    }
+}
@@ -0,0 +1,249 @@
+package game.stats;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Mergeable quantile sketch for non-negative int values such as scores.
+ * <p>
+ * Values below 64 get one bucket each and are counted exactly. Larger
+ * values share log-linear buckets: every power of two is split into 32
+ * equal buckets, so a reported quantile is within about 3% of the true
+ * value. The histogram has a fixed number of buckets (864 counters), no
+ * matter how many values it holds.
+ * <p>
+ * All counters are atomic. record() and merge() are lock-free, so several
+ * workers can record into one histogram, or each worker can keep its own
+ * and merge it into a shared one when it is done. Two histograms merge by
+ * adding their counters, which gives the same result as recording all
+ * values into one.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class LogHistogram {
+    /**
+     * Number of exact buckets (values 0-63)
+     */
+    private static final int EXACT = 64;
+
+    /**
+     * Buckets per power of two above the exact range
+     */
+    private static final int SUB = 32;
+
+    /**
+     * log2(SUB)
+     */
+    private static final int SUB_BITS = 5;
+
+    /**
+     * Total number of buckets: the exact range plus 32 for each power of two from 2^6 to 2^30
+     */
+    static final int BUCKETS = EXACT + (30 - SUB_BITS) * SUB;
+
+    /**
+     * Value count per bucket
+     */
+    private final AtomicLongArray counts;
+
+    /**
+     * Number of recorded values (slot 0) and their sum (slot 1)
+     */
+    private final AtomicLongArray totals;
+
+    /**
+     * Constructs an empty histogram.
+     */
+    public LogHistogram() {
+        this.counts = new AtomicLongArray(BUCKETS);
+        this.totals = new AtomicLongArray(2);
+    }
+
+    /**
+     * Records one value.
+     *
+     * @param value The value
+     * @throws IllegalArgumentException if value is negative
+     */
+    public void record(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(
+                    "LogHistogram Error: Values cannot be negative. Received: " + value
+            );
+        }
+        counts.getAndIncrement(bucketOf(value));
+        totals.getAndIncrement(0);
+        totals.getAndAdd(1, value);
+    }
+
+    /**
+     * Adds the counters of another histogram to this one.
+     *
+     * @param other The histogram to merge
+     */
+    public void merge(LogHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long c = other.counts.get(i);
+            if (c != 0) {
+                counts.getAndAdd(i, c);
+            }
+        }
+        totals.getAndAdd(0, other.totals.get(0));
+        totals.getAndAdd(1, other.totals.get(1));
+    }
+
+    /**
+     * Finds the bucket of a value.
+     *
+     * @param value The non-negative value
+     * @return The bucket index
+     */
+    static int bucketOf(int value) {
+        if (value < EXACT) {
+            return value;
+        }
+        int shift = 31 - Integer.numberOfLeadingZeros(value) - SUB_BITS;
+        return EXACT + (shift - 1) * SUB + ((value >>> shift) - SUB);
+    }
+
+    /**
+     * Gets the smallest value of a bucket.
+     *
+     * @param bucket The bucket index
+     * @return The lower bound
+     */
+    static long lowerBound(int bucket) {
+        if (bucket < EXACT) {
+            return bucket;
+        }
+        int shift = (bucket - EXACT) / SUB + 1;
+        long sub = (bucket - EXACT) % SUB + SUB;
+        return sub << shift;
+    }
+
+    /**
+     * Gets the largest value of a bucket.
+     *
+     * @param bucket The bucket index
+     * @return The upper bound
+     */
+    static long upperBound(int bucket) {
+        if (bucket < EXACT) {
+            return bucket;
+        }
+        int shift = (bucket - EXACT) / SUB + 1;
+        return lowerBound(bucket) + (1L << shift) - 1;
+    }
+
+    /**
+     * Estimates a quantile.
+     *
+     * @param q The quantile between 0 and 1 (0.5 for the median)
+     * @return The estimated value, or 0 if the histogram is empty
+     * @throws IllegalArgumentException if q is outside [0, 1]
+     */
+    public double quantile(double q) {
+        if (q < 0.0 || q > 1.0) {
+            throw new IllegalArgumentException(
+                    "LogHistogram Error: Quantile must be between 0 and 1. Received: " + q
+            );
+        }
+        long count = getCount();
+        if (count == 0) {
+            return 0.0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(q * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return (lowerBound(i) + upperBound(i)) / 2.0;
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return The value count
+     */
+    public long getCount() {
+        return totals.get(0);
+    }
+
+    /**
+     * Gets the exact mean of the recorded values.
+     *
+     * @return The mean, or 0 if the histogram is empty
+     */
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0.0 : (double) totals.get(1) / count;
+    }
+
+    /**
+     * Writes the counters to a stream. Only non-empty buckets are written.
+     *
+     * @param out The output stream
+     * @throws IOException if writing fails
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeLong(totals.get(0));
+        out.writeLong(totals.get(1));
+        int used = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts.get(i) != 0) {
+                used++;
+            }
+        }
+        out.writeInt(used);
+        for (int i = 0; i < BUCKETS; i++) {
+            long c = counts.get(i);
+            if (c != 0) {
+                out.writeShort(i);
+                out.writeLong(c);
+            }
+        }
+    }
+
+    /**
+     * Adds counters written by write() to this histogram.
+     *
+     * @param in The input stream
+     * @throws IOException if reading fails or the data is corrupt
+     */
+    public void readAndMerge(DataInputStream in) throws IOException {
+        long count = in.readLong();
+        long sum = in.readLong();
+        int used = in.readInt();
+        if (used < 0 || used > BUCKETS) {
+            throw new IOException("LogHistogram Error: Corrupt bucket count " + used + ".");
+        }
+        for (int n = 0; n < used; n++) {
+            int bucket = in.readUnsignedShort();
+            if (bucket >= BUCKETS) {
+                throw new IOException("LogHistogram Error: Corrupt bucket index " + bucket + ".");
+            }
+            counts.getAndAdd(bucket, in.readLong());
+        }
+        totals.getAndAdd(0, count);
+        totals.getAndAdd(1, sum);
+    }
+
+    /**
+     * Returns the count, mean and main quantiles.
+     *
+     * @return A descriptive string
+     */
+    @Override
+    public String toString() {
+        return String.format("LogHistogram [n=%d, mean=%.2f, p50=%.1f, p90=%.1f, p99=%.1f]",
+                getCount(), getMean(), quantile(0.5), quantile(0.9), quantile(0.99));
+    }
+}
@@ -0,0 +1,388 @@
+package game.util;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Compact log of the values returned by RandUtil during one game.
+ * <p>
+ * While a log is being recorded, RandUtil appends every value it returns.
+ * While a log is being replayed, RandUtil returns the logged values instead
+ * of drawing new ones, so a game can be reproduced exactly without the
+ * original seed or random number generator.
+ * <p>
+ * Each draw is stored as one variable-length integer: the value (zigzag
+ * encoded, so negative numbers stay short) shifted left by 3 bits, with the
+ * kind of draw in the low 3 bits. Almost every draw in a game fits in a
+ * single byte.
+ * <p>
+ * Replay keeps one queue per kind. A direction draw always gets the next
+ * logged direction, even if a newer version of the game draws food types
+ * and directions in a different interleaving. Within one kind the order
+ * must match; a mismatch is reported as an IllegalStateException.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class DrawLog {
+    /**
+     * Kind of a general integer draw (getRandomInt, getRandomIntInRange, getWeightedIndex)
+     */
+    public static final int INT = 0;
+
+    /**
+     * Kind of a boolean draw (0 or 1)
+     */
+    public static final int BOOLEAN = 1;
+
+    /**
+     * Kind of a Direction draw (ordinal)
+     */
+    public static final int DIRECTION = 2;
+
+    /**
+     * Kind of a PenguinType draw (ordinal)
+     */
+    public static final int PENGUIN = 3;
+
+    /**
+     * Kind of a HazardType draw (ordinal)
+     */
+    public static final int HAZARD = 4;
+
+    /**
+     * Kind of a FoodType draw (ordinal)
+     */
+    public static final int FOOD = 5;
+
+    /**
+     * Kind of a food weight draw (1 to 5)
+     */
+    public static final int FOOD_WEIGHT = 6;
+
+    /**
+     * Number of draw kinds
+     */
+    private static final int KIND_COUNT = 7;
+
+    /**
+     * Names of the kinds, for error messages
+     */
+    private static final String[] KIND_NAMES = {
+            "int", "boolean", "direction", "penguin type", "hazard type", "food type", "food weight"
+    };
+
+    /**
+     * File header ("DRAW")
+     */
+    private static final int MAGIC = 0x44524157;
+
+    /**
+     * File format version
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Encoded draws
+     */
+    private byte[] data;
+
+    /**
+     * Number of used bytes in data
+     */
+    private int length;
+
+    /**
+     * Number of draws in the log
+     */
+    private int drawCount;
+
+    /**
+     * Decoded values per kind, built when replay starts
+     */
+    private int[][] replayValues;
+
+    /**
+     * Next replay index per kind
+     */
+    private int[] replayCursor;
+
+    /**
+     * Constructs an empty log.
+     */
+    public DrawLog() {
+        this.data = new byte[64];
+    }
+
+    /**
+     * Appends a draw to the log.
+     *
+     * @param kind  The kind of draw
+     * @param value The returned value
+     * @throws IllegalArgumentException if kind is invalid
+     */
+    public void append(int kind, int value) {
+        checkKind(kind);
+
+        long zigzag = ((long) value << 1) ^ (value >> 31);
+        long encoded = (zigzag << 3) | kind;
+
+        if (length + 10 > data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        while ((encoded & ~0x7FL) != 0) {
+            data[length++] = (byte) ((encoded & 0x7F) | 0x80);
+            encoded >>>= 7;
+        }
+        data[length++] = (byte) encoded;
+        drawCount++;
+    }
+
+    /**
+     * Returns the next logged value of a kind.
+     *
+     * @param kind The kind of draw
+     * @return The logged value
+     * @throws IllegalArgumentException if kind is invalid
+     * @throws IllegalStateException    if the log has no more values of this kind
+     */
+    public int next(int kind) {
+        checkKind(kind);
+        if (replayValues == null) {
+            rewind();
+        }
+
+        int[] values = replayValues[kind];
+        if (replayCursor[kind] >= values.length) {
+            throw new IllegalStateException(
+                    "DrawLog Error: Replay ran out of " + KIND_NAMES[kind] + " draws after " +
+                            values.length + ". The game diverged from the recording."
+            );
+        }
+        return values[replayCursor[kind]++];
+    }
+
+    /**
+     * Returns the next logged value of a kind and checks it is below a bound.
+     *
+     * @param kind  The kind of draw
+     * @param bound The exclusive upper bound the caller expects
+     * @return The logged value
+     * @throws IllegalStateException if the log is exhausted or the value is out of range
+     */
+    public int next(int kind, int bound) {
+        return next(kind, 0, bound);
+    }
+
+    /**
+     * Returns the next logged value of a kind and checks it is in a range.
+     *
+     * @param kind   The kind of draw
+     * @param origin The smallest value the caller expects
+     * @param bound  The exclusive upper bound the caller expects
+     * @return The logged value
+     * @throws IllegalStateException if the log is exhausted or the value is out of range
+     */
+    public int next(int kind, int origin, int bound) {
+        int value = next(kind);
+        if (value < origin || value >= bound) {
+            throw new IllegalStateException(
+                    "DrawLog Error: Logged " + KIND_NAMES[kind] + " draw " + value +
+                            " is outside [" + origin + ", " + bound + "). The game diverged from the recording."
+            );
+        }
+        return value;
+    }
+
+    /**
+     * Restarts replay from the first draw.
+     *
+     * @throws IllegalStateException if the encoded draws are truncated or corrupt
+     */
+    public void rewind() {
+        int[] counts = new int[KIND_COUNT];
+        int[] kinds = new int[drawCount];
+        int[] values = new int[drawCount];
+
+        int pos = 0;
+        for (int i = 0; i < drawCount; i++) {
+            long encoded = 0;
+            int shift = 0;
+            byte b;
+            do {
+                if (pos >= length || shift > 28) {
+                    throw new IllegalStateException(
+                            "DrawLog Error: Corrupt draw log. Draw " + i + " of " + drawCount
+                                    + (pos >= length ? " runs past the end of the data." : " is too long.")
+                    );
+                }
+                b = data[pos++];
+                encoded |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+
+            kinds[i] = (int) (encoded & 7);
+            if (kinds[i] >= KIND_COUNT) {
+                throw new IllegalStateException(
+                        "DrawLog Error: Corrupt draw log. Draw " + i + " has unknown kind " + kinds[i] + "."
+                );
+            }
+            long zigzag = encoded >>> 3;
+            values[i] = (int) ((zigzag >>> 1) ^ -(zigzag & 1));
+            counts[kinds[i]]++;
+        }
+
+        replayValues = new int[KIND_COUNT][];
+        for (int k = 0; k < KIND_COUNT; k++) {
+            replayValues[k] = new int[counts[k]];
+        }
+        int[] fill = new int[KIND_COUNT];
+        for (int i = 0; i < drawCount; i++) {
+            replayValues[kinds[i]][fill[kinds[i]]++] = values[i];
+        }
+        replayCursor = new int[KIND_COUNT];
+    }
+
+    /**
+     * Gets the number of draws in the log.
+     *
+     * @return The draw count
+     */
+    public int size() {
+        return drawCount;
+    }
+
+    /**
+     * Gets the encoded size of the draws.
+     *
+     * @return The number of bytes
+     */
+    public int getEncodedSize() {
+        return length;
+    }
+
+    /**
+     * Checks whether every logged draw has been replayed.
+     *
+     * @return true if replay consumed the whole log
+     */
+    public boolean isFullyReplayed() {
+        if (replayValues == null) {
+            return drawCount == 0;
+        }
+        for (int k = 0; k < KIND_COUNT; k++) {
+            if (replayCursor[k] < replayValues[k].length) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the log to a stream.
+     *
+     * @param out The output stream
+     * @throws IOException if writing fails
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.writeInt(MAGIC);
+        dataOut.writeByte(VERSION);
+        dataOut.writeInt(drawCount);
+        dataOut.writeInt(length);
+        dataOut.write(data, 0, length);
+        dataOut.flush();
+    }
+
+    /**
+     * Reads a log from a stream.
+     *
+     * @param in The input stream
+     * @return The log, ready for replay
+     * @throws IOException if reading fails or the data is not a draw log
+     */
+    public static DrawLog read(InputStream in) throws IOException {
+        DataInputStream dataIn = new DataInputStream(in);
+        if (dataIn.readInt() != MAGIC) {
+            throw new IOException("DrawLog Error: Not a draw log file.");
+        }
+        int version = dataIn.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("DrawLog Error: Unsupported draw log version " + version + ".");
+        }
+
+        int drawCount = dataIn.readInt();
+        int length = dataIn.readInt();
+        if (drawCount < 0 || length < drawCount) {
+            throw new IOException("DrawLog Error: Corrupt draw log header.");
+        }
+
+        DrawLog log = new DrawLog();
+        log.data = new byte[Math.max(length, 64)];
+        dataIn.readFully(log.data, 0, length);
+        log.length = length;
+        log.drawCount = drawCount;
+        try {
+            log.rewind();
+        } catch (IllegalStateException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        return log;
+    }
+
+    /**
+     * Saves the log to a file.
+     *
+     * @param path The file path
+     * @throws IOException if writing fails
+     */
+    public void save(Path path) throws IOException {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            write(out);
+        }
+    }
+
+    /**
+     * Loads a log from a file.
+     *
+     * @param path The file path
+     * @return The log, ready for replay
+     * @throws IOException if reading fails or the file is not a draw log
+     */
+    public static DrawLog load(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Validates a draw kind.
+     *
+     * @param kind The kind
+     * @throws IllegalArgumentException if kind is not one of the constants
+     */
+    private static void checkKind(int kind) {
+        if (kind < 0 || kind >= KIND_COUNT) {
+            throw new IllegalArgumentException(
+                    "DrawLog Error: Unknown draw kind " + kind + "."
+            );
+        }
+    }
+
+    /**
+     * Returns a string representation of this log.
+     *
+     * @return A descriptive string
+     */
+    @Override
+    public String toString() {
+        return "DrawLog [" + drawCount + " draws, " + length + " bytes]";
+    }
+}
@@ -0,0 +1,84 @@
+package game.util;
+
+/**
+ * Console output used by the game engine (penguins, hazards, GameManager).
+ * <p>
+ * Messages go to System.out and errors to System.err, exactly as before,
+ * unless output is muted on the current thread. Headless games mute their
+ * thread so that thousands of simulated games can run in parallel without
+ * printing, while an interactive game on another thread keeps its output.
+ * <p>
+ * Muting is per thread: setMuted(true) on a worker thread never silences
+ * the main thread.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class GameConsole {
+    /**
+     * Whether output is muted on each thread
+     */
+    private static final ThreadLocal<Boolean> MUTED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    /**
+     * Private constructor to prevent instantiation.
+     * This is a utility class with only static methods.
+     */
+    private GameConsole() {
+        throw new UnsupportedOperationException(
+                "GameConsole is a utility class and should not be instantiated."
+        );
+    }
+
+    /**
+     * Prints a line to System.out unless the current thread is muted.
+     *
+     * @param message The message to print
+     */
+    public static void println(String message) {
+        if (!MUTED.get()) {
+            System.out.println(message);
+        }
+    }
+
+    /**
+     * Prints text without a line break to System.out unless the current thread is muted.
+     *
+     * @param message The text to print
+     */
+    public static void print(String message) {
+        if (!MUTED.get()) {
+            System.out.print(message);
+        }
+    }
+
+    /**
+     * Prints an error line to System.err unless the current thread is muted.
+     *
+     * @param message The error message to print
+     */
+    public static void printError(String message) {
+        if (!MUTED.get()) {
+            System.err.println(message);
+        }
+    }
+
+    /**
+     * Mutes or unmutes output on the current thread.
+     *
+     * @param muted true to drop all output on this thread
+     */
+    public static void setMuted(boolean muted) {
+        MUTED.set(muted);
+    }
+
+    /**
+     * Checks if output is muted on the current thread.
+     *
+     * @return true if output is muted
+     */
+    public static boolean isMuted() {
+        return MUTED.get();
+    }
+}
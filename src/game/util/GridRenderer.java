@@ -42,8 +42,8 @@ public class GridRenderer {
      * Renders the current state of the TerrainGrid to the console.
      * Creates a formatted ASCII table showing all objects on the grid.
      * <p>
-     * The grid is rendered from top (y=0) to bottom (y=9), and from
-     * left (x=0) to right (x=9). Each cell displays the object's notation
+     * The grid is rendered from top (y=0) to bottom (y=size-1), and from
+     * left (x=0) to right (x=size-1). Each cell displays the object's notation
      * or remains empty if no object is present.
      * <p>
      * Example output:
@@ -66,17 +66,18 @@ public class GridRenderer {
 
         try {
             StringBuilder sb = new StringBuilder();
-            String horizontalBorder = buildHorizontalBorder();
+            int size = grid.getSize();
+            String horizontalBorder = buildHorizontalBorder(size);
 
             // Top Border
             sb.append(horizontalBorder).append("\n");
 
             // Loop through Y (Rows)
-            for (int y = 0; y < 10; y++) {
+            for (int y = 0; y < size; y++) {
                 sb.append("|"); // Start of row
 
                 // Loop through X (Cols)
-                for (int x = 0; x < 10; x++) {
+                for (int x = 0; x < size; x++) {
                     ITerrainObject obj = grid.getObjectAt(new Position(x, y));
                     String symbol = getDisplaySymbol(obj);
 
@@ -98,13 +99,14 @@ public class GridRenderer {
      * Generates the horizontal border string for the grid.
      * Creates a line of "+" symbols separated by dashes.
      * <p>
-     * Format: +----+----+----+... (10 cells total)
+     * Format: +----+----+----+... (one cell per column)
      *
+     * @param size The number of columns of the grid
      * @return The complete horizontal border string
      */
-    private String buildHorizontalBorder() {
+    private String buildHorizontalBorder(int size) {
         // Must match CELL_WIDTH (4 dashes per cell)
-        return "+" + "----+".repeat(10);
+        return "+" + "----+".repeat(size);
     }
 
     /**
@@ -0,0 +1,101 @@
+package game.util;
+
+import game.stats.CellHeatmap;
+import models.Position;
+
+/**
+ * Hooks through which the game engine reports per-square events (stops,
+ * eliminations, food pickups, collisions) to a CellHeatmap.
+ * <p>
+ * Recording is per thread, like muting in GameConsole: a worker installs
+ * its own heatmap with setThreadHeatmap() and every event of the games it
+ * plays is counted there, without locks or sharing. The worker merges its
+ * heatmap into the batch total when it is done.
+ * <p>
+ * When no thread records, a hook is a single read of a static boolean
+ * followed by a return, so games without heatmaps do not pay for them:
+ * no ThreadLocal lookup, no allocation. The flag is volatile and written
+ * under the class lock, so every game thread sees a heatmap being
+ * installed or removed on its next hook; a volatile read costs no more
+ * than a plain one on common hardware.
+ *
+ * @author CENG211 14. Group
+ * @version 1.0
+ * @since 2025-12-08
+ */
+public class HeatmapRecorder {
+    /**
+     * Heatmap being filled on each thread, or null
+     */
+    private static final ThreadLocal<CellHeatmap> HEATMAP = new ThreadLocal<>();
+
+    /**
+     * Number of threads that currently record
+     */
+    private static int recordingThreads;
+
+    /**
+     * Whether any thread records (recordingThreads > 0); written under the
+     * class lock, read without it by every game thread
+     */
+    private static volatile boolean active;
+
+    /**
+     * Private constructor to prevent instantiation.
+     * This is a utility class with only static methods.
+     */
+    private HeatmapRecorder() {
+        throw new UnsupportedOperationException(
+                "HeatmapRecorder is a utility class and should not be instantiated."
+        );
+    }
+
+    /**
+     * Makes the current thread count its events into a heatmap. Passing
+     * null stops recording on this thread.
+     *
+     * @param heatmap The heatmap of this thread, or null
+     */
+    public static void setThreadHeatmap(CellHeatmap heatmap) {
+        boolean wasRecording = HEATMAP.get() != null;
+        if (heatmap == null) {
+            HEATMAP.remove();
+        } else {
+            HEATMAP.set(heatmap);
+        }
+
+        boolean recording = heatmap != null;
+        if (recording != wasRecording) {
+            synchronized (HeatmapRecorder.class) {
+                recordingThreads += recording ? 1 : -1;
+                active = recordingThreads > 0;
+            }
+        }
+    }
+
+    /**
+     * Checks whether any thread records. Hooks that would have to compute
+     * or copy a position check this first.
+     *
+     * @return true if heatmaps are being recorded
+     */
+    public static boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Counts an event on a square in the current thread's heatmap.
+     *
+     * @param event    The event (CellHeatmap.STOP, DEATH, FOOD or COLLISION)
+     * @param position The square, or null (ignored)
+     */
+    public static void record(int event, Position position) {
+        if (!active || position == null) {
+            return;
+        }
+        CellHeatmap heatmap = HEATMAP.get();
+        if (heatmap != null) {
+            heatmap.add(event, position.getX(), position.getY());
+        }
+    }
+}
@@ -153,6 +153,7 @@ public class InputMaster {
      * <p>
      * Example:
      * IcyTerrain terrain = new IcyTerrain();
+     * terrain.start();
      * terrain.closeInputMaster(); // Always close!
      */
     public void close() {
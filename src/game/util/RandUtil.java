@@ -6,6 +6,7 @@ import enums.HazardType;
 import enums.PenguinType;
 
 import java.security.SecureRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Utility class for generating cryptographically secure random values.
@@ -19,6 +20,17 @@ import java.security.SecureRandom;
  * All methods are static and thread-safe. The class caches enum value
  * arrays for performance optimization.
  * <p>
+ * Draw logs: a thread can record every value RandUtil returns into a
+ * DrawLog (startRecording) and later replay the same values
+ * (startReplay) instead of drawing new ones. Replay does not depend on the
+ * generator or seed, so a recorded game reproduces exactly. Recording and
+ * replay are per thread, so parallel simulations do not interfere.
+ * <p>
+ * Simulations: a thread can replace the shared SecureRandom with its own
+ * seeded generator (setThreadGenerator). Batch runs use this to make every
+ * game reproducible from a seed and to keep worker threads from contending
+ * on the shared generator.
+ * <p>
  * Random distributions:
  * - All penguin types: equal probability (25% each)
  * - All hazard types: equal probability (25% each)
@@ -57,6 +69,21 @@ public class RandUtil {
      */
     private static final HazardType[] HAZARD_TYPES = HazardType.values();
 
+    /**
+     * Generator used instead of the shared SecureRandom on each thread, or null
+     */
+    private static final ThreadLocal<RandomGenerator> THREAD_GENERATOR = new ThreadLocal<>();
+
+    /**
+     * Draw log being recorded on each thread, or null
+     */
+    private static final ThreadLocal<DrawLog> RECORDING = new ThreadLocal<>();
+
+    /**
+     * Draw log being replayed on each thread, or null
+     */
+    private static final ThreadLocal<DrawLog> REPLAYING = new ThreadLocal<>();
+
     /**
      * Private constructor to prevent instantiation.
      * This is a utility class with only static methods.
@@ -67,6 +94,95 @@ public class RandUtil {
         );
     }
 
+    /**
+     * Makes the current thread draw from its own generator instead of the
+     * shared SecureRandom. Passing null restores the shared generator.
+     *
+     * @param generator The generator for this thread, or null
+     */
+    public static void setThreadGenerator(RandomGenerator generator) {
+        if (generator == null) {
+            THREAD_GENERATOR.remove();
+        } else {
+            THREAD_GENERATOR.set(generator);
+        }
+    }
+
+    /**
+     * Gets the generator the current thread draws from.
+     *
+     * @return The thread's own generator, or the shared SecureRandom
+     */
+    private static RandomGenerator generator() {
+        RandomGenerator generator = THREAD_GENERATOR.get();
+        return (generator != null) ? generator : random;
+    }
+
+    /**
+     * Starts recording every value returned on the current thread into a log.
+     * Any replay running on this thread is stopped.
+     *
+     * @param log The log to append to
+     * @throws IllegalArgumentException if log is null
+     */
+    public static void startRecording(DrawLog log) {
+        if (log == null) {
+            throw new IllegalArgumentException(
+                    "RandUtil Error: Cannot record into a null draw log."
+            );
+        }
+        REPLAYING.remove();
+        RECORDING.set(log);
+    }
+
+    /**
+     * Starts returning the values of a recorded log on the current thread
+     * instead of drawing new ones. Any recording on this thread is stopped.
+     *
+     * @param log The log to replay from its first draw
+     * @throws IllegalArgumentException if log is null
+     */
+    public static void startReplay(DrawLog log) {
+        if (log == null) {
+            throw new IllegalArgumentException(
+                    "RandUtil Error: Cannot replay a null draw log."
+            );
+        }
+        log.rewind();
+        RECORDING.remove();
+        REPLAYING.set(log);
+    }
+
+    /**
+     * Stops recording or replay on the current thread.
+     *
+     * @return The log that was recorded or replayed, or null if none was active
+     */
+    public static DrawLog stopDrawLog() {
+        DrawLog log = RECORDING.get();
+        if (log == null) {
+            log = REPLAYING.get();
+        }
+        RECORDING.remove();
+        REPLAYING.remove();
+        return log;
+    }
+
+    /**
+     * Appends a returned value to the current thread's recording, if any.
+     *
+     * @param kind  The kind of draw
+     * @param value The value being returned
+     * @return The same value
+     */
+    private static int record(int kind, int value) {
+        DrawLog log = RECORDING.get();
+        if (log != null) {
+            log.append(kind, value);
+        }
+        return value;
+    }
+
     /**
      * Generates a random food weight between 1 and 5 units (inclusive).
      * All weights have equal probability of being selected.
@@ -81,13 +197,20 @@ public class RandUtil {
      * @return A random integer between 1 and 5 (inclusive)
      */
     public static int getFoodWeight() {
+        DrawLog replay = REPLAYING.get();
+        if (replay != null) {
+            return replay.next(DrawLog.FOOD_WEIGHT, 1, 6);
+        }
+
+        int weight;
         try {
             // nextInt(1, 6) generates values from 1 to 5 inclusive
-            return random.nextInt(1, 6);
+            weight = generator().nextInt(1, 6);
         } catch (Exception e) {
-            System.err.println("Error generating food weight: " + e.getMessage());
-            return 3; // Default to middle weight
+            GameConsole.printError("Error generating food weight: " + e.getMessage());
+            weight = 3; // Default to middle weight
         }
+        return record(DrawLog.FOOD_WEIGHT, weight);
     }
 
     /**
@@ -104,12 +227,20 @@ public class RandUtil {
      * @return A randomly selected FoodType
      */
     public static FoodType getRandomFood() {
+        DrawLog replay = REPLAYING.get();
+        if (replay != null) {
+            return FOOD_TYPES[replay.next(DrawLog.FOOD, FOOD_TYPES.length)];
+        }
+
+        FoodType food;
         try {
-            return FOOD_TYPES[random.nextInt(FOOD_TYPES.length)];
+            food = FOOD_TYPES[generator().nextInt(FOOD_TYPES.length)];
         } catch (Exception e) {
-            System.err.println("Error generating random food: " + e.getMessage());
-            return FoodType.KRILL; // Default fallback
+            GameConsole.printError("Error generating random food: " + e.getMessage());
+            food = FoodType.KRILL; // Default fallback
         }
+        record(DrawLog.FOOD, food.ordinal());
+        return food;
     }
 
     /**
@@ -127,12 +258,20 @@ public class RandUtil {
      * @return A randomly selected Direction
      */
     public static Direction getRandomDirection() {
+        DrawLog replay = REPLAYING.get();
+        if (replay != null) {
+            return DIRECTIONS[replay.next(DrawLog.DIRECTION, DIRECTIONS.length)];
+        }
+
+        Direction direction;
         try {
-            return DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+            direction = DIRECTIONS[generator().nextInt(DIRECTIONS.length)];
         } catch (Exception e) {
-            System.err.println("Error generating random direction: " + e.getMessage());
-            return Direction.UP; // Default fallback
+            GameConsole.printError("Error generating random direction: " + e.getMessage());
+            direction = Direction.UP; // Default fallback
         }
+        record(DrawLog.DIRECTION, direction.ordinal());
+        return direction;
     }
 
     /**
@@ -148,12 +287,20 @@ public class RandUtil {
      * @return A randomly selected PenguinType
      */
     public static PenguinType getRandomPenguin() {
+        DrawLog replay = REPLAYING.get();
+        if (replay != null) {
+            return PENGUIN_TYPES[replay.next(DrawLog.PENGUIN, PENGUIN_TYPES.length)];
+        }
+
+        PenguinType penguin;
         try {
-            return PENGUIN_TYPES[random.nextInt(PENGUIN_TYPES.length)];
+            penguin = PENGUIN_TYPES[generator().nextInt(PENGUIN_TYPES.length)];
         } catch (Exception e) {
-            System.err.println("Error generating random penguin: " + e.getMessage());
-            return PenguinType.EMPEROR; // Default fallback
+            GameConsole.printError("Error generating random penguin: " + e.getMessage());
+            penguin = PenguinType.EMPEROR; // Default fallback
         }
+        record(DrawLog.PENGUIN, penguin.ordinal());
+        return penguin;
     }
 
     /**
@@ -169,12 +316,169 @@ public class RandUtil {
      * @return A randomly selected HazardType
      */
     public static HazardType getRandomHazard() {
+        DrawLog replay = REPLAYING.get();
+        if (replay != null) {
+            return HAZARD_TYPES[replay.next(DrawLog.HAZARD, HAZARD_TYPES.length)];
+        }
+
+        HazardType hazard;
+        try {
+            hazard = HAZARD_TYPES[generator().nextInt(HAZARD_TYPES.length)];
+        } catch (Exception e) {
+            GameConsole.printError("Error generating random hazard: " + e.getMessage());
+            hazard = HazardType.HEAVY_ICE_BLOCK; // Default fallback
+        }
+        record(DrawLog.HAZARD, hazard.ordinal());
+        return hazard;
+    }
+
+    /**
+     * Generates a random food weight between 1 and 5 using relative weights.
+     * Used by spawn profiles that favour light or heavy food.
+     *
+     * @param weights The relative weights of food weights 1 to 5 (index 0 is weight 1)
+     * @return A random integer between 1 and 5 (inclusive)
+     * @throws IllegalArgumentException if weights does not have 5 entries
+     */
+    public static int getFoodWeight(int[] weights) {
+        if (weights == null || weights.length != 5) {
+            throw new IllegalArgumentException(
+                    "RandUtil Error: Food weight distribution must have 5 entries."
+            );
+        }
+        DrawLog replay = REPLAYING.get();
+        if (replay != null) {
+            return replay.next(DrawLog.FOOD_WEIGHT, 1, 6);
+        }
+        return record(DrawLog.FOOD_WEIGHT, drawWeightedIndex(weights) + 1);
+    }
+
+    /**
+     * Generates a random food type using relative weights.
+     *
+     * @param weights The relative weights in FoodType ordinal order
+     * @return A randomly selected FoodType
+     * @throws IllegalArgumentException if weights does not match the number of food types
+     */
+    public static FoodType getRandomFood(int[] weights) {
+        if (weights == null || weights.length != FOOD_TYPES.length) {
+            throw new IllegalArgumentException(
+                    "RandUtil Error: Food type distribution must have " + FOOD_TYPES.length + " entries."
+            );
+        }
+        DrawLog replay = REPLAYING.get();
+        if (replay != null) {
+            return FOOD_TYPES[replay.next(DrawLog.FOOD, FOOD_TYPES.length)];
+        }
+        return FOOD_TYPES[record(DrawLog.FOOD, drawWeightedIndex(weights))];
+    }
+
+    /**
+     * Generates a random penguin type using relative weights.
+     *
+     * @param weights The relative weights in PenguinType ordinal order
+     * @return A randomly selected PenguinType
+     * @throws IllegalArgumentException if weights does not match the number of penguin types
+     */
+    public static PenguinType getRandomPenguin(int[] weights) {
+        if (weights == null || weights.length != PENGUIN_TYPES.length) {
+            throw new IllegalArgumentException(
+                    "RandUtil Error: Penguin type distribution must have " + PENGUIN_TYPES.length + " entries."
+            );
+        }
+        DrawLog replay = REPLAYING.get();
+        if (replay != null) {
+            return PENGUIN_TYPES[replay.next(DrawLog.PENGUIN, PENGUIN_TYPES.length)];
+        }
+        return PENGUIN_TYPES[record(DrawLog.PENGUIN, drawWeightedIndex(weights))];
+    }
+
+    /**
+     * Generates a random hazard type using relative weights.
+     *
+     * @param weights The relative weights in HazardType ordinal order
+     * @return A randomly selected HazardType
+     * @throws IllegalArgumentException if weights does not match the number of hazard types
+     */
+    public static HazardType getRandomHazard(int[] weights) {
+        if (weights == null || weights.length != HAZARD_TYPES.length) {
+            throw new IllegalArgumentException(
+                    "RandUtil Error: Hazard type distribution must have " + HAZARD_TYPES.length + " entries."
+            );
+        }
+        DrawLog replay = REPLAYING.get();
+        if (replay != null) {
+            return HAZARD_TYPES[replay.next(DrawLog.HAZARD, HAZARD_TYPES.length)];
+        }
+        return HAZARD_TYPES[record(DrawLog.HAZARD, drawWeightedIndex(weights))];
+    }
+
+    /**
+     * Picks a random index with probability proportional to its weight.
+     * <p>
+     * Example:
+     * getWeightedIndex(new int[]{3, 1});  // Returns 0 75% of the time, 1 25% of the time
+     *
+     * @param weights The non-negative relative weights
+     * @return An index between 0 and weights.length-1
+     * @throws IllegalArgumentException if a weight is negative or all weights are zero
+     */
+    public static int getWeightedIndex(int[] weights) {
+        DrawLog replay = REPLAYING.get();
+        if (replay != null) {
+            if (weights == null) {
+                throw new IllegalArgumentException(
+                        "RandUtil Error: Weights cannot be null."
+                );
+            }
+            return replay.next(DrawLog.INT, weights.length);
+        }
+        return record(DrawLog.INT, drawWeightedIndex(weights));
+    }
+
+    /**
+     * Picks a weighted random index without touching the draw log.
+     *
+     * @param weights The non-negative relative weights
+     * @return An index between 0 and weights.length-1
+     * @throws IllegalArgumentException if a weight is negative or all weights are zero
+     */
+    private static int drawWeightedIndex(int[] weights) {
+        if (weights == null) {
+            throw new IllegalArgumentException(
+                    "RandUtil Error: Weights cannot be null."
+            );
+        }
+
+        long total = 0;
+        for (int weight : weights) {
+            if (weight < 0) {
+                throw new IllegalArgumentException(
+                        "RandUtil Error: Weights cannot be negative. Received: " + weight
+                );
+            }
+            total += weight;
+        }
+        if (total <= 0 || total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "RandUtil Error: Total weight must be between 1 and " + Integer.MAX_VALUE + ". Received: " + total
+            );
+        }
+
+        int roll;
         try {
-            return HAZARD_TYPES[random.nextInt(HAZARD_TYPES.length)];
+            roll = generator().nextInt((int) total);
         } catch (Exception e) {
-            System.err.println("Error generating random hazard: " + e.getMessage());
-            return HazardType.HEAVY_ICE_BLOCK; // Default fallback
+            GameConsole.printError("Error generating weighted index: " + e.getMessage());
+            roll = 0;
+        }
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
         }
+        return weights.length - 1;
     }
 
     /**
@@ -198,12 +502,19 @@ public class RandUtil {
             );
         }
 
+        DrawLog replay = REPLAYING.get();
+        if (replay != null) {
+            return replay.next(DrawLog.INT, upper_bound);
+        }
+
+        int value;
         try {
-            return random.nextInt(upper_bound);
+            value = generator().nextInt(upper_bound);
         } catch (Exception e) {
-            System.err.println("Error generating random int: " + e.getMessage());
-            return 0; // Default to zero
+            GameConsole.printError("Error generating random int: " + e.getMessage());
+            value = 0; // Default to zero
         }
+        return record(DrawLog.INT, value);
     }
 
     /**
@@ -227,12 +538,25 @@ public class RandUtil {
             );
         }
 
+        DrawLog replay = REPLAYING.get();
+        if (replay != null) {
+            int value = replay.next(DrawLog.INT);
+            if (value < min || value > max) {
+                throw new IllegalStateException(
+                        "RandUtil Error: Replayed value " + value + " is outside [" + min + ", " + max + "]."
+                );
+            }
+            return value;
+        }
+
+        int value;
         try {
-            return random.nextInt(min, max + 1);
+            value = generator().nextInt(min, max + 1);
         } catch (Exception e) {
-            System.err.println("Error generating random int in range: " + e.getMessage());
-            return min; // Default to minimum value
+            GameConsole.printError("Error generating random int in range: " + e.getMessage());
+            value = min; // Default to minimum value
         }
+        return record(DrawLog.INT, value);
     }
 
     /**
@@ -242,12 +566,20 @@ public class RandUtil {
      * @return true or false with equal probability
      */
     public static boolean getRandomBoolean() {
+        DrawLog replay = REPLAYING.get();
+        if (replay != null) {
+            return replay.next(DrawLog.BOOLEAN, 2) == 1;
+        }
+
+        boolean value;
         try {
-            return random.nextBoolean();
+            value = generator().nextBoolean();
         } catch (Exception e) {
-            System.err.println("Error generating random boolean: " + e.getMessage());
-            return false; // Default to false
+            GameConsole.printError("Error generating random boolean: " + e.getMessage());
+            value = false; // Default to false
         }
+        record(DrawLog.BOOLEAN, value ? 1 : 0);
+        return value;
     }
 
     /**
@@ -271,11 +603,19 @@ public class RandUtil {
             );
         }
 
+        DrawLog replay = REPLAYING.get();
+        if (replay != null) {
+            return replay.next(DrawLog.BOOLEAN, 2) == 1;
+        }
+
+        boolean value;
         try {
-            return random.nextDouble() < probability;
+            value = generator().nextDouble() < probability;
         } catch (Exception e) {
-            System.err.println("Error generating probability boolean: " + e.getMessage());
-            return false;
+            GameConsole.printError("Error generating probability boolean: " + e.getMessage());
+            value = false;
         }
+        record(DrawLog.BOOLEAN, value ? 1 : 0);
+        return value;
     }
 }
\ No newline at end of file
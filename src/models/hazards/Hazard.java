@@ -66,6 +66,23 @@ public abstract class Hazard implements IHazard {
         this.hazardType = hazardType;
     }
 
+    /**
+     * Returns this hazard to its freshly spawned state at a new position,
+     * so the same object can be spawned again in another game.
+     * Hazards with state of their own override this method and call super.reset.
+     *
+     * @param position The new spawn position
+     * @throws IllegalArgumentException if position is null
+     */
+    public void reset(Position position) {
+        if (position == null) {
+            throw new IllegalArgumentException(
+                    "Hazard Error: Reset position cannot be null."
+            );
+        }
+        this.position = position;
+    }
+
     /**
      * Gets the current position of this hazard on the grid.
      *
@@ -104,6 +121,15 @@ public abstract class Hazard implements IHazard {
         return canSlide;
     }
 
+    /**
+     * Gets the type of this hazard.
+     *
+     * @return The hazard type
+     */
+    public HazardType getHazardType() {
+        return hazardType;
+    }
+
     /**
      * Returns the notation used to display this hazard on the grid.
      * The notation is a 2-letter abbreviation:
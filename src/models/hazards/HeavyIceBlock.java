@@ -2,6 +2,7 @@ package models.hazards;
 
 import enums.HazardType;
 import game.TerrainGrid;
+import game.util.GameConsole;
 import models.Position;
 import models.penguins.Penguin;
 
@@ -62,7 +63,7 @@ public class HeavyIceBlock extends Hazard {
             // Penguin loses their lightest food item
             penguin.removeLightestFood();
         } catch (Exception e) {
-            System.err.println("Error during HeavyIceBlock collision: " + e.getMessage());
+            GameConsole.printError("Error during HeavyIceBlock collision: " + e.getMessage());
         }
     }
 
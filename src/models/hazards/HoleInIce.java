@@ -1,7 +1,9 @@
 package models.hazards;
 
+import enums.EliminationCause;
 import enums.HazardType;
 import game.TerrainGrid;
+import game.util.GameConsole;
 import models.Position;
 import models.penguins.Penguin;
 
@@ -42,6 +44,17 @@ public class HoleInIce extends Hazard {
         super(position, false, HazardType.HOLE_IN_ICE);
     }
 
+    /**
+     * Resets the hole for another game. A recycled hole is always unplugged.
+     *
+     * @param position The new spawn position
+     */
+    @Override
+    public void reset(Position position) {
+        super.reset(position);
+        this.isPlugged = false;
+    }
+
     /**
      * Handles collision with a penguin.
      * If the hole is plugged, the penguin can pass through safely.
@@ -78,7 +91,7 @@ public class HoleInIce extends Hazard {
             }
 
             // Penguin falls into the unplugged hole
-            System.out.println(penguin.getNotation() + " falls into " +
+            GameConsole.println(penguin.getNotation() + " falls into " +
                     getNotation() + "!");
 
             // Remove penguin from the grid
@@ -88,9 +101,9 @@ public class HoleInIce extends Hazard {
             }
 
             // Set position to null to indicate elimination
-            penguin.setPosition(null);
+            penguin.eliminate(EliminationCause.HOLE_IN_ICE);
         } catch (Exception e) {
-            System.err.println("Error during HoleInIce collision: " + e.getMessage());
+            GameConsole.printError("Error during HoleInIce collision: " + e.getMessage());
         }
     }
 
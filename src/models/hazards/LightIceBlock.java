@@ -2,6 +2,7 @@ package models.hazards;
 
 import enums.HazardType;
 import game.TerrainGrid;
+import game.util.GameConsole;
 import models.Position;
 import models.penguins.Penguin;
 
@@ -66,13 +67,13 @@ public class LightIceBlock extends Hazard {
 
         try {
             // Print collision message
-            System.out.println(penguin.getNotation() +
+            GameConsole.println(penguin.getNotation() +
                     " is stunned by hitting the ice block!");
 
             // Stun the penguin - they will skip their next turn
             penguin.setStunned(true);
         } catch (Exception e) {
-            System.err.println("Error during LightIceBlock collision: " + e.getMessage());
+            GameConsole.printError("Error during LightIceBlock collision: " + e.getMessage());
         }
     }
 
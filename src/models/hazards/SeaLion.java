@@ -2,6 +2,7 @@ package models.hazards;
 
 import enums.HazardType;
 import game.TerrainGrid;
+import game.util.GameConsole;
 import models.Position;
 import models.penguins.Penguin;
 
@@ -81,10 +82,10 @@ public class SeaLion extends Hazard {
             // Print collision message
             // The bounce and slide logic is handled in Penguin.slide()
             // to avoid circular method calls
-            System.out.println(penguin.getNotation() +
+            GameConsole.println(penguin.getNotation() +
                     " bounces off the SeaLion!");
         } catch (Exception e) {
-            System.err.println("Error during SeaLion collision: " + e.getMessage());
+            GameConsole.printError("Error during SeaLion collision: " + e.getMessage());
         }
     }
 
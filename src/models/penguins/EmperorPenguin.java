@@ -1,8 +1,10 @@
 package models.penguins;
 
 import enums.Direction;
+import enums.EliminationCause;
 import enums.PenguinType;
 import game.TerrainGrid;
+import game.util.GameConsole;
 import interfaces.IHazard;
 import interfaces.ITerrainObject;
 import models.Food;
@@ -28,6 +30,17 @@ public class EmperorPenguin extends Penguin {
         super(PenguinType.EMPEROR, position);
     }
 
+    /**
+     * Resets the penguin for another game and cancels a prepared ability.
+     *
+     * @param position The new spawn position
+     */
+    @Override
+    public void reset(Position position) {
+        super.reset(position);
+        useAbilityThisTurn = false;
+    }
+
     /**
      * Activates the special ability to stop at the third square.
      * This ability can only be used once per game.
@@ -39,7 +52,7 @@ public class EmperorPenguin extends Penguin {
         if (!isAbilityUsed()) {
             useAbilityThisTurn = true;
             setAbilityUsed(true);
-            System.out.println(getNotation() + " will stop at the 3rd square!");
+            GameConsole.println(getNotation() + " will stop at the 3rd square!");
         }
     }
 
@@ -66,7 +79,7 @@ public class EmperorPenguin extends Penguin {
                 super.slide(grid, direction);
             }
         } catch (Exception e) {
-            System.err.println("Error during Emperor Penguin slide: " + e.getMessage());
+            GameConsole.printError("Error during Emperor Penguin slide: " + e.getMessage());
             useAbilityThisTurn = false;
         }
     }
@@ -79,7 +92,7 @@ public class EmperorPenguin extends Penguin {
      * @param direction The direction to slide
      */
     private void slideWithAbility(TerrainGrid grid, Direction direction) {
-        System.out.println(getNotation() + " starts sliding " + getDirectionName(direction) + "!");
+        GameConsole.println(getNotation() + " starts sliding " + getDirectionName(direction) + "!");
 
         int stepCount = 0;
         boolean isMoving = true;
@@ -100,10 +113,10 @@ public class EmperorPenguin extends Penguin {
             Position nextPos = new Position(nextX, nextY);
 
             // Check if falling into water
-            if (nextX < 0 || nextY < 0 || nextY >= 10 || nextX >= 10) {
-                System.out.println(getNotation() + " falls into the water!");
+            if (nextX < 0 || nextY < 0 || nextY >= grid.getSize() || nextX >= grid.getSize()) {
+                GameConsole.println(getNotation() + " falls into the water!");
                 grid.removeObject(getPosition());
-                setPosition(null);
+                eliminate(EliminationCause.WATER);
                 return;
             }
 
@@ -113,7 +126,7 @@ public class EmperorPenguin extends Penguin {
                 // Empty square - continue sliding
                 updatePositionOnGrid(grid, nextPos);
                 if (stepCount == EmperorPenguin.TARGET_SQUARE) {
-                    System.out.println(getNotation() + " stops at an empty square using its special action.");
+                    GameConsole.println(getNotation() + " stops at an empty square using its special action.");
                     isMoving = false;
                 }
             } else if (obstacle instanceof Food food) {
@@ -125,7 +138,7 @@ public class EmperorPenguin extends Penguin {
             } else {
                 // Hit an obstacle before reaching target
                 if (stepCount < EmperorPenguin.TARGET_SQUARE) {
-                    System.out.println(getNotation() + " couldn't reach the 3rd square.");
+                    GameConsole.println(getNotation() + " couldn't reach the 3rd square.");
                 }
                 handleObstacleCollision(grid, obstacle, direction);
                 isMoving = false;
@@ -142,12 +155,13 @@ public class EmperorPenguin extends Penguin {
      */
     private void handleObstacleCollision(TerrainGrid grid, ITerrainObject obstacle, Direction direction) {
         try {
+            recordCollision(obstacle);
             if (obstacle instanceof Penguin otherPenguin) {
-                System.out.println(getNotation() + " collides with " + otherPenguin.getNotation() + "!");
-                System.out.println(otherPenguin.getNotation() + " starts sliding instead!");
-                otherPenguin.slide(grid, direction);
+                GameConsole.println(getNotation() + " collides with " + otherPenguin.getNotation() + "!");
+                GameConsole.println(otherPenguin.getNotation() + " starts sliding instead!");
+                otherPenguin.slideRecursive(grid, direction, 0);
             } else if (obstacle instanceof IHazard hazard) {
-                System.out.println(getNotation() + " collides with " + hazard.getNotation() + "!");
+                GameConsole.println(getNotation() + " collides with " + hazard.getNotation() + "!");
                 hazard.onCollision(this, grid);
 
                 if (getPosition() != null && hazard.canSlide()) {
@@ -156,7 +170,7 @@ public class EmperorPenguin extends Penguin {
                 }
             }
         } catch (Exception e) {
-            System.err.println("Error handling obstacle collision: " + e.getMessage());
+            GameConsole.printError("Error handling obstacle collision: " + e.getMessage());
         }
     }
 
@@ -184,8 +198,8 @@ public class EmperorPenguin extends Penguin {
 
             Position nextPos = new Position(nextX, nextY);
 
-            if (nextX < 0 || nextY < 0 || nextY >= 10 || nextX >= 10) {
-                System.out.println(hazard.getNotation() + " falls into the water!");
+            if (nextX < 0 || nextY < 0 || nextY >= grid.getSize() || nextX >= grid.getSize()) {
+                GameConsole.println(hazard.getNotation() + " falls into the water!");
                 hazardMoving = false;
                 break;
             }
@@ -199,14 +213,14 @@ public class EmperorPenguin extends Penguin {
                     currentPos = nextPos;
                 }
                 case Food food -> {
-                    System.out.println(hazard.getNotation() + " destroys " + obstacle.getNotation() + "!");
+                    GameConsole.println(hazard.getNotation() + " destroys " + obstacle.getNotation() + "!");
                     grid.removeObject(nextPos);
                     hazard.setPosition(nextPos);
                     grid.placeObject(nextPos, (ITerrainObject) hazard);
                     currentPos = nextPos;
                 }
                 case HoleInIce hole -> {
-                    System.out.println(hazard.getNotation() + " falls into " + hole.getNotation() + " and plugs it!");
+                    GameConsole.println(hazard.getNotation() + " falls into " + hole.getNotation() + " and plugs it!");
                     hole.plug();
                     hazardMoving = false;
                 }
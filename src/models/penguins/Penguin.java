@@ -1,20 +1,26 @@
 package models.penguins;
 
+import enums.CollisionType;
 import enums.Direction;
+import enums.EliminationCause;
 import enums.PenguinType;
 import game.TerrainGrid;
+import game.stats.CellHeatmap;
+import game.util.GameConsole;
+import game.util.HeatmapRecorder;
 import interfaces.IHazard;
 import interfaces.ITerrainObject;
 import models.Food;
 import models.Position;
+import models.hazards.Hazard;
 import models.hazards.HoleInIce;
 import models.hazards.SeaLion;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
-import static game.TerrainGrid.GRID_SIZE;
-
 /**
  * Abstract base class for all penguin types in the Sliding Penguins game.
  * Penguins are the main characters that slide across the icy terrain,
@@ -48,6 +54,13 @@ public abstract class Penguin implements ITerrainObject {
      */
     private static final int MAX_BOUNCES = 5;
 
+    /**
+     * Orders penguins by the number in their ID (P1, P2, ..., P10), which is the turn order.
+     * Comparing the notation strings directly would put P10 before P2.
+     */
+    public static final Comparator<Penguin> TURN_ORDER =
+            Comparator.comparingInt(Penguin::getIdNumber).thenComparing(Penguin::getNotation);
+
     /**
      * List of food items collected by this penguin
      */
@@ -88,6 +101,16 @@ public abstract class Penguin implements ITerrainObject {
      */
     private boolean abilityUsed = false;
 
+    /**
+     * How this penguin was eliminated (null while it is on the grid)
+     */
+    private EliminationCause eliminationCause;
+
+    /**
+     * Number of collisions of this penguin, one counter per CollisionType ordinal
+     */
+    private final int[] collisions = new int[CollisionType.values().length];
+
     /**
      * Constructs a Penguin with specified type and position.
      *
@@ -159,12 +182,12 @@ public abstract class Penguin implements ITerrainObject {
 
                 // Remove and announce the loss
                 Food removed = inventory.remove(minIndex);
-                System.out.println(getNotation() + " loses " +
+                GameConsole.println(getNotation() + " loses " +
                         removed.getNotation() + " (" + removed.getWeight() +
                         " units) due to collision!");
             }
         } catch (Exception e) {
-            System.err.println("Error removing lightest food: " + e.getMessage());
+            GameConsole.printError("Error removing lightest food: " + e.getMessage());
         }
     }
 
@@ -182,7 +205,7 @@ public abstract class Penguin implements ITerrainObject {
             }
             carriedWeight = sum;
         } catch (Exception e) {
-            System.err.println("Error measuring inventory: " + e.getMessage());
+            GameConsole.printError("Error measuring inventory: " + e.getMessage());
         }
         return sum;
     }
@@ -204,11 +227,12 @@ public abstract class Penguin implements ITerrainObject {
         if (food != null) {
             try {
                 inventory.add(food);
-                System.out.println(getNotation() + " takes the " +
+                HeatmapRecorder.record(CellHeatmap.FOOD, position);
+                GameConsole.println(getNotation() + " takes the " +
                         food.getType().toString() + " on the ground. (Weight=" +
                         food.getWeight() + " units)");
             } catch (Exception e) {
-                System.err.println("Error picking up food: " + e.getMessage());
+                GameConsole.printError("Error picking up food: " + e.getMessage());
             }
         }
     }
@@ -226,6 +250,8 @@ public abstract class Penguin implements ITerrainObject {
     /**
      * Internal recursive method for sliding logic.
      * Tracks recursion depth (bounces) to prevent StackOverflowError.
+     * A pushed penguin continues the bounce count of the penguin that hit it,
+     * so two penguins bouncing off Sea Lions cannot push each other forever.
      *
      * @param grid        The terrain grid
      * @param direction   The direction to slide
@@ -245,12 +271,12 @@ public abstract class Penguin implements ITerrainObject {
 
         // Safety check: Stop if bouncing too many times
         if (bounceCount > MAX_BOUNCES) {
-            System.out.println(getNotation() + " is too dizzy from bouncing and stops!");
+            GameConsole.println(getNotation() + " is too dizzy from bouncing and stops!");
             return;
         }
 
         try {
-            System.out.println(getNotation() + " starts sliding " +
+            GameConsole.println(getNotation() + " starts sliding " +
                     getDirectionName(direction) + "!");
 
             boolean isMoving = true;
@@ -278,10 +304,10 @@ public abstract class Penguin implements ITerrainObject {
                 Position nextPos = new Position(nextX, nextY);
 
                 // Check if falling into water
-                if (nextX < 0 || nextY < 0 || nextY >= GRID_SIZE || nextX >= GRID_SIZE) {
-                    System.out.println(getNotation() + " falls into the water!");
+                if (nextX < 0 || nextY < 0 || nextY >= grid.getSize() || nextX >= grid.getSize()) {
+                    GameConsole.println(getNotation() + " falls into the water!");
                     grid.removeObject(position);
-                    this.position = null;
+                    eliminate(EliminationCause.WATER);
                     isMoving = false;
                     break;
                 }
@@ -301,16 +327,18 @@ public abstract class Penguin implements ITerrainObject {
                     }
                     case Penguin otherPenguin -> {
                         // Collision with another penguin - transfer movement
-                        System.out.println(getNotation() + " collides with " +
+                        recordCollision(otherPenguin);
+                        GameConsole.println(getNotation() + " collides with " +
                                 otherPenguin.getNotation() + "!");
-                        System.out.println(otherPenguin.getNotation() +
+                        GameConsole.println(otherPenguin.getNotation() +
                                 " starts sliding instead!");
                         isMoving = false;
-                        otherPenguin.slide(grid, direction);
+                        otherPenguin.slideRecursive(grid, direction, bounceCount);
                     }
                     case SeaLion seaLion -> {
                         // Special case for SeaLion - penguin bounces back
-                        System.out.println(getNotation() + " collides with " +
+                        recordCollision(seaLion);
+                        GameConsole.println(getNotation() + " collides with " +
                                 seaLion.getNotation() + " and bounces back!");
 
                         // Remove SeaLion from current position
@@ -321,7 +349,7 @@ public abstract class Penguin implements ITerrainObject {
 
                         // Penguin bounces back (opposite direction)
                         Direction oppositeDir = direction.opposite();
-                        System.out.println(getNotation() + " bounces " +
+                        GameConsole.println(getNotation() + " bounces " +
                                 getDirectionName(oppositeDir) + "!");
                         isMoving = false;
 
@@ -330,7 +358,8 @@ public abstract class Penguin implements ITerrainObject {
                     }
                     case IHazard hazard -> {
                         // Collision with other hazards
-                        System.out.println(getNotation() + " collides with " +
+                        recordCollision(hazard);
+                        GameConsole.println(getNotation() + " collides with " +
                                 hazard.getNotation() + "!");
 
                         hazard.onCollision(this, grid);
@@ -353,7 +382,7 @@ public abstract class Penguin implements ITerrainObject {
                 }
             }
         } catch (Exception e) {
-            System.err.println("Error during penguin slide: " + e.getMessage());
+            GameConsole.printError("Error during penguin slide: " + e.getMessage());
         }
     }
 
@@ -392,8 +421,8 @@ public abstract class Penguin implements ITerrainObject {
                 Position nextPos = new Position(nextX, nextY);
 
                 // Check if hazard falls off grid
-                if (nextX < 0 || nextY < 0 || nextY >= GRID_SIZE || nextX >= GRID_SIZE) {
-                    System.out.println(hazard.getNotation() + " falls into the water!");
+                if (nextX < 0 || nextY < 0 || nextY >= grid.getSize() || nextX >= grid.getSize()) {
+                    GameConsole.println(hazard.getNotation() + " falls into the water!");
                     hazardMoving = false;
                     break;
                 }
@@ -409,7 +438,7 @@ public abstract class Penguin implements ITerrainObject {
                     }
                     case Food food -> {
                         // Remove food and continue
-                        System.out.println(hazard.getNotation() + " destroys " +
+                        GameConsole.println(hazard.getNotation() + " destroys " +
                                 obstacle.getNotation() + "!");
                         grid.removeObject(nextPos);
                         hazard.setPosition(nextPos);
@@ -420,13 +449,13 @@ public abstract class Penguin implements ITerrainObject {
                         // Stop when hitting another penguin
                         hazard.setPosition(currentPos);
                         grid.placeObject(currentPos, (ITerrainObject) hazard);
-                        System.out.println(hazard.getNotation() + " collides with " +
+                        GameConsole.println(hazard.getNotation() + " collides with " +
                                 obstacle.getNotation() + " and stops!");
                         hazardMoving = false;
                     }
                     case HoleInIce hole -> {
                         // Hazard plugs the hole
-                        System.out.println(hazard.getNotation() + " falls into " +
+                        GameConsole.println(hazard.getNotation() + " falls into " +
                                 hole.getNotation() + " and plugs it!");
                         hole.plug();
                         hazardMoving = false;
@@ -440,7 +469,44 @@ public abstract class Penguin implements ITerrainObject {
                 }
             }
         } catch (Exception e) {
-            System.err.println("Error sliding hazard: " + e.getMessage());
+            GameConsole.printError("Error sliding hazard: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Removes this penguin from the game. The caller takes it off the grid;
+     * this method clears its position and remembers the cause. The last
+     * square of the penguin is reported to the heatmap recorder.
+     *
+     * @param cause How the penguin was eliminated
+     * @throws IllegalArgumentException if cause is null
+     */
+    public void eliminate(EliminationCause cause) {
+        if (cause == null) {
+            throw new IllegalArgumentException(
+                    "Penguin Error: Elimination cause cannot be null."
+            );
+        }
+        HeatmapRecorder.record(CellHeatmap.DEATH, position);
+        this.position = null;
+        this.eliminationCause = cause;
+    }
+
+    /**
+     * Counts a collision of this penguin with a penguin or hazard, and
+     * reports the obstacle's square to the heatmap recorder.
+     * Other objects (food) are ignored.
+     *
+     * @param obstacle The object this penguin ran into
+     */
+    protected void recordCollision(ITerrainObject obstacle) {
+        if (HeatmapRecorder.isActive() && obstacle != null) {
+            HeatmapRecorder.record(CellHeatmap.COLLISION, obstacle.getPosition());
+        }
+        if (obstacle instanceof Penguin) {
+            collisions[CollisionType.PENGUIN.ordinal()]++;
+        } else if (obstacle instanceof Hazard hazard) {
+            collisions[CollisionType.of(hazard.getHazardType()).ordinal()]++;
         }
     }
 
@@ -470,6 +536,16 @@ public abstract class Penguin implements ITerrainObject {
         return type.getDisplayName();
     }
 
+    /**
+     * Gets the PenguinType constant of this penguin.
+     * Used by simulation code that needs the type without string matching.
+     *
+     * @return The PenguinType of this penguin
+     */
+    public PenguinType getPenguinType() {
+        return type;
+    }
+
     /**
      * Gets the total weight of food currently carried.
      * Automatically recalculates from inventory.
@@ -535,6 +611,25 @@ public abstract class Penguin implements ITerrainObject {
         this.abilityUsed = used;
     }
 
+    /**
+     * Gets how this penguin was eliminated.
+     *
+     * @return The elimination cause, or null if the penguin is still on the grid
+     */
+    public EliminationCause getEliminationCause() {
+        return eliminationCause;
+    }
+
+    /**
+     * Gets the number of collisions of this penguin with one kind of object.
+     *
+     * @param type The collision type
+     * @return The number of collisions in the current game
+     */
+    public int getCollisionCount(CollisionType type) {
+        return collisions[type.ordinal()];
+    }
+
     /**
      * Gets the list of food items in this penguin's inventory.
      *
@@ -569,6 +664,33 @@ public abstract class Penguin implements ITerrainObject {
         this.position = position;
     }
 
+    /**
+     * Returns this penguin to its freshly spawned state at a new position,
+     * so the same object can be spawned again in another game.
+     * Clears the inventory, the ID, the stun and player flags, the
+     * ability, the elimination cause and the collision counts. Subclasses with ability state of their own override this
+     * method and call super.reset.
+     *
+     * @param position The new spawn position
+     * @throws IllegalArgumentException if position is null
+     */
+    public void reset(Position position) {
+        if (position == null) {
+            throw new IllegalArgumentException(
+                    "Penguin Error: Reset position cannot be null."
+            );
+        }
+        this.position = position;
+        this.inventory.clear();
+        this.carriedWeight = 0;
+        this.stunned = false;
+        this.penguinID = "??";
+        this.isPlayer = false;
+        this.abilityUsed = false;
+        this.eliminationCause = null;
+        Arrays.fill(collisions, 0);
+    }
+
     /**
      * Updates this penguin's position on the grid by removing from old
      * position and placing at new position.
@@ -582,6 +704,19 @@ public abstract class Penguin implements ITerrainObject {
         grid.placeObject(newPosition, this);
     }
 
+    /**
+     * Gets the number in this penguin's ID (1 for P1, 10 for P10).
+     *
+     * @return The ID number, or Integer.MAX_VALUE if the ID has no number
+     */
+    public int getIdNumber() {
+        try {
+            return Integer.parseInt(penguinID.substring(1));
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
+
     /**
      * Returns the notation (identifier) for this penguin.
      *
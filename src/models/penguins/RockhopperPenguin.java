@@ -1,8 +1,10 @@
 package models.penguins;
 
 import enums.Direction;
+import enums.EliminationCause;
 import enums.PenguinType;
 import game.TerrainGrid;
+import game.util.GameConsole;
 import interfaces.IHazard;
 import interfaces.ITerrainObject;
 import models.Food;
@@ -54,6 +56,18 @@ public class RockhopperPenguin extends Penguin {
         super(PenguinType.ROCKHOPPER, position);
     }
 
+    /**
+     * Resets the penguin for another game and cancels a prepared jump.
+     *
+     * @param position The new spawn position
+     */
+    @Override
+    public void reset(Position position) {
+        super.reset(position);
+        useAbilityThisTurn = false;
+        canJump = false;
+    }
+
     /**
      * Activates the special jumping ability.
      * The penguin prepares to jump over the next hazard encountered.
@@ -72,7 +86,7 @@ public class RockhopperPenguin extends Penguin {
             useAbilityThisTurn = true;
             canJump = true;
             setAbilityUsed(true);
-            System.out.println(getNotation() + " prepares to jump over a hazard!");
+            GameConsole.println(getNotation() + " prepares to jump over a hazard!");
         }
     }
 
@@ -90,12 +104,16 @@ public class RockhopperPenguin extends Penguin {
      *   <li>Failure: Normal collision occurs, ability wasted</li>
      * </ol>
      *
-     * @param grid      The terrain grid
-     * @param direction The direction to slide (UP, DOWN, LEFT, RIGHT)
+     * <p>Rockhoppers do not bounce off Sea Lions, so the bounce count is
+     * only passed on to a penguin this one pushes.</p>
+     *
+     * @param grid        The terrain grid
+     * @param direction   The direction to slide (UP, DOWN, LEFT, RIGHT)
+     * @param bounceCount Sea Lion bounces so far in this move
      * @throws IllegalArgumentException if grid or direction is null
      */
     @Override
-    public void slide(TerrainGrid grid, Direction direction) {
+    protected void slideRecursive(TerrainGrid grid, Direction direction, int bounceCount) {
         if (direction == null) {
             throw new IllegalArgumentException(
                     "RockhopperPenguin Error: Direction cannot be null."
@@ -108,7 +126,7 @@ public class RockhopperPenguin extends Penguin {
         }
 
         try {
-            System.out.println(getNotation() + " starts sliding " +
+            GameConsole.println(getNotation() + " starts sliding " +
                     getDirectionName(direction) + "!");
 
             boolean isMoving = true;
@@ -136,10 +154,10 @@ public class RockhopperPenguin extends Penguin {
                 Position nextPos = new Position(nextX, nextY);
 
                 // Check if falling into water
-                if (nextX < 0 || nextY < 0 || nextY >= 10 || nextX >= 10) {
-                    System.out.println(getNotation() + " falls into the water!");
+                if (nextX < 0 || nextY < 0 || nextY >= grid.getSize() || nextX >= grid.getSize()) {
+                    GameConsole.println(getNotation() + " falls into the water!");
                     grid.removeObject(getPosition());
-                    setPosition(null);
+                    eliminate(EliminationCause.WATER);
                     return;
                 }
 
@@ -157,7 +175,7 @@ public class RockhopperPenguin extends Penguin {
                         isMoving = false;
                     }
                     case IHazard hazard when canJump && useAbilityThisTurn -> {
-                        System.out.println(getNotation() + " attempts to jump over " +
+                        GameConsole.println(getNotation() + " attempts to jump over " +
                                 hazard.getNotation() + "!");
 
                         int landY = nextY;
@@ -173,11 +191,11 @@ public class RockhopperPenguin extends Penguin {
                         Position landPos = new Position(landX, landY);
 
                         // Check if landing position is valid
-                        if (landX < 0 || landY < 0 || landY >= 10 || landX >= 10) {
-                            System.out.println(getNotation() +
+                        if (landX < 0 || landY < 0 || landY >= grid.getSize() || landX >= grid.getSize()) {
+                            GameConsole.println(getNotation() +
                                     " fails to jump and falls into water!");
                             grid.removeObject(getPosition());
-                            setPosition(null);
+                            eliminate(EliminationCause.WATER);
                             canJump = false;
                             useAbilityThisTurn = false;
                             return;
@@ -187,7 +205,7 @@ public class RockhopperPenguin extends Penguin {
 
                         if (landingObstacle == null) {
                             // Successful jump!
-                            System.out.println(getNotation() + " successfully jumps over " +
+                            GameConsole.println(getNotation() + " successfully jumps over " +
                                     hazard.getNotation() + "!");
                             updatePositionOnGrid(grid, landPos);
                             canJump = false;
@@ -195,7 +213,7 @@ public class RockhopperPenguin extends Penguin {
                             // Continue sliding from landing position
                         } else if (landingObstacle instanceof Food food) {
                             // FIX: Can land on food during jump
-                            System.out.println(getNotation() + " successfully jumps over " +
+                            GameConsole.println(getNotation() + " successfully jumps over " +
                                     hazard.getNotation() + " and lands on food!");
                             grid.removeObject(landPos);
                             updatePositionOnGrid(grid, landPos);
@@ -205,8 +223,9 @@ public class RockhopperPenguin extends Penguin {
                             isMoving = false; // Stop after landing on food
                         } else {
                             // Landing spot not empty - jump fails
-                            System.out.println(getNotation() +
+                            GameConsole.println(getNotation() +
                                     " fails to jump - landing spot is not empty!");
+                            recordCollision(hazard);
                             hazard.onCollision(this, grid);
 
                             // FIX: Check if penguin was eliminated
@@ -229,16 +248,18 @@ public class RockhopperPenguin extends Penguin {
 
                     case Penguin otherPenguin -> {
                         // Collision with another penguin
-                        System.out.println(getNotation() + " collides with " +
+                        recordCollision(otherPenguin);
+                        GameConsole.println(getNotation() + " collides with " +
                                 otherPenguin.getNotation() + "!");
-                        System.out.println(otherPenguin.getNotation() +
+                        GameConsole.println(otherPenguin.getNotation() +
                                 " starts sliding instead!");
                         isMoving = false;
-                        otherPenguin.slide(grid, direction);
+                        otherPenguin.slideRecursive(grid, direction, bounceCount);
                     }
                     case IHazard hazard -> {
                         // Normal hazard collision (no jump ability active)
-                        System.out.println(getNotation() + " collides with " +
+                        recordCollision(hazard);
+                        GameConsole.println(getNotation() + " collides with " +
                                 hazard.getNotation() + "!");
 
                         hazard.onCollision(this, grid);
@@ -265,7 +286,7 @@ public class RockhopperPenguin extends Penguin {
             useAbilityThisTurn = false;
             canJump = false;
         } catch (Exception e) {
-            System.err.println("Error during RockhopperPenguin slide: " + e.getMessage());
+            GameConsole.printError("Error during RockhopperPenguin slide: " + e.getMessage());
             useAbilityThisTurn = false;
             canJump = false;
         }
@@ -304,8 +325,8 @@ public class RockhopperPenguin extends Penguin {
 
                 Position nextPos = new Position(nextX, nextY);
 
-                if (nextX < 0 || nextY < 0 || nextY >= 10 || nextX >= 10) {
-                    System.out.println(hazard.getNotation() + " falls into the water!");
+                if (nextX < 0 || nextY < 0 || nextY >= grid.getSize() || nextX >= grid.getSize()) {
+                    GameConsole.println(hazard.getNotation() + " falls into the water!");
                     hazardMoving = false;
                     break;
                 }
@@ -319,7 +340,7 @@ public class RockhopperPenguin extends Penguin {
                         currentPos = nextPos;
                     }
                     case Food food -> {
-                        System.out.println(hazard.getNotation() + " destroys " +
+                        GameConsole.println(hazard.getNotation() + " destroys " +
                                 obstacle.getNotation() + "!");
                         grid.removeObject(nextPos);
                         hazard.setPosition(nextPos);
@@ -327,7 +348,7 @@ public class RockhopperPenguin extends Penguin {
                         currentPos = nextPos;
                     }
                     case HoleInIce hole -> {
-                        System.out.println(hazard.getNotation() + " falls into " +
+                        GameConsole.println(hazard.getNotation() + " falls into " +
                                 hole.getNotation() + " and plugs it!");
                         hole.plug();
                         hazardMoving = false;
@@ -340,7 +361,7 @@ public class RockhopperPenguin extends Penguin {
                 }
             }
         } catch (Exception e) {
-            System.err.println("Error sliding hazard: " + e.getMessage());
+            GameConsole.printError("Error sliding hazard: " + e.getMessage());
         }
     }
 
@@ -1,8 +1,10 @@
 package models.penguins;
 
 import enums.Direction;
+import enums.EliminationCause;
 import enums.PenguinType;
 import game.TerrainGrid;
+import game.util.GameConsole;
 import interfaces.ITerrainObject;
 import models.Food;
 import models.Position;
@@ -45,6 +47,17 @@ public class RoyalPenguin extends Penguin {
         super(PenguinType.ROYAL, position);
     }
 
+    /**
+     * Resets the penguin for another game and cancels a prepared ability.
+     *
+     * @param position The new spawn position
+     */
+    @Override
+    public void reset(Position position) {
+        super.reset(position);
+        useAbilityThisTurn = false;
+    }
+
     /**
      * Activates the special one-square movement ability.
      * The penguin will move exactly one square before sliding.
@@ -99,7 +112,7 @@ public class RoyalPenguin extends Penguin {
         }
 
         try {
-            System.out.println(getNotation() + " moves one square " +
+            GameConsole.println(getNotation() + " moves one square " +
                     getDirectionName(direction) + ".");
 
             int nextY = getPosition().getY();
@@ -124,11 +137,11 @@ public class RoyalPenguin extends Penguin {
             Position nextPos = new Position(nextX, nextY);
 
             // Check if falling into water
-            if (nextX < 0 || nextY < 0 || nextY >= 10 || nextX >= 10) {
-                System.out.println(getNotation() +
+            if (nextX < 0 || nextY < 0 || nextY >= grid.getSize() || nextX >= grid.getSize()) {
+                GameConsole.println(getNotation() +
                         " falls into the water while using special ability!");
                 grid.removeObject(getPosition());
-                setPosition(null);
+                eliminate(EliminationCause.WATER);
                 useAbilityThisTurn = false;
                 return;
             }
@@ -146,6 +159,7 @@ public class RoyalPenguin extends Penguin {
             } else {
                 // Hit something (hazard or penguin)
                 // Move there but consequences apply
+                recordCollision(obstacle);
                 updatePositionOnGrid(grid, nextPos);
 
                 // Apply collision effects if it's a hazard
@@ -156,7 +170,7 @@ public class RoyalPenguin extends Penguin {
 
             useAbilityThisTurn = false;
         } catch (Exception e) {
-            System.err.println("Error during RoyalPenguin special move: " + e.getMessage());
+            GameConsole.printError("Error during RoyalPenguin special move: " + e.getMessage());
             useAbilityThisTurn = false;
         }
     }